@@ -0,0 +1,52 @@
+package com.theelixrlabs.healthcare.benchmark;
+
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the conversions of a 12 digit Aadhaar number done on every write and read: the long key conversion and
+ * formatting of AadhaarUtil against the substring concatenation and String.format calls that produced the formerly
+ * stored "1234 5678 9012" strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AadhaarFormattingBenchmark {
+
+    private String aadhaarNumber = "456783452695";
+    private Long aadhaarKey = 456783452695L;
+
+    @Benchmark
+    public Long aadhaarUtilToKey() {
+        return AadhaarUtil.toKey(aadhaarNumber);
+    }
+
+    @Benchmark
+    public String aadhaarUtilFormat() {
+        return AadhaarUtil.format(aadhaarKey);
+    }
+
+    @Benchmark
+    public String substringConcatenation() {
+        return aadhaarNumber.substring(0, 4) + StringUtils.SPACE + aadhaarNumber.substring(4, 8) + StringUtils.SPACE
+                + aadhaarNumber.substring(8, 12);
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format("%s %s %s", aadhaarNumber.substring(0, 4), aadhaarNumber.substring(4, 8), aadhaarNumber.substring(8, 12));
+    }
+}
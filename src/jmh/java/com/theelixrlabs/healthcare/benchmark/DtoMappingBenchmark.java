@@ -0,0 +1,62 @@
+package com.theelixrlabs.healthcare.benchmark;
+
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Lombok builder mapping from documents to DTOs done by the services, for a single doctor
+ * and for a roster of patients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int rosterSize;
+
+    private DoctorModel doctorModel;
+    private List<PatientModel> patientModels;
+    private Date dateOfAdmission;
+
+    @Setup
+    public void setUp() {
+        doctorModel = RosterFixtures.doctorModel();
+        patientModels = RosterFixtures.patientModels(rosterSize);
+        dateOfAdmission = new Date();
+    }
+
+    @Benchmark
+    public DoctorDto mapDoctor() {
+        return RosterFixtures.toDoctorDto(doctorModel);
+    }
+
+    @Benchmark
+    public List<PatientDto> mapRosterPatients() {
+        List<PatientDto> patientDtoList = new ArrayList<>(patientModels.size());
+        for (PatientModel patientModel : patientModels) {
+            patientDtoList.add(RosterFixtures.toPatientDto(patientModel, dateOfAdmission));
+        }
+        return patientDtoList;
+    }
+}
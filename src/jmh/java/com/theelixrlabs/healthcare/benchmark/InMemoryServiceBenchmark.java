@@ -0,0 +1,161 @@
+package com.theelixrlabs.healthcare.benchmark;
+
+import com.theelixrlabs.healthcare.config.MessagesConfig;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.DoctorPatientAssignmentDto;
+import com.theelixrlabs.healthcare.dto.DoctorWithAssignedPatientsDto;
+import com.theelixrlabs.healthcare.dto.PageDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.dto.PatientWithAssignedDoctorsDto;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorPatientAssignmentException;
+import com.theelixrlabs.healthcare.repository.AssignmentGraph;
+import com.theelixrlabs.healthcare.repository.InMemoryDoctorPatientAssignmentRepository;
+import com.theelixrlabs.healthcare.repository.InMemoryDoctorRepository;
+import com.theelixrlabs.healthcare.repository.InMemoryPatientAssignedDoctorsRepository;
+import com.theelixrlabs.healthcare.repository.InMemoryPatientRepository;
+import com.theelixrlabs.healthcare.service.DoctorPatientAssignmentService;
+import com.theelixrlabs.healthcare.service.DoctorService;
+import com.theelixrlabs.healthcare.service.PatientService;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import com.theelixrlabs.healthcare.utility.CachedBatchLookup;
+import com.theelixrlabs.healthcare.utility.CompositeReadExecutor;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.SingleFlight;
+import com.theelixrlabs.healthcare.validation.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the services on top of the repositories of the inmem profile, so the cost of
+ * validation, mapping and the service logic is visible without MongoDB round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class InMemoryServiceBenchmark {
+
+    private static final int DOCTOR_COUNT = 200;
+    private static final int PATIENT_COUNT = 2000;
+    private static final int PAGE_LIMIT = 50;
+    private static final String[] NAMES = {"Shahana", "Sambit", "Salim", "Sahu", "Anand", "Meera"};
+
+    private DoctorService doctorService;
+    private PatientService patientService;
+    private DoctorPatientAssignmentService doctorPatientAssignmentService;
+    private List<String> doctorIds;
+    private List<String> patientIds;
+
+    @Setup
+    public void setUp() throws Exception {
+        MessageUtil messageUtil = new MessageUtil(new MessagesConfig().messageSource());
+        Validator validator = new Validator(messageUtil, true);
+        InMemoryDoctorRepository doctorRepository = new InMemoryDoctorRepository();
+        InMemoryPatientRepository patientRepository = new InMemoryPatientRepository();
+        InMemoryDoctorPatientAssignmentRepository assignmentRepository =
+                new InMemoryDoctorPatientAssignmentRepository(doctorRepository, patientRepository);
+        InMemoryPatientAssignedDoctorsRepository patientAssignedDoctorsRepository =
+                new InMemoryPatientAssignedDoctorsRepository(doctorRepository, patientRepository, assignmentRepository);
+        AssignmentGraph assignmentGraph = new AssignmentGraph(null, false);
+        CompositeReadExecutor compositeReadExecutor = new CompositeReadExecutor(messageUtil, 32, 256, Duration.ofSeconds(5));
+        SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry(), compositeReadExecutor, true, 32, 256);
+        CachedBatchLookup cachedBatchLookup = new CachedBatchLookup(new StaticListableBeanFactory().getBeanProvider(CacheManager.class));
+        doctorService = new DoctorService(doctorRepository, assignmentRepository, assignmentGraph, messageUtil, validator,
+                compositeReadExecutor, singleFlight, cachedBatchLookup);
+        patientService = new PatientService(patientRepository, assignmentRepository, assignmentGraph, validator, messageUtil,
+                compositeReadExecutor, cachedBatchLookup);
+        doctorPatientAssignmentService = new DoctorPatientAssignmentService(assignmentRepository, patientRepository,
+                doctorRepository, patientAssignedDoctorsRepository, assignmentGraph, messageUtil, validator, compositeReadExecutor,
+                singleFlight);
+        doctorIds = new ArrayList<>();
+        patientIds = new ArrayList<>();
+        long aadhaarNumber = 23_456_789_000L;
+        for (int index = 0; index < DOCTOR_COUNT; index++) {
+            doctorIds.add(doctorService.saveDoctor(DoctorDto.builder()
+                    .firstName(NAMES[index % NAMES.length])
+                    .lastName(NAMES[(index + 1) % NAMES.length])
+                    .department("Psychology")
+                    .aadhaarNumber(AadhaarUtil.withCheckDigit(aadhaarNumber++))
+                    .build()).getId().toString());
+        }
+        for (int index = 0; index < PATIENT_COUNT; index++) {
+            String patientId = patientService.addPatientDetails(PatientDto.builder()
+                    .patientFirstName(NAMES[index % NAMES.length])
+                    .patientLastName(NAMES[(index + 2) % NAMES.length])
+                    .patientAadhaarNumber(AadhaarUtil.withCheckDigit(aadhaarNumber++))
+                    .build()).getId().toString();
+            patientIds.add(patientId);
+            // every second patient is assigned, the others are left for the assign and unassign cycle
+            if (index % 2 == 0) {
+                doctorPatientAssignmentService.assignDoctorToPatient(assignment(doctorIds.get(index % DOCTOR_COUNT), patientId));
+            }
+        }
+    }
+
+    @Benchmark
+    public DoctorDto getDoctorById() throws Exception {
+        return doctorService.getDoctorById(randomId(doctorIds));
+    }
+
+    @Benchmark
+    public PageDto<List<PatientDto>> getPatientsByName() throws Exception {
+        return patientService.getPatientsByName(NAMES[ThreadLocalRandom.current().nextInt(NAMES.length)].substring(0, 2), null, PAGE_LIMIT);
+    }
+
+    @Benchmark
+    public PatientWithAssignedDoctorsDto getDoctorsByPatientId() throws Exception {
+        return doctorPatientAssignmentService.getDoctorsByPatientId(randomId(patientIds));
+    }
+
+    @Benchmark
+    public PageDto<DoctorWithAssignedPatientsDto> getPatientsByDoctorId() throws Exception {
+        return doctorPatientAssignmentService.getPatientsByDoctorId(randomId(doctorIds), null, PAGE_LIMIT);
+    }
+
+    /**
+     * Assigns a random doctor to one of the unassigned patients and unassigns it again, covering both write paths.
+     */
+    @Benchmark
+    public DoctorPatientAssignmentDto assignAndUnassign() throws Exception {
+        int patientIndex = ThreadLocalRandom.current().nextInt(PATIENT_COUNT / 2) * 2 + 1;
+        DoctorPatientAssignmentDto assignmentDto = assignment(randomId(doctorIds), patientIds.get(patientIndex));
+        try {
+            doctorPatientAssignmentService.assignDoctorToPatient(assignmentDto);
+            doctorPatientAssignmentService.unassignDoctorFromPatient(assignmentDto);
+        } catch (DoctorPatientAssignmentException doctorPatientAssignmentException) {
+            // another thread holds the same doctor patient pair, which is the rejected duplicate assignment path
+        }
+        return assignmentDto;
+    }
+
+    private static DoctorPatientAssignmentDto assignment(String doctorId, String patientId) {
+        return DoctorPatientAssignmentDto.builder()
+                .doctorId(doctorId)
+                .patientId(patientId)
+                .build();
+    }
+
+    private static String randomId(List<String> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.theelixrlabs.healthcare.benchmark;
+
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.DoctorWithAssignedPatientsDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds the doctors, patients and rosters shared by the mapping and serialization benchmarks.
+ */
+final class RosterFixtures {
+
+    private RosterFixtures() {
+    }
+
+    static DoctorModel doctorModel() {
+        return DoctorModel.builder()
+                .id(UUID.randomUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .normalizedFirstName("john")
+                .normalizedLastName("doe")
+                .department("Cardiology")
+                .aadhaarNumber(236558964521L)
+                .build();
+    }
+
+    static List<PatientModel> patientModels(int rosterSize) {
+        List<PatientModel> patientModels = new ArrayList<>(rosterSize);
+        for (int index = 0; index < rosterSize; index++) {
+            patientModels.add(PatientModel.builder()
+                    .id(UUID.randomUUID())
+                    .patientFirstName("Sambit")
+                    .patientLastName("Sahu")
+                    .normalizedPatientFirstName("sambit")
+                    .normalizedPatientLastName("sahu")
+                    .patientAadhaarNumber(456783452698L)
+                    .build());
+        }
+        return patientModels;
+    }
+
+    static DoctorDto toDoctorDto(DoctorModel doctorModel) {
+        return DoctorDto.builder()
+                .id(doctorModel.getId())
+                .firstName(doctorModel.getFirstName())
+                .lastName(doctorModel.getLastName())
+                .department(doctorModel.getDepartment())
+                .aadhaarNumber(AadhaarUtil.format(doctorModel.getAadhaarNumber()))
+                .build();
+    }
+
+    static PatientDto toPatientDto(PatientModel patientModel, Date dateOfAdmission) {
+        return PatientDto.builder()
+                .id(patientModel.getId())
+                .patientFirstName(patientModel.getPatientFirstName())
+                .patientLastName(patientModel.getPatientLastName())
+                .patientAadhaarNumber(AadhaarUtil.format(patientModel.getPatientAadhaarNumber()))
+                .dateOfAdmission(dateOfAdmission)
+                .build();
+    }
+
+    static DoctorWithAssignedPatientsDto roster(int rosterSize) {
+        Date dateOfAdmission = new Date();
+        List<PatientDto> assignedPatients = new ArrayList<>(rosterSize);
+        for (PatientModel patientModel : patientModels(rosterSize)) {
+            assignedPatients.add(toPatientDto(patientModel, dateOfAdmission));
+        }
+        return new DoctorWithAssignedPatientsDto(toDoctorDto(doctorModel()), assignedPatients);
+    }
+}
@@ -0,0 +1,48 @@
+package com.theelixrlabs.healthcare.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theelixrlabs.healthcare.dto.DoctorWithAssignedPatientsDto;
+import com.theelixrlabs.healthcare.response.SuccessResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Jackson serialization of the roster response at page sizes from a single patient up to the page limit.
+ * The ObjectMapper is configured the way Spring MVC configures its message converter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RosterSerializationBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int rosterSize;
+
+    private ObjectMapper objectMapper;
+    private SuccessResponse<DoctorWithAssignedPatientsDto> rosterResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        rosterResponse = new SuccessResponse<>(true, RosterFixtures.roster(rosterSize), null, "next-page-cursor");
+    }
+
+    @Benchmark
+    public byte[] serializeRosterResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(rosterResponse);
+    }
+}
@@ -0,0 +1,110 @@
+package com.theelixrlabs.healthcare.benchmark;
+
+import com.theelixrlabs.healthcare.config.MessagesConfig;
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.exceptionHandler.DataException;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the request validation done on every create, patch and lookup call, including the path of the UUID
+ * conversion that is taken for every malformed id. The regex benchmarks keep the former String.matches based checks
+ * as the baseline. The gc profiler configured in build.gradle adds gc.alloc.rate.norm, the bytes allocated per call,
+ * to the results, which is the figure to compare for the scanners.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private static final String ALPHA_CHARACTERS_REGEX = "^[a-zA-Z]+$";
+    private static final String AADHAAR_REGEX = "^[2-9]{1}[0-9]{11}$";
+    private static final Pattern ALPHA_CHARACTERS_PATTERN = Pattern.compile(ALPHA_CHARACTERS_REGEX);
+    private static final Pattern AADHAAR_PATTERN = Pattern.compile(AADHAAR_REGEX);
+
+    private Validator validator;
+    private DoctorDto doctorDto;
+    private PatientDto patientDto;
+    private String validUuid;
+
+    @Setup
+    public void setUp() {
+        validator = new Validator(new MessageUtil(new MessagesConfig().messageSource()), true);
+        doctorDto = DoctorDto.builder()
+                .firstName("Shahana")
+                .lastName("Salim")
+                .department("Psychology")
+                .aadhaarNumber("956788563463")
+                .build();
+        patientDto = PatientDto.builder()
+                .patientFirstName("Sambit")
+                .patientLastName("Sahu")
+                .patientAadhaarNumber("456783452695")
+                .build();
+        validUuid = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public DoctorDto validateDoctor() throws Exception {
+        validator.validateDoctor(doctorDto);
+        return doctorDto;
+    }
+
+    @Benchmark
+    public PatientDto validatePatientDto() throws Exception {
+        validator.validatePatientDto(patientDto);
+        return patientDto;
+    }
+
+    @Benchmark
+    public UUID validateAndConvertToUUID() throws Exception {
+        return validator.validateAndConvertToUUID(validUuid, MessageConstants.INVALID_UUID);
+    }
+
+    @Benchmark
+    public DataException validateAndConvertToUUID_Invalid() {
+        try {
+            validator.validateAndConvertToUUID("not-a-uuid", MessageConstants.INVALID_UUID);
+            return null;
+        } catch (DataException dataException) {
+            return dataException;
+        }
+    }
+
+    @Benchmark
+    public boolean validateDoctor_StringMatches() {
+        return doctorDto.getFirstName().matches(ALPHA_CHARACTERS_REGEX)
+                && doctorDto.getLastName().matches(ALPHA_CHARACTERS_REGEX)
+                && doctorDto.getAadhaarNumber().matches(AADHAAR_REGEX);
+    }
+
+    @Benchmark
+    public boolean validateDoctor_PrecompiledPattern() {
+        return ALPHA_CHARACTERS_PATTERN.matcher(doctorDto.getFirstName()).matches()
+                && ALPHA_CHARACTERS_PATTERN.matcher(doctorDto.getLastName()).matches()
+                && AADHAAR_PATTERN.matcher(doctorDto.getAadhaarNumber()).matches();
+    }
+
+    @Benchmark
+    public UUID validateAndConvertToUUID_FromString() {
+        return UUID.fromString(validUuid);
+    }
+}
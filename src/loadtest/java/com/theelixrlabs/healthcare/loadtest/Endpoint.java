@@ -0,0 +1,56 @@
+package com.theelixrlabs.healthcare.loadtest;
+
+import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+
+/**
+ * Every operation of the REST API, with its share of the requests in each traffic mix in per mille.
+ * The weights of a mix add up to 1000, the columns follow the order of the TrafficMix constants.
+ */
+enum Endpoint {
+    ADD_DOCTOR("POST", ApiPathsConstant.CREATE_DOCTOR_END_POINT, 10, 10, 5),
+    ADD_DOCTORS("POST", ApiPathsConstant.CREATE_DOCTORS_ENDPOINT, 2, 2, 1),
+    ADD_PATIENT("POST", ApiPathsConstant.CREATE_PATIENT_ENDPOINT, 20, 10, 10),
+    ADD_PATIENTS("POST", ApiPathsConstant.CREATE_PATIENTS_ENDPOINT, 3, 3, 1),
+    GET_DOCTOR("GET", ApiPathsConstant.DOCTOR_BY_ID_ENDPOINT, 30, 50, 250),
+    PATCH_DOCTOR("PATCH", ApiPathsConstant.DOCTOR_BY_ID_ENDPOINT, 10, 10, 5),
+    DELETE_DOCTOR("DELETE", ApiPathsConstant.DOCTOR_BY_ID_ENDPOINT, 5, 2, 1),
+    DOCTORS_BY_NAME("GET", ApiPathsConstant.DOCTORS_BY_NAME_ENDPOINT, 10, 350, 50),
+    GET_PATIENT("GET", ApiPathsConstant.PATIENT_BY_ID_ENDPOINT, 30, 50, 250),
+    PATCH_PATIENT("PATCH", ApiPathsConstant.PATIENT_BY_ID_ENDPOINT, 10, 10, 5),
+    DELETE_PATIENT("DELETE", ApiPathsConstant.PATIENT_BY_ID_ENDPOINT, 10, 3, 2),
+    PATIENTS_BY_NAME("GET", ApiPathsConstant.PATIENTS_BY_NAME_ENDPOINT, 10, 350, 50),
+    ASSIGN_DOCTOR("POST", ApiPathsConstant.ASSIGN_DOCTOR_TO_PATIENT_URL, 300, 30, 40),
+    UNASSIGN_DOCTOR("POST", ApiPathsConstant.UNASSIGN_DOCTOR_FROM_PATIENT_URL, 250, 20, 30),
+    PATIENTS_BY_DOCTOR_ID("GET", ApiPathsConstant.PATIENTS_BY_DOCTOR_ID_ENDPOINT, 150, 50, 150),
+    ASSIGNED_DOCTORS("GET", ApiPathsConstant.ASSIGNED_DOCTORS_BY_PATIENT_ID, 150, 50, 150);
+
+    private final String method;
+    private final String path;
+    private final int[] weightsByMix;
+
+    Endpoint(String method, String path, int... weightsByMix) {
+        this.method = method;
+        this.path = path;
+        this.weightsByMix = weightsByMix;
+    }
+
+    String method() {
+        return method;
+    }
+
+    /**
+     * @param pathVariable Value of the path variable, ignored by endpoints without one.
+     * @return The path with its path variable replaced.
+     */
+    String path(String pathVariable) {
+        return path.replaceFirst("\\{[^}]+}", pathVariable);
+    }
+
+    int weight(TrafficMix trafficMix) {
+        return weightsByMix[trafficMix.ordinal()];
+    }
+
+    String label() {
+        return method + " " + path;
+    }
+}
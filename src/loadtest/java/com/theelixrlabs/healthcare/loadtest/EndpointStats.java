@@ -0,0 +1,44 @@
+package com.theelixrlabs.healthcare.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and outcome counters of one endpoint, recorded in microseconds.
+ * The response time is measured from the moment the request was scheduled to be sent, so queueing behind a slow
+ * server is included (coordinated omission correction), the service time from the moment it was actually sent.
+ */
+class EndpointStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    final Histogram responseTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    final Histogram serviceTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    final LongAdder successful = new LongAdder();
+    final LongAdder clientErrors = new LongAdder();
+    final LongAdder serverErrors = new LongAdder();
+    final LongAdder failed = new LongAdder();
+    final LongAdder skipped = new LongAdder();
+
+    void recordResponse(int statusCode, long responseTimeMicros, long serviceTimeMicros) {
+        responseTime.recordValue(responseTimeMicros);
+        serviceTime.recordValue(serviceTimeMicros);
+        if (statusCode < 400) {
+            successful.increment();
+        } else if (statusCode < 500) {
+            clientErrors.increment();
+        } else {
+            serverErrors.increment();
+        }
+    }
+
+    void recordFailure(long responseTimeMicros) {
+        responseTime.recordValue(responseTimeMicros);
+        failed.increment();
+    }
+
+    long completed() {
+        return successful.sum() + clientErrors.sum() + serverErrors.sum() + failed.sum();
+    }
+}
@@ -0,0 +1,44 @@
+package com.theelixrlabs.healthcare.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Thread safe bag of values supporting random picks and random removals in constant time.
+ *
+ * @param <T> Type of the pooled values.
+ */
+class IdPool<T> {
+
+    private final List<T> values = new ArrayList<>();
+
+    synchronized void add(T value) {
+        values.add(value);
+    }
+
+    synchronized int size() {
+        return values.size();
+    }
+
+    /**
+     * @return A random value that stays in the pool, null if the pool is empty.
+     */
+    synchronized T pick(Random random) {
+        return values.isEmpty() ? null : values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * @return A random value that is taken out of the pool, null if the pool is empty.
+     */
+    synchronized T take(Random random) {
+        if (values.isEmpty()) {
+            return null;
+        }
+        int index = random.nextInt(values.size());
+        T value = values.get(index);
+        values.set(index, values.get(values.size() - 1));
+        values.remove(values.size() - 1);
+        return value;
+    }
+}
@@ -0,0 +1,36 @@
+package com.theelixrlabs.healthcare.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * Options of a load test run, read from loadtest.* system properties.
+ *
+ * @param baseUrl         Base URL of the running instance, loadtest.baseUrl.
+ * @param rate            Requests started per second regardless of response times, loadtest.rate.
+ * @param warmupSeconds   Seconds of load before recording starts, loadtest.warmupSeconds.
+ * @param durationSeconds Seconds of recorded load, loadtest.durationSeconds.
+ * @param trafficMix      Traffic mix to replay, loadtest.mix.
+ * @param doctors         Doctors created before the run, loadtest.doctors.
+ * @param patients        Patients created before the run, loadtest.patients.
+ * @param bearerToken     Token sent as bearer authorization, only needed outside the dev profile, loadtest.token.
+ * @param outputDirectory Directory receiving the percentile distributions, loadtest.outputDir.
+ * @param label           Name of the run prefixed to the distribution files, e.g. the execution mode of the instance,
+ *                        loadtest.label.
+ */
+record LoadTestConfig(String baseUrl, double rate, int warmupSeconds, int durationSeconds, TrafficMix trafficMix,
+                      int doctors, int patients, String bearerToken, Path outputDirectory, String label) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.baseUrl", "http://localhost:8080"),
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                Integer.parseInt(System.getProperty("loadtest.warmupSeconds", "10")),
+                Integer.parseInt(System.getProperty("loadtest.durationSeconds", "60")),
+                TrafficMix.valueOf(System.getProperty("loadtest.mix", TrafficMix.READ_HEAVY.name())),
+                Integer.parseInt(System.getProperty("loadtest.doctors", "200")),
+                Integer.parseInt(System.getProperty("loadtest.patients", "2000")),
+                System.getProperty("loadtest.token"),
+                Path.of(System.getProperty("loadtest.outputDir", "build/loadtest")),
+                System.getProperty("loadtest.label", ""));
+    }
+}
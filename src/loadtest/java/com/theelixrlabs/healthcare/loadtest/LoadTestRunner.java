@@ -0,0 +1,204 @@
+package com.theelixrlabs.healthcare.loadtest;
+
+import org.HdrHistogram.Histogram;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open loop load generator for every REST endpoint.
+ * Requests are started at a fixed arrival rate whatever the response times are, the endpoint of every request is
+ * drawn from the selected traffic mix, and the latency of every endpoint is recorded in an HdrHistogram measured
+ * from the scheduled start of the request, so a stalled server shows up in the percentiles instead of slowing the
+ * generator down.
+ * Meant to run offline against an instance started with --spring.profiles.active=dev on top of the local MongoDB of
+ * docker-compose.yml, through the loadTest gradle task, e.g.
+ * ./gradlew loadTest -Dloadtest.mix=ASSIGNMENT_HEAVY -Dloadtest.rate=500 -Dloadtest.durationSeconds=120
+ * The servlet and the reactive execution mode are compared by running the same mix at a rate high enough to saturate
+ * the Tomcat thread pool against an instance started with dev and one started with dev,reactive, labelled so that
+ * both sets of distributions land side by side, e.g.
+ * ./gradlew loadTest -Dloadtest.rate=3000 -Dloadtest.label=servlet
+ * ./gradlew loadTest -Dloadtest.rate=3000 -Dloadtest.label=reactive
+ * The virtual thread execution mode is compared the same way against the platform thread pool, with an instance built
+ * and started with -PjavaVersion=21 and dev,virtual, at a rate whose in-flight requests exceed the 200 Tomcat threads
+ * many times over, the peak of the in-flight requests is reported with the percentiles, e.g.
+ * ./gradlew loadTest -Dloadtest.rate=5000 -Dloadtest.label=platform
+ * ./gradlew loadTest -Dloadtest.rate=5000 -Dloadtest.label=virtual
+ */
+public class LoadTestRunner {
+
+    private static final long DRAIN_TIMEOUT_SECONDS = 30;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final Workload workload;
+    private final Map<Endpoint, EndpointStats> endpointStats = new EnumMap<>(Endpoint.class);
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicInteger peakInFlightRequests = new AtomicInteger();
+
+    LoadTestRunner(LoadTestConfig config, HttpClient httpClient, Workload workload) {
+        this.config = config;
+        this.httpClient = httpClient;
+        this.workload = workload;
+        for (Endpoint endpoint : Endpoint.values()) {
+            endpointStats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        config.trafficMix().verifyWeights();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Random random = new Random();
+        Workload workload = new Workload(config, httpClient);
+        System.out.printf("Seeding %d doctors and %d patients on %s%n", config.doctors(), config.patients(), config.baseUrl());
+        workload.seed(random);
+        LoadTestRunner loadTestRunner = new LoadTestRunner(config, httpClient, workload);
+        System.out.printf("Running %s%s at %.0f requests/s, %ds warmup, %ds recorded%n", config.trafficMix(),
+                config.label().isEmpty() ? "" : " (" + config.label() + ")", config.rate(), config.warmupSeconds(),
+                config.durationSeconds());
+        loadTestRunner.run(random);
+        loadTestRunner.report();
+        loadTestRunner.writeDistributions();
+    }
+
+    /**
+     * Starts one request per interval until warmup and recorded duration are over, then waits for the requests still
+     * in flight.
+     */
+    void run(Random random) throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.rate());
+        long startNanos = System.nanoTime();
+        long recordingStartNanos = startNanos + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long endNanos = recordingStartNanos + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+        for (long requestIndex = 0; ; requestIndex++) {
+            long intendedStartNanos = startNanos + requestIndex * intervalNanos;
+            if (intendedStartNanos >= endNanos) {
+                break;
+            }
+            long waitNanos = intendedStartNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            boolean recorded = intendedStartNanos >= recordingStartNanos;
+            Endpoint endpoint = config.trafficMix().pick(random);
+            Workload.PlannedRequest plannedRequest = workload.plan(endpoint, random);
+            if (plannedRequest == null) {
+                if (recorded) {
+                    endpointStats.get(endpoint).skipped.increment();
+                }
+                continue;
+            }
+            send(endpoint, plannedRequest, intendedStartNanos, recorded);
+        }
+        long drainDeadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(DRAIN_TIMEOUT_SECONDS);
+        while (inFlightRequests.get() > 0 && System.nanoTime() < drainDeadlineNanos) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void send(Endpoint endpoint, Workload.PlannedRequest plannedRequest, long intendedStartNanos, boolean recorded) {
+        EndpointStats stats = endpointStats.get(endpoint);
+        long sendNanos = System.nanoTime();
+        peakInFlightRequests.accumulateAndGet(inFlightRequests.incrementAndGet(), Math::max);
+        httpClient.sendAsync(plannedRequest.request(), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, throwable) -> {
+                    long completedNanos = System.nanoTime();
+                    long responseTimeMicros = TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedStartNanos);
+                    try {
+                        if (throwable != null) {
+                            if (recorded) {
+                                stats.recordFailure(responseTimeMicros);
+                            }
+                            return;
+                        }
+                        if (recorded) {
+                            stats.recordResponse(response.statusCode(), responseTimeMicros,
+                                    TimeUnit.NANOSECONDS.toMicros(completedNanos - sendNanos));
+                        }
+                        if (response.statusCode() < 300 && plannedRequest.onSuccess() != null) {
+                            plannedRequest.onSuccess().accept(workload.parse(response.body()));
+                        }
+                    } finally {
+                        inFlightRequests.decrementAndGet();
+                    }
+                });
+    }
+
+    /**
+     * Prints count, outcomes, throughput and latency percentiles of every endpoint called during the recorded run.
+     */
+    void report() {
+        String rowFormat = "%-32s %8s %8s %6s %8s %6s %9s %9s %9s %9s %9s%n";
+        System.out.printf(rowFormat, "endpoint", "count", "ok", "4xx", "5xx/io", "skip", "req/s", "p50 ms", "p99 ms",
+                "p99.9 ms", "max ms");
+        Histogram totalResponseTime = new Histogram(3);
+        long totalCompleted = 0;
+        for (Map.Entry<Endpoint, EndpointStats> entry : endpointStats.entrySet()) {
+            EndpointStats stats = entry.getValue();
+            if (stats.completed() == 0 && stats.skipped.sum() == 0) {
+                continue;
+            }
+            totalResponseTime.add(stats.responseTime);
+            totalCompleted += stats.completed();
+            printRow(rowFormat, entry.getKey().label(), stats.completed(), stats.successful.sum(), stats.clientErrors.sum(),
+                    stats.serverErrors.sum() + stats.failed.sum(), stats.skipped.sum(), stats.responseTime);
+        }
+        printRow(rowFormat, "total", totalCompleted, -1, -1, -1, -1, totalResponseTime);
+        System.out.printf("Peak in-flight requests: %d%n", peakInFlightRequests.get());
+    }
+
+    private void printRow(String rowFormat, String label, long completed, long successful, long clientErrors, long errors,
+                          long skipped, Histogram responseTime) {
+        System.out.printf(Locale.ROOT, rowFormat, label, completed,
+                successful < 0 ? "" : String.valueOf(successful),
+                clientErrors < 0 ? "" : String.valueOf(clientErrors),
+                errors < 0 ? "" : String.valueOf(errors),
+                skipped < 0 ? "" : String.valueOf(skipped),
+                String.format(Locale.ROOT, "%.1f", (double) completed / config.durationSeconds()),
+                millis(responseTime.getValueAtPercentile(50)),
+                millis(responseTime.getValueAtPercentile(99)),
+                millis(responseTime.getValueAtPercentile(99.9)),
+                millis(responseTime.getMaxValue()));
+    }
+
+    /**
+     * Writes the full response time distribution of every endpoint as .hgrm files, in milliseconds, so runs can be
+     * compared and plotted with the HdrHistogram tooling.
+     */
+    void writeDistributions() throws IOException {
+        Path outputDirectory = config.outputDirectory();
+        Files.createDirectories(outputDirectory);
+        String mixName = config.trafficMix().name().toLowerCase(Locale.ROOT);
+        String filePrefix = config.label().isEmpty() ? mixName : config.label() + "-" + mixName;
+        for (Map.Entry<Endpoint, EndpointStats> entry : endpointStats.entrySet()) {
+            if (entry.getValue().completed() == 0) {
+                continue;
+            }
+            Path distributionFile = outputDirectory.resolve(filePrefix + "-" + entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream printStream = new PrintStream(Files.newOutputStream(distributionFile))) {
+                entry.getValue().responseTime.outputPercentileDistribution(printStream, MICROS_PER_MILLI);
+            }
+        }
+        System.out.printf("Percentile distributions written to %s%n", outputDirectory.toAbsolutePath());
+    }
+
+    private String millis(long micros) {
+        return String.format(Locale.ROOT, "%.2f", micros / MICROS_PER_MILLI);
+    }
+}
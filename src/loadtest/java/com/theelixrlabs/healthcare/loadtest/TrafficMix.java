@@ -0,0 +1,44 @@
+package com.theelixrlabs.healthcare.loadtest;
+
+import java.util.Random;
+
+/**
+ * The traffic mixes the load generator can replay, the share of every endpoint is declared on Endpoint.
+ */
+enum TrafficMix {
+    ASSIGNMENT_HEAVY,
+    SEARCH_HEAVY,
+    READ_HEAVY;
+
+    private static final int TOTAL_WEIGHT = 1000;
+
+    /**
+     * Picks the endpoint of the next request according to the weights of this mix.
+     *
+     * @param random Source of randomness of the calling thread.
+     * @return The endpoint to call.
+     */
+    Endpoint pick(Random random) {
+        int ticket = random.nextInt(TOTAL_WEIGHT);
+        for (Endpoint endpoint : Endpoint.values()) {
+            ticket -= endpoint.weight(this);
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("Weights of " + this + " do not add up to " + TOTAL_WEIGHT);
+    }
+
+    /**
+     * Fails fast when the weight table on Endpoint was edited without keeping a mix at 1000 per mille.
+     */
+    void verifyWeights() {
+        int totalWeight = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            totalWeight += endpoint.weight(this);
+        }
+        if (totalWeight != TOTAL_WEIGHT) {
+            throw new IllegalStateException("Weights of " + this + " add up to " + totalWeight + " instead of " + TOTAL_WEIGHT);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.theelixrlabs.healthcare.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import com.theelixrlabs.healthcare.constants.DoctorPatientAssignmentConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.constants.PatientConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.DoctorPatientAssignmentDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Knows how to call every endpoint with data that exists on the server.
+ * Doctors and patients created while seeding are read, patched and assigned, the ones created during the run are
+ * kept apart and are the only ones deleted, so deletes never fail because of an active assignment.
+ */
+class Workload {
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Ananya", "Arjun", "Diya", "Ishaan", "Kavya", "Meera", "Rohan", "Saanvi", "Vivaan"};
+    private static final String[] LAST_NAMES = {"Bose", "Iyer", "Kapoor", "Menon", "Nair", "Patel", "Rao", "Reddy", "Sahu", "Sharma"};
+    private static final String[] DEPARTMENTS = {"Cardiology", "Dermatology", "Neurology", "Oncology", "Pediatrics", "Psychology"};
+    private static final String ASSIGNED_DOCTORS_PATIENT_ID_PARAM = "patientId";
+    private static final String PAGE_LIMIT = "50";
+    private static final int BULK_REQUEST_SIZE = 10;
+    private static final int SEED_BATCH_SIZE = 500;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong aadhaarNumberSequence =
+            new AtomicLong(20_000_000_000L + ThreadLocalRandom.current().nextLong(60_000_000_000L));
+    private final IdPool<String> doctors = new IdPool<>();
+    private final IdPool<String> patients = new IdPool<>();
+    private final IdPool<String> disposableDoctors = new IdPool<>();
+    private final IdPool<String> disposablePatients = new IdPool<>();
+    private final IdPool<String[]> assignments = new IdPool<>();
+
+    /**
+     * A request ready to be sent and the bookkeeping to do with the body of its successful response.
+     */
+    record PlannedRequest(HttpRequest request, Consumer<JsonNode> onSuccess) {
+    }
+
+    Workload(LoadTestConfig config, HttpClient httpClient) {
+        this.config = config;
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Creates the doctors and patients of the run through the bulk endpoints and assigns half of the patients to a
+     * random doctor, so the roster and assigned doctors reads find data from the first request on.
+     */
+    void seed(Random random) throws IOException, InterruptedException {
+        for (int created = 0; created < config.doctors(); created += SEED_BATCH_SIZE) {
+            List<DoctorDto> doctorBatch = new ArrayList<>();
+            for (int index = created; index < Math.min(config.doctors(), created + SEED_BATCH_SIZE); index++) {
+                doctorBatch.add(newDoctor(random));
+            }
+            addCreatedIds(sendForBody(Endpoint.ADD_DOCTORS, "", "", doctorBatch), doctors);
+        }
+        for (int created = 0; created < config.patients(); created += SEED_BATCH_SIZE) {
+            List<PatientDto> patientBatch = new ArrayList<>();
+            for (int index = created; index < Math.min(config.patients(), created + SEED_BATCH_SIZE); index++) {
+                patientBatch.add(newPatient(random));
+            }
+            addCreatedIds(sendForBody(Endpoint.ADD_PATIENTS, "", "", patientBatch), patients);
+        }
+        if (doctors.size() == 0 || patients.size() == 0) {
+            throw new IllegalStateException("Seeding created no doctors or no patients, is the instance running with the dev profile?");
+        }
+        for (int index = 0; index < patients.size() / 2; index++) {
+            String[] assignment = {doctors.pick(random), patients.pick(random)};
+            JsonNode assignedBody = sendForBody(Endpoint.ASSIGN_DOCTOR, "", "", assignment(assignment));
+            if (assignedBody != null) {
+                assignments.add(assignment);
+            }
+        }
+    }
+
+    /**
+     * Builds the next request for an endpoint.
+     *
+     * @return The request, null when no data exists to call the endpoint with.
+     */
+    PlannedRequest plan(Endpoint endpoint, Random random) {
+        switch (endpoint) {
+            case ADD_DOCTOR:
+                return planned(endpoint, "", "", newDoctor(random), body -> disposableDoctors.add(createdId(body)));
+            case ADD_DOCTORS:
+                List<DoctorDto> doctorBatch = new ArrayList<>();
+                for (int index = 0; index < BULK_REQUEST_SIZE; index++) {
+                    doctorBatch.add(newDoctor(random));
+                }
+                return planned(endpoint, "", "", doctorBatch, body -> addCreatedIds(body, disposableDoctors));
+            case ADD_PATIENT:
+                return planned(endpoint, "", "", newPatient(random), body -> disposablePatients.add(createdId(body)));
+            case ADD_PATIENTS:
+                List<PatientDto> patientBatch = new ArrayList<>();
+                for (int index = 0; index < BULK_REQUEST_SIZE; index++) {
+                    patientBatch.add(newPatient(random));
+                }
+                return planned(endpoint, "", "", patientBatch, body -> addCreatedIds(body, disposablePatients));
+            case GET_DOCTOR:
+                return plannedForId(endpoint, doctors.pick(random), null);
+            case PATCH_DOCTOR:
+                return plannedForId(endpoint, doctors.pick(random), DoctorDto.builder()
+                        .department(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)])
+                        .build());
+            case DELETE_DOCTOR:
+                return plannedForId(endpoint, disposableDoctors.take(random), null);
+            case DOCTORS_BY_NAME:
+                return planned(endpoint, "", query(DoctorConstants.DOCTOR_NAME_PARAM, namePrefix(random),
+                        PaginationConstants.LIMIT_PARAM, PAGE_LIMIT), null, null);
+            case GET_PATIENT:
+                return plannedForId(endpoint, patients.pick(random), null);
+            case PATCH_PATIENT:
+                return plannedForId(endpoint, patients.pick(random), PatientDto.builder()
+                        .patientLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                        .build());
+            case DELETE_PATIENT:
+                return plannedForId(endpoint, disposablePatients.take(random), null);
+            case PATIENTS_BY_NAME:
+                return planned(endpoint, "", query(PatientConstants.PATIENT_NAME_PARAM, namePrefix(random),
+                        PaginationConstants.LIMIT_PARAM, PAGE_LIMIT), null, null);
+            case ASSIGN_DOCTOR:
+                String[] newAssignment = {doctors.pick(random), patients.pick(random)};
+                if (newAssignment[0] == null || newAssignment[1] == null) {
+                    return null;
+                }
+                return planned(endpoint, "", "", assignment(newAssignment), body -> assignments.add(newAssignment));
+            case UNASSIGN_DOCTOR:
+                String[] activeAssignment = assignments.take(random);
+                return activeAssignment == null ? null : planned(endpoint, "", "", assignment(activeAssignment), null);
+            case PATIENTS_BY_DOCTOR_ID:
+                String[] rosterAssignment = assignments.pick(random);
+                String doctorId = rosterAssignment == null ? doctors.pick(random) : rosterAssignment[0];
+                return doctorId == null ? null : planned(endpoint, "", query(DoctorPatientAssignmentConstants.DOCTOR_ID_PARAM, doctorId,
+                        PaginationConstants.LIMIT_PARAM, PAGE_LIMIT), null, null);
+            case ASSIGNED_DOCTORS:
+                String[] patientAssignment = assignments.pick(random);
+                String patientId = patientAssignment == null ? patients.pick(random) : patientAssignment[1];
+                return patientId == null ? null : planned(endpoint, "", query(ASSIGNED_DOCTORS_PATIENT_ID_PARAM, patientId), null, null);
+            default:
+                throw new IllegalArgumentException("No request defined for " + endpoint);
+        }
+    }
+
+    /**
+     * Parses a response body as a JSON tree.
+     */
+    JsonNode parse(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException jsonProcessingException) {
+            throw new UncheckedIOException(jsonProcessingException);
+        }
+    }
+
+    private PlannedRequest plannedForId(Endpoint endpoint, String id, Object body) {
+        return id == null ? null : planned(endpoint, id, "", body, null);
+    }
+
+    private PlannedRequest planned(Endpoint endpoint, String pathVariable, String query, Object body, Consumer<JsonNode> onSuccess) {
+        HttpRequest.BodyPublisher bodyPublisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(json(body));
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(config.baseUrl() + endpoint.path(pathVariable) + query))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(endpoint.method(), bodyPublisher);
+        if (config.bearerToken() != null) {
+            requestBuilder.header("Authorization", "Bearer " + config.bearerToken());
+        }
+        return new PlannedRequest(requestBuilder.build(), onSuccess);
+    }
+
+    private JsonNode sendForBody(Endpoint endpoint, String pathVariable, String query, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(planned(endpoint, pathVariable, query, body, null).request(),
+                HttpResponse.BodyHandlers.ofString());
+        return response.statusCode() < 300 ? parse(response.body()) : null;
+    }
+
+    private void addCreatedIds(JsonNode bulkBody, IdPool<String> idPool) {
+        if (bulkBody == null) {
+            return;
+        }
+        for (JsonNode result : bulkBody.path("responseData").path("results")) {
+            if (result.path("success").asBoolean()) {
+                idPool.add(result.path("data").path("id").asText());
+            }
+        }
+    }
+
+    private String createdId(JsonNode body) {
+        return body.path("responseData").path("id").asText();
+    }
+
+    private DoctorDto newDoctor(Random random) {
+        return DoctorDto.builder()
+                .firstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)])
+                .lastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                .department(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)])
+                .aadhaarNumber(AadhaarUtil.withCheckDigit(aadhaarNumberSequence.getAndIncrement()))
+                .build();
+    }
+
+    private PatientDto newPatient(Random random) {
+        return PatientDto.builder()
+                .patientFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)])
+                .patientLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                .patientAadhaarNumber(AadhaarUtil.withCheckDigit(aadhaarNumberSequence.getAndIncrement()))
+                .build();
+    }
+
+    private DoctorPatientAssignmentDto assignment(String[] doctorAndPatientId) {
+        return DoctorPatientAssignmentDto.builder()
+                .doctorId(doctorAndPatientId[0])
+                .patientId(doctorAndPatientId[1])
+                .build();
+    }
+
+    private String namePrefix(Random random) {
+        String[] names = random.nextBoolean() ? FIRST_NAMES : LAST_NAMES;
+        String name = names[random.nextInt(names.length)];
+        return name.substring(0, 2 + random.nextInt(name.length() - 1));
+    }
+
+    private String query(String... namesAndValues) {
+        StringBuilder query = new StringBuilder();
+        for (int index = 0; index < namesAndValues.length; index += 2) {
+            query.append(index == 0 ? '?' : '&')
+                    .append(namesAndValues[index])
+                    .append('=')
+                    .append(URLEncoder.encode(namesAndValues[index + 1], StandardCharsets.UTF_8));
+        }
+        return query.toString();
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException jsonProcessingException) {
+            throw new UncheckedIOException(jsonProcessingException);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.CacheConstants;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Enables the read-through entity caches declared on the repositories.
+ * The cache manager is configured from the spring.cache properties like the auto-configured one (Caffeine, bounded by
+ * size and TTL), but its caches hold copies of the cached models, see EntityCopyingCacheManager. Their hit, miss and
+ * eviction statistics are published as cache metrics through the actuator.
+ * Setting healthcare.cache.enabled to false for a profile removes the caching proxies, every read then goes to the database.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+@ConditionalOnProperty(name = CacheConstants.CACHE_ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+
+    @Bean
+    public EntityCopyingCacheManager cacheManager(CacheProperties cacheProperties) {
+        EntityCopyingCacheManager cacheManager = new EntityCopyingCacheManager();
+        if (StringUtils.hasText(cacheProperties.getCaffeine().getSpec())) {
+            cacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return cacheManager;
+    }
+}
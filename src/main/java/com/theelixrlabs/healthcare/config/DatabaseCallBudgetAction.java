@@ -0,0 +1,15 @@
+package com.theelixrlabs.healthcare.config;
+
+/**
+ * What happens to a request that issued more database commands than the budget of its endpoint.
+ */
+public enum DatabaseCallBudgetAction {
+    /**
+     * The request is served and a warning is logged.
+     */
+    LOG,
+    /**
+     * The response is replaced by an internal server error, meant for tests and development.
+     */
+    FAIL
+}
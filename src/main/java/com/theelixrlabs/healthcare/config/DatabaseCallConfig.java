@@ -0,0 +1,28 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.DatabaseCallConstants;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Counts the MongoDB commands, returned documents and reply bytes of every request.
+ * DatabaseCallFilter binds a counter to the request, DatabaseCallListener feeds it from the driver and
+ * DatabaseCallResponseAdvice reports it in the X-Db-Calls header and checks it against the endpoint budget.
+ * Setting healthcare.db-calls.enabled to false removes all three.
+ */
+@Configuration
+@ConditionalOnProperty(name = DatabaseCallConstants.ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class DatabaseCallConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer databaseCallListenerCustomizer() {
+        return mongoClientSettingsBuilder -> mongoClientSettingsBuilder.addCommandListener(new DatabaseCallListener());
+    }
+
+    @Bean
+    public DatabaseCallFilter databaseCallFilter() {
+        return new DatabaseCallFilter();
+    }
+}
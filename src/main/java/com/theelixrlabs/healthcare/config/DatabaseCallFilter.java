@@ -0,0 +1,26 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.utility.DatabaseCallCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+/**
+ * Binds a fresh DatabaseCallCounter to the thread serving the request and unbinds it afterwards.
+ */
+public class DatabaseCallFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        DatabaseCallCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DatabaseCallCounter.stop();
+        }
+    }
+}
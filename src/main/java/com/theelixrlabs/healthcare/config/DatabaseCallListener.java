@@ -0,0 +1,60 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import com.theelixrlabs.healthcare.constants.DatabaseCallConstants;
+import com.theelixrlabs.healthcare.utility.DatabaseCallCounter;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+/**
+ * Driver command listener adding every command to the DatabaseCallCounter of the request that issued it.
+ * Commands issued outside of a request, like the startup tasks, are not counted.
+ */
+public class DatabaseCallListener implements CommandListener {
+
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent commandSucceededEvent) {
+        DatabaseCallCounter databaseCallCounter = DatabaseCallCounter.current();
+        if (databaseCallCounter != null) {
+            BsonDocument reply = commandSucceededEvent.getResponse();
+            databaseCallCounter.recordCommand(returnedDocuments(reply), sizeInBytes(reply));
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent commandFailedEvent) {
+        DatabaseCallCounter databaseCallCounter = DatabaseCallCounter.current();
+        if (databaseCallCounter != null) {
+            databaseCallCounter.recordCommand(0, 0);
+        }
+    }
+
+    /**
+     * Counts the documents of a find, getMore or aggregate cursor batch and the document of a findAndModify.
+     */
+    static long returnedDocuments(BsonDocument reply) {
+        BsonDocument cursor = reply.getDocument(DatabaseCallConstants.CURSOR_FIELD, null);
+        if (cursor != null) {
+            if (cursor.isArray(DatabaseCallConstants.FIRST_BATCH_FIELD)) {
+                return cursor.getArray(DatabaseCallConstants.FIRST_BATCH_FIELD).size();
+            }
+            if (cursor.isArray(DatabaseCallConstants.NEXT_BATCH_FIELD)) {
+                return cursor.getArray(DatabaseCallConstants.NEXT_BATCH_FIELD).size();
+            }
+            return 0;
+        }
+        return reply.isDocument(DatabaseCallConstants.VALUE_FIELD) ? 1 : 0;
+    }
+
+    private static long sizeInBytes(BsonDocument reply) {
+        RawBsonDocument rawReply = reply instanceof RawBsonDocument rawBsonDocument
+                ? rawBsonDocument
+                : new RawBsonDocument(reply, BSON_DOCUMENT_CODEC);
+        return rawReply.getByteBuffer().remaining();
+    }
+}
@@ -0,0 +1,95 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.DatabaseCallConstants;
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.response.FailureResponse;
+import com.theelixrlabs.healthcare.utility.DatabaseCallCounter;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the database calls of the request into the X-Db-Calls response header right before the body, after the
+ * controller and any exception handler have run, and checks the command count against the budget of the endpoint.
+ * Budgets are keyed by controller and method name, e.g. DoctorController.getDoctorById, endpoints without a budget
+ * use the default budget, a negative budget means unlimited.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = DatabaseCallConstants.ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class DatabaseCallResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseCallResponseAdvice.class);
+
+    private final Map<String, Integer> budgets;
+    private final int defaultBudget;
+    private final DatabaseCallBudgetAction budgetAction;
+    private final MessageUtil messageUtil;
+
+    public DatabaseCallResponseAdvice(@Value(DatabaseCallConstants.BUDGETS) Map<String, Integer> budgets,
+                                      @Value(DatabaseCallConstants.DEFAULT_BUDGET) int defaultBudget,
+                                      @Value(DatabaseCallConstants.BUDGET_ACTION) DatabaseCallBudgetAction budgetAction,
+                                      MessageUtil messageUtil) {
+        this.budgets = budgets;
+        this.defaultBudget = defaultBudget;
+        this.budgetAction = budgetAction;
+        this.messageUtil = messageUtil;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        DatabaseCallCounter databaseCallCounter = DatabaseCallCounter.current();
+        if (databaseCallCounter == null) {
+            return body;
+        }
+        response.getHeaders().set(DatabaseCallConstants.HEADER_NAME, databaseCallCounter.toHeaderValue());
+        String endpointName = endpointName(request, returnType);
+        int budget = budgets.getOrDefault(endpointName, defaultBudget);
+        if (budget < 0 || databaseCallCounter.getCommands() <= budget) {
+            return body;
+        }
+        String budgetExceededMessage = messageUtil.getMessage(MessageConstants.DATABASE_CALL_BUDGET_EXCEEDED,
+                new Object[]{endpointName, databaseCallCounter.getCommands(), budget});
+        if (budgetAction == DatabaseCallBudgetAction.LOG
+                || !MappingJackson2HttpMessageConverter.class.isAssignableFrom(selectedConverterType)) {
+            LOGGER.warn(budgetExceededMessage);
+            return body;
+        }
+        response.setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+        return new FailureResponse(false, List.of(budgetExceededMessage));
+    }
+
+    /**
+     * Names the endpoint after the handler the request was mapped to, so responses written by an exception handler
+     * are charged to the endpoint that failed.
+     */
+    private String endpointName(ServerHttpRequest request, MethodParameter returnType) {
+        if (request instanceof ServletServerHttpRequest servletServerHttpRequest
+                && servletServerHttpRequest.getServletRequest().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return returnType.getContainingClass().getSimpleName() + "." + returnType.getExecutable().getName();
+    }
+}
@@ -0,0 +1,54 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Caffeine cache manager whose caches hold private copies of the doctor and patient models.
+ * The models are mutable, a cache handing out the cached instance would let any caller that changes a returned model
+ * change the cached copy as well. Values are copied when they are put and again when they are read.
+ * The caches stay CaffeineCache instances, so their statistics are still published as cache metrics.
+ */
+public class EntityCopyingCacheManager extends CaffeineCacheManager {
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return new EntityCopyingCache(name, cache, isAllowNullValues());
+    }
+
+    /**
+     * @return A copy of a doctor or patient model sharing no mutable state with it, any other value as is.
+     */
+    static Object copyOf(Object value) {
+        if (value instanceof DoctorModel doctorModel) {
+            return doctorModel.toBuilder().build();
+        }
+        if (value instanceof PatientModel patientModel) {
+            return patientModel.toBuilder().build();
+        }
+        return value;
+    }
+
+    /**
+     * Every put, putIfAbsent and get of a CaffeineCache goes through toStoreValue and fromStoreValue.
+     */
+    static class EntityCopyingCache extends CaffeineCache {
+
+        EntityCopyingCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, boolean allowNullValues) {
+            super(name, cache, allowNullValues);
+        }
+
+        @Override
+        protected Object toStoreValue(Object userValue) {
+            return super.toStoreValue(copyOf(userValue));
+        }
+
+        @Override
+        protected Object fromStoreValue(Object storeValue) {
+            return copyOf(super.fromStoreValue(storeValue));
+        }
+    }
+}
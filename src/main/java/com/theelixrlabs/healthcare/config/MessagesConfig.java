@@ -1,11 +1,17 @@
 package com.theelixrlabs.healthcare.config;
 
+import com.theelixrlabs.healthcare.constants.LocaleConstants;
 import com.theelixrlabs.healthcare.constants.PatientConstants;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+import java.util.Arrays;
+import java.util.Locale;
 
 /***
  * Read the messages from message.properties file in the resource directory
@@ -35,4 +41,24 @@ public class MessagesConfig {
         localValidatorFactoryBean.setValidationMessageSource(messageSource());
         return localValidatorFactoryBean;
     }
+
+    /**
+     * Resolves the locale of a request from its Accept-Language header.
+     * Languages outside the supported locales fall back to the default locale, which keeps the message caches bounded.
+     *
+     * @param defaultLocale    Language tag used when the request has no supported language.
+     * @param supportedLocales Language tags that have a message bundle.
+     * @return locale resolver object
+     */
+    @Bean
+    public LocaleResolver localeResolver(@Value(LocaleConstants.DEFAULT_LOCALE) String defaultLocale,
+                                         @Value(LocaleConstants.SUPPORTED_LOCALES) String[] supportedLocales) {
+        AcceptHeaderLocaleResolver localeResolver = new AcceptHeaderLocaleResolver();
+        localeResolver.setDefaultLocale(Locale.forLanguageTag(defaultLocale));
+        localeResolver.setSupportedLocales(Arrays.stream(supportedLocales)
+                .map(String::trim)
+                .map(Locale::forLanguageTag)
+                .toList());
+        return localeResolver;
+    }
 }
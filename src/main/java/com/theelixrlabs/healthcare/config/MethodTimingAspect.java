@@ -0,0 +1,68 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.MetricsConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Times every public method of the controllers and services, tagged by class, method and thrown exception.
+ * Methods returning a Mono are timed until the Mono completes or fails.
+ * Percentile histograms of the timers are switched on through the management.metrics.distribution properties.
+ * Repository calls are timed by the Spring Data repository metrics and MongoDB commands by the driver command
+ * listener that Spring Boot registers, see the #metrics section of application.properties.
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.theelixrlabs.healthcare.controller..*) && execution(public * *(..))")
+    public Object timeControllerMethod(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return time(MetricsConstants.CONTROLLER_TIMER, proceedingJoinPoint);
+    }
+
+    @Around("within(com.theelixrlabs.healthcare.service..*) && execution(public * *(..))")
+    public Object timeServiceMethod(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return time(MetricsConstants.SERVICE_TIMER, proceedingJoinPoint);
+    }
+
+    private Object time(String timerName, ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = proceedingJoinPoint.proceed();
+        } catch (Throwable throwable) {
+            stop(sample, timerName, proceedingJoinPoint, throwable.getClass().getSimpleName());
+            throw throwable;
+        }
+        if (result instanceof Mono<?> mono) {
+            // a reactive method returns before its work is done, the timer runs from subscription until the Mono terminates
+            return Mono.defer(() -> {
+                Timer.Sample subscriptionSample = Timer.start(meterRegistry);
+                return mono
+                        .doOnSuccess(value -> stop(subscriptionSample, timerName, proceedingJoinPoint, MetricsConstants.NO_EXCEPTION))
+                        .doOnError(throwable -> stop(subscriptionSample, timerName, proceedingJoinPoint, throwable.getClass().getSimpleName()));
+            });
+        }
+        stop(sample, timerName, proceedingJoinPoint, MetricsConstants.NO_EXCEPTION);
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, String timerName, ProceedingJoinPoint proceedingJoinPoint, String exceptionName) {
+        sample.stop(Timer.builder(timerName)
+                .tag(MetricsConstants.CLASS_TAG, proceedingJoinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag(MetricsConstants.METHOD_TAG, proceedingJoinPoint.getSignature().getName())
+                .tag(MetricsConstants.EXCEPTION_TAG, exceptionName)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,147 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.mongodb.MongoCommandException;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.IndexConstants;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import com.theelixrlabs.healthcare.model.PatientAssignedDoctorsModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates and reconciles the indexes declared on the entity classes before the application starts serving requests.
+ * Index definitions live on the models as {@code @Indexed} and {@code @CompoundIndex} annotations,
+ * this class only applies them to the database and optionally verifies that no repository query plans a collection scan.
+ * The verification runs the write queries of the repositories against the collections and is meant for test
+ * environments, healthcare.mongo.indexes.verify-query-plans is off by default.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class MongoIndexInitializer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoIndexInitializer.class);
+    private static final int INDEX_OPTIONS_CONFLICT = 85;
+    private static final int INDEX_KEY_SPECS_CONFLICT = 86;
+    private static final List<Class<?>> INDEXED_ENTITIES =
+            List.of(PatientModel.class, DoctorModel.class, DoctorPatientAssignmentModel.class, PatientAssignedDoctorsModel.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryPlanVerifier queryPlanVerifier;
+    private final boolean enabled;
+    private final boolean reconcileIndexes;
+    private final boolean dropUndeclaredIndexes;
+    private final boolean verifyQueryPlans;
+
+    public MongoIndexInitializer(MongoTemplate mongoTemplate, QueryPlanVerifier queryPlanVerifier,
+                                 @Value(IndexConstants.INDEX_BOOTSTRAP_ENABLED) boolean enabled,
+                                 @Value(IndexConstants.RECONCILE_INDEXES) boolean reconcileIndexes,
+                                 @Value(IndexConstants.DROP_UNDECLARED_INDEXES) boolean dropUndeclaredIndexes,
+                                 @Value(IndexConstants.VERIFY_QUERY_PLANS) boolean verifyQueryPlans) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryPlanVerifier = queryPlanVerifier;
+        this.enabled = enabled;
+        this.reconcileIndexes = reconcileIndexes;
+        this.dropUndeclaredIndexes = dropUndeclaredIndexes;
+        this.verifyQueryPlans = verifyQueryPlans;
+    }
+
+    /**
+     * Bootstraps the indexes at startup unless it is disabled, called by StartupMigrationRunner once the data
+     * migrations are done.
+     */
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            ensureIndexes();
+        } catch (DataAccessResourceFailureException dataAccessResourceFailureException) {
+            LOGGER.error("Skipping index bootstrap, database is not reachable", dataAccessResourceFailureException);
+            return;
+        }
+        if (verifyQueryPlans) {
+            List<String> collectionScans = queryPlanVerifier.findCollectionScans();
+            if (!collectionScans.isEmpty()) {
+                throw new IllegalStateException("Repository queries planned as a collection scan: " + collectionScans);
+            }
+        }
+    }
+
+    /**
+     * Applies the declared indexes of every entity and handles the indexes that exist in the database but are no longer declared.
+     */
+    public void ensureIndexes() {
+        IndexResolver indexResolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> entityClass : INDEXED_ENTITIES) {
+            String collectionName = mongoTemplate.getCollectionName(entityClass);
+            IndexOperations indexOperations = mongoTemplate.indexOps(entityClass);
+            Set<String> declaredIndexNames = new HashSet<>();
+            for (IndexDefinition indexDefinition : indexResolver.resolveIndexFor(entityClass)) {
+                declaredIndexNames.add(ensureIndex(collectionName, indexOperations, indexDefinition));
+            }
+            for (IndexInfo indexInfo : indexOperations.getIndexInfo()) {
+                String indexName = indexInfo.getName();
+                if (IndexConstants.ID_INDEX_NAME.equals(indexName) || declaredIndexNames.contains(indexName)) {
+                    continue;
+                }
+                if (dropUndeclaredIndexes) {
+                    LOGGER.info("Dropping undeclared index {} on {}", indexName, entityClass.getSimpleName());
+                    indexOperations.dropIndex(indexName);
+                } else {
+                    LOGGER.warn("Index {} on {} is not declared on the entity", indexName, entityClass.getSimpleName());
+                }
+            }
+        }
+    }
+
+    private String ensureIndex(String collectionName, IndexOperations indexOperations, IndexDefinition indexDefinition) {
+        try {
+            return indexOperations.ensureIndex(indexDefinition);
+        } catch (DataAccessException dataAccessException) {
+            if (!reconcileIndexes || !isIndexDefinitionConflict(dataAccessException)) {
+                throw dataAccessException;
+            }
+            // An index with the same name or the same keys exists with different options, rebuild it from the declaration.
+            String declaredName = indexDefinition.getIndexOptions().getString(IndexConstants.INDEX_NAME_FIELD);
+            List<?> declaredKeys = new ArrayList<>(indexDefinition.getIndexKeys().entrySet());
+            for (Document existingIndex : mongoTemplate.getCollection(collectionName).listIndexes()) {
+                String existingName = existingIndex.getString(IndexConstants.INDEX_NAME_FIELD);
+                Document existingKeys = existingIndex.get(IndexConstants.INDEX_KEY_FIELD, Document.class);
+                if (existingName.equals(declaredName) || declaredKeys.equals(new ArrayList<>(existingKeys.entrySet()))) {
+                    LOGGER.info("Dropping index {} on {} to rebuild it as {}", existingName, collectionName, declaredName);
+                    indexOperations.dropIndex(existingName);
+                }
+            }
+            try {
+                return indexOperations.ensureIndex(indexDefinition);
+            } catch (DuplicateKeyException duplicateKeyException) {
+                throw new IllegalStateException("Unique index " + declaredName + " on " + collectionName
+                        + " cannot be built while the collection holds duplicate keys, remove them and restart", duplicateKeyException);
+            }
+        }
+    }
+
+    private boolean isIndexDefinitionConflict(DataAccessException dataAccessException) {
+        return dataAccessException.getMostSpecificCause() instanceof MongoCommandException mongoCommandException
+                && (mongoCommandException.getErrorCode() == INDEX_OPTIONS_CONFLICT
+                || mongoCommandException.getErrorCode() == INDEX_KEY_SPECS_CONFLICT);
+    }
+}
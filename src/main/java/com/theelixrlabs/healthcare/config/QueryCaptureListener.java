@@ -0,0 +1,60 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.theelixrlabs.healthcare.constants.IndexConstants;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Driver command listener recording the explainable commands a thread sends while a capture is open, so that
+ * QueryPlanVerifier explains exactly the commands the repositories build instead of hand written copies of them.
+ * Commands of other threads and commands sent while no capture is open are ignored.
+ */
+public class QueryCaptureListener implements CommandListener {
+
+    private static final ThreadLocal<List<BsonDocument>> CAPTURED_COMMANDS = new ThreadLocal<>();
+
+    /**
+     * Starts recording the commands of the current thread.
+     */
+    static void startCapture() {
+        CAPTURED_COMMANDS.set(new ArrayList<>());
+    }
+
+    /**
+     * Stops recording the commands of the current thread.
+     *
+     * @return The commands recorded since startCapture, ready to be wrapped in an explain command.
+     */
+    static List<BsonDocument> stopCapture() {
+        List<BsonDocument> capturedCommands = CAPTURED_COMMANDS.get();
+        CAPTURED_COMMANDS.remove();
+        return capturedCommands == null ? List.of() : capturedCommands;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent commandStartedEvent) {
+        List<BsonDocument> capturedCommands = CAPTURED_COMMANDS.get();
+        if (capturedCommands != null && IndexConstants.EXPLAINABLE_COMMANDS.contains(commandStartedEvent.getCommandName())) {
+            capturedCommands.add(explainableCommand(commandStartedEvent.getCommand()));
+        }
+    }
+
+    /**
+     * Copies a command without the session, cluster time and other fields the driver adds, which explain rejects.
+     * The copy is required anyway, the document of the event is only valid while the event is handled.
+     */
+    static BsonDocument explainableCommand(BsonDocument command) {
+        BsonDocument explainableCommand = new BsonDocument();
+        for (Map.Entry<String, BsonValue> commandField : command.entrySet()) {
+            if (!commandField.getKey().startsWith("$") && !IndexConstants.DRIVER_COMMAND_FIELDS.contains(commandField.getKey())) {
+                explainableCommand.append(commandField.getKey(), commandField.getValue().clone());
+            }
+        }
+        return explainableCommand;
+    }
+}
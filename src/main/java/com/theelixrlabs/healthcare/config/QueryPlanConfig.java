@@ -0,0 +1,21 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Registers the QueryCaptureListener the QueryPlanVerifier reads the repository commands from.
+ * Outside of a capture the listener only checks a thread local per command.
+ */
+@Configuration
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class QueryPlanConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer queryCaptureListenerCustomizer() {
+        return mongoClientSettingsBuilder -> mongoClientSettingsBuilder.addCommandListener(new QueryCaptureListener());
+    }
+}
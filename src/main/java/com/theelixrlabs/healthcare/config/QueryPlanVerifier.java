@@ -0,0 +1,185 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.IndexConstants;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.repository.DoctorPatientAssignmentRepository;
+import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.repository.PatientAssignedDoctorsRepository;
+import com.theelixrlabs.healthcare.repository.PatientRepository;
+import com.theelixrlabs.healthcare.utility.NameSearchUtil;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Calls the repository query methods, captures the commands they send with QueryCaptureListener, runs explain on
+ * those commands and reports the queries whose winning plan falls back to a collection scan.
+ * The probes call the repositories with ids and values that match no document, so the writes among them change nothing.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class QueryPlanVerifier {
+
+    private static final long SAMPLE_AADHAAR_NUMBER = 234567890124L;
+    private static final String SAMPLE_NAME_PREFIX = "Jo";
+
+    private final MongoTemplate mongoTemplate;
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final DoctorPatientAssignmentRepository doctorPatientAssignmentRepository;
+    private final PatientAssignedDoctorsRepository patientAssignedDoctorsRepository;
+
+    public QueryPlanVerifier(MongoTemplate mongoTemplate, PatientRepository patientRepository, DoctorRepository doctorRepository,
+                             DoctorPatientAssignmentRepository doctorPatientAssignmentRepository,
+                             PatientAssignedDoctorsRepository patientAssignedDoctorsRepository) {
+        this.mongoTemplate = mongoTemplate;
+        this.patientRepository = patientRepository;
+        this.doctorRepository = doctorRepository;
+        this.doctorPatientAssignmentRepository = doctorPatientAssignmentRepository;
+        this.patientAssignedDoctorsRepository = patientAssignedDoctorsRepository;
+    }
+
+    /**
+     * Explains the commands of every registered query probe.
+     *
+     * @return names of the repository queries that are planned as a COLLSCAN, empty if all of them use an index.
+     * @throws IllegalStateException if a probe sends no explainable command, e.g. because the query is served elsewhere.
+     */
+    public List<String> findCollectionScans() {
+        List<String> collectionScans = new ArrayList<>();
+        for (QueryPlanProbe queryPlanProbe : queryPlanProbes()) {
+            for (BsonDocument capturedCommand : capturedCommands(queryPlanProbe)) {
+                Document explainResult = mongoTemplate.getDb().runCommand(new BsonDocument(IndexConstants.EXPLAIN_COMMAND, capturedCommand)
+                        .append(IndexConstants.EXPLAIN_VERBOSITY, new BsonString(IndexConstants.QUERY_PLANNER)));
+                if (usesCollectionScan(explainResult)) {
+                    collectionScans.add(queryPlanProbe.queryName());
+                    break;
+                }
+            }
+        }
+        return collectionScans;
+    }
+
+    private List<BsonDocument> capturedCommands(QueryPlanProbe queryPlanProbe) {
+        List<BsonDocument> capturedCommands;
+        QueryCaptureListener.startCapture();
+        try {
+            queryPlanProbe.repositoryCall().run();
+        } finally {
+            capturedCommands = QueryCaptureListener.stopCapture();
+        }
+        if (capturedCommands.isEmpty()) {
+            throw new IllegalStateException("No explainable command captured for " + queryPlanProbe.queryName());
+        }
+        return capturedCommands;
+    }
+
+    /**
+     * Checks whether a winning plan of an explain result contains a COLLSCAN stage at any depth.
+     * An aggregation reports the plan of its initial query below its stages, a sharded query one plan per shard,
+     * so the query planner sections are searched for at any depth as well.
+     *
+     * @param explainNode The document returned by the explain command, or a document or array nested in it.
+     * @return true if a winning plan scans the whole collection, false otherwise.
+     */
+    static boolean usesCollectionScan(Object explainNode) {
+        if (explainNode instanceof Map<?, ?> explainDocument) {
+            if (explainDocument.get(IndexConstants.QUERY_PLANNER) instanceof Map<?, ?> queryPlanner
+                    && containsCollectionScan(queryPlanner.get(IndexConstants.WINNING_PLAN))) {
+                return true;
+            }
+            for (Object childNode : explainDocument.values()) {
+                if (usesCollectionScan(childNode)) {
+                    return true;
+                }
+            }
+        } else if (explainNode instanceof List<?> explainNodes) {
+            for (Object childNode : explainNodes) {
+                if (usesCollectionScan(childNode)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsCollectionScan(Object planNode) {
+        if (planNode instanceof Map<?, ?> planStage) {
+            if (IndexConstants.COLLECTION_SCAN_STAGE.equals(planStage.get(IndexConstants.STAGE))) {
+                return true;
+            }
+            for (Object childNode : planStage.values()) {
+                if (containsCollectionScan(childNode)) {
+                    return true;
+                }
+            }
+        } else if (planNode instanceof List<?> planStages) {
+            for (Object childNode : planStages) {
+                if (containsCollectionScan(childNode)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One probe per repository query method, calling the method itself. Has to be extended whenever a repository
+     * gains a new query method.
+     */
+    private List<QueryPlanProbe> queryPlanProbes() {
+        UUID doctorId = UUID.randomUUID();
+        UUID patientId = UUID.randomUUID();
+        String namePrefix = NameSearchUtil.normalize(SAMPLE_NAME_PREFIX);
+        String namePrefixUpperBound = NameSearchUtil.prefixUpperBound(namePrefix);
+        DoctorModel unknownDoctor = DoctorModel.builder()
+                .id(doctorId)
+                .firstName(SAMPLE_NAME_PREFIX)
+                .lastName(SAMPLE_NAME_PREFIX)
+                .department(SAMPLE_NAME_PREFIX)
+                .aadhaarNumber(SAMPLE_AADHAAR_NUMBER)
+                .build();
+        return List.of(
+                new QueryPlanProbe("PatientRepository.findByPatientAadhaarNumber",
+                        () -> patientRepository.findByPatientAadhaarNumber(SAMPLE_AADHAAR_NUMBER)),
+                new QueryPlanProbe("PatientRepository.findByPatientAadhaarNumberIn",
+                        () -> patientRepository.findByPatientAadhaarNumberIn(List.of(SAMPLE_AADHAAR_NUMBER))),
+                new QueryPlanProbe("PatientRepository.searchByPatientName",
+                        () -> patientRepository.searchByPatientName(namePrefix, namePrefixUpperBound, null, 1)),
+                new QueryPlanProbe("DoctorRepository.findByAadhaarNumber",
+                        () -> doctorRepository.findByAadhaarNumber(SAMPLE_AADHAAR_NUMBER)),
+                new QueryPlanProbe("DoctorRepository.findByAadhaarNumberIn",
+                        () -> doctorRepository.findByAadhaarNumberIn(List.of(SAMPLE_AADHAAR_NUMBER))),
+                new QueryPlanProbe("DoctorRepository.searchByDoctorName",
+                        () -> doctorRepository.searchByDoctorName(namePrefix, namePrefixUpperBound, null, 1)),
+                new QueryPlanProbe("DoctorPatientAssignmentRepository.findByPatientIdAndDateOfUnassignmentNull",
+                        () -> doctorPatientAssignmentRepository.findByPatientIdAndDateOfUnassignmentNull(patientId)),
+                new QueryPlanProbe("DoctorPatientAssignmentRepository.findByDoctorIdAndDateOfUnassignmentNullOrderByPatientIdAsc",
+                        () -> doctorPatientAssignmentRepository.findByDoctorIdAndDateOfUnassignmentNullOrderByPatientIdAsc(doctorId, Limit.of(1))),
+                new QueryPlanProbe("DoctorPatientAssignmentRepository.findByDoctorIdAndDateOfUnassignmentNullAndPatientIdGreaterThanOrderByPatientIdAsc",
+                        () -> doctorPatientAssignmentRepository.findByDoctorIdAndDateOfUnassignmentNullAndPatientIdGreaterThanOrderByPatientIdAsc(
+                                doctorId, patientId, Limit.of(1))),
+                new QueryPlanProbe("DoctorPatientAssignmentRepository.unassignActiveAssignment",
+                        () -> doctorPatientAssignmentRepository.unassignActiveAssignment(doctorId, patientId, new Date())),
+                new QueryPlanProbe("DoctorPatientAssignmentRepository.existsByDoctorIdAndPatientId",
+                        () -> doctorPatientAssignmentRepository.existsByDoctorIdAndPatientId(doctorId, patientId)),
+                new QueryPlanProbe("DoctorPatientAssignmentRepository.existsByDoctorIdAndDateOfUnassignmentNull",
+                        () -> doctorPatientAssignmentRepository.existsByDoctorIdAndDateOfUnassignmentNull(doctorId)),
+                new QueryPlanProbe("PatientAssignedDoctorsRepository.refreshDoctor",
+                        () -> patientAssignedDoctorsRepository.refreshDoctor(unknownDoctor))
+        );
+    }
+
+    private record QueryPlanProbe(String queryName, Runnable repositoryCall) {
+    }
+}
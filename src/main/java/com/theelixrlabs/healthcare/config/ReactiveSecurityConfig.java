@@ -0,0 +1,96 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.MetricsConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.constants.SecurityConstants;
+import com.theelixrlabs.healthcare.utility.ReactiveAuthenticationEntryPointUtility;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+
+import static org.springframework.security.config.Customizer.withDefaults;
+
+/**
+ * Reactive counterpart of SecurityConfig, secures the endpoints the same way in the reactive profile.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@Profile(ReactiveConstants.REACTIVE_PROFILE)
+public class ReactiveSecurityConfig {
+
+    private final String jwkSetUri;
+    private final Environment environment;
+    private final ReactiveAuthenticationEntryPointUtility reactiveAuthenticationEntryPointUtility;
+
+    public ReactiveSecurityConfig(@Value(SecurityConstants.GOOGLE_JWK_SET_URI) String jwkSetUri, Environment environment,
+                                  ReactiveAuthenticationEntryPointUtility reactiveAuthenticationEntryPointUtility) {
+        this.jwkSetUri = jwkSetUri;
+        this.environment = environment;
+        this.reactiveAuthenticationEntryPointUtility = reactiveAuthenticationEntryPointUtility;
+    }
+
+    /**
+     * Lets Prometheus scrape the metrics without a token, ahead of the OAuth2 protected chain below.
+     *
+     * @param serverHttpSecurity ServerHttpSecurity instance
+     * @return SecurityWebFilterChain instance matching only the Prometheus endpoint
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityWebFilterChain prometheusSecurityWebFilterChain(ServerHttpSecurity serverHttpSecurity) {
+        return serverHttpSecurity
+                .securityMatcher(EndpointRequest.to(MetricsConstants.PROMETHEUS_ENDPOINT))
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .authorizeExchange(authorize -> authorize
+                        .anyExchange().permitAll())
+                .build();
+    }
+
+    /**
+     * This bean configures spring security with Google Authentication based on profiles
+     *
+     * @param serverHttpSecurity ServerHttpSecurity instance
+     * @return SecurityWebFilterChain instance
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity serverHttpSecurity) {
+        if (!environment.acceptsProfiles(Profiles.of(SecurityConstants.DEV_PROFILE_CONSTANT))) {
+            return serverHttpSecurity
+                    .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                    .authorizeExchange(authorize -> authorize
+                            .anyExchange().authenticated())
+                    .oauth2Login(withDefaults())
+                    .oauth2Client(withDefaults())
+                    .oauth2ResourceServer(oauth2 -> oauth2
+                            .jwt(withDefaults())
+                            .authenticationEntryPoint(reactiveAuthenticationEntryPointUtility))
+                    .build();
+        }
+        return serverHttpSecurity
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .authorizeExchange(authorize -> authorize
+                        .anyExchange().permitAll())
+                .build();
+    }
+
+    /**
+     * Bean to decode and validate JWT tokens without blocking
+     *
+     * @return ReactiveJwtDecoder object
+     */
+    @Bean
+    public ReactiveJwtDecoder reactiveJwtDecoder() {
+        return NimbusReactiveJwtDecoder.withJwkSetUri(jwkSetUri).build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.LocaleConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.i18n.LocaleContextResolver;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * WebFlux setup of the reactive profile.
+ * The request locale is resolved like the servlet localeResolver of MessagesConfig, bounded by the supported locales,
+ * and handed to the reactive pipeline through the Reactor context, where ReactiveExecutionUtil binds it to the thread
+ * resolving messages.
+ */
+@Configuration
+@Profile(ReactiveConstants.REACTIVE_PROFILE)
+public class ReactiveWebConfig {
+
+    /**
+     * Resolves the locale of an exchange from its Accept-Language header.
+     *
+     * @param defaultLocale    Language tag used when the request has no supported language.
+     * @param supportedLocales Language tags that have a message bundle.
+     * @return locale context resolver object
+     */
+    @Bean
+    public LocaleContextResolver localeContextResolver(@Value(LocaleConstants.DEFAULT_LOCALE) String defaultLocale,
+                                                       @Value(LocaleConstants.SUPPORTED_LOCALES) String[] supportedLocales) {
+        AcceptHeaderLocaleContextResolver localeContextResolver = new AcceptHeaderLocaleContextResolver();
+        localeContextResolver.setDefaultLocale(Locale.forLanguageTag(defaultLocale));
+        localeContextResolver.setSupportedLocales(Arrays.stream(supportedLocales)
+                .map(String::trim)
+                .map(Locale::forLanguageTag)
+                .toList());
+        return localeContextResolver;
+    }
+
+    /**
+     * Puts the locale context of every exchange into the Reactor context of its pipeline.
+     *
+     * @return web filter object
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public WebFilter localeContextWebFilter() {
+        return (exchange, chain) -> chain.filter(exchange)
+                .contextWrite(context -> context.put(LocaleContext.class, exchange.getLocaleContext()));
+    }
+}
@@ -1,11 +1,18 @@
 package com.theelixrlabs.healthcare.config;
 
+import com.theelixrlabs.healthcare.constants.MetricsConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
 import com.theelixrlabs.healthcare.constants.SecurityConstants;
 import com.theelixrlabs.healthcare.utility.AuthenticationEntryPointUtility;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -20,6 +27,7 @@ import static org.springframework.security.config.Customizer.withDefaults;
  */
 @Configuration
 @EnableWebSecurity
+@Profile(ReactiveConstants.SERVLET_PROFILE)
 public class SecurityConfig {
 
     private final String JWK_SET_URI;
@@ -33,6 +41,24 @@ public class SecurityConfig {
         this.authenticationEntryPointUtility = authenticationEntryPointUtility;
     }
 
+    /**
+     * Lets Prometheus scrape the metrics without a token, ahead of the OAuth2 protected chain below.
+     *
+     * @param httpSecurity HttpSecurity instance
+     * @return SecurityFilterChain instance matching only the Prometheus endpoint
+     * @throws Exception if any exception occurs
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain prometheusSecurityFilterChain(HttpSecurity httpSecurity) throws Exception {
+        httpSecurity
+                .securityMatcher(EndpointRequest.to(MetricsConstants.PROMETHEUS_ENDPOINT))
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(authorize -> authorize
+                        .anyRequest().permitAll());
+        return httpSecurity.build();
+    }
+
     /**
      * This bean configures spring security with Google Authentication based on profiles
      *
@@ -42,8 +68,7 @@ public class SecurityConfig {
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
-        String activeProfile = environment.getProperty(SecurityConstants.ACTIVE_PROFILE);
-        if (!activeProfile.equals(SecurityConstants.DEV_PROFILE_CONSTANT)) {
+        if (!environment.acceptsProfiles(Profiles.of(SecurityConstants.DEV_PROFILE_CONSTANT))) {
             httpSecurity
                     .csrf(AbstractHttpConfigurer::disable)
                     .authorizeHttpRequests(authorize -> authorize
@@ -0,0 +1,37 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.VirtualThreadConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Setup of the virtual profile, which serves every request on its own virtual thread, see application-virtual.properties.
+ * Requests are no longer bounded by the Tomcat thread pool, so the MongoDB connection pool becomes the bound of the
+ * concurrent database work: requests beyond the pool size wait for a connection and fail after the maximum wait time
+ * instead of queueing for the two minute default of the driver.
+ */
+@Configuration
+@Profile(VirtualThreadConstants.VIRTUAL_THREADS_PROFILE)
+public class VirtualThreadConfig {
+
+    /**
+     * Bounds the MongoDB connection pool shared by the virtual threads.
+     *
+     * @param maxPoolSize Maximum number of connections, and so of concurrent database commands.
+     * @param maxWaitTime Maximum time a request waits for a free connection.
+     * @return mongo client settings customizer object
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer virtualThreadConnectionPoolCustomizer(
+            @Value(VirtualThreadConstants.MONGO_MAX_POOL_SIZE) int maxPoolSize,
+            @Value(VirtualThreadConstants.MONGO_MAX_WAIT_TIME) Duration maxWaitTime) {
+        return mongoClientSettingsBuilder -> mongoClientSettingsBuilder.applyToConnectionPoolSettings(connectionPoolSettings ->
+                connectionPoolSettings.maxSize(maxPoolSize)
+                        .maxWaitTime(maxWaitTime.toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,84 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.MetricsConstants;
+import com.theelixrlabs.healthcare.constants.VirtualThreadConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread, e.g. in a synchronized block or a native
+ * call, for longer than the pinning threshold. A pinned virtual thread holds a carrier thread like a platform thread
+ * does, so pinning on the hot path caps the concurrency of the virtual profile at the number of carrier threads.
+ * The JFR pinning events are streamed in process, each one is recorded in the healthcare.virtual-threads.pinned timer
+ * and logged with the top of its stack.
+ */
+@Component
+@Profile(VirtualThreadConstants.VIRTUAL_THREADS_PROFILE)
+public class VirtualThreadPinningMonitor implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final Timer pinnedTimer;
+    private final Duration pinningThreshold;
+    private final int stackDepth;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value(VirtualThreadConstants.PINNING_THRESHOLD) Duration pinningThreshold,
+                                       @Value(VirtualThreadConstants.PINNING_STACK_DEPTH) int stackDepth) {
+        this.pinnedTimer = meterRegistry.timer(MetricsConstants.PINNED_TIMER);
+        this.pinningThreshold = pinningThreshold;
+        this.stackDepth = stackDepth;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (Runtime.version().feature() < VirtualThreadConstants.MINIMUM_JAVA_VERSION) {
+            LOGGER.warn("The virtual profile needs Java {} or later, requests are served on platform threads on Java {}",
+                    VirtualThreadConstants.MINIMUM_JAVA_VERSION, Runtime.version().feature());
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(VirtualThreadConstants.PINNED_EVENT)
+                .withThreshold(pinningThreshold)
+                .withStackTrace();
+        recordingStream.onEvent(VirtualThreadConstants.PINNED_EVENT, this::onPinnedEvent);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    void onPinnedEvent(RecordedEvent recordedEvent) {
+        pinnedTimer.record(recordedEvent.getDuration());
+        LOGGER.warn("Virtual thread pinned for {} ms at {}", recordedEvent.getDuration().toMillis(), topFrames(recordedEvent));
+    }
+
+    private String topFrames(RecordedEvent recordedEvent) {
+        if (recordedEvent.getStackTrace() == null) {
+            return "an unknown location";
+        }
+        List<RecordedFrame> frames = recordedEvent.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(stackDepth)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+}
@@ -1,11 +1,9 @@
 package com.theelixrlabs.healthcare.constants;
 
 public class AggregationConstant {
-    public static final String ASSIGNED_DOCTORS = "assignedDoctors";
     public static final String DATE_OF_ASSIGNMENT = "$dateOfAssignment";
     public static final String DATE_OF_UNASSIGNMENT = "dateOfUnassignment";
     public static final String DOCTORS = "doctors";
-    public static final String DOCTORS_DATE_OF_ASSIGNMENT = "doctors.dateOfAssignment";
     public static final String DOCTOR_ID = "doctorId";
     public static final String ID = "_id";
     public static final String PATIENT = "patient";
@@ -0,0 +1,9 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Contains the request parameter and the size limit of the batched lookups of doctors and patients by id.
+ */
+public class BatchLookupConstants {
+    public static final String IDS_PARAM = "ids";
+    public static final int MAX_IDS = 1000;
+}
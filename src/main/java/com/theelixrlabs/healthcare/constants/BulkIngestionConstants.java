@@ -0,0 +1,9 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Contains the configuration keys used by the bulk patient and doctor ingestion.
+ */
+public class BulkIngestionConstants {
+    public static final String CHUNK_SIZE = "${healthcare.bulk.chunk-size:1000}";
+    public static final String MAX_BATCH_SIZE = "${healthcare.bulk.max-batch-size:100000}";
+}
@@ -0,0 +1,10 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Contains the cache names and the property switching the entity caches on and off.
+ */
+public class CacheConstants {
+    public static final String CACHE_ENABLED_PROPERTY = "healthcare.cache.enabled";
+    public static final String DOCTORS_CACHE = "doctors";
+    public static final String PATIENTS_CACHE = "patients";
+}
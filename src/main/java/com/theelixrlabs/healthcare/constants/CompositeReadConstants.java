@@ -0,0 +1,12 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Configuration keys of the executor running the independent reads of composite endpoints concurrently.
+ */
+public class CompositeReadConstants {
+    public static final String CALL_TIMEOUT = "${healthcare.composite-read.call-timeout:5s}";
+    public static final long KEEP_ALIVE_SECONDS = 60;
+    public static final String POOL_SIZE = "${healthcare.composite-read.pool-size:32}";
+    public static final String QUEUE_CAPACITY = "${healthcare.composite-read.queue-capacity:256}";
+    public static final String THREAD_NAME_PREFIX = "composite-read-";
+}
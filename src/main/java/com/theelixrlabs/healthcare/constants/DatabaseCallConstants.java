@@ -0,0 +1,17 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Configuration keys and names of the per request database call accounting.
+ */
+public class DatabaseCallConstants {
+    public static final String BUDGET_ACTION = "${healthcare.db-calls.budget-action:LOG}";
+    public static final String BUDGETS = "#{${healthcare.db-calls.budgets:{:}}}";
+    public static final String CURSOR_FIELD = "cursor";
+    public static final String DEFAULT_BUDGET = "${healthcare.db-calls.default-budget:-1}";
+    public static final String ENABLED_PROPERTY = "healthcare.db-calls.enabled";
+    public static final String FIRST_BATCH_FIELD = "firstBatch";
+    public static final String HEADER_NAME = "X-Db-Calls";
+    public static final String HEADER_VALUE_FORMAT = "commands=%d;documents=%d;bytes=%d";
+    public static final String NEXT_BATCH_FIELD = "nextBatch";
+    public static final String VALUE_FIELD = "value";
+}
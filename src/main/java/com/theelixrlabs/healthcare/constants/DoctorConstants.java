@@ -4,8 +4,8 @@ package com.theelixrlabs.healthcare.constants;
  * Constant class containing error messages and patterns related to doctor.
  */
 public class DoctorConstants {
-    public static final String AADHAAR_REGEX_PATTERN = "^[2-9]{1}[0-9]{11}$";
-    public static final String ALPHA_CHARACTERS_REGEX = "^[a-zA-Z]+$";
+    public static final String AADHAAR_NUMBER_FIELD = "aadhaarNumber";
+    public static final String DEPARTMENT_FIELD = "department";
     public static final String DOCTOR_NAME_PARAM = "name";
     public static final String DOCTORS_COLLECTION_NAME = "doctors";
     public static final String PATH_VARIABLE_DOCTOR_ID = "doctorId";
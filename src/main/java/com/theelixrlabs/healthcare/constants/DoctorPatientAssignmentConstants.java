@@ -4,6 +4,8 @@ package com.theelixrlabs.healthcare.constants;
  * Contains the string constants used for the doctor patient assignment module implementation
  */
 public class DoctorPatientAssignmentConstants {
+    public static final String ASSIGNMENT_GRAPH_ENABLED = "${healthcare.assignment-graph.enabled:false}";
+    public static final String DATE_OF_ASSIGNMENT_FIELD = "dateOfAssignment";
     public static final String DB_COLLECTION_NAME = "doctor_patient_assignment";
     public static final String DOCTOR_ALREADY_ASSIGNED_KEY = "doctor.already.assigned";
     public static final String DOCTOR_ALREADY_UNASSIGNED_KEY = "doctor.already.unassigned";
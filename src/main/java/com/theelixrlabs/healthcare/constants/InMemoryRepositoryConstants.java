@@ -0,0 +1,12 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Constants of the in-memory repositories served by the inmem profile.
+ */
+public class InMemoryRepositoryConstants {
+    public static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+    public static final String DUPLICATE_KEY_ERROR_MESSAGE = "E11000 duplicate key error collection: %s index: %s";
+    public static final String ID_INDEX = "_id_";
+    public static final String IN_MEMORY_PROFILE = "inmem";
+    public static final String MONGO_PROFILE = "!inmem";
+}
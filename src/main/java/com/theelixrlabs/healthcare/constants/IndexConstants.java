@@ -0,0 +1,41 @@
+package com.theelixrlabs.healthcare.constants;
+
+import java.util.Set;
+
+/**
+ * Contains index names, partial filters and properties used by the MongoDB index bootstrap.
+ */
+public class IndexConstants {
+    public static final String ACTIVE_ASSIGNMENT_FILTER = "{'dateOfUnassignment': null}";
+    public static final String ACTIVE_DOCTOR_PATIENT_INDEX = "active_doctor_patient_idx";
+    public static final String ACTIVE_DOCTOR_PATIENT_INDEX_DEFINITION = "{'doctorId': 1, 'patientId': 1}";
+    public static final String ASSIGNED_DOCTOR_INDEX = "assigned_doctor_idx";
+    public static final String ASSIGNED_DOCTOR_INDEX_DEFINITION = "{'assignedDoctors._id': 1}";
+    public static final String COLLECTION_SCAN_STAGE = "COLLSCAN";
+    public static final String DOCTOR_AADHAAR_NUMBER_INDEX = "doctor_aadhaar_number_idx";
+    public static final String DOCTOR_FIRST_NAME_SEARCH_INDEX = "doctor_first_name_search_idx";
+    public static final String DOCTOR_FIRST_NAME_SEARCH_INDEX_DEFINITION = "{'normalizedFirstName': 1, '_id': 1}";
+    public static final String DOCTOR_LAST_NAME_SEARCH_INDEX = "doctor_last_name_search_idx";
+    public static final String DOCTOR_LAST_NAME_SEARCH_INDEX_DEFINITION = "{'normalizedLastName': 1, '_id': 1}";
+    public static final Set<String> DRIVER_COMMAND_FIELDS = Set.of("lsid", "txnNumber", "autocommit", "startTransaction");
+    public static final String DROP_UNDECLARED_INDEXES = "${healthcare.mongo.indexes.drop-undeclared:false}";
+    public static final Set<String> EXPLAINABLE_COMMANDS = Set.of("aggregate", "count", "delete", "distinct", "find", "findAndModify", "update");
+    public static final String EXPLAIN_COMMAND = "explain";
+    public static final String EXPLAIN_VERBOSITY = "verbosity";
+    public static final String ID_INDEX_NAME = "_id_";
+    public static final String INDEX_BOOTSTRAP_ENABLED = "${healthcare.mongo.indexes.enabled:true}";
+    public static final String INDEX_KEY_FIELD = "key";
+    public static final String INDEX_NAME_FIELD = "name";
+    public static final String PATIENT_AADHAAR_NUMBER_INDEX = "patient_aadhaar_number_idx";
+    public static final String PATIENT_DOCTOR_INDEX = "patient_doctor_idx";
+    public static final String PATIENT_DOCTOR_INDEX_DEFINITION = "{'patientId': 1, 'doctorId': 1, 'dateOfAssignment': -1}";
+    public static final String PATIENT_FIRST_NAME_SEARCH_INDEX = "patient_first_name_search_idx";
+    public static final String PATIENT_FIRST_NAME_SEARCH_INDEX_DEFINITION = "{'normalizedPatientFirstName': 1, '_id': 1}";
+    public static final String PATIENT_LAST_NAME_SEARCH_INDEX = "patient_last_name_search_idx";
+    public static final String PATIENT_LAST_NAME_SEARCH_INDEX_DEFINITION = "{'normalizedPatientLastName': 1, '_id': 1}";
+    public static final String QUERY_PLANNER = "queryPlanner";
+    public static final String RECONCILE_INDEXES = "${healthcare.mongo.indexes.reconcile:true}";
+    public static final String STAGE = "stage";
+    public static final String VERIFY_QUERY_PLANS = "${healthcare.mongo.indexes.verify-query-plans:false}";
+    public static final String WINNING_PLAN = "winningPlan";
+}
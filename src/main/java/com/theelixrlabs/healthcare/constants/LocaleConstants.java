@@ -0,0 +1,9 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Constants for resolving the locale of the response messages.
+ */
+public class LocaleConstants {
+    public static final String DEFAULT_LOCALE = "${healthcare.messages.default-locale:en}";
+    public static final String SUPPORTED_LOCALES = "${healthcare.messages.supported-locales:en}";
+}
@@ -5,6 +5,12 @@ package com.theelixrlabs.healthcare.constants;
  * These keys are mapped to actual messages in the properties file.
  */
 public class MessageConstants {
+    public static final String BULK_AADHAAR_NUMBER_DUPLICATE_IN_BATCH = "bulk.aadhaar.number.duplicate.in.batch";
+    public static final String BULK_BATCH_SIZE_INVALID = "bulk.batch.size.invalid";
+    public static final String BULK_INSERT_FAILED = "bulk.insert.failed";
+    public static final String BULK_RECORD_EMPTY = "bulk.record.empty";
+    public static final String COMPOSITE_READ_TIMEOUT = "composite.read.timeout";
+    public static final String DATABASE_CALL_BUDGET_EXCEEDED = "database.call.budget.exceeded";
     public static final String DEPARTMENT_SHOULD_BE_MANDATORY = "{doctor.department.mandatory}";
     public static final String DEPARTMENT_SHOULD_NOT_BE_EMPTY = "doctor.department.should.not.be.empty";
     public static final String DOCTOR_AADHAAR_ALREADY_PRESENT = "doctor.aadhaar.number.already.present";
@@ -24,6 +30,9 @@ public class MessageConstants {
     public static final String DOCTOR_LAST_NAME_SHOULD_NOT_BE_EMPTY = "doctor.last.name.should.not.be.empty";
     public static final String DOCTOR_NAME_CANNOT_BE_EMPTY = "doctor.name.cannot.be.empty";
     public static final String DOCTOR_NAME_NOT_FOUND = "doctor.name.not.found";
+    public static final String INVALID_BATCH_LOOKUP_SIZE = "invalid.batch.lookup.size";
+    public static final String INVALID_PAGE_CURSOR = "invalid.page.cursor";
+    public static final String INVALID_PAGE_LIMIT = "invalid.page.limit";
     public static final String INVALID_UUID = "invalid.uuid";
     public static final String NOT_AUTHORISED = "user.not.authorized";
     public static final String PATIENT_AADHAAR_NUMBER_EXISTS = "patient.aadhaar.number.exists";
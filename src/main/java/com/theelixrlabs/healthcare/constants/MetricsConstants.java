@@ -0,0 +1,21 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Meter names and tags of the method timers, the virtual thread pinning timer, the single-flight counters and the
+ * Prometheus scrape endpoint.
+ */
+public class MetricsConstants {
+    public static final String CALL_TAG = "call";
+    public static final String CLASS_TAG = "class";
+    public static final String COALESCED_OUTCOME = "coalesced";
+    public static final String CONTROLLER_TIMER = "healthcare.controller";
+    public static final String EXCEPTION_TAG = "exception";
+    public static final String EXECUTED_OUTCOME = "executed";
+    public static final String METHOD_TAG = "method";
+    public static final String NO_EXCEPTION = "none";
+    public static final String OUTCOME_TAG = "outcome";
+    public static final String PINNED_TIMER = "healthcare.virtual-threads.pinned";
+    public static final String PROMETHEUS_ENDPOINT = "prometheus";
+    public static final String SERVICE_TIMER = "healthcare.service";
+    public static final String SINGLE_FLIGHT_COUNTER = "healthcare.single-flight";
+}
@@ -0,0 +1,22 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Contains field names and properties used by the startup data migrations.
+ */
+public class MigrationConstants {
+    public static final String AADHAAR_KEY_MIGRATION_ENABLED = "${healthcare.migration.aadhaar-key.enabled:true}";
+    public static final String DOCTOR_FIRST_NAME_FIELD = "firstName";
+    public static final String DOCTOR_LAST_NAME_FIELD = "lastName";
+    public static final String DOCTOR_NORMALIZED_FIRST_NAME_FIELD = "normalizedFirstName";
+    public static final String DOCTOR_NORMALIZED_LAST_NAME_FIELD = "normalizedLastName";
+    public static final String ID_FIELD = "_id";
+    public static final String PATIENT_FIRST_NAME_FIELD = "patientFirstName";
+    public static final String PATIENT_LAST_NAME_FIELD = "patientLastName";
+    public static final String PATIENT_NORMALIZED_FIRST_NAME_FIELD = "normalizedPatientFirstName";
+    public static final String PATIENT_NORMALIZED_LAST_NAME_FIELD = "normalizedPatientLastName";
+    public static final String PATIENT_ASSIGNED_DOCTORS_ENDPOINT_ID = "assigneddoctors";
+    public static final String PATIENT_ASSIGNED_DOCTORS_REBUILD_ENABLED = "${healthcare.migration.patient-assigned-doctors-rebuild.enabled:true}";
+    public static final String PATIENT_ASSIGNED_DOCTORS_REBUILD_FORCED = "${healthcare.migration.patient-assigned-doctors-rebuild.force:false}";
+    public static final String REBUILT_PATIENTS_KEY = "patients";
+    public static final String SEARCH_NAME_BACKFILL_ENABLED = "${healthcare.migration.search-name-backfill.enabled:true}";
+}
@@ -0,0 +1,17 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Contains the request parameters, limits and cursor markers used by the keyset paginated endpoints.
+ */
+public class PaginationConstants {
+    public static final String CURSOR_PARAM = "cursor";
+    public static final String CURSOR_SEPARATOR = "|";
+    public static final String CURSOR_SEPARATOR_REGEX = "\\|";
+    public static final String DEFAULT_LIMIT = "50";
+    public static final String FIRST_NAME_BRANCH = "F";
+    public static final String ID_FIELD = "_id";
+    public static final String LAST_NAME_BRANCH = "L";
+    public static final String LIMIT_PARAM = "limit";
+    public static final int MAX_LIMIT = 500;
+    public static final String ROSTER_BRANCH = "P";
+}
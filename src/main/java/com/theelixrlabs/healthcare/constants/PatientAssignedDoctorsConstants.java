@@ -0,0 +1,17 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Contains the collection and field names of the patient to assigned doctors read model.
+ */
+public class PatientAssignedDoctorsConstants {
+    public static final String ASSIGNED_DOCTOR = "assignedDoctor";
+    public static final String ASSIGNED_DOCTORS = "assignedDoctors";
+    public static final String ASSIGNED_DOCTOR_FILTER_ID_FIELD = "assignedDoctor._id";
+    public static final String ASSIGNED_DOCTOR_ID_FIELD = "assignedDoctors._id";
+    public static final String ASSIGNED_DOCTOR_POSITION = "assignedDoctors.$[assignedDoctor].";
+    public static final String COLLECTION_NAME = "patient_assigned_doctors";
+    public static final String DATE_OF_ASSIGNMENT_FIELD = "dateOfAssignment";
+    public static final String DOCTOR = "doctor";
+    public static final String PATIENT = "patient";
+    public static final String PATIENT_FIELD_PREFIX = "patient.";
+}
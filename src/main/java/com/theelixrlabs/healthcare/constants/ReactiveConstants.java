@@ -0,0 +1,9 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Constants of the reactive execution mode served by the reactive profile.
+ */
+public class ReactiveConstants {
+    public static final String REACTIVE_PROFILE = "reactive";
+    public static final String SERVLET_PROFILE = "!reactive";
+}
@@ -0,0 +1,14 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Configuration keys and call names of the single-flight coalescing of identical concurrent lookups.
+ */
+public class SingleFlightConstants {
+    public static final String DOCTOR_BY_ID = "DoctorService.getDoctorById";
+    public static final String ENABLED = "${healthcare.single-flight.enabled:true}";
+    public static final long KEEP_ALIVE_SECONDS = 60;
+    public static final String PATIENTS_BY_DOCTOR_ID = "DoctorPatientAssignmentService.getPatientsByDoctorId";
+    public static final String POOL_SIZE = "${healthcare.single-flight.pool-size:32}";
+    public static final String QUEUE_CAPACITY = "${healthcare.single-flight.queue-capacity:256}";
+    public static final String THREAD_NAME_PREFIX = "single-flight-";
+}
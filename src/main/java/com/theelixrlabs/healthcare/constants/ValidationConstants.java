@@ -0,0 +1,8 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Constants for the request validation.
+ */
+public class ValidationConstants {
+    public static final String AADHAAR_CHECKSUM_ENABLED = "${healthcare.validation.aadhaar-checksum:false}";
+}
@@ -0,0 +1,14 @@
+package com.theelixrlabs.healthcare.constants;
+
+/**
+ * Constants of the virtual thread execution mode served by the virtual profile on Java 21 and later.
+ */
+public class VirtualThreadConstants {
+    public static final int MINIMUM_JAVA_VERSION = 21;
+    public static final String MONGO_MAX_POOL_SIZE = "${healthcare.virtual-threads.mongo.max-pool-size:100}";
+    public static final String MONGO_MAX_WAIT_TIME = "${healthcare.virtual-threads.mongo.max-wait-time:5s}";
+    public static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    public static final String PINNING_STACK_DEPTH = "${healthcare.virtual-threads.pinning-stack-depth:8}";
+    public static final String PINNING_THRESHOLD = "${healthcare.virtual-threads.pinning-threshold:20ms}";
+    public static final String VIRTUAL_THREADS_PROFILE = "virtual";
+}
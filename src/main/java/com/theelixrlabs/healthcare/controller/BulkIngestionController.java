@@ -0,0 +1,53 @@
+package com.theelixrlabs.healthcare.controller;
+
+import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.dto.BulkIngestionResultDto;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.response.SuccessResponse;
+import com.theelixrlabs.healthcare.service.BulkIngestionService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * Rest Controller for loading batches of patients and doctors.
+ * The records are validated one by one, so the request body is not annotated with @Valid.
+ */
+@RestController
+@Profile(ReactiveConstants.SERVLET_PROFILE)
+public class BulkIngestionController {
+
+    private final BulkIngestionService bulkIngestionService;
+
+    public BulkIngestionController(BulkIngestionService bulkIngestionService) {
+        this.bulkIngestionService = bulkIngestionService;
+    }
+
+    /**
+     * Handles POST requests to add a batch of patients.
+     *
+     * @param patientDtoList The patients to add.
+     * @return ResponseEntity containing a SuccessResponse with the result of every patient and HTTP status 200 (OK).
+     */
+    @PostMapping(ApiPathsConstant.CREATE_PATIENTS_ENDPOINT)
+    public ResponseEntity<SuccessResponse<BulkIngestionResultDto<PatientDto>>> addPatients(@RequestBody List<PatientDto> patientDtoList) throws Exception {
+        return new ResponseEntity<>(new SuccessResponse<>(true, bulkIngestionService.addPatients(patientDtoList), null), HttpStatus.OK);
+    }
+
+    /**
+     * Handles POST requests to add a batch of doctors.
+     *
+     * @param doctorDtoList The doctors to add.
+     * @return ResponseEntity containing a SuccessResponse with the result of every doctor and HTTP status 200 (OK).
+     */
+    @PostMapping(ApiPathsConstant.CREATE_DOCTORS_ENDPOINT)
+    public ResponseEntity<SuccessResponse<BulkIngestionResultDto<DoctorDto>>> addDoctors(@RequestBody List<DoctorDto> doctorDtoList) throws Exception {
+        return new ResponseEntity<>(new SuccessResponse<>(true, bulkIngestionService.addDoctors(doctorDtoList), null), HttpStatus.OK);
+    }
+}
@@ -1,11 +1,17 @@
 package com.theelixrlabs.healthcare.controller;
 
 import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+import com.theelixrlabs.healthcare.constants.BatchLookupConstants;
 import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
 import com.theelixrlabs.healthcare.service.DoctorService;
+import com.theelixrlabs.healthcare.dto.BatchLookupResultDto;
 import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.PageDto;
 import com.theelixrlabs.healthcare.response.SuccessResponse;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,6 +27,7 @@ import java.util.List;
  * Rest Controller for handling HTTP request and response.
  */
 @RestController
+@Profile(ReactiveConstants.SERVLET_PROFILE)
 public class DoctorController {
     private final DoctorService doctorService;
 
@@ -64,15 +71,41 @@ public class DoctorController {
     }
 
     /**
-     * Retrieves a list of doctors by their name.
+     * Retrieves a page of doctors by their name.
      *
      * @param doctorName the name of the doctor to search for
-     * @return a ResponseEntity containing a SuccessResponse with a list of matching DoctorDto objects
+     * @param cursor     the cursor returned with the previous page, omitted for the first page
+     * @param limit      the maximum number of doctors on the page
+     * @return a ResponseEntity containing a SuccessResponse with a list of matching DoctorDto objects and the next cursor
      */
     @GetMapping(ApiPathsConstant.DOCTORS_BY_NAME_ENDPOINT)
     public ResponseEntity<SuccessResponse<List<DoctorDto>>> getDoctorsByName
-    (@RequestParam(DoctorConstants.DOCTOR_NAME_PARAM) String doctorName) throws Exception {
-        List<DoctorDto> doctorDtoList = doctorService.getDoctorsByName(doctorName);
-        return new ResponseEntity<>(new SuccessResponse<>(true, doctorDtoList, null), HttpStatus.OK);
+    (@RequestParam(DoctorConstants.DOCTOR_NAME_PARAM) String doctorName,
+     @RequestParam(value = PaginationConstants.CURSOR_PARAM, required = false) String cursor,
+     @RequestParam(value = PaginationConstants.LIMIT_PARAM, defaultValue = PaginationConstants.DEFAULT_LIMIT) int limit) throws Exception {
+        PageDto<List<DoctorDto>> doctorDtoPage = doctorService.getDoctorsByName(doctorName, cursor, limit);
+        return new ResponseEntity<>(new SuccessResponse<>(true, doctorDtoPage.getContent(), null, doctorDtoPage.getNextCursor()), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a batch of doctors by their IDs.
+     *
+     * @param doctorIds the IDs of the doctors, repeated as the ids query parameter
+     * @return a ResponseEntity containing a SuccessResponse with the found DoctorDto objects in request order and the IDs not found
+     */
+    @GetMapping(ApiPathsConstant.DOCTORS_BY_IDS_ENDPOINT)
+    public ResponseEntity<SuccessResponse<BatchLookupResultDto<DoctorDto>>> getDoctorsByIds(@RequestParam(BatchLookupConstants.IDS_PARAM) List<String> doctorIds) throws Exception {
+        return new ResponseEntity<>(new SuccessResponse<>(true, doctorService.getDoctorsByIds(doctorIds), null), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a batch of doctors by IDs sent in the request body, for batches too large for the query string.
+     *
+     * @param doctorIds the IDs of the doctors
+     * @return a ResponseEntity containing a SuccessResponse with the found DoctorDto objects in request order and the IDs not found
+     */
+    @PostMapping(ApiPathsConstant.DOCTORS_BY_IDS_ENDPOINT)
+    public ResponseEntity<SuccessResponse<BatchLookupResultDto<DoctorDto>>> getDoctorsByIdsFromBody(@RequestBody List<String> doctorIds) throws Exception {
+        return new ResponseEntity<>(new SuccessResponse<>(true, doctorService.getDoctorsByIds(doctorIds), null), HttpStatus.OK);
     }
 }
@@ -1,13 +1,18 @@
 package com.theelixrlabs.healthcare.controller;
 
 import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+import com.theelixrlabs.healthcare.constants.BatchLookupConstants;
 import com.theelixrlabs.healthcare.constants.DoctorPatientAssignmentConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
 import com.theelixrlabs.healthcare.dto.DoctorPatientAssignmentDto;
 import com.theelixrlabs.healthcare.dto.DoctorWithAssignedPatientsDto;
+import com.theelixrlabs.healthcare.dto.PageDto;
 import com.theelixrlabs.healthcare.dto.PatientWithAssignedDoctorsDto;
 import com.theelixrlabs.healthcare.response.SuccessResponse;
 import com.theelixrlabs.healthcare.service.DoctorPatientAssignmentService;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,8 +20,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestParam;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @RestController
+@Profile(ReactiveConstants.SERVLET_PROFILE)
 public class DoctorPatientAssignmentController {
 
     private final DoctorPatientAssignmentService doctorPatientAssignmentService;
@@ -49,16 +58,20 @@ public class DoctorPatientAssignmentController {
     }
 
     /**
-     * Handles the GET request to retrieve a list of patients assigned to a doctor by the doctor's ID.
+     * Handles the GET request to retrieve a page of the patients assigned to a doctor by the doctor's ID.
      *
      * @param doctorId The UUID of the doctor for whom to retrieve the list of assigned patients.
-     * @return ResponseEntity containing a SuccessResponse with the DoctorWithPatientsDto.
+     * @param cursor   The cursor returned with the previous page, omitted for the first page.
+     * @param limit    The maximum number of patients on the page.
+     * @return ResponseEntity containing a SuccessResponse with the DoctorWithPatientsDto and the next cursor.
      * @throws Exception If any error occurs during the retrieval process, an exception is thrown.
      */
     @GetMapping(ApiPathsConstant.PATIENTS_BY_DOCTOR_ID_ENDPOINT)
-    public ResponseEntity<SuccessResponse<DoctorWithAssignedPatientsDto>> getPatientsByDoctorId(@RequestParam(DoctorPatientAssignmentConstants.DOCTOR_ID_PARAM) String doctorId) throws Exception {
-        DoctorWithAssignedPatientsDto doctorWithPatientsDto = doctorPatientAssignmentService.getPatientsByDoctorId(doctorId);
-        return ResponseEntity.ok(new SuccessResponse<>(true, doctorWithPatientsDto, null));
+    public ResponseEntity<SuccessResponse<DoctorWithAssignedPatientsDto>> getPatientsByDoctorId(@RequestParam(DoctorPatientAssignmentConstants.DOCTOR_ID_PARAM) String doctorId,
+                                                                                               @RequestParam(value = PaginationConstants.CURSOR_PARAM, required = false) String cursor,
+                                                                                               @RequestParam(value = PaginationConstants.LIMIT_PARAM, defaultValue = PaginationConstants.DEFAULT_LIMIT) int limit) throws Exception {
+        PageDto<DoctorWithAssignedPatientsDto> doctorWithPatientsPage = doctorPatientAssignmentService.getPatientsByDoctorId(doctorId, cursor, limit);
+        return ResponseEntity.ok(new SuccessResponse<>(true, doctorWithPatientsPage.getContent(), null, doctorWithPatientsPage.getNextCursor()));
     }
 
     /**
@@ -72,4 +85,28 @@ public class DoctorPatientAssignmentController {
     public ResponseEntity<SuccessResponse<PatientWithAssignedDoctorsDto>> getAssignedDoctorsByPatientId(@RequestParam String patientId) throws Exception {
         return new ResponseEntity<>(new SuccessResponse<>(true, doctorPatientAssignmentService.getDoctorsByPatientId(patientId), null), HttpStatus.OK);
     }
+
+    /**
+     * GET endpoint to retrieve the assigned doctors of a batch of patients.
+     *
+     * @param patientIds The string representations of the patient IDs, repeated as the ids query parameter.
+     * @return ResponseEntity containing SuccessResponse with the PatientWithAssignedDoctorsDto of every patient with assigned doctors, keyed by patient ID.
+     * @throws Exception if the number of IDs is out of bounds or an ID is not a valid UUID.
+     */
+    @GetMapping(ApiPathsConstant.ASSIGNED_DOCTORS_BY_PATIENT_IDS)
+    public ResponseEntity<SuccessResponse<Map<UUID, PatientWithAssignedDoctorsDto>>> getAssignedDoctorsByPatientIds(@RequestParam(BatchLookupConstants.IDS_PARAM) List<String> patientIds) throws Exception {
+        return new ResponseEntity<>(new SuccessResponse<>(true, doctorPatientAssignmentService.getDoctorsByPatientIds(patientIds), null), HttpStatus.OK);
+    }
+
+    /**
+     * POST endpoint to retrieve the assigned doctors of a batch of patients sent in the request body, for batches too large for the query string.
+     *
+     * @param patientIds The string representations of the patient IDs.
+     * @return ResponseEntity containing SuccessResponse with the PatientWithAssignedDoctorsDto of every patient with assigned doctors, keyed by patient ID.
+     * @throws Exception if the number of IDs is out of bounds or an ID is not a valid UUID.
+     */
+    @PostMapping(ApiPathsConstant.ASSIGNED_DOCTORS_BY_PATIENT_IDS)
+    public ResponseEntity<SuccessResponse<Map<UUID, PatientWithAssignedDoctorsDto>>> getAssignedDoctorsByPatientIdsFromBody(@RequestBody List<String> patientIds) throws Exception {
+        return new ResponseEntity<>(new SuccessResponse<>(true, doctorPatientAssignmentService.getDoctorsByPatientIds(patientIds), null), HttpStatus.OK);
+    }
 }
@@ -1,11 +1,17 @@
 package com.theelixrlabs.healthcare.controller;
 
 import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+import com.theelixrlabs.healthcare.constants.BatchLookupConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
 import com.theelixrlabs.healthcare.constants.PatientConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.dto.BatchLookupResultDto;
+import com.theelixrlabs.healthcare.dto.PageDto;
 import com.theelixrlabs.healthcare.dto.PatientDto;
 import com.theelixrlabs.healthcare.response.SuccessResponse;
 import com.theelixrlabs.healthcare.service.PatientService;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -23,6 +29,7 @@ import java.util.List;
  * Patient Controller sends the responses to the user.
  */
 @RestController
+@Profile(ReactiveConstants.SERVLET_PROFILE)
 public class PatientController {
 
     private final PatientService patientService;
@@ -66,14 +73,40 @@ public class PatientController {
     }
 
     /**
-     * Retrieves a list of patients whose first or last name starts with the specified name.
+     * Retrieves a page of patients whose first or last name starts with the specified name.
      *
      * @param patientName The partial name to search for patients. It matches both first and last names.
-     * @return A ResponseEntity containing a SuccessResponse with the list of matching PatientDTO objects and HTTP status OK.
+     * @param cursor      The cursor returned with the previous page, omitted for the first page.
+     * @param limit       The maximum number of patients on the page.
+     * @return A ResponseEntity containing a SuccessResponse with the page of matching PatientDTO objects, the next cursor and HTTP status OK.
      */
     @GetMapping(ApiPathsConstant.PATIENTS_BY_NAME_ENDPOINT)
-    public ResponseEntity<SuccessResponse<List<PatientDto>>> getPatientsByName(@RequestParam(PatientConstants.PATIENT_NAME_PARAM) String patientName) throws Exception {
-        List<PatientDto> patientDtoList = patientService.getPatientsByName(patientName);
-        return new ResponseEntity<>(new SuccessResponse<>(true, patientDtoList, null), HttpStatus.OK);
+    public ResponseEntity<SuccessResponse<List<PatientDto>>> getPatientsByName(@RequestParam(PatientConstants.PATIENT_NAME_PARAM) String patientName,
+                                                                               @RequestParam(value = PaginationConstants.CURSOR_PARAM, required = false) String cursor,
+                                                                               @RequestParam(value = PaginationConstants.LIMIT_PARAM, defaultValue = PaginationConstants.DEFAULT_LIMIT) int limit) throws Exception {
+        PageDto<List<PatientDto>> patientDtoPage = patientService.getPatientsByName(patientName, cursor, limit);
+        return new ResponseEntity<>(new SuccessResponse<>(true, patientDtoPage.getContent(), null, patientDtoPage.getNextCursor()), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a batch of patients by their IDs.
+     *
+     * @param patientIds the IDs of the patients, repeated as the ids query parameter
+     * @return a ResponseEntity containing a SuccessResponse with the found PatientDto objects in request order and the IDs not found
+     */
+    @GetMapping(ApiPathsConstant.PATIENTS_BY_IDS_ENDPOINT)
+    public ResponseEntity<SuccessResponse<BatchLookupResultDto<PatientDto>>> getPatientsByIds(@RequestParam(BatchLookupConstants.IDS_PARAM) List<String> patientIds) throws Exception {
+        return new ResponseEntity<>(new SuccessResponse<>(true, patientService.getPatientsByIds(patientIds), null), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a batch of patients by IDs sent in the request body, for batches too large for the query string.
+     *
+     * @param patientIds the IDs of the patients
+     * @return a ResponseEntity containing a SuccessResponse with the found PatientDto objects in request order and the IDs not found
+     */
+    @PostMapping(ApiPathsConstant.PATIENTS_BY_IDS_ENDPOINT)
+    public ResponseEntity<SuccessResponse<BatchLookupResultDto<PatientDto>>> getPatientsByIdsFromBody(@RequestBody List<String> patientIds) throws Exception {
+        return new ResponseEntity<>(new SuccessResponse<>(true, patientService.getPatientsByIds(patientIds), null), HttpStatus.OK);
     }
 }
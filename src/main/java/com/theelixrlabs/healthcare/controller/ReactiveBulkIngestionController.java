@@ -0,0 +1,56 @@
+package com.theelixrlabs.healthcare.controller;
+
+import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.dto.BulkIngestionResultDto;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.response.SuccessResponse;
+import com.theelixrlabs.healthcare.service.BulkIngestionService;
+import com.theelixrlabs.healthcare.utility.ReactiveExecutionUtil;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import java.util.List;
+
+/**
+ * Reactive counterpart of BulkIngestionController, runs BulkIngestionService on the bounded elastic scheduler.
+ */
+@RestController
+@Profile(ReactiveConstants.REACTIVE_PROFILE)
+public class ReactiveBulkIngestionController {
+
+    private final BulkIngestionService bulkIngestionService;
+
+    public ReactiveBulkIngestionController(BulkIngestionService bulkIngestionService) {
+        this.bulkIngestionService = bulkIngestionService;
+    }
+
+    /**
+     * Loads a batch of patients.
+     *
+     * @param patientDtoList The patients to load.
+     * @return Mono of the ResponseEntity containing the result of every record.
+     */
+    @PostMapping(ApiPathsConstant.CREATE_PATIENTS_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<BulkIngestionResultDto<PatientDto>>>> addPatients(@RequestBody List<PatientDto> patientDtoList) {
+        return ReactiveExecutionUtil.blocking(() -> bulkIngestionService.addPatients(patientDtoList))
+                .map(result -> new ResponseEntity<>(new SuccessResponse<>(true, result, null), HttpStatus.OK));
+    }
+
+    /**
+     * Loads a batch of doctors.
+     *
+     * @param doctorDtoList The doctors to load.
+     * @return Mono of the ResponseEntity containing the result of every record.
+     */
+    @PostMapping(ApiPathsConstant.CREATE_DOCTORS_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<BulkIngestionResultDto<DoctorDto>>>> addDoctors(@RequestBody List<DoctorDto> doctorDtoList) {
+        return ReactiveExecutionUtil.blocking(() -> bulkIngestionService.addDoctors(doctorDtoList))
+                .map(result -> new ResponseEntity<>(new SuccessResponse<>(true, result, null), HttpStatus.OK));
+    }
+}
@@ -0,0 +1,120 @@
+package com.theelixrlabs.healthcare.controller;
+
+import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+import com.theelixrlabs.healthcare.constants.BatchLookupConstants;
+import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.dto.BatchLookupResultDto;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.response.SuccessResponse;
+import com.theelixrlabs.healthcare.service.DoctorService;
+import com.theelixrlabs.healthcare.service.ReactiveDoctorService;
+import com.theelixrlabs.healthcare.utility.ReactiveExecutionUtil;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import java.util.List;
+
+/**
+ * Reactive counterpart of DoctorController with the same endpoints and responses.
+ * Reads by id are non-blocking, the other operations run DoctorService on the bounded elastic scheduler.
+ */
+@RestController
+@Profile(ReactiveConstants.REACTIVE_PROFILE)
+public class ReactiveDoctorController {
+    private final ReactiveDoctorService reactiveDoctorService;
+    private final DoctorService doctorService;
+
+    public ReactiveDoctorController(ReactiveDoctorService reactiveDoctorService, DoctorService doctorService) {
+        this.reactiveDoctorService = reactiveDoctorService;
+        this.doctorService = doctorService;
+    }
+
+    /**
+     * End point to create new doctor based on provided dto.
+     *
+     * @param doctorDto : DTO object containing doctor object.
+     * @return Mono of the ResponseEntity containing a success response with created dto.
+     */
+    @PostMapping(ApiPathsConstant.CREATE_DOCTOR_END_POINT)
+    public Mono<ResponseEntity<SuccessResponse<DoctorDto>>> createDoctor(@Valid @RequestBody DoctorDto doctorDto) {
+        return ReactiveExecutionUtil.blocking(() -> doctorService.saveDoctor(doctorDto))
+                .map(createdDoctor -> new ResponseEntity<>(new SuccessResponse<>(true, createdDoctor, null), HttpStatus.OK));
+    }
+
+    /**
+     * Retrieves a doctor by their UUID.
+     *
+     * @param doctorId The ID of the doctor as a String, which will be converted to a UUID.
+     * @return Mono of the ResponseEntity containing a success response with the retrieved DoctorDto.
+     */
+    @GetMapping(ApiPathsConstant.DOCTOR_BY_ID_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<DoctorDto>>> getDoctorById(@PathVariable(DoctorConstants.PATH_VARIABLE_DOCTOR_ID) String doctorId) {
+        return reactiveDoctorService.getDoctorById(doctorId)
+                .map(doctorDto -> new ResponseEntity<>(new SuccessResponse<>(true, doctorDto, null), HttpStatus.OK));
+    }
+
+    /**
+     * Deletes a doctor by their ID.
+     *
+     * @param doctorId The ID of the doctor to delete, obtained from the URL path.
+     * @return Mono of the ResponseEntity containing a SuccessResponse indicating the success status of the deletion operation.
+     */
+    @DeleteMapping(ApiPathsConstant.DOCTOR_BY_ID_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<String>>> deleteDoctorById(@PathVariable String doctorId) {
+        return ReactiveExecutionUtil.blocking(() -> doctorService.deleteDoctorById(doctorId))
+                .map(deleteMessage -> new ResponseEntity<>(new SuccessResponse<>(true, null, deleteMessage), HttpStatus.OK));
+    }
+
+    /**
+     * Retrieves a page of doctors by their name.
+     *
+     * @param doctorName the name of the doctor to search for
+     * @param cursor     the cursor returned with the previous page, omitted for the first page
+     * @param limit      the maximum number of doctors on the page
+     * @return a Mono of the ResponseEntity containing a SuccessResponse with a list of matching DoctorDto objects and the next cursor
+     */
+    @GetMapping(ApiPathsConstant.DOCTORS_BY_NAME_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<List<DoctorDto>>>> getDoctorsByName
+    (@RequestParam(DoctorConstants.DOCTOR_NAME_PARAM) String doctorName,
+     @RequestParam(value = PaginationConstants.CURSOR_PARAM, required = false) String cursor,
+     @RequestParam(value = PaginationConstants.LIMIT_PARAM, defaultValue = PaginationConstants.DEFAULT_LIMIT) int limit) {
+        return ReactiveExecutionUtil.blocking(() -> doctorService.getDoctorsByName(doctorName, cursor, limit))
+                .map(doctorDtoPage -> new ResponseEntity<>(new SuccessResponse<>(true, doctorDtoPage.getContent(), null,
+                        doctorDtoPage.getNextCursor()), HttpStatus.OK));
+    }
+
+    /**
+     * Retrieves a batch of doctors by their IDs.
+     *
+     * @param doctorIds the IDs of the doctors, repeated as the ids query parameter
+     * @return a Mono of the ResponseEntity containing a SuccessResponse with the found DoctorDto objects in request order and the IDs not found
+     */
+    @GetMapping(ApiPathsConstant.DOCTORS_BY_IDS_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<BatchLookupResultDto<DoctorDto>>>> getDoctorsByIds(@RequestParam(BatchLookupConstants.IDS_PARAM) List<String> doctorIds) {
+        return ReactiveExecutionUtil.blocking(() -> doctorService.getDoctorsByIds(doctorIds))
+                .map(batchLookupResult -> new ResponseEntity<>(new SuccessResponse<>(true, batchLookupResult, null), HttpStatus.OK));
+    }
+
+    /**
+     * Retrieves a batch of doctors by IDs sent in the request body, for batches too large for the query string.
+     *
+     * @param doctorIds the IDs of the doctors
+     * @return a Mono of the ResponseEntity containing a SuccessResponse with the found DoctorDto objects in request order and the IDs not found
+     */
+    @PostMapping(ApiPathsConstant.DOCTORS_BY_IDS_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<BatchLookupResultDto<DoctorDto>>>> getDoctorsByIdsFromBody(@RequestBody List<String> doctorIds) {
+        return ReactiveExecutionUtil.blocking(() -> doctorService.getDoctorsByIds(doctorIds))
+                .map(batchLookupResult -> new ResponseEntity<>(new SuccessResponse<>(true, batchLookupResult, null), HttpStatus.OK));
+    }
+}
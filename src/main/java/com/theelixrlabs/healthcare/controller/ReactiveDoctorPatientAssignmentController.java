@@ -0,0 +1,128 @@
+package com.theelixrlabs.healthcare.controller;
+
+import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+import com.theelixrlabs.healthcare.constants.BatchLookupConstants;
+import com.theelixrlabs.healthcare.constants.DoctorPatientAssignmentConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.dto.DoctorPatientAssignmentDto;
+import com.theelixrlabs.healthcare.dto.DoctorWithAssignedPatientsDto;
+import com.theelixrlabs.healthcare.dto.PatientWithAssignedDoctorsDto;
+import com.theelixrlabs.healthcare.response.SuccessResponse;
+import com.theelixrlabs.healthcare.service.DoctorPatientAssignmentService;
+import com.theelixrlabs.healthcare.service.ReactiveDoctorPatientAssignmentService;
+import com.theelixrlabs.healthcare.utility.ReactiveExecutionUtil;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of DoctorPatientAssignmentController with the same endpoints and responses.
+ * The assignment reads are non-blocking, assigning and unassigning run DoctorPatientAssignmentService on the bounded
+ * elastic scheduler.
+ */
+@RestController
+@Profile(ReactiveConstants.REACTIVE_PROFILE)
+public class ReactiveDoctorPatientAssignmentController {
+
+    private final ReactiveDoctorPatientAssignmentService reactiveDoctorPatientAssignmentService;
+    private final DoctorPatientAssignmentService doctorPatientAssignmentService;
+
+    public ReactiveDoctorPatientAssignmentController(ReactiveDoctorPatientAssignmentService reactiveDoctorPatientAssignmentService,
+                                                     DoctorPatientAssignmentService doctorPatientAssignmentService) {
+        this.reactiveDoctorPatientAssignmentService = reactiveDoctorPatientAssignmentService;
+        this.doctorPatientAssignmentService = doctorPatientAssignmentService;
+    }
+
+    /**
+     * Assigns a doctor to a patient.
+     *
+     * @param doctorPatientAssignmentDto DTO object containing doctorId and patientId
+     * @return Mono of the ResponseEntity containing a success response with the created assignment.
+     */
+    @PostMapping(ApiPathsConstant.ASSIGN_DOCTOR_TO_PATIENT_URL)
+    public Mono<ResponseEntity<SuccessResponse<DoctorPatientAssignmentDto>>> assignDoctorToPatient(@Valid @RequestBody DoctorPatientAssignmentDto doctorPatientAssignmentDto) {
+        return ReactiveExecutionUtil.blocking(() -> doctorPatientAssignmentService.assignDoctorToPatient(doctorPatientAssignmentDto))
+                .map(assignment -> new ResponseEntity<>(new SuccessResponse<>(true, assignment, null), HttpStatus.OK));
+    }
+
+    /**
+     * Unassigns a doctor from a patient.
+     *
+     * @param doctorPatientAssignmentDto DTO object containing doctorId and patientId
+     * @return Mono of the ResponseEntity containing a success response without data.
+     */
+    @PostMapping(ApiPathsConstant.UNASSIGN_DOCTOR_FROM_PATIENT_URL)
+    public Mono<ResponseEntity<SuccessResponse<DoctorPatientAssignmentDto>>> unassignDoctorFromPatient(@Valid @RequestBody DoctorPatientAssignmentDto doctorPatientAssignmentDto) {
+        return ReactiveExecutionUtil.blocking(() -> {
+            doctorPatientAssignmentService.unassignDoctorFromPatient(doctorPatientAssignmentDto);
+            return new ResponseEntity<>(new SuccessResponse<DoctorPatientAssignmentDto>(true, null, null), HttpStatus.OK);
+        });
+    }
+
+    /**
+     * Retrieves a page of the patients assigned to a doctor.
+     *
+     * @param doctorId ID of the doctor
+     * @param cursor   the cursor returned with the previous page, omitted for the first page
+     * @param limit    the maximum number of patients on the page
+     * @return Mono of the ResponseEntity containing the doctor with the assigned patients of the page and the next cursor.
+     */
+    @GetMapping(ApiPathsConstant.PATIENTS_BY_DOCTOR_ID_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<DoctorWithAssignedPatientsDto>>> getPatientsByDoctorId(@RequestParam(DoctorPatientAssignmentConstants.DOCTOR_ID_PARAM) String doctorId,
+                                                                                                     @RequestParam(value = PaginationConstants.CURSOR_PARAM, required = false) String cursor,
+                                                                                                     @RequestParam(value = PaginationConstants.LIMIT_PARAM, defaultValue = PaginationConstants.DEFAULT_LIMIT) int limit) {
+        return reactiveDoctorPatientAssignmentService.getPatientsByDoctorId(doctorId, cursor, limit)
+                .map(doctorWithPatientsPage -> ResponseEntity.ok(new SuccessResponse<>(true, doctorWithPatientsPage.getContent(), null,
+                        doctorWithPatientsPage.getNextCursor())));
+    }
+
+    /**
+     * Retrieves a patient with the assigned doctors.
+     *
+     * @param patientId ID of the patient
+     * @return Mono of the ResponseEntity containing the patient with the assigned doctors.
+     */
+    @GetMapping(ApiPathsConstant.ASSIGNED_DOCTORS_BY_PATIENT_ID)
+    public Mono<ResponseEntity<SuccessResponse<PatientWithAssignedDoctorsDto>>> getAssignedDoctorsByPatientId(@RequestParam String patientId) {
+        return reactiveDoctorPatientAssignmentService.getDoctorsByPatientId(patientId)
+                .map(patientWithAssignedDoctorsDto -> new ResponseEntity<>(new SuccessResponse<>(true, patientWithAssignedDoctorsDto, null),
+                        HttpStatus.OK));
+    }
+
+    /**
+     * GET endpoint to retrieve the assigned doctors of a batch of patients.
+     *
+     * @param patientIds The string representations of the patient IDs, repeated as the ids query parameter.
+     * @return Mono of the ResponseEntity containing the patients with assigned doctors, keyed by patient ID.
+     */
+    @GetMapping(ApiPathsConstant.ASSIGNED_DOCTORS_BY_PATIENT_IDS)
+    public Mono<ResponseEntity<SuccessResponse<Map<UUID, PatientWithAssignedDoctorsDto>>>> getAssignedDoctorsByPatientIds(@RequestParam(BatchLookupConstants.IDS_PARAM) List<String> patientIds) {
+        return reactiveDoctorPatientAssignmentService.getDoctorsByPatientIds(patientIds)
+                .map(patientsWithAssignedDoctors -> new ResponseEntity<>(new SuccessResponse<>(true, patientsWithAssignedDoctors, null),
+                        HttpStatus.OK));
+    }
+
+    /**
+     * POST endpoint to retrieve the assigned doctors of a batch of patients sent in the request body, for batches too large for the query string.
+     *
+     * @param patientIds The string representations of the patient IDs.
+     * @return Mono of the ResponseEntity containing the patients with assigned doctors, keyed by patient ID.
+     */
+    @PostMapping(ApiPathsConstant.ASSIGNED_DOCTORS_BY_PATIENT_IDS)
+    public Mono<ResponseEntity<SuccessResponse<Map<UUID, PatientWithAssignedDoctorsDto>>>> getAssignedDoctorsByPatientIdsFromBody(@RequestBody List<String> patientIds) {
+        return reactiveDoctorPatientAssignmentService.getDoctorsByPatientIds(patientIds)
+                .map(patientsWithAssignedDoctors -> new ResponseEntity<>(new SuccessResponse<>(true, patientsWithAssignedDoctors, null),
+                        HttpStatus.OK));
+    }
+}
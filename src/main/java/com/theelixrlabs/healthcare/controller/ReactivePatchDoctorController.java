@@ -0,0 +1,43 @@
+package com.theelixrlabs.healthcare.controller;
+
+import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.response.SuccessResponse;
+import com.theelixrlabs.healthcare.service.PatchDoctorService;
+import com.theelixrlabs.healthcare.utility.ReactiveExecutionUtil;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of PatchDoctorController, runs PatchDoctorService on the bounded elastic scheduler.
+ */
+@RestController
+@Profile(ReactiveConstants.REACTIVE_PROFILE)
+public class ReactivePatchDoctorController {
+
+    private final PatchDoctorService patchDoctorService;
+
+    public ReactivePatchDoctorController(PatchDoctorService patchDoctorService) {
+        this.patchDoctorService = patchDoctorService;
+    }
+
+    /**
+     * Patches the given fields of a doctor.
+     *
+     * @param doctorId  The ID of the doctor to patch.
+     * @param doctorDto The fields to change.
+     * @return Mono of the ResponseEntity containing a success response with the patched doctor.
+     */
+    @PatchMapping(ApiPathsConstant.DOCTOR_BY_ID_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<DoctorDto>>> patchDoctorById(@PathVariable String doctorId, @RequestBody DoctorDto doctorDto) {
+        return ReactiveExecutionUtil.blocking(() -> patchDoctorService.patchDoctorById(doctorId, doctorDto))
+                .map(updatedDoctorDto -> new ResponseEntity<>(new SuccessResponse<>(true, updatedDoctorDto, null), HttpStatus.OK));
+    }
+}
@@ -0,0 +1,43 @@
+package com.theelixrlabs.healthcare.controller;
+
+import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.response.SuccessResponse;
+import com.theelixrlabs.healthcare.service.PatchPatientService;
+import com.theelixrlabs.healthcare.utility.ReactiveExecutionUtil;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of PatchPatientController, runs PatchPatientService on the bounded elastic scheduler.
+ */
+@RestController
+@Profile(ReactiveConstants.REACTIVE_PROFILE)
+public class ReactivePatchPatientController {
+
+    private final PatchPatientService patchPatientService;
+
+    public ReactivePatchPatientController(PatchPatientService patchPatientService) {
+        this.patchPatientService = patchPatientService;
+    }
+
+    /**
+     * Patches the given fields of a patient.
+     *
+     * @param patientId  The ID of the patient to patch.
+     * @param patientDto The fields to change.
+     * @return Mono of the ResponseEntity containing a success response with the patched patient.
+     */
+    @PatchMapping(ApiPathsConstant.PATIENT_BY_ID_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<PatientDto>>> patchPatientById(@PathVariable String patientId, @RequestBody PatientDto patientDto) {
+        return ReactiveExecutionUtil.blocking(() -> patchPatientService.patchPatientById(patientId, patientDto))
+                .map(updatedPatient -> new ResponseEntity<>(new SuccessResponse<>(true, updatedPatient, null), HttpStatus.OK));
+    }
+}
@@ -0,0 +1,120 @@
+package com.theelixrlabs.healthcare.controller;
+
+import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+import com.theelixrlabs.healthcare.constants.BatchLookupConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.constants.PatientConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.dto.BatchLookupResultDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.response.SuccessResponse;
+import com.theelixrlabs.healthcare.service.PatientService;
+import com.theelixrlabs.healthcare.service.ReactivePatientService;
+import com.theelixrlabs.healthcare.utility.ReactiveExecutionUtil;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import java.util.List;
+
+/**
+ * Reactive counterpart of PatientController with the same endpoints and responses.
+ * Reads by id are non-blocking, the other operations run PatientService on the bounded elastic scheduler.
+ */
+@RestController
+@Profile(ReactiveConstants.REACTIVE_PROFILE)
+public class ReactivePatientController {
+
+    private final ReactivePatientService reactivePatientService;
+    private final PatientService patientService;
+
+    public ReactivePatientController(ReactivePatientService reactivePatientService, PatientService patientService) {
+        this.reactivePatientService = reactivePatientService;
+        this.patientService = patientService;
+    }
+
+    /**
+     * Endpoint to add patient details.
+     *
+     * @param patientDto The patient details to be added.
+     * @return Mono of the ResponseEntity containing the success response with the added patient details.
+     */
+    @PostMapping(ApiPathsConstant.CREATE_PATIENT_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<PatientDto>>> addPatientDetails(@RequestBody @Valid PatientDto patientDto) {
+        return ReactiveExecutionUtil.blocking(() -> patientService.addPatientDetails(patientDto))
+                .map(addedPatient -> new ResponseEntity<>(new SuccessResponse<>(true, addedPatient, null), HttpStatus.CREATED));
+    }
+
+    /**
+     * Endpoint to retrieve patient details by ID.
+     *
+     * @param patientId The ID of the patient to retrieve.
+     * @return Mono of the ResponseEntity containing the success response with the patient details.
+     */
+    @GetMapping(ApiPathsConstant.PATIENT_BY_ID_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<PatientDto>>> getPatientById(@PathVariable String patientId) {
+        return reactivePatientService.getPatientById(patientId)
+                .map(patientDto -> new ResponseEntity<>(new SuccessResponse<>(true, patientDto, null), HttpStatus.OK));
+    }
+
+    /**
+     * Endpoint to delete patient details by ID.
+     *
+     * @param patientId The ID of the patient to delete.
+     * @return Mono of the ResponseEntity containing the success response with the deletion message.
+     */
+    @DeleteMapping(ApiPathsConstant.PATIENT_BY_ID_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<String>>> deletePatientById(@PathVariable String patientId) {
+        return ReactiveExecutionUtil.blocking(() -> patientService.deletePatientById(patientId))
+                .map(deleteMessage -> new ResponseEntity<>(new SuccessResponse<>(true, null, deleteMessage), HttpStatus.OK));
+    }
+
+    /**
+     * Endpoint to retrieve a page of patients by name.
+     *
+     * @param patientName The name of the patient to search for.
+     * @param cursor      The cursor returned with the previous page, omitted for the first page.
+     * @param limit       The maximum number of patients on the page.
+     * @return Mono of the ResponseEntity containing the success response with the matching patients and the next cursor.
+     */
+    @GetMapping(ApiPathsConstant.PATIENTS_BY_NAME_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<List<PatientDto>>>> getPatientsByName(@RequestParam(PatientConstants.PATIENT_NAME_PARAM) String patientName,
+                                                                                     @RequestParam(value = PaginationConstants.CURSOR_PARAM, required = false) String cursor,
+                                                                                     @RequestParam(value = PaginationConstants.LIMIT_PARAM, defaultValue = PaginationConstants.DEFAULT_LIMIT) int limit) {
+        return ReactiveExecutionUtil.blocking(() -> patientService.getPatientsByName(patientName, cursor, limit))
+                .map(patientDtoPage -> new ResponseEntity<>(new SuccessResponse<>(true, patientDtoPage.getContent(), null,
+                        patientDtoPage.getNextCursor()), HttpStatus.OK));
+    }
+
+    /**
+     * Retrieves a batch of patients by their IDs.
+     *
+     * @param patientIds the IDs of the patients, repeated as the ids query parameter
+     * @return a Mono of the ResponseEntity containing a SuccessResponse with the found PatientDto objects in request order and the IDs not found
+     */
+    @GetMapping(ApiPathsConstant.PATIENTS_BY_IDS_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<BatchLookupResultDto<PatientDto>>>> getPatientsByIds(@RequestParam(BatchLookupConstants.IDS_PARAM) List<String> patientIds) {
+        return ReactiveExecutionUtil.blocking(() -> patientService.getPatientsByIds(patientIds))
+                .map(batchLookupResult -> new ResponseEntity<>(new SuccessResponse<>(true, batchLookupResult, null), HttpStatus.OK));
+    }
+
+    /**
+     * Retrieves a batch of patients by IDs sent in the request body, for batches too large for the query string.
+     *
+     * @param patientIds the IDs of the patients
+     * @return a Mono of the ResponseEntity containing a SuccessResponse with the found PatientDto objects in request order and the IDs not found
+     */
+    @PostMapping(ApiPathsConstant.PATIENTS_BY_IDS_ENDPOINT)
+    public Mono<ResponseEntity<SuccessResponse<BatchLookupResultDto<PatientDto>>>> getPatientsByIdsFromBody(@RequestBody List<String> patientIds) {
+        return ReactiveExecutionUtil.blocking(() -> patientService.getPatientsByIds(patientIds))
+                .map(batchLookupResult -> new ResponseEntity<>(new SuccessResponse<>(true, batchLookupResult, null), HttpStatus.OK));
+    }
+}
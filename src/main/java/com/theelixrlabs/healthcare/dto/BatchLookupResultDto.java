@@ -0,0 +1,17 @@
+package com.theelixrlabs.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * Result of a batched lookup by id, the found records in the order of the requested ids and the ids that do not exist.
+ *
+ * @param <T> Type of the looked up records.
+ */
+@Data
+@AllArgsConstructor
+public class BatchLookupResultDto<T> {
+    private List<T> found;
+    private List<String> notFoundIds;
+}
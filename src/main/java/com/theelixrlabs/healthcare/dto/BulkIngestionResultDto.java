@@ -0,0 +1,19 @@
+package com.theelixrlabs.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * Summary of a bulk ingestion request with one result per submitted record, in request order.
+ *
+ * @param <T> Type of the ingested records.
+ */
+@Data
+@AllArgsConstructor
+public class BulkIngestionResultDto<T> {
+    private int totalCount;
+    private int successCount;
+    private int failureCount;
+    private List<BulkItemResultDto<T>> results;
+}
@@ -0,0 +1,25 @@
+package com.theelixrlabs.healthcare.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * Outcome of a single record of a bulk ingestion request.
+ *
+ * @param <T> Type of the ingested record.
+ */
+@Data
+@AllArgsConstructor
+public class BulkItemResultDto<T> {
+    /**
+     * Position of the record in the request body.
+     */
+    private int index;
+    private boolean success;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private T data;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> errors;
+}
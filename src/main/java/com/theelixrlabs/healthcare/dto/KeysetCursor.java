@@ -0,0 +1,17 @@
+package com.theelixrlabs.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.UUID;
+
+/**
+ * Decoded form of a page cursor: the sort key and id of the last returned document.
+ * The branch tells which of the sorted index ranges of a query the cursor belongs to.
+ */
+@Data
+@AllArgsConstructor
+public class KeysetCursor {
+    private String branch;
+    private UUID id;
+    private String key;
+}
@@ -0,0 +1,19 @@
+package com.theelixrlabs.healthcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One page of a keyset paginated result.
+ *
+ * @param <T> Type of the page content.
+ */
+@Data
+@AllArgsConstructor
+public class PageDto<T> {
+    private T content;
+    /**
+     * Opaque cursor of the next page, null on the last page.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,17 @@
+package com.theelixrlabs.healthcare.exceptionHandler;
+
+/**
+ * Exception thrown when a read forked by CompositeReadExecutor does not complete within the call timeout.
+ */
+public class CompositeReadTimeoutException extends Exception {
+
+    /**
+     * Constructor to create a CompositeReadTimeoutException with a specific exception message.
+     *
+     * @param exceptionMessage The message describing the exception.
+     */
+    public CompositeReadTimeoutException(String exceptionMessage) {
+        // No stack trace or suppressed exceptions, the exception only carries the message of the failure response
+        super(exceptionMessage, null, false, false);
+    }
+}
@@ -11,7 +11,7 @@ public class DataException extends Exception {
      * @param exceptionMessage The message describing the exception.
      */
     public DataException(String exceptionMessage) {
-        // Call the constructor of the superclass (Exception) with the provided exception message
-        super(exceptionMessage);
+        // No stack trace or suppressed exceptions, the exception only carries the message of the failure response
+        super(exceptionMessage, null, false, false);
     }
 }
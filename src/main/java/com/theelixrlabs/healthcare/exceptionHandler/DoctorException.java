@@ -7,7 +7,7 @@ public class DoctorException extends Exception{
      * @param exceptionMessage The message describing the exception.
      */
     public DoctorException(String exceptionMessage) {
-        // Call the constructor of the superclass (Exception) with the provided exception message
-        super(exceptionMessage);
+        // No stack trace or suppressed exceptions, the exception only carries the message of the failure response
+        super(exceptionMessage, null, false, false);
     }
 }
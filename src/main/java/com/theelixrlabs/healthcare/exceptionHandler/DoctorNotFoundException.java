@@ -10,6 +10,7 @@ public class DoctorNotFoundException extends Exception {
      * @param message the detail message.
      */
     public DoctorNotFoundException(String message) {
-        super(message);
+        // No stack trace or suppressed exceptions, the exception only carries the message of the failure response
+        super(message, null, false, false);
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -27,84 +28,62 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<FailureResponse> handleValidationException(MethodArgumentNotValidException methodArgumentNotValidException) {
         BindingResult errorResults = methodArgumentNotValidException.getBindingResult();
-        List<String> errorMessages = new ArrayList<>();
-        for (FieldError fieldError : errorResults.getFieldErrors()) {
+        List<FieldError> fieldErrors = errorResults.getFieldErrors();
+        List<String> errorMessages = new ArrayList<>(fieldErrors.size());
+        for (FieldError fieldError : fieldErrors) {
             errorMessages.add(fieldError.getDefaultMessage());
         }
         return new ResponseEntity<>(new FailureResponse(false, errorMessages), HttpStatus.BAD_REQUEST);
     }
 
     /**
-     * Exception handler for custom exceptions and validations.
-     *
-     * @param dataException customException instance thrown during runtime.
-     * @return ResponseEntity failure response with error messages.
-     */
-    @ExceptionHandler(DataException.class)
-    public ResponseEntity<FailureResponse> handleCustomException(DataException dataException) {
-        List<String> errors = new ArrayList<>();
-        errors.add(dataException.getMessage());
-        return new ResponseEntity<>(new FailureResponse(false, errors), HttpStatus.BAD_REQUEST);
-    }
-
-    /**
-     * Exception handler for custom exceptions and validations.
-     *
-     * @param doctorNotFoundException doctorNotFoundException instance thrown during runtime.
-     * @return ResponseEntity failure response with error messages.
-     */
-    @ExceptionHandler(DoctorNotFoundException.class)
-    public ResponseEntity<FailureResponse> handleDoctorNotFoundException(DoctorNotFoundException doctorNotFoundException) {
-        List<String> errorMessagesList = Collections.singletonList(doctorNotFoundException.getMessage());
-        return new ResponseEntity<>(new FailureResponse(false, errorMessagesList), HttpStatus.NOT_FOUND);
-    }
-
-    /**
-     * Exception handler for custom exceptions and validations.
+     * Exception handler for WebExchangeBindException, the failed request body validation of the reactive controllers.
      *
-     * @param doctorException doctorException instance thrown during runtime.
+     * @param webExchangeBindException WebExchangeBindException exception instance.
      * @return ResponseEntity failure response with error messages.
      */
-    @ExceptionHandler(DoctorException.class)
-    public ResponseEntity<FailureResponse> handleDoctorException(DoctorException doctorException) {
-        List<String> errorMessagesList = Collections.singletonList(doctorException.getMessage());
-        return new ResponseEntity<>(new FailureResponse(false, errorMessagesList), HttpStatus.BAD_REQUEST);
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<FailureResponse> handleReactiveValidationException(WebExchangeBindException webExchangeBindException) {
+        List<FieldError> fieldErrors = webExchangeBindException.getFieldErrors();
+        List<String> errorMessages = new ArrayList<>(fieldErrors.size());
+        for (FieldError fieldError : fieldErrors) {
+            errorMessages.add(fieldError.getDefaultMessage());
+        }
+        return new ResponseEntity<>(new FailureResponse(false, errorMessages), HttpStatus.BAD_REQUEST);
     }
 
     /**
      * Exception handler for custom exceptions and validations.
      *
-     * @param patientNotFoundException patientNotFoundException instance thrown during runtime.
+     * @param exception DataException, DoctorException, PatientException or DoctorPatientAssignmentException instance thrown during runtime.
      * @return ResponseEntity failure response with error messages.
      */
-    @ExceptionHandler(PatientNotFoundException.class)
-    public ResponseEntity<FailureResponse> handlePatientNotFoundException(PatientNotFoundException patientNotFoundException) {
-        List<String> errorMessagesList = Collections.singletonList(patientNotFoundException.getMessage());
-        return new ResponseEntity<>(new FailureResponse(false, errorMessagesList), HttpStatus.NOT_FOUND);
+    @ExceptionHandler({DataException.class, DoctorException.class, PatientException.class, DoctorPatientAssignmentException.class})
+    public ResponseEntity<FailureResponse> handleBadRequestException(Exception exception) {
+        return new ResponseEntity<>(new FailureResponse(false, Collections.singletonList(exception.getMessage())), HttpStatus.BAD_REQUEST);
     }
 
     /**
-     * Exception handler for custom exceptions and validations.
+     * Exception handler for doctors and patients that do not exist.
      *
-     * @param patientException patientException instance thrown during runtime.
+     * @param exception DoctorNotFoundException or PatientNotFoundException instance thrown during runtime.
      * @return ResponseEntity failure response with error messages.
      */
-    @ExceptionHandler(PatientException.class)
-    public ResponseEntity<FailureResponse> handlePatientException(PatientException patientException) {
-        List<String> errorMessagesList = Collections.singletonList(patientException.getMessage());
-        return new ResponseEntity<>(new FailureResponse(false, errorMessagesList), HttpStatus.BAD_REQUEST);
+    @ExceptionHandler({DoctorNotFoundException.class, PatientNotFoundException.class})
+    public ResponseEntity<FailureResponse> handleNotFoundException(Exception exception) {
+        return new ResponseEntity<>(new FailureResponse(false, Collections.singletonList(exception.getMessage())), HttpStatus.NOT_FOUND);
     }
 
     /**
-     * Exception handler for custom exceptions and validations.
+     * Exception handler for reads of composite endpoints that did not complete in time.
      *
-     * @param doctorPatientAssignmentException doctorPatientAssignmentException instance thrown during runtime.
+     * @param compositeReadTimeoutException CompositeReadTimeoutException instance thrown during runtime.
      * @return ResponseEntity failure response with error messages.
      */
-    @ExceptionHandler(DoctorPatientAssignmentException.class)
-    public ResponseEntity<FailureResponse> handleDoctorPatientAssignmentException(DoctorPatientAssignmentException doctorPatientAssignmentException) {
-        List<String> errorMessagesList = Collections.singletonList(doctorPatientAssignmentException.getMessage());
-        return new ResponseEntity<>(new FailureResponse(false, errorMessagesList), HttpStatus.BAD_REQUEST);
+    @ExceptionHandler(CompositeReadTimeoutException.class)
+    public ResponseEntity<FailureResponse> handleCompositeReadTimeoutException(CompositeReadTimeoutException compositeReadTimeoutException) {
+        return new ResponseEntity<>(new FailureResponse(false, Collections.singletonList(compositeReadTimeoutException.getMessage())),
+                HttpStatus.GATEWAY_TIMEOUT);
     }
 
     /**
@@ -0,0 +1,111 @@
+package com.theelixrlabs.healthcare.migration;
+
+import com.mongodb.MongoServerException;
+import com.mongodb.client.MongoCollection;
+import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.MigrationConstants;
+import com.theelixrlabs.healthcare.constants.PatientConstants;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts the Aadhaar numbers of documents written before they were stored as long keys from the formatted
+ * "1234 5678 9012" string to the number. Each collection is migrated with a single pipeline update that only
+ * matches documents still holding a string, so running it again is a no-op.
+ * A malformed number is left as it is, and when the update is rejected, e.g. because the key of a legacy string is
+ * already taken under the unique index, the documents are converted one by one. Documents that cannot be converted
+ * are reported instead of failing startup, and are retried on the next start.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class AadhaarKeyMigration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AadhaarKeyMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+
+    public AadhaarKeyMigration(MongoTemplate mongoTemplate, @Value(MigrationConstants.AADHAAR_KEY_MIGRATION_ENABLED) boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Runs the Aadhaar key migration at startup unless it is disabled, called by StartupMigrationRunner.
+     */
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            migrate();
+        } catch (DataAccessResourceFailureException dataAccessResourceFailureException) {
+            LOGGER.error("Skipping Aadhaar key migration, database is not reachable", dataAccessResourceFailureException);
+        }
+    }
+
+    /**
+     * Replaces every string Aadhaar number of the doctors and patients with its long key.
+     */
+    public void migrate() {
+        long convertedDoctors = convertToKey(DoctorConstants.DOCTORS_COLLECTION_NAME, DoctorConstants.AADHAAR_NUMBER_FIELD);
+        long convertedPatients = convertToKey(PatientConstants.PATIENTS_COLLECTION_NAME, PatientConstants.PATIENT_AADHAAR_NUMBER_FIELD);
+        LOGGER.info("Converted the Aadhaar numbers of {} doctors and {} patients to long keys", convertedDoctors, convertedPatients);
+    }
+
+    /**
+     * @return The number of converted documents.
+     */
+    private long convertToKey(String collectionName, String aadhaarNumberField) {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(collectionName);
+        Document digits = new Document("$replaceAll", new Document("input", "$" + aadhaarNumberField)
+                .append("find", " ")
+                .append("replacement", ""));
+        List<Document> toKey = List.of(new Document("$set", new Document(aadhaarNumberField, new Document("$convert",
+                new Document("input", digits).append("to", "long").append("onError", "$" + aadhaarNumberField)))));
+        long stringCount = collection.countDocuments(stringAadhaarNumber(aadhaarNumberField));
+        if (stringCount == 0) {
+            return 0;
+        }
+        try {
+            collection.updateMany(stringAadhaarNumber(aadhaarNumberField), toKey);
+        } catch (MongoServerException mongoServerException) {
+            LOGGER.warn("Converting the Aadhaar numbers of {} in one update failed, converting them one by one",
+                    collectionName, mongoServerException);
+            convertOneByOne(collection, aadhaarNumberField, toKey);
+        }
+        long unconvertedCount = collection.countDocuments(stringAadhaarNumber(aadhaarNumberField));
+        if (unconvertedCount > 0) {
+            LOGGER.error("{} documents of {} keep a string Aadhaar number that is malformed or whose key is already taken",
+                    unconvertedCount, collectionName);
+        }
+        return stringCount - unconvertedCount;
+    }
+
+    private void convertOneByOne(MongoCollection<Document> collection, String aadhaarNumberField, List<Document> toKey) {
+        List<Object> documentIds = new ArrayList<>();
+        collection.find(stringAadhaarNumber(aadhaarNumberField)).projection(new Document(MigrationConstants.ID_FIELD, 1))
+                .forEach(document -> documentIds.add(document.get(MigrationConstants.ID_FIELD)));
+        for (Object documentId : documentIds) {
+            try {
+                collection.updateOne(stringAadhaarNumber(aadhaarNumberField).append(MigrationConstants.ID_FIELD, documentId), toKey);
+            } catch (MongoServerException mongoServerException) {
+                LOGGER.error("Cannot convert the Aadhaar number of document {} of {}", documentId,
+                        collection.getNamespace().getCollectionName(), mongoServerException);
+            }
+        }
+    }
+
+    private static Document stringAadhaarNumber(String aadhaarNumberField) {
+        return new Document(aadhaarNumberField, new Document("$type", "string"));
+    }
+}
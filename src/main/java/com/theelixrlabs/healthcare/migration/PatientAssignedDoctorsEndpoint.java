@@ -0,0 +1,41 @@
+package com.theelixrlabs.healthcare.migration;
+
+import com.theelixrlabs.healthcare.constants.MigrationConstants;
+import com.theelixrlabs.healthcare.repository.PatientAssignedDoctorsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+
+/**
+ * Actuator endpoint rebuilding the patient to assigned doctors read model on demand, e.g. POST /actuator/assigneddoctors,
+ * to repair drift without restarting with healthcare.migration.patient-assigned-doctors-rebuild.force.
+ * Like the startup rebuild it replaces the whole read model, so assignments changed while it runs may need another run.
+ */
+@Component
+@Endpoint(id = MigrationConstants.PATIENT_ASSIGNED_DOCTORS_ENDPOINT_ID)
+public class PatientAssignedDoctorsEndpoint {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PatientAssignedDoctorsEndpoint.class);
+
+    private final PatientAssignedDoctorsRepository patientAssignedDoctorsRepository;
+
+    public PatientAssignedDoctorsEndpoint(PatientAssignedDoctorsRepository patientAssignedDoctorsRepository) {
+        this.patientAssignedDoctorsRepository = patientAssignedDoctorsRepository;
+    }
+
+    /**
+     * Replaces the read model with the one computed from the active assignments.
+     *
+     * @return The number of patients with assigned doctors after the rebuild.
+     */
+    @WriteOperation
+    public Map<String, Long> rebuild() {
+        patientAssignedDoctorsRepository.rebuild();
+        long patientCount = patientAssignedDoctorsRepository.count();
+        LOGGER.info("Rebuilt the assigned doctors of {} patients on demand", patientCount);
+        return Map.of(MigrationConstants.REBUILT_PATIENTS_KEY, patientCount);
+    }
+}
@@ -0,0 +1,73 @@
+package com.theelixrlabs.healthcare.migration;
+
+import com.theelixrlabs.healthcare.constants.AggregationConstant;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.MigrationConstants;
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import com.theelixrlabs.healthcare.model.PatientAssignedDoctorsModel;
+import com.theelixrlabs.healthcare.repository.PatientAssignedDoctorsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the patient to assigned doctors read model from the active assignments.
+ * The read model is built on the first start after it was introduced, while it is empty and assignments exist.
+ * Setting healthcare.migration.patient-assigned-doctors-rebuild.force to true rebuilds it on startup to repair drift.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class PatientAssignedDoctorsRebuild {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PatientAssignedDoctorsRebuild.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final PatientAssignedDoctorsRepository patientAssignedDoctorsRepository;
+    private final boolean enabled;
+    private final boolean forced;
+
+    public PatientAssignedDoctorsRebuild(MongoTemplate mongoTemplate, PatientAssignedDoctorsRepository patientAssignedDoctorsRepository,
+                                         @Value(MigrationConstants.PATIENT_ASSIGNED_DOCTORS_REBUILD_ENABLED) boolean enabled,
+                                         @Value(MigrationConstants.PATIENT_ASSIGNED_DOCTORS_REBUILD_FORCED) boolean forced) {
+        this.mongoTemplate = mongoTemplate;
+        this.patientAssignedDoctorsRepository = patientAssignedDoctorsRepository;
+        this.enabled = enabled;
+        this.forced = forced;
+    }
+
+    /**
+     * Runs the read model rebuild at startup unless it is disabled, called by StartupMigrationRunner.
+     */
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (forced || isMissing()) {
+                rebuild();
+            }
+        } catch (DataAccessResourceFailureException dataAccessResourceFailureException) {
+            LOGGER.error("Skipping patient assigned doctors rebuild, database is not reachable", dataAccessResourceFailureException);
+        }
+    }
+
+    /**
+     * Replaces the read model with the one computed from the active assignments.
+     */
+    public void rebuild() {
+        patientAssignedDoctorsRepository.rebuild();
+        LOGGER.info("Rebuilt the assigned doctors of {} patients", patientAssignedDoctorsRepository.count());
+    }
+
+    private boolean isMissing() {
+        return !mongoTemplate.exists(new Query(), PatientAssignedDoctorsModel.class)
+                && mongoTemplate.exists(new Query(Criteria.where(AggregationConstant.DATE_OF_UNASSIGNMENT).isNull()),
+                DoctorPatientAssignmentModel.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.theelixrlabs.healthcare.migration;
+
+import com.mongodb.client.result.UpdateResult;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.MigrationConstants;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the lower cased search name fields of documents written before those fields existed.
+ * Each collection is migrated with a single pipeline update, so the names never leave the database.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class SearchNameBackfill {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchNameBackfill.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+
+    public SearchNameBackfill(MongoTemplate mongoTemplate, @Value(MigrationConstants.SEARCH_NAME_BACKFILL_ENABLED) boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Runs the search name backfill at startup unless it is disabled, called by StartupMigrationRunner.
+     */
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (DataAccessResourceFailureException dataAccessResourceFailureException) {
+            LOGGER.error("Skipping search name backfill, database is not reachable", dataAccessResourceFailureException);
+        }
+    }
+
+    /**
+     * Sets the normalized names on every doctor and patient document that is missing them.
+     */
+    public void backfill() {
+        UpdateResult doctorsResult = mongoTemplate.updateMulti(
+                missingEither(MigrationConstants.DOCTOR_NORMALIZED_FIRST_NAME_FIELD, MigrationConstants.DOCTOR_NORMALIZED_LAST_NAME_FIELD),
+                AggregationUpdate.update()
+                        .set(MigrationConstants.DOCTOR_NORMALIZED_FIRST_NAME_FIELD)
+                        .toValue(StringOperators.valueOf(MigrationConstants.DOCTOR_FIRST_NAME_FIELD).toLower())
+                        .set(MigrationConstants.DOCTOR_NORMALIZED_LAST_NAME_FIELD)
+                        .toValue(StringOperators.valueOf(MigrationConstants.DOCTOR_LAST_NAME_FIELD).toLower()),
+                DoctorModel.class);
+        UpdateResult patientsResult = mongoTemplate.updateMulti(
+                missingEither(MigrationConstants.PATIENT_NORMALIZED_FIRST_NAME_FIELD, MigrationConstants.PATIENT_NORMALIZED_LAST_NAME_FIELD),
+                AggregationUpdate.update()
+                        .set(MigrationConstants.PATIENT_NORMALIZED_FIRST_NAME_FIELD)
+                        .toValue(StringOperators.valueOf(MigrationConstants.PATIENT_FIRST_NAME_FIELD).toLower())
+                        .set(MigrationConstants.PATIENT_NORMALIZED_LAST_NAME_FIELD)
+                        .toValue(StringOperators.valueOf(MigrationConstants.PATIENT_LAST_NAME_FIELD).toLower()),
+                PatientModel.class);
+        LOGGER.info("Backfilled search names of {} doctors and {} patients",
+                doctorsResult.getModifiedCount(), patientsResult.getModifiedCount());
+    }
+
+    private Query missingEither(String firstField, String secondField) {
+        return new Query(new Criteria().orOperator(
+                Criteria.where(firstField).exists(false),
+                Criteria.where(secondField).exists(false)));
+    }
+}
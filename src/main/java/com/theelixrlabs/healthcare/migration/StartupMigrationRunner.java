@@ -0,0 +1,43 @@
+package com.theelixrlabs.healthcare.migration;
+
+import com.theelixrlabs.healthcare.config.MongoIndexInitializer;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the startup data migrations and the index bootstrap in a fixed order once all singletons are created, which is
+ * before the web server starts accepting connections.
+ * The Aadhaar numbers are converted to long keys and the search names backfilled first, so the indexes are reconciled
+ * over migrated documents, and the assigned doctors read model is rebuilt last, with the indexes of its lookups in
+ * place. Steps whose beans are not part of the context are skipped.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class StartupMigrationRunner implements SmartInitializingSingleton {
+
+    private final ObjectProvider<AadhaarKeyMigration> aadhaarKeyMigrationProvider;
+    private final ObjectProvider<SearchNameBackfill> searchNameBackfillProvider;
+    private final ObjectProvider<MongoIndexInitializer> mongoIndexInitializerProvider;
+    private final ObjectProvider<PatientAssignedDoctorsRebuild> patientAssignedDoctorsRebuildProvider;
+
+    public StartupMigrationRunner(ObjectProvider<AadhaarKeyMigration> aadhaarKeyMigrationProvider,
+                                  ObjectProvider<SearchNameBackfill> searchNameBackfillProvider,
+                                  ObjectProvider<MongoIndexInitializer> mongoIndexInitializerProvider,
+                                  ObjectProvider<PatientAssignedDoctorsRebuild> patientAssignedDoctorsRebuildProvider) {
+        this.aadhaarKeyMigrationProvider = aadhaarKeyMigrationProvider;
+        this.searchNameBackfillProvider = searchNameBackfillProvider;
+        this.mongoIndexInitializerProvider = mongoIndexInitializerProvider;
+        this.patientAssignedDoctorsRebuildProvider = patientAssignedDoctorsRebuildProvider;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        aadhaarKeyMigrationProvider.ifAvailable(AadhaarKeyMigration::run);
+        searchNameBackfillProvider.ifAvailable(SearchNameBackfill::run);
+        mongoIndexInitializerProvider.ifAvailable(MongoIndexInitializer::run);
+        patientAssignedDoctorsRebuildProvider.ifAvailable(PatientAssignedDoctorsRebuild::run);
+    }
+}
@@ -1,11 +1,15 @@
 package com.theelixrlabs.healthcare.model;
 
 import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import com.theelixrlabs.healthcare.constants.IndexConstants;
 import com.theelixrlabs.healthcare.constants.MessageConstants;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import javax.validation.constraints.NotNull;
 import java.util.UUID;
@@ -16,7 +20,11 @@ import java.util.UUID;
  */
 @Data
 @Document(collection = DoctorConstants.DOCTORS_COLLECTION_NAME)
-@SuperBuilder
+@CompoundIndexes({
+        @CompoundIndex(name = IndexConstants.DOCTOR_FIRST_NAME_SEARCH_INDEX, def = IndexConstants.DOCTOR_FIRST_NAME_SEARCH_INDEX_DEFINITION),
+        @CompoundIndex(name = IndexConstants.DOCTOR_LAST_NAME_SEARCH_INDEX, def = IndexConstants.DOCTOR_LAST_NAME_SEARCH_INDEX_DEFINITION)
+})
+@SuperBuilder(toBuilder = true)
 @NoArgsConstructor
 public class DoctorModel {
     @Id
@@ -28,9 +36,23 @@ public class DoctorModel {
     @NotNull(message = MessageConstants.DOCTOR_LAST_NAME_SHOULD_BE_MANDATORY)
     private String lastName;
 
+    /**
+     * Lower cased first name, maintained on every write for the indexed prefix search.
+     */
+    private String normalizedFirstName;
+
+    /**
+     * Lower cased last name, maintained on every write for the indexed prefix search.
+     */
+    private String normalizedLastName;
+
     @NotNull(message = MessageConstants.DEPARTMENT_SHOULD_BE_MANDATORY)
     private String department;
 
+    /**
+     * Aadhaar number as a long key, formatted only when mapped to a dto.
+     */
     @NotNull(message = MessageConstants.DOCTOR_AADHAAR_NUMBER_SHOULD_BE_MANDATORY)
-    private String aadhaarNumber;
+    @Indexed(name = IndexConstants.DOCTOR_AADHAAR_NUMBER_INDEX, unique = true)
+    private Long aadhaarNumber;
 }
@@ -1,23 +1,37 @@
 package com.theelixrlabs.healthcare.model;
 
 import com.theelixrlabs.healthcare.constants.DoctorPatientAssignmentConstants;
+import com.theelixrlabs.healthcare.constants.IndexConstants;
 import com.theelixrlabs.healthcare.constants.MessageConstants;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.Date;
 import java.util.UUID;
 
 /**
  * Represents a model for assigning doctors to patients in a healthcare system.
+ * Active assignments (no date of unassignment) are served by a partial index per doctor, which is also unique so that
+ * a doctor can hold only one active assignment per patient, while the full history is indexed by patient for lookups
+ * that ignore the assignment state.
  */
 @Data
 @NoArgsConstructor
 @SuperBuilder
 @Document(collection = DoctorPatientAssignmentConstants.DB_COLLECTION_NAME)
+@CompoundIndexes({
+        @CompoundIndex(name = IndexConstants.ACTIVE_DOCTOR_PATIENT_INDEX,
+                def = IndexConstants.ACTIVE_DOCTOR_PATIENT_INDEX_DEFINITION,
+                unique = true,
+                partialFilter = IndexConstants.ACTIVE_ASSIGNMENT_FILTER),
+        @CompoundIndex(name = IndexConstants.PATIENT_DOCTOR_INDEX,
+                def = IndexConstants.PATIENT_DOCTOR_INDEX_DEFINITION)
+})
 public class DoctorPatientAssignmentModel {
     @Id
     private UUID id;
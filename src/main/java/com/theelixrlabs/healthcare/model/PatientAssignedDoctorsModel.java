@@ -0,0 +1,32 @@
+package com.theelixrlabs.healthcare.model;
+
+import com.theelixrlabs.healthcare.constants.IndexConstants;
+import com.theelixrlabs.healthcare.constants.PatientAssignedDoctorsConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read model holding one document per patient, keyed by the patient id, with summaries of the actively assigned doctors.
+ * It is maintained by the assignment and patch services and can be rebuilt from the assignments at any time.
+ * The embedded summaries are stored in the shape of the assigned doctors response, the index on the embedded doctor ids
+ * serves the updates that follow a doctor patch.
+ */
+@Data
+@NoArgsConstructor
+@SuperBuilder
+@Document(collection = PatientAssignedDoctorsConstants.COLLECTION_NAME)
+@CompoundIndex(name = IndexConstants.ASSIGNED_DOCTOR_INDEX, def = IndexConstants.ASSIGNED_DOCTOR_INDEX_DEFINITION)
+public class PatientAssignedDoctorsModel {
+    @Id
+    private UUID id;
+    private PatientDto patient;
+    private List<DoctorDto> assignedDoctors;
+}
@@ -1,10 +1,14 @@
 package com.theelixrlabs.healthcare.model;
 
+import com.theelixrlabs.healthcare.constants.IndexConstants;
 import com.theelixrlabs.healthcare.constants.PatientConstants;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.UUID;
 
@@ -14,12 +18,31 @@ import java.util.UUID;
 @NoArgsConstructor
 @Data
 @Document(collection = PatientConstants.PATIENTS_COLLECTION_NAME)
-@SuperBuilder
+@CompoundIndexes({
+        @CompoundIndex(name = IndexConstants.PATIENT_FIRST_NAME_SEARCH_INDEX, def = IndexConstants.PATIENT_FIRST_NAME_SEARCH_INDEX_DEFINITION),
+        @CompoundIndex(name = IndexConstants.PATIENT_LAST_NAME_SEARCH_INDEX, def = IndexConstants.PATIENT_LAST_NAME_SEARCH_INDEX_DEFINITION)
+})
+@SuperBuilder(toBuilder = true)
 public class PatientModel {
 
     @Id
     private UUID id;
     private String patientFirstName;
     private String patientLastName;
-    private String patientAadhaarNumber;
+
+    /**
+     * Lower cased first name, maintained on every write for the indexed prefix search.
+     */
+    private String normalizedPatientFirstName;
+
+    /**
+     * Lower cased last name, maintained on every write for the indexed prefix search.
+     */
+    private String normalizedPatientLastName;
+
+    /**
+     * Aadhaar number as a long key, formatted only when mapped to a dto.
+     */
+    @Indexed(name = IndexConstants.PATIENT_AADHAAR_NUMBER_INDEX, unique = true)
+    private Long patientAadhaarNumber;
 }
@@ -0,0 +1,192 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.constants.AggregationConstant;
+import com.theelixrlabs.healthcare.constants.DoctorPatientAssignmentConstants;
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * In-process index of the active doctor patient assignments, holding every edge in both directions.
+ * Each doctor maps to its patients and each patient to its doctors, sorted by id in the byte order MongoDB uses for
+ * UUIDs and carrying the assignment date as epoch milliseconds.
+ * The graph is loaded from the active assignments before the application starts serving requests and is then kept
+ * up to date by the assignment service. Closing an assignment only removes the edge of that assignment, but an
+ * unassignment racing the assignment it closes can remove the edge before it is added and leave it until the next start.
+ * Assignments written by another instance never reach the graph, so healthcare.assignment-graph.enabled must only be
+ * set on deployments running a single instance, it is off by default.
+ * Until it is loaded, for example when the database was unreachable at startup, callers fall back to the repository.
+ * The inmem profile runs without a MongoTemplate and leaves the graph disabled, its repositories index the edges already.
+ */
+@Component
+public class AssignmentGraph implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AssignmentGraph.class);
+    static final Comparator<UUID> MONGO_UUID_ORDER = (firstId, secondId) -> {
+        int mostSignificantBitsOrder = Long.compareUnsigned(firstId.getMostSignificantBits(), secondId.getMostSignificantBits());
+        return mostSignificantBitsOrder != 0 ? mostSignificantBitsOrder
+                : Long.compareUnsigned(firstId.getLeastSignificantBits(), secondId.getLeastSignificantBits());
+    };
+
+    private final Map<UUID, NavigableMap<UUID, Long>> patientsByDoctor = new ConcurrentHashMap<>();
+    private final Map<UUID, NavigableMap<UUID, Long>> doctorsByPatient = new ConcurrentHashMap<>();
+    private final ObjectProvider<MongoTemplate> mongoTemplateProvider;
+    private final boolean enabled;
+    private volatile boolean loaded;
+
+    public AssignmentGraph(ObjectProvider<MongoTemplate> mongoTemplateProvider,
+                           @Value(DoctorPatientAssignmentConstants.ASSIGNMENT_GRAPH_ENABLED) boolean enabled) {
+        this.mongoTemplateProvider = mongoTemplateProvider;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            load();
+        } catch (DataAccessResourceFailureException dataAccessResourceFailureException) {
+            LOGGER.error("Skipping assignment graph load, database is not reachable", dataAccessResourceFailureException);
+        }
+    }
+
+    /**
+     * Streams the active assignments into the graph and marks it as loaded.
+     */
+    public void load() {
+        Query activeAssignmentsQuery = new Query(Criteria.where(AggregationConstant.DATE_OF_UNASSIGNMENT).isNull());
+        activeAssignmentsQuery.fields()
+                .include(AggregationConstant.DOCTOR_ID)
+                .include(AggregationConstant.PATIENT_ID)
+                .include(DoctorPatientAssignmentConstants.DATE_OF_ASSIGNMENT_FIELD);
+        long edgeCount = 0;
+        try (Stream<DoctorPatientAssignmentModel> activeAssignments = mongoTemplateProvider.getObject().stream(activeAssignmentsQuery, DoctorPatientAssignmentModel.class)) {
+            for (DoctorPatientAssignmentModel activeAssignment : (Iterable<DoctorPatientAssignmentModel>) activeAssignments::iterator) {
+                addAssignment(activeAssignment.getDoctorId(), activeAssignment.getPatientId(), activeAssignment.getDateOfAssignment());
+                edgeCount++;
+            }
+        }
+        loaded = true;
+        LOGGER.info("Loaded {} active assignments into the assignment graph", edgeCount);
+    }
+
+    /**
+     * @return true once the graph holds all active assignments, false while callers have to ask the database.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Adds an active assignment in both directions.
+     *
+     * @param doctorId         The UUID of the doctor.
+     * @param patientId        The UUID of the patient.
+     * @param dateOfAssignment The date the doctor was assigned.
+     */
+    public void addAssignment(UUID doctorId, UUID patientId, Date dateOfAssignment) {
+        long assignedAt = assignedAt(dateOfAssignment);
+        addEdge(patientsByDoctor, doctorId, patientId, assignedAt);
+        addEdge(doctorsByPatient, patientId, doctorId, assignedAt);
+    }
+
+    /**
+     * Removes a closed assignment in both directions, unless the edge was added for another assignment of the same
+     * doctor and patient, like the read model only pulls the summary of the closed assignment.
+     *
+     * @param doctorId         The UUID of the doctor.
+     * @param patientId        The UUID of the patient.
+     * @param dateOfAssignment The date of assignment of the closed assignment.
+     */
+    public void removeAssignment(UUID doctorId, UUID patientId, Date dateOfAssignment) {
+        long assignedAt = assignedAt(dateOfAssignment);
+        removeEdge(patientsByDoctor, doctorId, patientId, assignedAt);
+        removeEdge(doctorsByPatient, patientId, doctorId, assignedAt);
+    }
+
+    /**
+     * Returns one page of the active assignments of a doctor, ordered by patient id like the roster query.
+     *
+     * @param doctorId      The UUID of the doctor.
+     * @param lastPatientId The patient id of the last assignment of the previous page, null for the first page.
+     * @param limit         Maximum number of assignments to return.
+     * @return The active assignments of the doctor after lastPatientId, empty if there are none.
+     */
+    public List<DoctorPatientAssignmentModel> findActiveAssignmentsOfDoctor(UUID doctorId, UUID lastPatientId, int limit) {
+        NavigableMap<UUID, Long> patients = patientsByDoctor.get(doctorId);
+        List<DoctorPatientAssignmentModel> activeAssignments = new ArrayList<>();
+        if (patients == null) {
+            return activeAssignments;
+        }
+        NavigableMap<UUID, Long> followingPatients = lastPatientId == null ? patients : patients.tailMap(lastPatientId, false);
+        for (Map.Entry<UUID, Long> patientEdge : followingPatients.entrySet()) {
+            if (activeAssignments.size() == limit) {
+                break;
+            }
+            activeAssignments.add(DoctorPatientAssignmentModel.builder()
+                    .doctorId(doctorId)
+                    .patientId(patientEdge.getKey())
+                    .dateOfAssignment(new Date(patientEdge.getValue()))
+                    .build());
+        }
+        return activeAssignments;
+    }
+
+    /**
+     * @param doctorId The UUID of the doctor.
+     * @return true if the doctor has at least one active assignment.
+     */
+    public boolean hasActivePatients(UUID doctorId) {
+        return patientsByDoctor.containsKey(doctorId);
+    }
+
+    /**
+     * @param patientId The UUID of the patient.
+     * @return true if the patient has at least one active assignment.
+     */
+    public boolean hasActiveDoctors(UUID patientId) {
+        return doctorsByPatient.containsKey(patientId);
+    }
+
+    private void addEdge(Map<UUID, NavigableMap<UUID, Long>> edges, UUID fromId, UUID toId, long assignedAt) {
+        edges.compute(fromId, (id, targets) -> {
+            NavigableMap<UUID, Long> updatedTargets = targets == null ? new ConcurrentSkipListMap<>(MONGO_UUID_ORDER) : targets;
+            updatedTargets.put(toId, assignedAt);
+            return updatedTargets;
+        });
+    }
+
+    /**
+     * Drops the map of a vertex together with its last edge, so an id is present exactly while it has active assignments.
+     */
+    private void removeEdge(Map<UUID, NavigableMap<UUID, Long>> edges, UUID fromId, UUID toId, long assignedAt) {
+        edges.computeIfPresent(fromId, (id, targets) -> {
+            targets.remove(toId, assignedAt);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    private static long assignedAt(Date dateOfAssignment) {
+        return dateOfAssignment == null ? 0L : dateOfAssignment.getTime();
+    }
+}
@@ -1,6 +1,7 @@
 package com.theelixrlabs.healthcare.repository;
 
 import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
@@ -11,7 +12,8 @@ import java.util.UUID;
  * Repository interface for managing DoctorPatientAssignmentModel entities in MongoDB.
  */
 @Repository
-public interface DoctorPatientAssignmentRepository extends MongoRepository<DoctorPatientAssignmentModel, UUID>, DoctorsByPatientIdRepository {
+public interface DoctorPatientAssignmentRepository extends MongoRepository<DoctorPatientAssignmentModel, UUID>,
+        DoctorPatientAssignmentWriteRepository {
 
     /**
      * Retrieves an active assignment for a patient identified by the provided patientId,
@@ -24,23 +26,24 @@ public interface DoctorPatientAssignmentRepository extends MongoRepository<Docto
     Optional<DoctorPatientAssignmentModel> findByPatientIdAndDateOfUnassignmentNull(UUID validPatientId);
 
     /**
-     * Retrieves an active assignment for a doctor identified by the provided validDoctorId,
-     * where the date of unassignment is null.
+     * Retrieves the first page of active assignments of a doctor, ordered by patient id.
      *
-     * @param validDoctorId The UUID identifying the doctor for whom to retrieve the active assignment.
-     * @return An Optional containing the DoctorPatientAssignmentModel if found,
-     * or an empty Optional if no active assignment is found.
+     * @param validDoctorId The UUID identifying the doctor for whom to retrieve the active assignments.
+     * @param limit         Maximum number of assignments to return.
+     * @return List of active assignments of the doctor, empty if there are none.
      */
-    List<DoctorPatientAssignmentModel> findByDoctorIdAndDateOfUnassignmentNull(UUID validDoctorId);
+    List<DoctorPatientAssignmentModel> findByDoctorIdAndDateOfUnassignmentNullOrderByPatientIdAsc(UUID validDoctorId, Limit limit);
 
     /**
-     * Method declaration to find a DoctorPatientAssignmentModel by DoctorID and PatientID and date of unassignment not null
+     * Retrieves the page of active assignments of a doctor following the given patient id, ordered by patient id.
      *
-     * @param doctorId  UUID of the doctor associated with the assignment.
-     * @param patientId UUID of the patient associated with the assignment.
-     * @return Optional containing DoctorPatientAssignmentModel if found, empty otherwise.
+     * @param validDoctorId The UUID identifying the doctor for whom to retrieve the active assignments.
+     * @param lastPatientId The patient id of the last assignment of the previous page.
+     * @param limit         Maximum number of assignments to return.
+     * @return List of active assignments of the doctor after lastPatientId, empty if there are none.
      */
-    Optional<DoctorPatientAssignmentModel> findByDoctorIdAndPatientIdAndDateOfUnassignmentNull(UUID doctorId, UUID patientId);
+    List<DoctorPatientAssignmentModel> findByDoctorIdAndDateOfUnassignmentNullAndPatientIdGreaterThanOrderByPatientIdAsc(
+            UUID validDoctorId, UUID lastPatientId, Limit limit);
 
     /**
      * Method declaration to check for a DoctorPatientAssignment by DoctorID and PatientID
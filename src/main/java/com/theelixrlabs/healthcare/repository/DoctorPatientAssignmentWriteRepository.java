@@ -0,0 +1,30 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for the commands backing the doctor patient assignment write path.
+ */
+public interface DoctorPatientAssignmentWriteRepository {
+    /**
+     * Checks that the doctor and the patient of an assignment exist with a single database command.
+     *
+     * @param doctorId  UUID of the doctor.
+     * @param patientId UUID of the patient.
+     * @return DOCTOR_NOT_FOUND if the doctor is missing, otherwise PATIENT_NOT_FOUND if the patient is missing, otherwise BOTH_EXIST.
+     */
+    DoctorPatientExistence findDoctorPatientExistence(UUID doctorId, UUID patientId);
+
+    /**
+     * Atomically sets the date of unassignment of the active assignment between the doctor and the patient.
+     *
+     * @param doctorId           UUID of the doctor.
+     * @param patientId          UUID of the patient.
+     * @param dateOfUnassignment Date to record as the end of the assignment.
+     * @return The updated assignment, empty if there was no active assignment to close.
+     */
+    Optional<DoctorPatientAssignmentModel> unassignActiveAssignment(UUID doctorId, UUID patientId, Date dateOfUnassignment);
+}
@@ -0,0 +1,74 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.constants.AggregationConstant;
+import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.LookupOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of DoctorPatientAssignmentWriteRepository using MongoTemplate.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class DoctorPatientAssignmentWriteRepositoryImpl implements DoctorPatientAssignmentWriteRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public DoctorPatientAssignmentWriteRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Matches the doctor by id and looks the patient up by id in the same pipeline, so both primary key probes
+     * run on the server in one round trip. No document means no doctor, an empty patient array means no patient.
+     */
+    @Override
+    public DoctorPatientExistence findDoctorPatientExistence(UUID doctorId, UUID patientId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where(AggregationConstant.ID).is(doctorId)),
+                Aggregation.project(AggregationConstant.ID),
+                LookupOperation.newLookup()
+                        .from(AggregationConstant.PATIENTS)
+                        .pipeline(
+                                Aggregation.match(Criteria.where(AggregationConstant.ID).is(patientId)),
+                                Aggregation.project(AggregationConstant.ID))
+                        .as(AggregationConstant.PATIENT)
+        );
+        Document doctorWithPatient = mongoTemplate.aggregate(aggregation, DoctorConstants.DOCTORS_COLLECTION_NAME, Document.class)
+                .getUniqueMappedResult();
+        if (doctorWithPatient == null) {
+            return DoctorPatientExistence.DOCTOR_NOT_FOUND;
+        }
+        if (doctorWithPatient.getList(AggregationConstant.PATIENT, Object.class).isEmpty()) {
+            return DoctorPatientExistence.PATIENT_NOT_FOUND;
+        }
+        return DoctorPatientExistence.BOTH_EXIST;
+    }
+
+    /**
+     * The null check on dateOfUnassignment is part of the filter, so two concurrent requests can never both close
+     * the same assignment and the second one sees a miss.
+     */
+    @Override
+    public Optional<DoctorPatientAssignmentModel> unassignActiveAssignment(UUID doctorId, UUID patientId, Date dateOfUnassignment) {
+        Query activeAssignmentQuery = new Query(Criteria.where(AggregationConstant.DOCTOR_ID).is(doctorId)
+                .and(AggregationConstant.PATIENT_ID).is(patientId)
+                .and(AggregationConstant.DATE_OF_UNASSIGNMENT).isNull());
+        Update unassignUpdate = new Update().set(AggregationConstant.DATE_OF_UNASSIGNMENT, dateOfUnassignment);
+        return Optional.ofNullable(mongoTemplate.findAndModify(activeAssignmentQuery, unassignUpdate,
+                FindAndModifyOptions.options().returnNew(true), DoctorPatientAssignmentModel.class));
+    }
+}
@@ -0,0 +1,10 @@
+package com.theelixrlabs.healthcare.repository;
+
+/**
+ * Outcome of checking that both sides of a doctor patient assignment exist.
+ */
+public enum DoctorPatientExistence {
+    BOTH_EXIST,
+    DOCTOR_NOT_FOUND,
+    PATIENT_NOT_FOUND
+}
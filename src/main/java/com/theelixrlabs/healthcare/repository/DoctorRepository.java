@@ -1,11 +1,14 @@
 package com.theelixrlabs.healthcare.repository;
 
-import com.theelixrlabs.healthcare.constants.QueryConstants;
+import com.theelixrlabs.healthcare.constants.CacheConstants;
 import com.theelixrlabs.healthcare.model.DoctorModel;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,22 +17,69 @@ import java.util.UUID;
  * Provides methods for CRUD operations and custom queries.
  */
 @Repository
-public interface DoctorRepository extends MongoRepository<DoctorModel, UUID> {
+public interface DoctorRepository extends MongoRepository<DoctorModel, UUID>, DoctorSearchRepository, DoctorWriteRepository {
+    /**
+     * Finds a doctor by id, served from the doctors cache when it is enabled. Missing doctors are not cached.
+     *
+     * @param doctorId The UUID of the doctor.
+     * @return An Optional containing the DoctorModel if found, otherwise empty.
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConstants.DOCTORS_CACHE, unless = "#result == null")
+    Optional<DoctorModel> findById(UUID doctorId);
+
+    /**
+     * Saves a doctor and evicts its cached copy.
+     *
+     * @param doctorModel The doctor to save.
+     * @return The saved doctor.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConstants.DOCTORS_CACHE, key = "#p0.id")
+    <S extends DoctorModel> S save(S doctorModel);
+
+    /**
+     * Deletes a doctor by id and evicts its cached copy.
+     *
+     * @param doctorId The UUID of the doctor.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConstants.DOCTORS_CACHE, key = "#p0")
+    void deleteById(UUID doctorId);
+
+    /**
+     * Deletes a doctor and evicts its cached copy.
+     *
+     * @param doctorModel The doctor to delete.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConstants.DOCTORS_CACHE, key = "#p0.id")
+    void delete(DoctorModel doctorModel);
+
+    /**
+     * Patches a doctor and evicts its cached copy.
+     *
+     * @param doctorId      The UUID of the doctor.
+     * @param changedFields The fields to set, keyed by document field name.
+     * @return An Optional containing the patched DoctorModel, empty if the doctor does not exist.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConstants.DOCTORS_CACHE, key = "#p0")
+    Optional<DoctorModel> patchDoctor(UUID doctorId, Map<String, Object> changedFields);
+
     /**
      * Finds a doctor by their Aadhaar number.
      *
-     * @param aadhaarNumber The Aadhaar number of the doctor.
+     * @param aadhaarNumber The Aadhaar key of the doctor.
      * @return An Optional containing the DoctorModel if found, otherwise empty.
      */
-    Optional<DoctorModel> findByAadhaarNumber(String aadhaarNumber);
+    Optional<DoctorModel> findByAadhaarNumber(Long aadhaarNumber);
 
     /**
-     * Searches for doctors whose first name or last name starts with the specified letters.
-     * The search is case-insensitive.
+     * Finds the doctors holding any of the given Aadhaar numbers with a single $in query.
      *
-     * @param doctorName The starting letters of the doctor name to search for.
-     * @return List of DoctorModel objects that match the search criteria.
+     * @param aadhaarNumbers The Aadhaar keys to look up.
+     * @return List of DoctorModel objects whose Aadhaar number is one of the given numbers.
      */
-    @Query(QueryConstants.SEARCH_DOCTOR_BY_NAME_QUERY)
-    List<DoctorModel> searchByDoctorName(String doctorName);
+    List<DoctorModel> findByAadhaarNumberIn(Collection<Long> aadhaarNumbers);
 }
@@ -0,0 +1,32 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.MigrationConstants;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Implementation of DoctorSearchRepository backed by the (normalized name, _id) indexes of the doctors collection.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class DoctorSearchRepositoryImpl implements DoctorSearchRepository {
+
+    private final KeysetNameSearch<DoctorModel> keysetNameSearch;
+
+    public DoctorSearchRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.keysetNameSearch = new KeysetNameSearch<>(mongoTemplate, DoctorModel.class,
+                MigrationConstants.DOCTOR_NORMALIZED_FIRST_NAME_FIELD, MigrationConstants.DOCTOR_NORMALIZED_LAST_NAME_FIELD,
+                DoctorModel::getNormalizedFirstName, DoctorModel::getNormalizedLastName, DoctorModel::getId);
+    }
+
+    @Override
+    public PageDto<List<DoctorModel>> searchByDoctorName(String namePrefix, String namePrefixUpperBound, KeysetCursor keysetCursor, int limit) {
+        return keysetNameSearch.search(namePrefix, namePrefixUpperBound, keysetCursor, limit);
+    }
+}
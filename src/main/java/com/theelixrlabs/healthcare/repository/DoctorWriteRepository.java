@@ -0,0 +1,30 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for write operations on doctors that go beyond the derived MongoRepository methods.
+ */
+public interface DoctorWriteRepository {
+    /**
+     * Inserts the doctors with a single unordered bulk write, a failing document does not stop the remaining inserts.
+     *
+     * @param doctorModels The doctors to insert.
+     * @return The write errors, each referring to the position of the failed document in doctorModels. Empty if all were inserted.
+     */
+    List<BulkWriteError> insertAllUnordered(List<DoctorModel> doctorModels);
+
+    /**
+     * Sets the given fields of a doctor with a single findAndModify, the fields that are not given are left untouched.
+     *
+     * @param doctorId      UUID of the doctor to update.
+     * @param changedFields Field names mapped to their new values, may be empty.
+     * @return The doctor after the update, empty if no doctor exists with the given id.
+     */
+    Optional<DoctorModel> patchDoctor(UUID doctorId, Map<String, Object> changedFields);
+}
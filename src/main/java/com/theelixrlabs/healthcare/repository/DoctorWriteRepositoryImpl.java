@@ -0,0 +1,59 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.theelixrlabs.healthcare.constants.AggregationConstant;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of DoctorWriteRepository using MongoTemplate bulk operations and findAndModify.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class DoctorWriteRepositoryImpl implements DoctorWriteRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public DoctorWriteRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<BulkWriteError> insertAllUnordered(List<DoctorModel> doctorModels) {
+        if (doctorModels.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DoctorModel.class).insert(doctorModels).execute();
+            return Collections.emptyList();
+        } catch (BulkOperationException bulkOperationException) {
+            return bulkOperationException.getErrors();
+        }
+    }
+
+    @Override
+    public Optional<DoctorModel> patchDoctor(UUID doctorId, Map<String, Object> changedFields) {
+        Query doctorQuery = new Query(Criteria.where(AggregationConstant.ID).is(doctorId));
+        if (changedFields.isEmpty()) {
+            return Optional.ofNullable(mongoTemplate.findOne(doctorQuery, DoctorModel.class));
+        }
+        Update patchUpdate = new Update();
+        changedFields.forEach(patchUpdate::set);
+        return Optional.ofNullable(mongoTemplate.findAndModify(doctorQuery, patchUpdate,
+                FindAndModifyOptions.options().returnNew(true), DoctorModel.class));
+    }
+}
@@ -0,0 +1,194 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.constants.DoctorPatientAssignmentConstants;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.IndexConstants;
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * DoctorPatientAssignmentRepository of the inmem profile.
+ * Active assignments are indexed by doctor, sorted by patient id like the partial (doctorId, patientId) index, and by
+ * patient, the full history is indexed by (doctor, patient) pair.
+ */
+@Repository
+@Profile(InMemoryRepositoryConstants.IN_MEMORY_PROFILE)
+public class InMemoryDoctorPatientAssignmentRepository extends InMemoryMongoRepository<DoctorPatientAssignmentModel>
+        implements DoctorPatientAssignmentRepository {
+
+    private final Map<UUID, NavigableMap<UUID, UUID>> activeAssignmentIdsByDoctor = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<UUID, UUID>> activeAssignmentIdsByPatient = new ConcurrentHashMap<>();
+    private final Map<DoctorPatientKey, Set<UUID>> assignmentIdsByDoctorAndPatient = new ConcurrentHashMap<>();
+    private final DoctorRepository doctorRepository;
+    private final PatientRepository patientRepository;
+
+    public InMemoryDoctorPatientAssignmentRepository(DoctorRepository doctorRepository, PatientRepository patientRepository) {
+        super(DoctorPatientAssignmentConstants.DB_COLLECTION_NAME);
+        this.doctorRepository = doctorRepository;
+        this.patientRepository = patientRepository;
+    }
+
+    @Override
+    protected UUID idOf(DoctorPatientAssignmentModel assignmentModel) {
+        return assignmentModel.getId();
+    }
+
+    @Override
+    protected DoctorPatientAssignmentModel copyOf(DoctorPatientAssignmentModel assignmentModel) {
+        return DoctorPatientAssignmentModel.builder()
+                .id(assignmentModel.getId())
+                .doctorId(assignmentModel.getDoctorId())
+                .patientId(assignmentModel.getPatientId())
+                .dateOfAssignment(assignmentModel.getDateOfAssignment())
+                .dateOfUnassignment(assignmentModel.getDateOfUnassignment())
+                .build();
+    }
+
+    @Override
+    protected void checkUniqueKeys(DoctorPatientAssignmentModel assignmentModel) {
+        if (assignmentModel.getDateOfUnassignment() != null) {
+            return;
+        }
+        NavigableMap<UUID, UUID> activeAssignmentIds = activeAssignmentIdsByDoctor.get(assignmentModel.getDoctorId());
+        UUID activeAssignmentId = activeAssignmentIds == null ? null : activeAssignmentIds.get(assignmentModel.getPatientId());
+        if (activeAssignmentId != null && !activeAssignmentId.equals(assignmentModel.getId())) {
+            throw duplicateKeyException(IndexConstants.ACTIVE_DOCTOR_PATIENT_INDEX);
+        }
+    }
+
+    @Override
+    protected void index(DoctorPatientAssignmentModel assignmentModel) {
+        if (assignmentModel.getDateOfUnassignment() == null) {
+            activeAssignmentIdsByDoctor.computeIfAbsent(assignmentModel.getDoctorId(),
+                            doctorId -> new ConcurrentSkipListMap<>(AssignmentGraph.MONGO_UUID_ORDER))
+                    .put(assignmentModel.getPatientId(), assignmentModel.getId());
+            activeAssignmentIdsByPatient.computeIfAbsent(assignmentModel.getPatientId(), patientId -> new ConcurrentHashMap<>())
+                    .put(assignmentModel.getDoctorId(), assignmentModel.getId());
+        }
+        assignmentIdsByDoctorAndPatient.computeIfAbsent(new DoctorPatientKey(assignmentModel.getDoctorId(), assignmentModel.getPatientId()),
+                        doctorPatientKey -> ConcurrentHashMap.newKeySet())
+                .add(assignmentModel.getId());
+    }
+
+    @Override
+    protected void unindex(DoctorPatientAssignmentModel assignmentModel) {
+        if (assignmentModel.getDateOfUnassignment() == null) {
+            removeEntry(activeAssignmentIdsByDoctor, assignmentModel.getDoctorId(), assignmentModel.getPatientId());
+            removeEntry(activeAssignmentIdsByPatient, assignmentModel.getPatientId(), assignmentModel.getDoctorId());
+        }
+        DoctorPatientKey doctorPatientKey = new DoctorPatientKey(assignmentModel.getDoctorId(), assignmentModel.getPatientId());
+        Set<UUID> assignmentIds = assignmentIdsByDoctorAndPatient.get(doctorPatientKey);
+        if (assignmentIds != null) {
+            assignmentIds.remove(assignmentModel.getId());
+            if (assignmentIds.isEmpty()) {
+                assignmentIdsByDoctorAndPatient.remove(doctorPatientKey);
+            }
+        }
+    }
+
+    @Override
+    public Optional<DoctorPatientAssignmentModel> findByPatientIdAndDateOfUnassignmentNull(UUID validPatientId) {
+        Map<UUID, UUID> activeAssignmentIds = activeAssignmentIdsByPatient.get(validPatientId);
+        if (activeAssignmentIds == null) {
+            return Optional.empty();
+        }
+        return activeAssignmentIds.values().stream().findFirst().flatMap(this::findById);
+    }
+
+    /**
+     * @return The active assignment between the doctor and the patient, checked by the read model before it adds the
+     * doctor like the $match of the Mongo $merge pipeline.
+     */
+    public Optional<DoctorPatientAssignmentModel> findActiveAssignment(UUID doctorId, UUID patientId) {
+        NavigableMap<UUID, UUID> activeAssignmentIds = activeAssignmentIdsByDoctor.get(doctorId);
+        UUID activeAssignmentId = activeAssignmentIds == null ? null : activeAssignmentIds.get(patientId);
+        return activeAssignmentId == null ? Optional.empty() : findById(activeAssignmentId);
+    }
+
+    @Override
+    public List<DoctorPatientAssignmentModel> findByDoctorIdAndDateOfUnassignmentNullOrderByPatientIdAsc(UUID validDoctorId, Limit limit) {
+        NavigableMap<UUID, UUID> activeAssignmentIds = activeAssignmentIdsByDoctor.get(validDoctorId);
+        return activeAssignmentIds == null ? new ArrayList<>() : page(activeAssignmentIds.values(), limit);
+    }
+
+    @Override
+    public List<DoctorPatientAssignmentModel> findByDoctorIdAndDateOfUnassignmentNullAndPatientIdGreaterThanOrderByPatientIdAsc(
+            UUID validDoctorId, UUID lastPatientId, Limit limit) {
+        NavigableMap<UUID, UUID> activeAssignmentIds = activeAssignmentIdsByDoctor.get(validDoctorId);
+        return activeAssignmentIds == null ? new ArrayList<>() : page(activeAssignmentIds.tailMap(lastPatientId, false).values(), limit);
+    }
+
+    @Override
+    public boolean existsByDoctorIdAndPatientId(UUID doctorId, UUID patientId) {
+        return assignmentIdsByDoctorAndPatient.containsKey(new DoctorPatientKey(doctorId, patientId));
+    }
+
+    @Override
+    public boolean existsByDoctorIdAndDateOfUnassignmentNull(UUID validDoctorId) {
+        NavigableMap<UUID, UUID> activeAssignmentIds = activeAssignmentIdsByDoctor.get(validDoctorId);
+        return activeAssignmentIds != null && !activeAssignmentIds.isEmpty();
+    }
+
+    @Override
+    public DoctorPatientExistence findDoctorPatientExistence(UUID doctorId, UUID patientId) {
+        if (!doctorRepository.existsById(doctorId)) {
+            return DoctorPatientExistence.DOCTOR_NOT_FOUND;
+        }
+        if (!patientRepository.existsById(patientId)) {
+            return DoctorPatientExistence.PATIENT_NOT_FOUND;
+        }
+        return DoctorPatientExistence.BOTH_EXIST;
+    }
+
+    @Override
+    public Optional<DoctorPatientAssignmentModel> unassignActiveAssignment(UUID doctorId, UUID patientId, Date dateOfUnassignment) {
+        writeLock.lock();
+        try {
+            NavigableMap<UUID, UUID> activeAssignmentIds = activeAssignmentIdsByDoctor.get(doctorId);
+            UUID activeAssignmentId = activeAssignmentIds == null ? null : activeAssignmentIds.get(patientId);
+            if (activeAssignmentId == null) {
+                return Optional.empty();
+            }
+            return update(activeAssignmentId, assignmentModel -> assignmentModel.setDateOfUnassignment(dateOfUnassignment));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private List<DoctorPatientAssignmentModel> page(Collection<UUID> assignmentIds, Limit limit) {
+        List<DoctorPatientAssignmentModel> assignments = new ArrayList<>();
+        for (UUID assignmentId : assignmentIds) {
+            if (limit.isLimited() && assignments.size() == limit.max()) {
+                break;
+            }
+            findById(assignmentId).ifPresent(assignments::add);
+        }
+        return assignments;
+    }
+
+    private static void removeEntry(Map<UUID, ? extends Map<UUID, UUID>> assignmentIds, UUID ownerId, UUID otherId) {
+        Map<UUID, UUID> ownerAssignmentIds = assignmentIds.get(ownerId);
+        if (ownerAssignmentIds != null) {
+            ownerAssignmentIds.remove(otherId);
+            if (ownerAssignmentIds.isEmpty()) {
+                assignmentIds.remove(ownerId);
+            }
+        }
+    }
+
+    private record DoctorPatientKey(UUID doctorId, UUID patientId) {
+    }
+}
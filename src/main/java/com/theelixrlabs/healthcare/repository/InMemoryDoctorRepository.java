@@ -0,0 +1,122 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.IndexConstants;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import org.bson.BsonDocument;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DoctorRepository of the inmem profile, with a hash index on the Aadhaar number and sorted indexes on the normalized
+ * names mirroring the indexes of the doctors collection.
+ */
+@Repository
+@Profile(InMemoryRepositoryConstants.IN_MEMORY_PROFILE)
+public class InMemoryDoctorRepository extends InMemoryMongoRepository<DoctorModel> implements DoctorRepository {
+
+    private final Map<Long, UUID> idsByAadhaarNumber = new ConcurrentHashMap<>();
+    private final InMemoryNameSearch<DoctorModel> nameSearch = new InMemoryNameSearch<>(
+            DoctorModel::getNormalizedFirstName, DoctorModel::getNormalizedLastName, DoctorModel::getId);
+
+    public InMemoryDoctorRepository() {
+        super(DoctorConstants.DOCTORS_COLLECTION_NAME);
+    }
+
+    @Override
+    protected UUID idOf(DoctorModel doctorModel) {
+        return doctorModel.getId();
+    }
+
+    @Override
+    protected DoctorModel copyOf(DoctorModel doctorModel) {
+        return DoctorModel.builder()
+                .id(doctorModel.getId())
+                .firstName(doctorModel.getFirstName())
+                .lastName(doctorModel.getLastName())
+                .normalizedFirstName(doctorModel.getNormalizedFirstName())
+                .normalizedLastName(doctorModel.getNormalizedLastName())
+                .department(doctorModel.getDepartment())
+                .aadhaarNumber(doctorModel.getAadhaarNumber())
+                .build();
+    }
+
+    @Override
+    protected void checkUniqueKeys(DoctorModel doctorModel) {
+        UUID aadhaarNumberOwnerId = doctorModel.getAadhaarNumber() == null ? null : idsByAadhaarNumber.get(doctorModel.getAadhaarNumber());
+        if (aadhaarNumberOwnerId != null && !aadhaarNumberOwnerId.equals(doctorModel.getId())) {
+            throw duplicateKeyException(IndexConstants.DOCTOR_AADHAAR_NUMBER_INDEX);
+        }
+    }
+
+    @Override
+    protected void index(DoctorModel doctorModel) {
+        if (doctorModel.getAadhaarNumber() != null) {
+            idsByAadhaarNumber.put(doctorModel.getAadhaarNumber(), doctorModel.getId());
+        }
+        nameSearch.add(doctorModel);
+    }
+
+    @Override
+    protected void unindex(DoctorModel doctorModel) {
+        if (doctorModel.getAadhaarNumber() != null) {
+            idsByAadhaarNumber.remove(doctorModel.getAadhaarNumber(), doctorModel.getId());
+        }
+        nameSearch.remove(doctorModel);
+    }
+
+    @Override
+    public Optional<DoctorModel> findByAadhaarNumber(Long aadhaarNumber) {
+        return findById(idsByAadhaarNumber.get(aadhaarNumber));
+    }
+
+    @Override
+    public List<DoctorModel> findByAadhaarNumberIn(Collection<Long> aadhaarNumbers) {
+        List<DoctorModel> doctorModels = new ArrayList<>();
+        for (Long aadhaarNumber : aadhaarNumbers) {
+            findByAadhaarNumber(aadhaarNumber).ifPresent(doctorModels::add);
+        }
+        return doctorModels;
+    }
+
+    @Override
+    public PageDto<List<DoctorModel>> searchByDoctorName(String namePrefix, String namePrefixUpperBound, KeysetCursor keysetCursor, int limit) {
+        return nameSearch.search(namePrefix, namePrefixUpperBound, keysetCursor, limit,
+                doctorId -> findById(doctorId).orElse(null));
+    }
+
+    @Override
+    public List<BulkWriteError> insertAllUnordered(List<DoctorModel> doctorModels) {
+        List<BulkWriteError> writeErrors = new ArrayList<>();
+        for (int index = 0; index < doctorModels.size(); index++) {
+            try {
+                insert(doctorModels.get(index));
+            } catch (DuplicateKeyException duplicateKeyException) {
+                writeErrors.add(new BulkWriteError(InMemoryRepositoryConstants.DUPLICATE_KEY_ERROR_CODE,
+                        duplicateKeyException.getMessage(), new BsonDocument(), index));
+            }
+        }
+        return writeErrors;
+    }
+
+    /**
+     * The changed fields are keyed by document field name, which is the property name of DoctorModel.
+     */
+    @Override
+    public Optional<DoctorModel> patchDoctor(UUID doctorId, Map<String, Object> changedFields) {
+        return update(doctorId, doctorModel -> PropertyAccessorFactory.forBeanPropertyAccess(doctorModel).setPropertyValues(changedFields));
+    }
+}
@@ -0,0 +1,75 @@
+package com.theelixrlabs.healthcare.repository;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.support.ExampleMatcherAccessor;
+import java.beans.PropertyDescriptor;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory counterpart of the query MongoDB derives from an Example.
+ * The set properties of the probe are compared with the properties of the document, strings with the string matcher
+ * and case sensitivity of their path, and the matcher decides whether all or any of them have to match.
+ * Properties holding embedded objects are compared as a whole rather than field by field.
+ */
+final class InMemoryExampleMatcher {
+
+    private InMemoryExampleMatcher() {
+    }
+
+    /**
+     * @return true if the document is of the probe type and matches the probe.
+     */
+    static boolean matches(Example<?> example, Object document) {
+        if (!example.getProbeType().isInstance(document)) {
+            return false;
+        }
+        ExampleMatcherAccessor matcherAccessor = new ExampleMatcherAccessor(example.getMatcher());
+        boolean allMatching = example.getMatcher().isAllMatching();
+        BeanWrapper probeWrapper = PropertyAccessorFactory.forBeanPropertyAccess(example.getProbe());
+        BeanWrapper documentWrapper = PropertyAccessorFactory.forBeanPropertyAccess(document);
+        boolean anyCompared = false;
+        for (PropertyDescriptor propertyDescriptor : probeWrapper.getPropertyDescriptors()) {
+            String propertyPath = propertyDescriptor.getName();
+            if (propertyDescriptor.getReadMethod() == null || "class".equals(propertyPath) || matcherAccessor.isIgnoredPath(propertyPath)) {
+                continue;
+            }
+            Object probeValue = matcherAccessor.getValueTransformerForPath(propertyPath)
+                    .apply(Optional.ofNullable(probeWrapper.getPropertyValue(propertyPath))).orElse(null);
+            if (probeValue == null && matcherAccessor.getNullHandler() == ExampleMatcher.NullHandler.IGNORE) {
+                continue;
+            }
+            anyCompared = true;
+            boolean propertyMatches = matchesValue(matcherAccessor, propertyPath, probeValue, documentWrapper.getPropertyValue(propertyPath));
+            if (propertyMatches != allMatching) {
+                return propertyMatches;
+            }
+        }
+        return allMatching || !anyCompared;
+    }
+
+    private static boolean matchesValue(ExampleMatcherAccessor matcherAccessor, String propertyPath, Object probeValue, Object documentValue) {
+        if (!(probeValue instanceof String probeString) || !(documentValue instanceof String documentString)) {
+            return Objects.equals(probeValue, documentValue);
+        }
+        boolean ignoreCase = matcherAccessor.isIgnoreCaseForPath(propertyPath);
+        ExampleMatcher.StringMatcher stringMatcher = matcherAccessor.getStringMatcherForPath(propertyPath);
+        if (stringMatcher == ExampleMatcher.StringMatcher.REGEX) {
+            return Pattern.compile(probeString, ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0)
+                    .matcher(documentString).find();
+        }
+        String comparedProbe = ignoreCase ? probeString.toLowerCase(Locale.ROOT) : probeString;
+        String comparedDocument = ignoreCase ? documentString.toLowerCase(Locale.ROOT) : documentString;
+        return switch (stringMatcher) {
+            case STARTING -> comparedDocument.startsWith(comparedProbe);
+            case ENDING -> comparedDocument.endsWith(comparedProbe);
+            case CONTAINING -> comparedDocument.contains(comparedProbe);
+            default -> comparedDocument.equals(comparedProbe);
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package com.theelixrlabs.healthcare.repository;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Fluent query over the copies of the documents matching an Example, the in-memory counterpart of the fluent query
+ * of the MongoDB repositories.
+ * Projections to interfaces are backed by the documents, projections to classes are copies of their properties.
+ * Property selections are ignored, the documents are copies held in memory anyway.
+ *
+ * @param <S> Type of the matched documents.
+ * @param <R> Type of the results.
+ */
+final class InMemoryFluentQuery<S, R> implements FluentQuery.FetchableFluentQuery<R> {
+
+    private static final SpelAwareProxyProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+    private final List<S> matches;
+    private final Sort sort;
+    private final Function<S, R> resultMapper;
+
+    InMemoryFluentQuery(List<S> matches, Sort sort, Function<S, R> resultMapper) {
+        this.matches = matches;
+        this.sort = sort;
+        this.resultMapper = resultMapper;
+    }
+
+    @Override
+    public FetchableFluentQuery<R> sortBy(Sort sort) {
+        return new InMemoryFluentQuery<>(matches, this.sort.and(sort), resultMapper);
+    }
+
+    @Override
+    public <P> FetchableFluentQuery<P> as(Class<P> resultType) {
+        return new InMemoryFluentQuery<S, P>(matches, sort, match -> project(match, resultType));
+    }
+
+    @Override
+    public FetchableFluentQuery<R> project(Collection<String> properties) {
+        return this;
+    }
+
+    @Override
+    public R oneValue() {
+        if (matches.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, matches.size());
+        }
+        return matches.isEmpty() ? null : resultMapper.apply(matches.get(0));
+    }
+
+    @Override
+    public R firstValue() {
+        List<S> sortedMatches = sorted(sort);
+        return sortedMatches.isEmpty() ? null : resultMapper.apply(sortedMatches.get(0));
+    }
+
+    @Override
+    public List<R> all() {
+        return results(sorted(sort));
+    }
+
+    @Override
+    public Page<R> page(Pageable pageable) {
+        List<S> sortedMatches = sorted(pageable.getSort().and(sort));
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(results(sortedMatches));
+        }
+        int fromIndex = (int) Math.min(pageable.getOffset(), sortedMatches.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), sortedMatches.size());
+        return new PageImpl<>(results(sortedMatches.subList(fromIndex, toIndex)), pageable, sortedMatches.size());
+    }
+
+    @Override
+    public Stream<R> stream() {
+        return all().stream();
+    }
+
+    @Override
+    public long count() {
+        return matches.size();
+    }
+
+    @Override
+    public boolean exists() {
+        return !matches.isEmpty();
+    }
+
+    private List<S> sorted(Sort sort) {
+        List<S> sortedMatches = new ArrayList<>(matches);
+        sortedMatches.sort(InMemorySort.comparatorOf(sort));
+        return sortedMatches;
+    }
+
+    private List<R> results(List<S> sortedMatches) {
+        List<R> results = new ArrayList<>(sortedMatches.size());
+        for (S match : sortedMatches) {
+            results.add(resultMapper.apply(match));
+        }
+        return results;
+    }
+
+    private <P> P project(S match, Class<P> resultType) {
+        R result = resultMapper.apply(match);
+        if (resultType.isInstance(result)) {
+            return resultType.cast(result);
+        }
+        if (resultType.isInterface()) {
+            return PROJECTION_FACTORY.createProjection(resultType, result);
+        }
+        P projection = BeanUtils.instantiateClass(resultType);
+        BeanUtils.copyProperties(result, projection);
+        return projection;
+    }
+}
@@ -0,0 +1,322 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Base of the concurrent in-memory repositories of the inmem profile.
+ * Documents are kept as private copies in a hash map keyed by id, so callers can never change stored state without
+ * a save, like with MongoDB. Writes are serialized by the write lock of the repository and keep the secondary indexes of the subclass
+ * in step, reads are lock free. Unique indexes are enforced with DuplicateKeyException, the exception the MongoDB
+ * repositories throw, so the services behave the same on both profiles.
+ * Sorted, paged and example queries of the MongoRepository interface are answered from copies of all documents, like a
+ * collection scan, with InMemorySort and InMemoryExampleMatcher standing in for the sort and the query of MongoDB.
+ * The write lock is a ReentrantLock rather than the monitor of the repository, a virtual thread waiting for a monitor
+ * stays pinned to its carrier thread on Java 21.
+ *
+ * @param <T> Type of the stored documents.
+ */
+abstract class InMemoryMongoRepository<T> implements MongoRepository<T, UUID> {
+
+    private final Map<UUID, T> documents = new ConcurrentHashMap<>();
+    private final String collectionName;
+    protected final ReentrantLock writeLock = new ReentrantLock();
+
+    protected InMemoryMongoRepository(String collectionName) {
+        this.collectionName = collectionName;
+    }
+
+    /**
+     * @return The id of the document.
+     */
+    protected abstract UUID idOf(T document);
+
+    /**
+     * @return A copy of the document that shares no mutable state with it.
+     */
+    protected abstract T copyOf(T document);
+
+    /**
+     * Throws DuplicateKeyException if storing the document would break a unique index of the subclass.
+     * Called before the previous version of the document is removed from the indexes.
+     */
+    protected abstract void checkUniqueKeys(T document);
+
+    /**
+     * Adds a stored document to the secondary indexes.
+     */
+    protected abstract void index(T document);
+
+    /**
+     * Removes a stored document from the secondary indexes.
+     */
+    protected abstract void unindex(T document);
+
+    /**
+     * @return The stored document itself, not a copy, or null. Only for reads that copy what they return.
+     */
+    protected T storedDocument(UUID id) {
+        return id == null ? null : documents.get(id);
+    }
+
+    protected DuplicateKeyException duplicateKeyException(String indexName) {
+        return new DuplicateKeyException(String.format(InMemoryRepositoryConstants.DUPLICATE_KEY_ERROR_MESSAGE, collectionName, indexName));
+    }
+
+    /**
+     * Replaces or adds a document and updates the indexes.
+     */
+    protected void store(T document) {
+        UUID id = idOf(document);
+        if (id == null) {
+            throw new InvalidDataAccessApiUsageException("Documents of " + collectionName + " need an id before they are stored");
+        }
+        writeLock.lock();
+        try {
+            checkUniqueKeys(document);
+            T previousDocument = documents.get(id);
+            if (previousDocument != null) {
+                unindex(previousDocument);
+            }
+            T storedDocument = copyOf(document);
+            documents.put(id, storedDocument);
+            index(storedDocument);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Applies a change to a copy of a stored document and stores the result.
+     *
+     * @return A copy of the changed document, empty if no document exists with the id.
+     */
+    protected Optional<T> update(UUID id, Consumer<T> change) {
+        writeLock.lock();
+        try {
+            T storedDocument = storedDocument(id);
+            if (storedDocument == null) {
+                return Optional.empty();
+            }
+            T changedDocument = copyOf(storedDocument);
+            change.accept(changedDocument);
+            store(changedDocument);
+            return Optional.of(copyOf(changedDocument));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return Copies of the stored documents, in iteration order.
+     */
+    protected List<T> copies(Iterable<T> storedDocuments) {
+        List<T> documentCopies = new ArrayList<>();
+        for (T storedDocument : storedDocuments) {
+            documentCopies.add(copyOf(storedDocument));
+        }
+        return documentCopies;
+    }
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        writeLock.lock();
+        try {
+            if (documents.containsKey(idOf(entity))) {
+                throw duplicateKeyException(InMemoryRepositoryConstants.ID_INDEX);
+            }
+            store(entity);
+        } finally {
+            writeLock.unlock();
+        }
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        List<S> insertedEntities = new ArrayList<>();
+        for (S entity : entities) {
+            insertedEntities.add(insert(entity));
+        }
+        return insertedEntities;
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        store(entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> savedEntities = new ArrayList<>();
+        for (S entity : entities) {
+            savedEntities.add(save(entity));
+        }
+        return savedEntities;
+    }
+
+    @Override
+    public Optional<T> findById(UUID id) {
+        return Optional.ofNullable(storedDocument(id)).map(this::copyOf);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return storedDocument(id) != null;
+    }
+
+    @Override
+    public List<T> findAll() {
+        return copies(documents.values());
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<UUID> ids) {
+        List<T> foundDocuments = new ArrayList<>();
+        for (UUID id : ids) {
+            findById(id).ifPresent(foundDocuments::add);
+        }
+        return foundDocuments;
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        return sorted(findAll(), sort);
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        return page(findAll(), pageable);
+    }
+
+    @Override
+    public long count() {
+        return documents.size();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        writeLock.lock();
+        try {
+            T removedDocument = documents.remove(id);
+            if (removedDocument != null) {
+                unindex(removedDocument);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(T entity) {
+        deleteById(idOf(entity));
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends UUID> ids) {
+        for (UUID id : ids) {
+            deleteById(id);
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        for (T entity : entities) {
+            delete(entity);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        writeLock.lock();
+        try {
+            for (UUID id : new ArrayList<>(documents.keySet())) {
+                deleteById(id);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Like the MongoDB repositories, returns the first match rather than failing when several documents match.
+     */
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        return findAll(example).stream().findFirst();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        List<S> matches = new ArrayList<>();
+        for (T storedDocument : documents.values()) {
+            if (InMemoryExampleMatcher.matches(example, storedDocument)) {
+                matches.add(example.getProbeType().cast(copyOf(storedDocument)));
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        return sorted(findAll(example), sort);
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return page(findAll(example), pageable);
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        return findAll(example).size();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        for (T storedDocument : documents.values()) {
+            if (InMemoryExampleMatcher.matches(example, storedDocument)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new InMemoryFluentQuery<S, S>(findAll(example), Sort.unsorted(), Function.identity()));
+    }
+
+    private static <S> List<S> sorted(List<S> documentCopies, Sort sort) {
+        documentCopies.sort(InMemorySort.comparatorOf(sort));
+        return documentCopies;
+    }
+
+    private static <S> Page<S> page(List<S> documentCopies, Pageable pageable) {
+        List<S> sortedCopies = sorted(documentCopies, pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sortedCopies);
+        }
+        int fromIndex = (int) Math.min(pageable.getOffset(), sortedCopies.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), sortedCopies.size());
+        return new PageImpl<>(sortedCopies.subList(fromIndex, toIndex), pageable, sortedCopies.size());
+    }
+}
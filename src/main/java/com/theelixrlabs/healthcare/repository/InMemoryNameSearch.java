@@ -0,0 +1,139 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
+import com.theelixrlabs.healthcare.utility.PageCursorUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+/**
+ * In-memory counterpart of KeysetNameSearch, returning the same pages and cursors.
+ * The normalized first and last names are kept in sorted maps from name to the ids holding it, ordered like the
+ * (name, _id) indexes of the MongoDB collections, so a page is a range scan starting right after the cursor.
+ *
+ * @param <T> Type of the searched entity.
+ */
+class InMemoryNameSearch<T> {
+
+    private final NavigableMap<String, NavigableSet<UUID>> idsByFirstName = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, NavigableSet<UUID>> idsByLastName = new ConcurrentSkipListMap<>();
+    private final Function<T, String> firstNameKey;
+    private final Function<T, String> lastNameKey;
+    private final Function<T, UUID> idKey;
+
+    InMemoryNameSearch(Function<T, String> firstNameKey, Function<T, String> lastNameKey, Function<T, UUID> idKey) {
+        this.firstNameKey = firstNameKey;
+        this.lastNameKey = lastNameKey;
+        this.idKey = idKey;
+    }
+
+    void add(T document) {
+        addEntry(idsByFirstName, firstNameKey.apply(document), idKey.apply(document));
+        addEntry(idsByLastName, lastNameKey.apply(document), idKey.apply(document));
+    }
+
+    void remove(T document) {
+        removeEntry(idsByFirstName, firstNameKey.apply(document), idKey.apply(document));
+        removeEntry(idsByLastName, lastNameKey.apply(document), idKey.apply(document));
+    }
+
+    /**
+     * Loads the page of matches following the cursor.
+     *
+     * @param namePrefix           Normalized name prefix.
+     * @param namePrefixUpperBound Exclusive upper bound of names starting with the prefix.
+     * @param keysetCursor         Position of the last match of the previous page, null for the first page.
+     * @param limit                Maximum number of matches on the page.
+     * @param documentLoader       Resolves an indexed id to a copy of its document, null if it was removed meanwhile.
+     * @return The matches and the cursor of the next page.
+     */
+    PageDto<List<T>> search(String namePrefix, String namePrefixUpperBound, KeysetCursor keysetCursor, int limit,
+                            Function<UUID, T> documentLoader) {
+        List<T> pageContent = new ArrayList<>(limit);
+        KeysetCursor lastNameCursor = keysetCursor;
+        if (keysetCursor == null || PaginationConstants.FIRST_NAME_BRANCH.equals(keysetCursor.getBranch())) {
+            List<T> firstNameMatches = scan(idsByFirstName, false, namePrefix, namePrefixUpperBound, keysetCursor,
+                    limit + 1, documentLoader);
+            if (firstNameMatches.size() > limit) {
+                pageContent.addAll(firstNameMatches.subList(0, limit));
+                T lastMatch = pageContent.get(limit - 1);
+                return new PageDto<>(pageContent, PageCursorUtil.encode(new KeysetCursor(
+                        PaginationConstants.FIRST_NAME_BRANCH, idKey.apply(lastMatch), firstNameKey.apply(lastMatch))));
+            }
+            pageContent.addAll(firstNameMatches);
+            lastNameCursor = null;
+        }
+        int remaining = limit - pageContent.size();
+        // documents matching on the first name were already returned by the first branch
+        List<T> lastNameMatches = scan(idsByLastName, true, namePrefix, namePrefixUpperBound, lastNameCursor,
+                remaining + 1, documentLoader);
+        if (lastNameMatches.size() <= remaining) {
+            pageContent.addAll(lastNameMatches);
+            return new PageDto<>(pageContent, null);
+        }
+        pageContent.addAll(lastNameMatches.subList(0, remaining));
+        KeysetCursor nextCursor = remaining == 0
+                ? new KeysetCursor(PaginationConstants.LAST_NAME_BRANCH, null, null)
+                : new KeysetCursor(PaginationConstants.LAST_NAME_BRANCH, idKey.apply(lastNameMatches.get(remaining - 1)),
+                lastNameKey.apply(lastNameMatches.get(remaining - 1)));
+        return new PageDto<>(pageContent, PageCursorUtil.encode(nextCursor));
+    }
+
+    private List<T> scan(NavigableMap<String, NavigableSet<UUID>> nameIndex, boolean excludeFirstNameMatches, String namePrefix,
+                         String namePrefixUpperBound, KeysetCursor keysetCursor, int limit, Function<UUID, T> documentLoader) {
+        List<T> matches = new ArrayList<>();
+        boolean afterCursor = keysetCursor != null && keysetCursor.getKey() != null && keysetCursor.getId() != null;
+        String rangeStart = afterCursor && keysetCursor.getKey().compareTo(namePrefix) > 0 ? keysetCursor.getKey() : namePrefix;
+        if (rangeStart.compareTo(namePrefixUpperBound) >= 0) {
+            return matches;
+        }
+        for (Map.Entry<String, NavigableSet<UUID>> nameEntry : nameIndex.subMap(rangeStart, true, namePrefixUpperBound, false).entrySet()) {
+            // (name, _id) > (cursor key, cursor id)
+            NavigableSet<UUID> ids = afterCursor && nameEntry.getKey().equals(keysetCursor.getKey())
+                    ? nameEntry.getValue().tailSet(keysetCursor.getId(), false)
+                    : nameEntry.getValue();
+            for (UUID id : ids) {
+                T document = documentLoader.apply(id);
+                if (document == null || excludeFirstNameMatches && startsWith(firstNameKey.apply(document), namePrefix, namePrefixUpperBound)) {
+                    continue;
+                }
+                matches.add(document);
+                if (matches.size() == limit) {
+                    return matches;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean startsWith(String name, String namePrefix, String namePrefixUpperBound) {
+        return name != null && name.compareTo(namePrefix) >= 0 && name.compareTo(namePrefixUpperBound) < 0;
+    }
+
+    private static void addEntry(NavigableMap<String, NavigableSet<UUID>> nameIndex, String name, UUID id) {
+        if (name != null) {
+            nameIndex.computeIfAbsent(name, absentName -> new ConcurrentSkipListSet<>(AssignmentGraph.MONGO_UUID_ORDER)).add(id);
+        }
+    }
+
+    private static void removeEntry(NavigableMap<String, NavigableSet<UUID>> nameIndex, String name, UUID id) {
+        if (name == null) {
+            return;
+        }
+        NavigableSet<UUID> ids = nameIndex.get(name);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                nameIndex.remove(name);
+            }
+        }
+    }
+}
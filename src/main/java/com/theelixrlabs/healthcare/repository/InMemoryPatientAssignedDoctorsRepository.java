@@ -0,0 +1,211 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.PatientAssignedDoctorsConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import com.theelixrlabs.healthcare.model.PatientAssignedDoctorsModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PatientAssignedDoctorsRepository of the inmem profile, keyed by patient id with an index from the embedded doctor
+ * ids to the patients they are assigned to, like the index serving the updates after a doctor patch.
+ */
+@Repository
+@Profile(InMemoryRepositoryConstants.IN_MEMORY_PROFILE)
+public class InMemoryPatientAssignedDoctorsRepository extends InMemoryMongoRepository<PatientAssignedDoctorsModel>
+        implements PatientAssignedDoctorsRepository {
+
+    private final Map<UUID, Set<UUID>> patientIdsByAssignedDoctor = new ConcurrentHashMap<>();
+    private final DoctorRepository doctorRepository;
+    private final PatientRepository patientRepository;
+    private final InMemoryDoctorPatientAssignmentRepository doctorPatientAssignmentRepository;
+
+    public InMemoryPatientAssignedDoctorsRepository(DoctorRepository doctorRepository, PatientRepository patientRepository,
+                                                    InMemoryDoctorPatientAssignmentRepository doctorPatientAssignmentRepository) {
+        super(PatientAssignedDoctorsConstants.COLLECTION_NAME);
+        this.doctorRepository = doctorRepository;
+        this.patientRepository = patientRepository;
+        this.doctorPatientAssignmentRepository = doctorPatientAssignmentRepository;
+    }
+
+    @Override
+    protected UUID idOf(PatientAssignedDoctorsModel patientAssignedDoctorsModel) {
+        return patientAssignedDoctorsModel.getId();
+    }
+
+    @Override
+    protected PatientAssignedDoctorsModel copyOf(PatientAssignedDoctorsModel patientAssignedDoctorsModel) {
+        List<DoctorDto> assignedDoctors = new ArrayList<>();
+        if (patientAssignedDoctorsModel.getAssignedDoctors() != null) {
+            for (DoctorDto assignedDoctor : patientAssignedDoctorsModel.getAssignedDoctors()) {
+                assignedDoctors.add(copyOf(assignedDoctor));
+            }
+        }
+        PatientDto patient = patientAssignedDoctorsModel.getPatient();
+        return PatientAssignedDoctorsModel.builder()
+                .id(patientAssignedDoctorsModel.getId())
+                .patient(patient == null ? null : PatientDto.builder()
+                        .id(patient.getId())
+                        .patientFirstName(patient.getPatientFirstName())
+                        .patientLastName(patient.getPatientLastName())
+                        .patientAadhaarNumber(patient.getPatientAadhaarNumber())
+                        .build())
+                .assignedDoctors(assignedDoctors)
+                .build();
+    }
+
+    @Override
+    protected void checkUniqueKeys(PatientAssignedDoctorsModel patientAssignedDoctorsModel) {
+    }
+
+    @Override
+    protected void index(PatientAssignedDoctorsModel patientAssignedDoctorsModel) {
+        for (DoctorDto assignedDoctor : patientAssignedDoctorsModel.getAssignedDoctors()) {
+            patientIdsByAssignedDoctor.computeIfAbsent(assignedDoctor.getId(), doctorId -> ConcurrentHashMap.newKeySet())
+                    .add(patientAssignedDoctorsModel.getId());
+        }
+    }
+
+    @Override
+    protected void unindex(PatientAssignedDoctorsModel patientAssignedDoctorsModel) {
+        for (DoctorDto assignedDoctor : patientAssignedDoctorsModel.getAssignedDoctors()) {
+            Set<UUID> patientIds = patientIdsByAssignedDoctor.get(assignedDoctor.getId());
+            if (patientIds != null) {
+                patientIds.remove(patientAssignedDoctorsModel.getId());
+                if (patientIds.isEmpty()) {
+                    patientIdsByAssignedDoctor.remove(assignedDoctor.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Like the $merge pipeline, nothing is written when the assignment is no longer active or the doctor or the
+     * patient does not exist.
+     */
+    @Override
+    public void addAssignedDoctor(UUID doctorId, UUID patientId, Date dateOfAssignment) {
+        writeLock.lock();
+        try {
+            boolean assignmentActive = doctorPatientAssignmentRepository.findActiveAssignment(doctorId, patientId)
+                    .filter(assignmentModel -> Objects.equals(dateOfAssignment, assignmentModel.getDateOfAssignment()))
+                    .isPresent();
+            if (!assignmentActive) {
+                return;
+            }
+            Optional<DoctorModel> doctorModel = doctorRepository.findById(doctorId);
+            Optional<PatientModel> patientModel = patientRepository.findById(patientId);
+            if (doctorModel.isEmpty() || patientModel.isEmpty()) {
+                return;
+            }
+            PatientAssignedDoctorsModel patientAssignedDoctorsModel = findById(patientId).orElseGet(() -> PatientAssignedDoctorsModel.builder()
+                    .id(patientId)
+                    .assignedDoctors(new ArrayList<>())
+                    .build());
+            patientAssignedDoctorsModel.setPatient(patientSummary(patientModel.get()));
+            patientAssignedDoctorsModel.getAssignedDoctors().removeIf(assignedDoctor -> doctorId.equals(assignedDoctor.getId()));
+            patientAssignedDoctorsModel.getAssignedDoctors().add(doctorSummary(doctorModel.get(), dateOfAssignment));
+            store(patientAssignedDoctorsModel);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void removeAssignedDoctor(UUID doctorId, UUID patientId, Date dateOfAssignment) {
+        update(patientId, patientAssignedDoctorsModel -> patientAssignedDoctorsModel.getAssignedDoctors()
+                .removeIf(assignedDoctor -> doctorId.equals(assignedDoctor.getId())
+                        && Objects.equals(dateOfAssignment, assignedDoctor.getDateOfAssignment())));
+    }
+
+    @Override
+    public void refreshDoctor(DoctorModel doctorModel) {
+        writeLock.lock();
+        try {
+            Set<UUID> patientIds = patientIdsByAssignedDoctor.get(doctorModel.getId());
+            if (patientIds == null) {
+                return;
+            }
+            for (UUID patientId : new ArrayList<>(patientIds)) {
+                update(patientId, patientAssignedDoctorsModel -> {
+                    for (DoctorDto assignedDoctor : patientAssignedDoctorsModel.getAssignedDoctors()) {
+                        if (doctorModel.getId().equals(assignedDoctor.getId())) {
+                            assignedDoctor.setFirstName(doctorModel.getFirstName());
+                            assignedDoctor.setLastName(doctorModel.getLastName());
+                            assignedDoctor.setDepartment(doctorModel.getDepartment());
+                            assignedDoctor.setAadhaarNumber(AadhaarUtil.format(doctorModel.getAadhaarNumber()));
+                        }
+                    }
+                });
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void refreshPatient(PatientModel patientModel) {
+        update(patientModel.getId(), patientAssignedDoctorsModel -> patientAssignedDoctorsModel.setPatient(patientSummary(patientModel)));
+    }
+
+    @Override
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            deleteAll();
+            for (DoctorPatientAssignmentModel assignmentModel : doctorPatientAssignmentRepository.findAll()) {
+                if (assignmentModel.getDateOfUnassignment() == null) {
+                    addAssignedDoctor(assignmentModel.getDoctorId(), assignmentModel.getPatientId(), assignmentModel.getDateOfAssignment());
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private DoctorDto copyOf(DoctorDto doctorDto) {
+        return doctorSummary(doctorDto.getId(), doctorDto.getFirstName(), doctorDto.getLastName(), doctorDto.getDepartment(),
+                doctorDto.getAadhaarNumber(), doctorDto.getDateOfAssignment());
+    }
+
+    private DoctorDto doctorSummary(DoctorModel doctorModel, Date dateOfAssignment) {
+        return doctorSummary(doctorModel.getId(), doctorModel.getFirstName(), doctorModel.getLastName(), doctorModel.getDepartment(),
+                AadhaarUtil.format(doctorModel.getAadhaarNumber()), dateOfAssignment);
+    }
+
+    private DoctorDto doctorSummary(UUID id, String firstName, String lastName, String department, String aadhaarNumber,
+                                    Date dateOfAssignment) {
+        return DoctorDto.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .department(department)
+                .aadhaarNumber(aadhaarNumber)
+                .dateOfAssignment(dateOfAssignment)
+                .build();
+    }
+
+    private PatientDto patientSummary(PatientModel patientModel) {
+        return PatientDto.builder()
+                .id(patientModel.getId())
+                .patientFirstName(patientModel.getPatientFirstName())
+                .patientLastName(patientModel.getPatientLastName())
+                .patientAadhaarNumber(AadhaarUtil.format(patientModel.getPatientAadhaarNumber()))
+                .build();
+    }
+}
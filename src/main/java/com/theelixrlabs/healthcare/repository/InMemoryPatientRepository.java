@@ -0,0 +1,122 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.IndexConstants;
+import com.theelixrlabs.healthcare.constants.PatientConstants;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import org.bson.BsonDocument;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PatientRepository of the inmem profile, with a hash index on the Aadhaar number and sorted indexes on the normalized
+ * names mirroring the indexes of the patients collection.
+ */
+@Repository
+@Profile(InMemoryRepositoryConstants.IN_MEMORY_PROFILE)
+public class InMemoryPatientRepository extends InMemoryMongoRepository<PatientModel> implements PatientRepository {
+
+    private final Map<Long, UUID> idsByAadhaarNumber = new ConcurrentHashMap<>();
+    private final InMemoryNameSearch<PatientModel> nameSearch = new InMemoryNameSearch<>(
+            PatientModel::getNormalizedPatientFirstName, PatientModel::getNormalizedPatientLastName, PatientModel::getId);
+
+    public InMemoryPatientRepository() {
+        super(PatientConstants.PATIENTS_COLLECTION_NAME);
+    }
+
+    @Override
+    protected UUID idOf(PatientModel patientModel) {
+        return patientModel.getId();
+    }
+
+    @Override
+    protected PatientModel copyOf(PatientModel patientModel) {
+        return PatientModel.builder()
+                .id(patientModel.getId())
+                .patientFirstName(patientModel.getPatientFirstName())
+                .patientLastName(patientModel.getPatientLastName())
+                .normalizedPatientFirstName(patientModel.getNormalizedPatientFirstName())
+                .normalizedPatientLastName(patientModel.getNormalizedPatientLastName())
+                .patientAadhaarNumber(patientModel.getPatientAadhaarNumber())
+                .build();
+    }
+
+    @Override
+    protected void checkUniqueKeys(PatientModel patientModel) {
+        UUID aadhaarNumberOwnerId = patientModel.getPatientAadhaarNumber() == null
+                ? null : idsByAadhaarNumber.get(patientModel.getPatientAadhaarNumber());
+        if (aadhaarNumberOwnerId != null && !aadhaarNumberOwnerId.equals(patientModel.getId())) {
+            throw duplicateKeyException(IndexConstants.PATIENT_AADHAAR_NUMBER_INDEX);
+        }
+    }
+
+    @Override
+    protected void index(PatientModel patientModel) {
+        if (patientModel.getPatientAadhaarNumber() != null) {
+            idsByAadhaarNumber.put(patientModel.getPatientAadhaarNumber(), patientModel.getId());
+        }
+        nameSearch.add(patientModel);
+    }
+
+    @Override
+    protected void unindex(PatientModel patientModel) {
+        if (patientModel.getPatientAadhaarNumber() != null) {
+            idsByAadhaarNumber.remove(patientModel.getPatientAadhaarNumber(), patientModel.getId());
+        }
+        nameSearch.remove(patientModel);
+    }
+
+    @Override
+    public Optional<PatientModel> findByPatientAadhaarNumber(Long patientAadhaarNumber) {
+        return findById(idsByAadhaarNumber.get(patientAadhaarNumber));
+    }
+
+    @Override
+    public List<PatientModel> findByPatientAadhaarNumberIn(Collection<Long> patientAadhaarNumbers) {
+        List<PatientModel> patientModels = new ArrayList<>();
+        for (Long patientAadhaarNumber : patientAadhaarNumbers) {
+            findByPatientAadhaarNumber(patientAadhaarNumber).ifPresent(patientModels::add);
+        }
+        return patientModels;
+    }
+
+    @Override
+    public PageDto<List<PatientModel>> searchByPatientName(String namePrefix, String namePrefixUpperBound, KeysetCursor keysetCursor, int limit) {
+        return nameSearch.search(namePrefix, namePrefixUpperBound, keysetCursor, limit,
+                patientId -> findById(patientId).orElse(null));
+    }
+
+    @Override
+    public List<BulkWriteError> insertAllUnordered(List<PatientModel> patientModels) {
+        List<BulkWriteError> writeErrors = new ArrayList<>();
+        for (int index = 0; index < patientModels.size(); index++) {
+            try {
+                insert(patientModels.get(index));
+            } catch (DuplicateKeyException duplicateKeyException) {
+                writeErrors.add(new BulkWriteError(InMemoryRepositoryConstants.DUPLICATE_KEY_ERROR_CODE,
+                        duplicateKeyException.getMessage(), new BsonDocument(), index));
+            }
+        }
+        return writeErrors;
+    }
+
+    /**
+     * The changed fields are keyed by document field name, which is the property name of PatientModel.
+     */
+    @Override
+    public Optional<PatientModel> patchPatient(UUID patientId, Map<String, Object> changedFields) {
+        return update(patientId, patientModel -> PropertyAccessorFactory.forBeanPropertyAccess(patientModel).setPropertyValues(changedFields));
+    }
+}
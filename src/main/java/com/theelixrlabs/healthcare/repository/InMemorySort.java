@@ -0,0 +1,68 @@
+package com.theelixrlabs.healthcare.repository;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * In-memory counterpart of the sort MongoDB applies to a query, ordering documents by the properties of a Sort.
+ * Like MongoDB, null and missing values come before all others in ascending order unless the order says otherwise,
+ * and UUIDs are compared in the byte order of their binary representation.
+ */
+final class InMemorySort {
+
+    private InMemorySort() {
+    }
+
+    /**
+     * @return A comparator applying the orders of the sort one after the other, keeping the iteration order when the
+     * sort is unsorted.
+     */
+    static <T> Comparator<T> comparatorOf(Sort sort) {
+        Comparator<T> comparator = (firstDocument, secondDocument) -> 0;
+        for (Sort.Order order : sort) {
+            comparator = comparator.thenComparing((firstDocument, secondDocument) -> compare(
+                    propertyValue(firstDocument, order.getProperty()), propertyValue(secondDocument, order.getProperty()), order));
+        }
+        return comparator;
+    }
+
+    /**
+     * @return The value of a property or nested property path of the document, null if the path is missing or passes
+     * through a null value.
+     */
+    static Object propertyValue(Object document, String propertyPath) {
+        BeanWrapper documentWrapper = PropertyAccessorFactory.forBeanPropertyAccess(document);
+        return documentWrapper.isReadableProperty(propertyPath) ? documentWrapper.getPropertyValue(propertyPath) : null;
+    }
+
+    private static int compare(Object firstValue, Object secondValue, Sort.Order order) {
+        if (firstValue == null || secondValue == null) {
+            if (firstValue == secondValue) {
+                return 0;
+            }
+            boolean nullsFirst = order.getNullHandling() == Sort.NullHandling.NATIVE
+                    ? order.isAscending() : order.getNullHandling() == Sort.NullHandling.NULLS_FIRST;
+            return (firstValue == null) == nullsFirst ? -1 : 1;
+        }
+        int valueOrder = compareValues(firstValue, secondValue, order);
+        return order.isAscending() ? valueOrder : -valueOrder;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Object firstValue, Object secondValue, Sort.Order order) {
+        if (firstValue instanceof UUID firstId && secondValue instanceof UUID secondId) {
+            return AssignmentGraph.MONGO_UUID_ORDER.compare(firstId, secondId);
+        }
+        if (order.isIgnoreCase() && firstValue instanceof String firstString && secondValue instanceof String secondString) {
+            return String.CASE_INSENSITIVE_ORDER.compare(firstString, secondString);
+        }
+        if (firstValue instanceof Comparable<?> && firstValue.getClass().isInstance(secondValue)) {
+            return ((Comparable<Object>) firstValue).compareTo(secondValue);
+        }
+        throw new InvalidDataAccessApiUsageException("Cannot sort the in-memory documents by " + order.getProperty());
+    }
+}
@@ -0,0 +1,104 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
+import com.theelixrlabs.healthcare.utility.PageCursorUtil;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset paginated prefix search over a first name and a last name field.
+ * The matches are returned in two sorted branches, first name matches ordered by (first name, id) and then the remaining
+ * last name matches ordered by (last name, id). Each branch is a range scan on a compound (name, _id) index that starts
+ * right after the cursor, so every page costs the same no matter how deep it is.
+ *
+ * @param <T> Type of the searched entity.
+ */
+class KeysetNameSearch<T> {
+
+    private final MongoOperations mongoOperations;
+    private final Class<T> entityClass;
+    private final String firstNameField;
+    private final String lastNameField;
+    private final Function<T, String> firstNameKey;
+    private final Function<T, String> lastNameKey;
+    private final Function<T, UUID> idKey;
+
+    KeysetNameSearch(MongoOperations mongoOperations, Class<T> entityClass, String firstNameField, String lastNameField,
+                     Function<T, String> firstNameKey, Function<T, String> lastNameKey, Function<T, UUID> idKey) {
+        this.mongoOperations = mongoOperations;
+        this.entityClass = entityClass;
+        this.firstNameField = firstNameField;
+        this.lastNameField = lastNameField;
+        this.firstNameKey = firstNameKey;
+        this.lastNameKey = lastNameKey;
+        this.idKey = idKey;
+    }
+
+    /**
+     * Loads the page of matches following the cursor.
+     *
+     * @param namePrefix           Normalized name prefix.
+     * @param namePrefixUpperBound Exclusive upper bound of names starting with the prefix.
+     * @param keysetCursor         Position of the last match of the previous page, null for the first page.
+     * @param limit                Maximum number of matches on the page.
+     * @return The matches and the cursor of the next page.
+     */
+    PageDto<List<T>> search(String namePrefix, String namePrefixUpperBound, KeysetCursor keysetCursor, int limit) {
+        List<T> pageContent = new ArrayList<>(limit);
+        KeysetCursor lastNameCursor = keysetCursor;
+        if (keysetCursor == null || PaginationConstants.FIRST_NAME_BRANCH.equals(keysetCursor.getBranch())) {
+            List<T> firstNameMatches = mongoOperations.find(
+                    branchQuery(firstNameField, null, namePrefix, namePrefixUpperBound, keysetCursor, limit + 1), entityClass);
+            if (firstNameMatches.size() > limit) {
+                pageContent.addAll(firstNameMatches.subList(0, limit));
+                T lastMatch = pageContent.get(limit - 1);
+                return new PageDto<>(pageContent, PageCursorUtil.encode(new KeysetCursor(
+                        PaginationConstants.FIRST_NAME_BRANCH, idKey.apply(lastMatch), firstNameKey.apply(lastMatch))));
+            }
+            pageContent.addAll(firstNameMatches);
+            lastNameCursor = null;
+        }
+        int remaining = limit - pageContent.size();
+        // documents matching on the first name were already returned by the first branch
+        List<T> lastNameMatches = mongoOperations.find(
+                branchQuery(lastNameField, firstNameField, namePrefix, namePrefixUpperBound, lastNameCursor, remaining + 1), entityClass);
+        if (lastNameMatches.size() <= remaining) {
+            pageContent.addAll(lastNameMatches);
+            return new PageDto<>(pageContent, null);
+        }
+        pageContent.addAll(lastNameMatches.subList(0, remaining));
+        KeysetCursor nextCursor = remaining == 0
+                ? new KeysetCursor(PaginationConstants.LAST_NAME_BRANCH, null, null)
+                : new KeysetCursor(PaginationConstants.LAST_NAME_BRANCH, idKey.apply(lastNameMatches.get(remaining - 1)),
+                lastNameKey.apply(lastNameMatches.get(remaining - 1)));
+        return new PageDto<>(pageContent, PageCursorUtil.encode(nextCursor));
+    }
+
+    private Query branchQuery(String nameField, String excludedNameField, String namePrefix, String namePrefixUpperBound,
+                              KeysetCursor keysetCursor, int limit) {
+        List<Criteria> criteriaList = new ArrayList<>();
+        criteriaList.add(Criteria.where(nameField).gte(namePrefix).lt(namePrefixUpperBound));
+        if (excludedNameField != null) {
+            criteriaList.add(new Criteria().norOperator(Criteria.where(excludedNameField).gte(namePrefix).lt(namePrefixUpperBound)));
+        }
+        if (keysetCursor != null && keysetCursor.getKey() != null && keysetCursor.getId() != null) {
+            // (name, _id) > (cursor key, cursor id)
+            criteriaList.add(new Criteria().orOperator(
+                    Criteria.where(nameField).gt(keysetCursor.getKey()),
+                    new Criteria().andOperator(
+                            Criteria.where(nameField).is(keysetCursor.getKey()),
+                            Criteria.where(PaginationConstants.ID_FIELD).gt(keysetCursor.getId()))));
+        }
+        return new Query(new Criteria().andOperator(criteriaList.toArray(new Criteria[0])))
+                .with(Sort.by(Sort.Order.asc(nameField), Sort.Order.asc(PaginationConstants.ID_FIELD)))
+                .limit(limit);
+    }
+}
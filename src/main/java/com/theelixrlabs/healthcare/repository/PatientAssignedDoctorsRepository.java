@@ -0,0 +1,14 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.model.PatientAssignedDoctorsModel;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+import java.util.UUID;
+
+/**
+ * Repository of the patient to assigned doctors read model, read by patient id.
+ */
+@Repository
+public interface PatientAssignedDoctorsRepository extends MongoRepository<PatientAssignedDoctorsModel, UUID>,
+        PatientAssignedDoctorsWriteRepository {
+}
@@ -0,0 +1,52 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Repository interface for maintaining the patient to assigned doctors read model.
+ */
+public interface PatientAssignedDoctorsWriteRepository {
+
+    /**
+     * Adds the summary of a doctor to the read model document of a patient, creating the document if needed.
+     * Nothing is written unless the assignment with the given date is still active.
+     * An existing summary of the same doctor is replaced, so repeating the call is harmless.
+     *
+     * @param doctorId         The UUID of the assigned doctor.
+     * @param patientId        The UUID of the patient.
+     * @param dateOfAssignment The date the doctor was assigned.
+     */
+    void addAssignedDoctor(UUID doctorId, UUID patientId, Date dateOfAssignment);
+
+    /**
+     * Removes the summary of a doctor from the read model document of a patient, unless it was written for another
+     * assignment of the same doctor.
+     *
+     * @param doctorId         The UUID of the unassigned doctor.
+     * @param patientId        The UUID of the patient.
+     * @param dateOfAssignment The date of assignment of the closed assignment.
+     */
+    void removeAssignedDoctor(UUID doctorId, UUID patientId, Date dateOfAssignment);
+
+    /**
+     * Overwrites the summary of a doctor in every read model document the doctor is assigned in.
+     *
+     * @param doctorModel The current state of the doctor.
+     */
+    void refreshDoctor(DoctorModel doctorModel);
+
+    /**
+     * Overwrites the patient summary of the read model document of a patient.
+     *
+     * @param patientModel The current state of the patient.
+     */
+    void refreshPatient(PatientModel patientModel);
+
+    /**
+     * Recomputes the whole read model from the active assignments and replaces the collection with the result.
+     */
+    void rebuild();
+}
@@ -0,0 +1,183 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.constants.AggregationConstant;
+import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import com.theelixrlabs.healthcare.constants.DoctorPatientAssignmentConstants;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.MigrationConstants;
+import com.theelixrlabs.healthcare.constants.PatientAssignedDoctorsConstants;
+import com.theelixrlabs.healthcare.constants.PatientConstants;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of PatientAssignedDoctorsWriteRepository using MongoTemplate.
+ * The pipelines are written as plain documents because the $merge stage with an update pipeline and the
+ * correlated lookups are not expressible with the typed aggregation builders.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class PatientAssignedDoctorsWriteRepositoryImpl implements PatientAssignedDoctorsWriteRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public PatientAssignedDoctorsWriteRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Reads the assignment, the doctor and the patient and merges their summaries into the read model in a single
+     * server side pipeline, so the names never travel to the application. The pipeline starts from the assignment and
+     * writes nothing once it was closed, so an unassignment that already pulled the doctor is not undone by a late
+     * merge. A matched document keeps its other doctors and gets the summary of this doctor replaced.
+     */
+    @Override
+    public void addAssignedDoctor(UUID doctorId, UUID patientId, Date dateOfAssignment) {
+        String doctorPrefix = PatientAssignedDoctorsConstants.DOCTOR + ".";
+        Document doctorSummary = doctorSummary(doctorPrefix)
+                .append(PatientAssignedDoctorsConstants.DATE_OF_ASSIGNMENT_FIELD, AggregationConstant.DATE_OF_ASSIGNMENT);
+        Document otherAssignedDoctors = new Document("$filter", new Document("input",
+                new Document("$ifNull", List.of("$" + PatientAssignedDoctorsConstants.ASSIGNED_DOCTORS, List.of())))
+                .append("cond", new Document("$ne", List.of("$$this." + AggregationConstant.ID, new Document("$literal", doctorId)))));
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document(AggregationConstant.DOCTOR_ID, doctorId)
+                        .append(AggregationConstant.PATIENT_ID, patientId)
+                        .append(AggregationConstant.DATE_OF_UNASSIGNMENT, null)
+                        .append(DoctorPatientAssignmentConstants.DATE_OF_ASSIGNMENT_FIELD, dateOfAssignment)),
+                new Document("$lookup", new Document("from", AggregationConstant.DOCTORS)
+                        .append("localField", AggregationConstant.DOCTOR_ID)
+                        .append("foreignField", AggregationConstant.ID)
+                        .append("as", PatientAssignedDoctorsConstants.DOCTOR)),
+                new Document("$unwind", "$" + PatientAssignedDoctorsConstants.DOCTOR),
+                new Document("$project", new Document(AggregationConstant.ID, 0)
+                        .append(PatientAssignedDoctorsConstants.DOCTOR, doctorSummary)),
+                new Document("$lookup", new Document("from", AggregationConstant.PATIENTS)
+                        .append("pipeline", List.of(
+                                new Document("$match", new Document(AggregationConstant.ID, patientId)),
+                                new Document("$project", patientSummary(""))))
+                        .append("as", PatientAssignedDoctorsConstants.PATIENT)),
+                new Document("$unwind", "$" + PatientAssignedDoctorsConstants.PATIENT),
+                new Document("$project", new Document(AggregationConstant.ID, "$" + PatientAssignedDoctorsConstants.PATIENT_FIELD_PREFIX + AggregationConstant.ID)
+                        .append(PatientAssignedDoctorsConstants.PATIENT, 1)
+                        .append(PatientAssignedDoctorsConstants.ASSIGNED_DOCTORS, List.of("$" + PatientAssignedDoctorsConstants.DOCTOR))),
+                new Document("$merge", new Document("into", PatientAssignedDoctorsConstants.COLLECTION_NAME)
+                        .append("on", AggregationConstant.ID)
+                        .append("whenMatched", List.of(new Document("$set",
+                                new Document(PatientAssignedDoctorsConstants.PATIENT, "$$new." + PatientAssignedDoctorsConstants.PATIENT)
+                                        .append(PatientAssignedDoctorsConstants.ASSIGNED_DOCTORS, new Document("$concatArrays",
+                                                List.of(otherAssignedDoctors, "$$new." + PatientAssignedDoctorsConstants.ASSIGNED_DOCTORS))))))
+                        .append("whenNotMatched", "insert"))
+        );
+        mongoTemplate.getCollection(DoctorPatientAssignmentConstants.DB_COLLECTION_NAME).aggregate(pipeline).toCollection();
+    }
+
+    /**
+     * Pulls the summary only while it carries the given date of assignment, so a summary written by a newer
+     * assignment of the same doctor is kept.
+     */
+    @Override
+    public void removeAssignedDoctor(UUID doctorId, UUID patientId, Date dateOfAssignment) {
+        mongoTemplate.updateFirst(new Query(Criteria.where(AggregationConstant.ID).is(patientId)),
+                new Update().pull(PatientAssignedDoctorsConstants.ASSIGNED_DOCTORS, new Document(AggregationConstant.ID, doctorId)
+                        .append(PatientAssignedDoctorsConstants.DATE_OF_ASSIGNMENT_FIELD, dateOfAssignment)),
+                PatientAssignedDoctorsConstants.COLLECTION_NAME);
+    }
+
+    /**
+     * Updates the matching array element of every patient document with one multi update, found through the index
+     * on the embedded doctor ids.
+     */
+    @Override
+    public void refreshDoctor(DoctorModel doctorModel) {
+        Update doctorUpdate = new Update()
+                .set(PatientAssignedDoctorsConstants.ASSIGNED_DOCTOR_POSITION + MigrationConstants.DOCTOR_FIRST_NAME_FIELD, doctorModel.getFirstName())
+                .set(PatientAssignedDoctorsConstants.ASSIGNED_DOCTOR_POSITION + MigrationConstants.DOCTOR_LAST_NAME_FIELD, doctorModel.getLastName())
+                .set(PatientAssignedDoctorsConstants.ASSIGNED_DOCTOR_POSITION + DoctorConstants.DEPARTMENT_FIELD, doctorModel.getDepartment())
+                .set(PatientAssignedDoctorsConstants.ASSIGNED_DOCTOR_POSITION + DoctorConstants.AADHAAR_NUMBER_FIELD, AadhaarUtil.format(doctorModel.getAadhaarNumber()))
+                .filterArray(Criteria.where(PatientAssignedDoctorsConstants.ASSIGNED_DOCTOR_FILTER_ID_FIELD).is(doctorModel.getId()));
+        mongoTemplate.updateMulti(new Query(Criteria.where(PatientAssignedDoctorsConstants.ASSIGNED_DOCTOR_ID_FIELD).is(doctorModel.getId())),
+                doctorUpdate, PatientAssignedDoctorsConstants.COLLECTION_NAME);
+    }
+
+    @Override
+    public void refreshPatient(PatientModel patientModel) {
+        Update patientUpdate = new Update()
+                .set(PatientAssignedDoctorsConstants.PATIENT_FIELD_PREFIX + MigrationConstants.PATIENT_FIRST_NAME_FIELD, patientModel.getPatientFirstName())
+                .set(PatientAssignedDoctorsConstants.PATIENT_FIELD_PREFIX + MigrationConstants.PATIENT_LAST_NAME_FIELD, patientModel.getPatientLastName())
+                .set(PatientAssignedDoctorsConstants.PATIENT_FIELD_PREFIX + PatientConstants.PATIENT_AADHAAR_NUMBER_FIELD, AadhaarUtil.format(patientModel.getPatientAadhaarNumber()));
+        mongoTemplate.updateFirst(new Query(Criteria.where(AggregationConstant.ID).is(patientModel.getId())),
+                patientUpdate, PatientAssignedDoctorsConstants.COLLECTION_NAME);
+    }
+
+    /**
+     * Groups the active assignments by patient with the doctor summaries and writes the result with $out,
+     * which swaps the collection in one step and keeps its indexes. Writes made while the rebuild runs may be lost,
+     * so it is meant to run at startup or during a maintenance window.
+     */
+    @Override
+    public void rebuild() {
+        String doctorPrefix = PatientAssignedDoctorsConstants.DOCTOR + ".";
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document(AggregationConstant.DATE_OF_UNASSIGNMENT, null)),
+                new Document("$lookup", new Document("from", AggregationConstant.DOCTORS)
+                        .append("localField", AggregationConstant.DOCTOR_ID)
+                        .append("foreignField", AggregationConstant.ID)
+                        .append("as", PatientAssignedDoctorsConstants.DOCTOR)),
+                new Document("$unwind", "$" + PatientAssignedDoctorsConstants.DOCTOR),
+                new Document("$group", new Document(AggregationConstant.ID, "$" + AggregationConstant.PATIENT_ID)
+                        .append(PatientAssignedDoctorsConstants.ASSIGNED_DOCTORS, new Document("$push", doctorSummary(doctorPrefix)
+                                .append(PatientAssignedDoctorsConstants.DATE_OF_ASSIGNMENT_FIELD, AggregationConstant.DATE_OF_ASSIGNMENT)))),
+                new Document("$lookup", new Document("from", AggregationConstant.PATIENTS)
+                        .append("localField", AggregationConstant.ID)
+                        .append("foreignField", AggregationConstant.ID)
+                        .append("as", PatientAssignedDoctorsConstants.PATIENT)),
+                new Document("$unwind", "$" + PatientAssignedDoctorsConstants.PATIENT),
+                new Document("$project", new Document(PatientAssignedDoctorsConstants.PATIENT,
+                        patientSummary(PatientAssignedDoctorsConstants.PATIENT_FIELD_PREFIX))
+                        .append(PatientAssignedDoctorsConstants.ASSIGNED_DOCTORS, 1)),
+                new Document("$out", PatientAssignedDoctorsConstants.COLLECTION_NAME)
+        );
+        mongoTemplate.getCollection(DoctorPatientAssignmentConstants.DB_COLLECTION_NAME).aggregate(pipeline)
+                .allowDiskUse(true)
+                .toCollection();
+    }
+
+    private Document doctorSummary(String fieldPrefix) {
+        return new Document(AggregationConstant.ID, "$" + fieldPrefix + AggregationConstant.ID)
+                .append(MigrationConstants.DOCTOR_FIRST_NAME_FIELD, "$" + fieldPrefix + MigrationConstants.DOCTOR_FIRST_NAME_FIELD)
+                .append(MigrationConstants.DOCTOR_LAST_NAME_FIELD, "$" + fieldPrefix + MigrationConstants.DOCTOR_LAST_NAME_FIELD)
+                .append(DoctorConstants.DEPARTMENT_FIELD, "$" + fieldPrefix + DoctorConstants.DEPARTMENT_FIELD)
+                .append(DoctorConstants.AADHAAR_NUMBER_FIELD, formattedAadhaarNumber("$" + fieldPrefix + DoctorConstants.AADHAAR_NUMBER_FIELD));
+    }
+
+    private Document patientSummary(String fieldPrefix) {
+        return new Document(AggregationConstant.ID, "$" + fieldPrefix + AggregationConstant.ID)
+                .append(MigrationConstants.PATIENT_FIRST_NAME_FIELD, "$" + fieldPrefix + MigrationConstants.PATIENT_FIRST_NAME_FIELD)
+                .append(MigrationConstants.PATIENT_LAST_NAME_FIELD, "$" + fieldPrefix + MigrationConstants.PATIENT_LAST_NAME_FIELD)
+                .append(PatientConstants.PATIENT_AADHAAR_NUMBER_FIELD, formattedAadhaarNumber("$" + fieldPrefix + PatientConstants.PATIENT_AADHAAR_NUMBER_FIELD));
+    }
+
+    /**
+     * Formats a stored Aadhaar key on the server like AadhaarUtil.format, the summaries are kept in the dto shape.
+     * A value that is still a formatted string, because the Aadhaar key migration has not run yet, is copied as is.
+     */
+    private Document formattedAadhaarNumber(String aadhaarKeyPath) {
+        Document digits = new Document("$toString", aadhaarKeyPath);
+        Document formatted = new Document("$concat", List.of(
+                new Document("$substrCP", List.of(digits, 0, 4)), " ",
+                new Document("$substrCP", List.of(digits, 4, 4)), " ",
+                new Document("$substrCP", List.of(digits, 8, 4))));
+        return new Document("$cond", List.of(new Document("$isNumber", aadhaarKeyPath), formatted, aadhaarKeyPath));
+    }
+}
@@ -1,31 +1,82 @@
 package com.theelixrlabs.healthcare.repository;
 
-import com.theelixrlabs.healthcare.constants.QueryConstants;
+import com.theelixrlabs.healthcare.constants.CacheConstants;
 import com.theelixrlabs.healthcare.model.PatientModel;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repository layer of Patient module which will interact with the database
  */
-public interface PatientRepository extends MongoRepository<PatientModel, UUID> {
+public interface PatientRepository extends MongoRepository<PatientModel, UUID>, PatientSearchRepository, PatientWriteRepository {
+    /**
+     * Finds a patient by id, served from the patients cache when it is enabled. Missing patients are not cached
+     *
+     * @param patientId Patient UUID
+     * @return Optional of PatientModel, empty if not found
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConstants.PATIENTS_CACHE, unless = "#result == null")
+    Optional<PatientModel> findById(UUID patientId);
+
+    /**
+     * Saves a patient and evicts its cached copy
+     *
+     * @param patientModel Patient to save
+     * @return Saved patient
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConstants.PATIENTS_CACHE, key = "#p0.id")
+    <S extends PatientModel> S save(S patientModel);
+
+    /**
+     * Deletes a patient by id and evicts its cached copy
+     *
+     * @param patientId Patient UUID
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConstants.PATIENTS_CACHE, key = "#p0")
+    void deleteById(UUID patientId);
+
+    /**
+     * Deletes a patient and evicts its cached copy
+     *
+     * @param patientModel Patient to delete
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConstants.PATIENTS_CACHE, key = "#p0.id")
+    void delete(PatientModel patientModel);
+
+    /**
+     * Patches a patient and evicts its cached copy
+     *
+     * @param patientId     Patient UUID
+     * @param changedFields Fields to set, keyed by document field name
+     * @return Optional of the patched PatientModel, empty if not found
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConstants.PATIENTS_CACHE, key = "#p0")
+    Optional<PatientModel> patchPatient(UUID patientId, Map<String, Object> changedFields);
+
     /**
      * Checks for any document with specified aadhaarNumber present in db
      *
-     * @param patientAadhaarNumber Patient Aadhaar Number as String
+     * @param patientAadhaarNumber Patient Aadhaar Number as its long key
      * @return PatientModel object
      */
-    Optional<PatientModel> findByPatientAadhaarNumber(String patientAadhaarNumber);
+    Optional<PatientModel> findByPatientAadhaarNumber(Long patientAadhaarNumber);
 
     /**
-     *Searches for patients whose first name or last name starts with the specified letters.
-     * The search is case-insensitive.
-     * @param patientName The starting letters of the patient name to search for.
-     * @return List of PatientModel objects that match the search criteria.
+     * Finds the patients holding any of the given Aadhaar numbers with a single $in query
+     *
+     * @param patientAadhaarNumbers Aadhaar keys to look up
+     * @return List of PatientModel objects whose Aadhaar number is one of the given numbers
      */
-    @Query(QueryConstants.SEARCH_PATIENT_BY_NAME_QUERY)
-    List<PatientModel> searchByPatientName(String patientName);
+    List<PatientModel> findByPatientAadhaarNumberIn(Collection<Long> patientAadhaarNumbers);
 }
@@ -0,0 +1,23 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import java.util.List;
+
+/**
+ * Repository interface for the keyset paginated patient name search.
+ */
+public interface PatientSearchRepository {
+    /**
+     * Searches for patients whose first name or last name starts with the specified letters.
+     * The search runs as range queries on the indexed, lower cased name fields.
+     *
+     * @param namePrefix           The normalized starting letters of the patient name to search for.
+     * @param namePrefixUpperBound The exclusive upper bound of all names starting with the prefix.
+     * @param keysetCursor         Position after which the page starts, null for the first page.
+     * @param limit                Maximum number of patients on the page.
+     * @return Page of PatientModel objects that match the search criteria.
+     */
+    PageDto<List<PatientModel>> searchByPatientName(String namePrefix, String namePrefixUpperBound, KeysetCursor keysetCursor, int limit);
+}
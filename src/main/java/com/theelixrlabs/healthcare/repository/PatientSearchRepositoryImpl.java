@@ -0,0 +1,32 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.constants.MigrationConstants;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Implementation of PatientSearchRepository backed by the (normalized name, _id) indexes of the patients collection.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class PatientSearchRepositoryImpl implements PatientSearchRepository {
+
+    private final KeysetNameSearch<PatientModel> keysetNameSearch;
+
+    public PatientSearchRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.keysetNameSearch = new KeysetNameSearch<>(mongoTemplate, PatientModel.class,
+                MigrationConstants.PATIENT_NORMALIZED_FIRST_NAME_FIELD, MigrationConstants.PATIENT_NORMALIZED_LAST_NAME_FIELD,
+                PatientModel::getNormalizedPatientFirstName, PatientModel::getNormalizedPatientLastName, PatientModel::getId);
+    }
+
+    @Override
+    public PageDto<List<PatientModel>> searchByPatientName(String namePrefix, String namePrefixUpperBound, KeysetCursor keysetCursor, int limit) {
+        return keysetNameSearch.search(namePrefix, namePrefixUpperBound, keysetCursor, limit);
+    }
+}
@@ -0,0 +1,30 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for write operations on patients that go beyond the derived MongoRepository methods.
+ */
+public interface PatientWriteRepository {
+    /**
+     * Inserts the patients with a single unordered bulk write, a failing document does not stop the remaining inserts.
+     *
+     * @param patientModels The patients to insert.
+     * @return The write errors, each referring to the position of the failed document in patientModels. Empty if all were inserted.
+     */
+    List<BulkWriteError> insertAllUnordered(List<PatientModel> patientModels);
+
+    /**
+     * Sets the given fields of a patient with a single findAndModify, the fields that are not given are left untouched.
+     *
+     * @param patientId     UUID of the patient to update.
+     * @param changedFields Field names mapped to their new values, may be empty.
+     * @return The patient after the update, empty if no patient exists with the given id.
+     */
+    Optional<PatientModel> patchPatient(UUID patientId, Map<String, Object> changedFields);
+}
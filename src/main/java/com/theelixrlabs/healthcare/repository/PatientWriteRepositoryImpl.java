@@ -0,0 +1,59 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.theelixrlabs.healthcare.constants.AggregationConstant;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of PatientWriteRepository using MongoTemplate bulk operations and findAndModify.
+ */
+@Component
+@Profile(InMemoryRepositoryConstants.MONGO_PROFILE)
+public class PatientWriteRepositoryImpl implements PatientWriteRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public PatientWriteRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<BulkWriteError> insertAllUnordered(List<PatientModel> patientModels) {
+        if (patientModels.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PatientModel.class).insert(patientModels).execute();
+            return Collections.emptyList();
+        } catch (BulkOperationException bulkOperationException) {
+            return bulkOperationException.getErrors();
+        }
+    }
+
+    @Override
+    public Optional<PatientModel> patchPatient(UUID patientId, Map<String, Object> changedFields) {
+        Query patientQuery = new Query(Criteria.where(AggregationConstant.ID).is(patientId));
+        if (changedFields.isEmpty()) {
+            return Optional.ofNullable(mongoTemplate.findOne(patientQuery, PatientModel.class));
+        }
+        Update patchUpdate = new Update();
+        changedFields.forEach(patchUpdate::set);
+        return Optional.ofNullable(mongoTemplate.findAndModify(patientQuery, patchUpdate,
+                FindAndModifyOptions.options().returnNew(true), PatientModel.class));
+    }
+}
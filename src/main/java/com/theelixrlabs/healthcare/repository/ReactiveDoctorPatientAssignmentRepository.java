@@ -0,0 +1,35 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import java.util.UUID;
+
+/**
+ * Non-blocking repository of the doctor patient assignments, used by the reactive profile.
+ */
+@Repository
+public interface ReactiveDoctorPatientAssignmentRepository extends ReactiveMongoRepository<DoctorPatientAssignmentModel, UUID> {
+
+    /**
+     * Retrieves the first page of active assignments of a doctor, ordered by patient id.
+     *
+     * @param validDoctorId The UUID identifying the doctor for whom to retrieve the active assignments.
+     * @param limit         Maximum number of assignments to return.
+     * @return Active assignments of the doctor, empty if there are none.
+     */
+    Flux<DoctorPatientAssignmentModel> findByDoctorIdAndDateOfUnassignmentNullOrderByPatientIdAsc(UUID validDoctorId, Limit limit);
+
+    /**
+     * Retrieves the page of active assignments of a doctor following the given patient id, ordered by patient id.
+     *
+     * @param validDoctorId The UUID identifying the doctor for whom to retrieve the active assignments.
+     * @param lastPatientId The patient id of the last assignment of the previous page.
+     * @param limit         Maximum number of assignments to return.
+     * @return Active assignments of the doctor after lastPatientId, empty if there are none.
+     */
+    Flux<DoctorPatientAssignmentModel> findByDoctorIdAndDateOfUnassignmentNullAndPatientIdGreaterThanOrderByPatientIdAsc(
+            UUID validDoctorId, UUID lastPatientId, Limit limit);
+}
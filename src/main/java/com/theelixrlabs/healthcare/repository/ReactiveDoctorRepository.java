@@ -0,0 +1,13 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import java.util.UUID;
+
+/**
+ * Non-blocking repository of the doctors, used by the reactive profile.
+ */
+@Repository
+public interface ReactiveDoctorRepository extends ReactiveMongoRepository<DoctorModel, UUID> {
+}
@@ -0,0 +1,14 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.model.PatientAssignedDoctorsModel;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import java.util.UUID;
+
+/**
+ * Non-blocking repository of the patient to assigned doctors read model, read by patient id in the reactive profile.
+ * The read model is maintained by the blocking write path, see PatientAssignedDoctorsWriteRepository.
+ */
+@Repository
+public interface ReactivePatientAssignedDoctorsRepository extends ReactiveMongoRepository<PatientAssignedDoctorsModel, UUID> {
+}
@@ -0,0 +1,13 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.model.PatientModel;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import java.util.UUID;
+
+/**
+ * Non-blocking repository of the patients, used by the reactive profile.
+ */
+@Repository
+public interface ReactivePatientRepository extends ReactiveMongoRepository<PatientModel, UUID> {
+}
@@ -27,4 +27,13 @@ public class SuccessResponse<T> {
      */
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private String responseMessage;
+    /**
+     * Cursor of the next page for paginated responses, omitted on the last page and on non paginated responses.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public SuccessResponse(boolean success, T responseData, String responseMessage) {
+        this(success, responseData, responseMessage, null);
+    }
 }
@@ -0,0 +1,279 @@
+package com.theelixrlabs.healthcare.service;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import com.theelixrlabs.healthcare.constants.BulkIngestionConstants;
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.dto.BulkIngestionResultDto;
+import com.theelixrlabs.healthcare.dto.BulkItemResultDto;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.exceptionHandler.DataException;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorException;
+import com.theelixrlabs.healthcare.exceptionHandler.PatientException;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.repository.PatientRepository;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.NameSearchUtil;
+import com.theelixrlabs.healthcare.validation.Validator;
+import jakarta.validation.ConstraintViolation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Service class for loading large batches of patients and doctors.
+ * Records are validated in parallel, Aadhaar numbers are checked against the rest of the batch and against the database
+ * with one query per chunk, and each chunk is inserted with a single unordered bulk write.
+ * Every record gets its own result, a failing record never fails the whole batch.
+ */
+@Service
+public class BulkIngestionService {
+
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final Validator validator;
+    private final jakarta.validation.Validator beanValidator;
+    private final MessageUtil messageUtil;
+    private final int chunkSize;
+    private final int maxBatchSize;
+
+    public BulkIngestionService(PatientRepository patientRepository, DoctorRepository doctorRepository, Validator validator,
+                                jakarta.validation.Validator beanValidator, MessageUtil messageUtil,
+                                @Value(BulkIngestionConstants.CHUNK_SIZE) int chunkSize,
+                                @Value(BulkIngestionConstants.MAX_BATCH_SIZE) int maxBatchSize) {
+        this.patientRepository = patientRepository;
+        this.doctorRepository = doctorRepository;
+        this.validator = validator;
+        this.beanValidator = beanValidator;
+        this.messageUtil = messageUtil;
+        this.chunkSize = chunkSize;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Adds a batch of patients.
+     *
+     * @param patientDtoList The patients to add, in request order.
+     * @return One result per patient holding the saved patient or the reasons it was rejected.
+     */
+    public BulkIngestionResultDto<PatientDto> addPatients(List<PatientDto> patientDtoList) throws DataException {
+        return ingest(patientDtoList, this::validatePatient, PatientDto::getPatientAadhaarNumber,
+                aadhaarNumbers -> patientRepository.findByPatientAadhaarNumberIn(aadhaarNumbers).stream()
+                        .map(PatientModel::getPatientAadhaarNumber)
+                        .collect(Collectors.toSet()),
+                (patientDto, aadhaarKey) -> PatientModel.builder()
+                        .id(UUID.randomUUID())
+                        .patientFirstName(patientDto.getPatientFirstName())
+                        .patientLastName(patientDto.getPatientLastName())
+                        .normalizedPatientFirstName(NameSearchUtil.normalize(patientDto.getPatientFirstName()))
+                        .normalizedPatientLastName(NameSearchUtil.normalize(patientDto.getPatientLastName()))
+                        .patientAadhaarNumber(aadhaarKey)
+                        .build(),
+                patientRepository::insertAllUnordered,
+                patientModel -> PatientDto.builder()
+                        .id(patientModel.getId())
+                        .patientFirstName(patientModel.getPatientFirstName())
+                        .patientLastName(patientModel.getPatientLastName())
+                        .patientAadhaarNumber(AadhaarUtil.format(patientModel.getPatientAadhaarNumber()))
+                        .build(),
+                MessageConstants.PATIENT_AADHAAR_NUMBER_EXISTS);
+    }
+
+    /**
+     * Adds a batch of doctors.
+     *
+     * @param doctorDtoList The doctors to add, in request order.
+     * @return One result per doctor holding the saved doctor or the reasons it was rejected.
+     */
+    public BulkIngestionResultDto<DoctorDto> addDoctors(List<DoctorDto> doctorDtoList) throws DataException {
+        return ingest(doctorDtoList, this::validateDoctor, DoctorDto::getAadhaarNumber,
+                aadhaarNumbers -> doctorRepository.findByAadhaarNumberIn(aadhaarNumbers).stream()
+                        .map(DoctorModel::getAadhaarNumber)
+                        .collect(Collectors.toSet()),
+                (doctorDto, aadhaarKey) -> DoctorModel.builder()
+                        .id(UUID.randomUUID())
+                        .firstName(doctorDto.getFirstName())
+                        .lastName(doctorDto.getLastName())
+                        .normalizedFirstName(NameSearchUtil.normalize(doctorDto.getFirstName()))
+                        .normalizedLastName(NameSearchUtil.normalize(doctorDto.getLastName()))
+                        .department(doctorDto.getDepartment())
+                        .aadhaarNumber(aadhaarKey)
+                        .build(),
+                doctorRepository::insertAllUnordered,
+                doctorModel -> DoctorDto.builder()
+                        .id(doctorModel.getId())
+                        .firstName(doctorModel.getFirstName())
+                        .lastName(doctorModel.getLastName())
+                        .department(doctorModel.getDepartment())
+                        .aadhaarNumber(AadhaarUtil.format(doctorModel.getAadhaarNumber()))
+                        .build(),
+                MessageConstants.DOCTOR_AADHAAR_ALREADY_PRESENT);
+    }
+
+    /**
+     * Runs the ingestion pipeline shared by patients and doctors.
+     *
+     * @param dtoList                Records of the request.
+     * @param recordValidation       Validates one record and returns its error messages.
+     * @param aadhaarNumberOf        Reads the unformatted Aadhaar number of a record.
+     * @param existingAadhaarNumbers Returns which of the given Aadhaar keys are already stored.
+     * @param modelFactory           Creates the document of a record from the record and its Aadhaar key.
+     * @param bulkInsert             Inserts documents with an unordered bulk write.
+     * @param dtoFactory             Maps a saved document back to a record.
+     * @param aadhaarExistsKey       Message key of the error reported for an Aadhaar number already stored.
+     */
+    private <D, M> BulkIngestionResultDto<D> ingest(List<D> dtoList,
+                                                    Function<D, List<String>> recordValidation,
+                                                    Function<D, String> aadhaarNumberOf,
+                                                    Function<Collection<Long>, Set<Long>> existingAadhaarNumbers,
+                                                    BiFunction<D, Long, M> modelFactory,
+                                                    Function<List<M>, List<BulkWriteError>> bulkInsert,
+                                                    Function<M, D> dtoFactory,
+                                                    String aadhaarExistsKey) throws DataException {
+        if (dtoList == null || dtoList.isEmpty() || dtoList.size() > maxBatchSize) {
+            throw new DataException(messageUtil.getMessage(MessageConstants.BULK_BATCH_SIZE_INVALID, new Object[]{maxBatchSize}));
+        }
+        // worker threads of the parallel stream do not inherit the locale of the request
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        List<List<String>> recordErrors = IntStream.range(0, dtoList.size())
+                .parallel()
+                .mapToObj(index -> validateInLocale(localeContext, recordValidation, dtoList.get(index)))
+                .collect(Collectors.toList());
+        List<D> savedRecords = new ArrayList<>(dtoList.size());
+        List<Long> aadhaarKeys = new ArrayList<>(dtoList.size());
+        Map<Long, Integer> firstIndexByAadhaarKey = new HashMap<>();
+        List<Integer> candidateIndexes = new ArrayList<>();
+        for (int index = 0; index < dtoList.size(); index++) {
+            savedRecords.add(null);
+            aadhaarKeys.add(null);
+            if (!recordErrors.get(index).isEmpty()) {
+                continue;
+            }
+            Long aadhaarKey = AadhaarUtil.toKey(aadhaarNumberOf.apply(dtoList.get(index)));
+            aadhaarKeys.set(index, aadhaarKey);
+            Integer firstIndex = firstIndexByAadhaarKey.putIfAbsent(aadhaarKey, index);
+            if (firstIndex != null) {
+                recordErrors.get(index).add(messageUtil.getMessage(MessageConstants.BULK_AADHAAR_NUMBER_DUPLICATE_IN_BATCH,
+                        new Object[]{firstIndex}));
+            } else {
+                candidateIndexes.add(index);
+            }
+        }
+        for (int chunkStart = 0; chunkStart < candidateIndexes.size(); chunkStart += chunkSize) {
+            List<Integer> chunkIndexes = candidateIndexes.subList(chunkStart, Math.min(chunkStart + chunkSize, candidateIndexes.size()));
+            Set<Long> chunkAadhaarKeys = new HashSet<>(chunkIndexes.size());
+            for (Integer index : chunkIndexes) {
+                chunkAadhaarKeys.add(aadhaarKeys.get(index));
+            }
+            Set<Long> storedAadhaarKeys = existingAadhaarNumbers.apply(chunkAadhaarKeys);
+            List<M> chunkModels = new ArrayList<>(chunkIndexes.size());
+            List<Integer> chunkModelIndexes = new ArrayList<>(chunkIndexes.size());
+            for (Integer index : chunkIndexes) {
+                if (storedAadhaarKeys.contains(aadhaarKeys.get(index))) {
+                    recordErrors.get(index).add(messageUtil.getMessage(aadhaarExistsKey));
+                } else {
+                    chunkModels.add(modelFactory.apply(dtoList.get(index), aadhaarKeys.get(index)));
+                    chunkModelIndexes.add(index);
+                }
+            }
+            // the write error index refers to the position of the document inside chunkModels
+            Set<Integer> failedPositions = new HashSet<>();
+            for (BulkWriteError bulkWriteError : bulkInsert.apply(chunkModels)) {
+                failedPositions.add(bulkWriteError.getIndex());
+                String messageKey = ErrorCategory.fromErrorCode(bulkWriteError.getCode()) == ErrorCategory.DUPLICATE_KEY
+                        ? aadhaarExistsKey
+                        : MessageConstants.BULK_INSERT_FAILED;
+                recordErrors.get(chunkModelIndexes.get(bulkWriteError.getIndex())).add(messageUtil.getMessage(messageKey));
+            }
+            for (int position = 0; position < chunkModels.size(); position++) {
+                if (!failedPositions.contains(position)) {
+                    savedRecords.set(chunkModelIndexes.get(position), dtoFactory.apply(chunkModels.get(position)));
+                }
+            }
+        }
+        List<BulkItemResultDto<D>> results = new ArrayList<>(dtoList.size());
+        int successCount = 0;
+        for (int index = 0; index < dtoList.size(); index++) {
+            if (recordErrors.get(index).isEmpty()) {
+                successCount++;
+                results.add(new BulkItemResultDto<>(index, true, savedRecords.get(index), null));
+            } else {
+                results.add(new BulkItemResultDto<>(index, false, null, recordErrors.get(index)));
+            }
+        }
+        return new BulkIngestionResultDto<>(dtoList.size(), successCount, dtoList.size() - successCount, results);
+    }
+
+    /**
+     * Validates a record with the given locale context bound to the current thread and restores the previous one afterwards,
+     * the thread may be a pool worker or the request thread itself.
+     */
+    private <D> List<String> validateInLocale(LocaleContext localeContext, Function<D, List<String>> recordValidation, D record) {
+        LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+        LocaleContextHolder.setLocaleContext(localeContext);
+        try {
+            return recordValidation.apply(record);
+        } finally {
+            LocaleContextHolder.setLocaleContext(previousLocaleContext);
+        }
+    }
+
+    /**
+     * Applies the bean validation constraints of PatientDto and then the checks of the single patient endpoint.
+     */
+    private List<String> validatePatient(PatientDto patientDto) {
+        List<String> errorMessages = validateConstraints(patientDto);
+        if (errorMessages.isEmpty()) {
+            try {
+                validator.validatePatientDto(patientDto);
+            } catch (PatientException patientException) {
+                errorMessages.add(patientException.getMessage());
+            }
+        }
+        return errorMessages;
+    }
+
+    /**
+     * Applies the bean validation constraints of DoctorDto and then the checks of the single doctor endpoint.
+     */
+    private List<String> validateDoctor(DoctorDto doctorDto) {
+        List<String> errorMessages = validateConstraints(doctorDto);
+        if (errorMessages.isEmpty()) {
+            try {
+                validator.validateDoctor(doctorDto);
+            } catch (DoctorException doctorException) {
+                errorMessages.add(doctorException.getMessage());
+            }
+        }
+        return errorMessages;
+    }
+
+    private List<String> validateConstraints(Object record) {
+        List<String> errorMessages = new ArrayList<>();
+        if (record == null) {
+            errorMessages.add(messageUtil.getMessage(MessageConstants.BULK_RECORD_EMPTY));
+            return errorMessages;
+        }
+        for (ConstraintViolation<Object> constraintViolation : beanValidator.validate(record)) {
+            errorMessages.add(constraintViolation.getMessage());
+        }
+        return errorMessages;
+    }
+}
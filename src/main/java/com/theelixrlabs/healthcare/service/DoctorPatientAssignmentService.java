@@ -2,27 +2,45 @@ package com.theelixrlabs.healthcare.service;
 
 import com.theelixrlabs.healthcare.constants.DoctorPatientAssignmentConstants;
 import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.constants.SingleFlightConstants;
 import com.theelixrlabs.healthcare.dto.DoctorDto;
 import com.theelixrlabs.healthcare.dto.PatientDto;
 import com.theelixrlabs.healthcare.dto.DoctorPatientAssignmentDto;
 import com.theelixrlabs.healthcare.dto.DoctorWithAssignedPatientsDto;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
 import com.theelixrlabs.healthcare.dto.PatientWithAssignedDoctorsDto;
+import com.theelixrlabs.healthcare.exceptionHandler.DataException;
 import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
 import com.theelixrlabs.healthcare.exceptionHandler.DoctorPatientAssignmentException;
 import com.theelixrlabs.healthcare.exceptionHandler.PatientNotFoundException;
 import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.PatientAssignedDoctorsModel;
 import com.theelixrlabs.healthcare.model.PatientModel;
+import com.theelixrlabs.healthcare.repository.AssignmentGraph;
 import com.theelixrlabs.healthcare.repository.DoctorPatientAssignmentRepository;
+import com.theelixrlabs.healthcare.repository.DoctorPatientExistence;
 import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
 import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.repository.PatientAssignedDoctorsRepository;
 import com.theelixrlabs.healthcare.repository.PatientRepository;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import com.theelixrlabs.healthcare.utility.CompositeReadExecutor;
 import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.PageCursorUtil;
+import com.theelixrlabs.healthcare.utility.SingleFlight;
 import com.theelixrlabs.healthcare.validation.Validator;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.ArrayList;
@@ -37,20 +55,37 @@ public class DoctorPatientAssignmentService {
     private final DoctorPatientAssignmentRepository doctorPatientAssignmentRepository;
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
+    private final PatientAssignedDoctorsRepository patientAssignedDoctorsRepository;
+    private final AssignmentGraph assignmentGraph;
     private final MessageUtil messageUtil;
     private final Validator validator;
+    private final CompositeReadExecutor compositeReadExecutor;
+    private final SingleFlight singleFlight;
 
     public DoctorPatientAssignmentService(DoctorPatientAssignmentRepository doctorPatientAssignmentRepository,
-                                          PatientRepository patientRepository, DoctorRepository doctorRepository, MessageUtil messageUtil, Validator validator) {
+                                          PatientRepository patientRepository, DoctorRepository doctorRepository,
+                                          PatientAssignedDoctorsRepository patientAssignedDoctorsRepository, AssignmentGraph assignmentGraph,
+                                          MessageUtil messageUtil, Validator validator, CompositeReadExecutor compositeReadExecutor,
+                                          SingleFlight singleFlight) {
         this.doctorPatientAssignmentRepository = doctorPatientAssignmentRepository;
         this.patientRepository = patientRepository;
         this.doctorRepository = doctorRepository;
+        this.patientAssignedDoctorsRepository = patientAssignedDoctorsRepository;
+        this.assignmentGraph = assignmentGraph;
         this.messageUtil = messageUtil;
         this.validator = validator;
+        this.compositeReadExecutor = compositeReadExecutor;
+        this.singleFlight = singleFlight;
     }
 
     /**
-     * Checks if doctor is previously assigned to same patient and if not then saves the doctorPatientAssignmentDto
+     * Assigns the doctor to the patient unless the doctor is already actively assigned to the same patient.
+     * The assignment is inserted optimistically, an existing active assignment is detected by the unique
+     * active assignment index, which also keeps concurrent requests from creating duplicates.
+     * The doctor is then added to the patient's assigned doctors read model and to the assignment graph.
+     * The read model only merges the doctor while the assignment is still active, so an unassignment that closed it
+     * in the meantime leaves nothing behind. Only one closing it inside that single aggregation can leave a stale
+     * summary, which a rebuild of the read model through the assigneddoctors actuator endpoint drops.
      *
      * @param doctorPatientAssignmentDto    DTO object containing doctorId and patientId
      * @return DoctorPatientAssignmentDto
@@ -61,14 +96,24 @@ public class DoctorPatientAssignmentService {
         UUID patientId = validator.validateAndConvertToUUID(doctorPatientAssignmentDto.getPatientId(),
                 DoctorPatientAssignmentConstants.INVALID_PATIENT_ID_KEY);
         validateDoctorPatientExistence(doctorId, patientId);
-        if (isDoctorAlreadyAssigned(doctorId, patientId)) {
+        DoctorPatientAssignmentDto responseDoctorPatientAssignmentDto;
+        try {
+            responseDoctorPatientAssignmentDto = mapDoctorPatientAssignment(doctorId, patientId);
+        } catch (DuplicateKeyException duplicateKeyException) {
             throw new DoctorPatientAssignmentException(messageUtil.getMessage(DoctorPatientAssignmentConstants.DOCTOR_ALREADY_ASSIGNED_KEY));
         }
-        return mapDoctorPatientAssignment(doctorPatientAssignmentDto);
+        Date dateOfAssignment = responseDoctorPatientAssignmentDto.getDateOfOperation();
+        patientAssignedDoctorsRepository.addAssignedDoctor(doctorId, patientId, dateOfAssignment);
+        assignmentGraph.addAssignment(doctorId, patientId, dateOfAssignment);
+        return responseDoctorPatientAssignmentDto;
     }
 
     /**
-     * checks for doctor patient assignment and if present then unassigns doctor from patient
+     * Unassigns the doctor from the patient by closing their active assignment in one atomic command.
+     * Only when there is no active assignment the reason is looked up, in the order doctor not found,
+     * patient not found, never assigned and already unassigned, the existence and the assignment history are read
+     * concurrently.
+     * A closed assignment removes the doctor from the patient's assigned doctors read model and from the assignment graph.
      *
      * @param doctorPatientAssignmentDto    DTO object containing doctorId and patientId
      */
@@ -77,22 +122,27 @@ public class DoctorPatientAssignmentService {
                 DoctorPatientAssignmentConstants.INVALID_DOCTOR_ID_KEY);
         UUID patientId = validator.validateAndConvertToUUID(doctorPatientAssignmentDto.getPatientId(),
                 DoctorPatientAssignmentConstants.INVALID_PATIENT_ID_KEY);
+        Optional<DoctorPatientAssignmentModel> unassignedDoctorPatientAssignmentModel =
+                doctorPatientAssignmentRepository.unassignActiveAssignment(doctorId, patientId, Date.from(Instant.now()));
+        if (unassignedDoctorPatientAssignmentModel.isPresent()) {
+            Date dateOfAssignment = unassignedDoctorPatientAssignmentModel.get().getDateOfAssignment();
+            patientAssignedDoctorsRepository.removeAssignedDoctor(doctorId, patientId, dateOfAssignment);
+            assignmentGraph.removeAssignment(doctorId, patientId, dateOfAssignment);
+            return;
+        }
+        CompositeReadExecutor.ForkedRead<Boolean> assignmentExists =
+                compositeReadExecutor.fork(() -> doctorPatientAssignmentRepository.existsByDoctorIdAndPatientId(doctorId, patientId));
         validateDoctorPatientExistence(doctorId, patientId);
-        Optional<DoctorPatientAssignmentModel> optionalDoctorPatientAssignmentModel =
-                doctorPatientAssignmentRepository.findByDoctorIdAndPatientIdAndDateOfUnassignmentNull(doctorId, patientId);
-        if (!doctorPatientAssignmentRepository.existsByDoctorIdAndPatientId(doctorId, patientId)) {
+        if (!compositeReadExecutor.join(assignmentExists)) {
             throw new DoctorPatientAssignmentException(messageUtil.getMessage(DoctorPatientAssignmentConstants.NO_ASSIGNMENT_EXISTS_KEY));
         }
-        if (optionalDoctorPatientAssignmentModel.isEmpty()) {
-            throw new DoctorPatientAssignmentException(messageUtil.getMessage(DoctorPatientAssignmentConstants.DOCTOR_ALREADY_UNASSIGNED_KEY));
-        }
-        DoctorPatientAssignmentModel activeDoctorPatientAssignmentModel = optionalDoctorPatientAssignmentModel.get();
-        activeDoctorPatientAssignmentModel.setDateOfUnassignment(Date.from(Instant.now()));
-        doctorPatientAssignmentRepository.save(activeDoctorPatientAssignmentModel);
+        throw new DoctorPatientAssignmentException(messageUtil.getMessage(DoctorPatientAssignmentConstants.DOCTOR_ALREADY_UNASSIGNED_KEY));
     }
 
     /**
      * Retrieves patient details and their assigned doctors based on patient ID.
+     * The response is read from the assigned doctors read model by primary key, the patient is only looked up
+     * to tell an unknown patient from a patient without doctors.
      *
      * @param patientId    The string representation of patient ID.
      * @return PatientWithAssignedDoctorsDto containing patient details and their assigned doctors.
@@ -100,41 +150,87 @@ public class DoctorPatientAssignmentService {
      */
     public PatientWithAssignedDoctorsDto getDoctorsByPatientId(String patientId) throws Exception {
         UUID validPatientId = validator.validateAndConvertToUUID(patientId, MessageConstants.INVALID_UUID);
+        Optional<PatientAssignedDoctorsModel> patientAssignedDoctorsModel = patientAssignedDoctorsRepository.findById(validPatientId);
+        if (patientAssignedDoctorsModel.isPresent() && !patientAssignedDoctorsModel.get().getAssignedDoctors().isEmpty()) {
+            return new PatientWithAssignedDoctorsDto(patientAssignedDoctorsModel.get().getPatient(),
+                    patientAssignedDoctorsModel.get().getAssignedDoctors());
+        }
         if (!patientRepository.existsById(validPatientId)) {
             throw new PatientNotFoundException(messageUtil.getMessage(DoctorPatientAssignmentConstants.PATIENT_ID_NOT_FOUND_KEY));
         }
-        List<PatientWithAssignedDoctorsDto> patientWithAssignedDoctorsDtoList = doctorPatientAssignmentRepository.getDoctorsByPatientId(validPatientId);
-        if (patientWithAssignedDoctorsDtoList.isEmpty()) {
-            throw new DoctorPatientAssignmentException(messageUtil.getMessage(MessageConstants.PATIENT_NOT_ASSIGNED_TO_DOCTORS, new Object[]{validPatientId}));
+        throw new DoctorPatientAssignmentException(messageUtil.getMessage(MessageConstants.PATIENT_NOT_ASSIGNED_TO_DOCTORS, new Object[]{validPatientId}));
+    }
+
+    /**
+     * Retrieves the assigned doctors of a batch of patients, e.g. the care teams of a ward, with a single read of the
+     * assigned doctors read model by primary key. The doctor summaries are embedded in the read model, so no doctor is
+     * looked up, however many patients share a doctor.
+     *
+     * @param patientIds The string representations of the patient IDs, a repeated ID is looked up once.
+     * @return The patients with their assigned doctors keyed by patient ID in request order. Patients that do not exist
+     * or have no assigned doctors have no entry.
+     * @throws Exception if the number of IDs is out of bounds or an ID is not a valid UUID.
+     */
+    public Map<UUID, PatientWithAssignedDoctorsDto> getDoctorsByPatientIds(List<String> patientIds) throws Exception {
+        List<UUID> validPatientIds = validator.validateAndConvertToUUIDs(patientIds, MessageConstants.INVALID_UUID);
+        Map<UUID, PatientAssignedDoctorsModel> patientAssignedDoctorsModelsById = new HashMap<>();
+        for (PatientAssignedDoctorsModel patientAssignedDoctorsModel : patientAssignedDoctorsRepository.findAllById(validPatientIds)) {
+            patientAssignedDoctorsModelsById.put(patientAssignedDoctorsModel.getId(), patientAssignedDoctorsModel);
+        }
+        return patientsWithAssignedDoctors(validPatientIds, patientAssignedDoctorsModelsById);
+    }
+
+    /**
+     * Orders the read model documents of a batched lookup like the requested patient IDs, leaving out the patients
+     * without assigned doctors.
+     */
+    static Map<UUID, PatientWithAssignedDoctorsDto> patientsWithAssignedDoctors(List<UUID> patientIds,
+                                                                                 Map<UUID, PatientAssignedDoctorsModel> patientAssignedDoctorsModelsById) {
+        Map<UUID, PatientWithAssignedDoctorsDto> patientsWithAssignedDoctors = new LinkedHashMap<>();
+        for (UUID patientId : patientIds) {
+            PatientAssignedDoctorsModel patientAssignedDoctorsModel = patientAssignedDoctorsModelsById.get(patientId);
+            if (patientAssignedDoctorsModel != null && !patientAssignedDoctorsModel.getAssignedDoctors().isEmpty()) {
+                patientsWithAssignedDoctors.put(patientId, new PatientWithAssignedDoctorsDto(patientAssignedDoctorsModel.getPatient(),
+                        patientAssignedDoctorsModel.getAssignedDoctors()));
+            }
         }
-        return patientWithAssignedDoctorsDtoList.get(0);
+        return patientsWithAssignedDoctors;
     }
 
     private void validateDoctorPatientExistence(UUID doctorId, UUID patientId) throws Exception {
-        if (!doctorRepository.existsById(doctorId)) {
+        DoctorPatientExistence doctorPatientExistence = doctorPatientAssignmentRepository.findDoctorPatientExistence(doctorId, patientId);
+        if (doctorPatientExistence == DoctorPatientExistence.DOCTOR_NOT_FOUND) {
             throw new DoctorNotFoundException(messageUtil.getMessage(DoctorPatientAssignmentConstants.DOCTOR_NOT_FOUND_KEY));
         }
-        if (!patientRepository.existsById(patientId)) {
+        if (doctorPatientExistence == DoctorPatientExistence.PATIENT_NOT_FOUND) {
             throw new PatientNotFoundException(messageUtil.getMessage(DoctorPatientAssignmentConstants.PATIENT_ID_NOT_FOUND_KEY));
         }
     }
 
-    private boolean isDoctorAlreadyAssigned(UUID doctorId, UUID patientId) {
-        Optional<DoctorPatientAssignmentModel> activeDoctorPatientAssignmentModel = doctorPatientAssignmentRepository
-                .findByDoctorIdAndPatientIdAndDateOfUnassignmentNull(doctorId, patientId);
-        return activeDoctorPatientAssignmentModel.isPresent();
+    /**
+     * Reads a page of the active assignments of a doctor from the assignment graph, or from the database while the
+     * graph is not loaded.
+     */
+    private List<DoctorPatientAssignmentModel> findActiveAssignmentsOfDoctor(UUID doctorId, UUID lastPatientId, int limit) {
+        if (assignmentGraph.isLoaded()) {
+            return assignmentGraph.findActiveAssignmentsOfDoctor(doctorId, lastPatientId, limit);
+        }
+        return lastPatientId == null
+                ? doctorPatientAssignmentRepository.findByDoctorIdAndDateOfUnassignmentNullOrderByPatientIdAsc(doctorId, Limit.of(limit))
+                : doctorPatientAssignmentRepository.findByDoctorIdAndDateOfUnassignmentNullAndPatientIdGreaterThanOrderByPatientIdAsc(
+                doctorId, lastPatientId, Limit.of(limit));
     }
 
-    private DoctorPatientAssignmentDto mapDoctorPatientAssignment(DoctorPatientAssignmentDto doctorPatientAssignmentDTO) {
+    private DoctorPatientAssignmentDto mapDoctorPatientAssignment(UUID doctorId, UUID patientId) {
         DoctorPatientAssignmentDto responseDoctorPatientAssignmentDto;
         DoctorPatientAssignmentModel doctorPatientAssignmentModel = DoctorPatientAssignmentModel.builder()
                 .id(UUID.randomUUID())
-                .doctorId(UUID.fromString(doctorPatientAssignmentDTO.getDoctorId()))
-                .patientId(UUID.fromString(doctorPatientAssignmentDTO.getPatientId()))
+                .doctorId(doctorId)
+                .patientId(patientId)
                 .dateOfAssignment(Date.from(Instant.now()))
                 .dateOfUnassignment(null)
                 .build();
-        doctorPatientAssignmentRepository.save(doctorPatientAssignmentModel);
+        doctorPatientAssignmentRepository.insert(doctorPatientAssignmentModel);
         responseDoctorPatientAssignmentDto = DoctorPatientAssignmentDto.builder()
                 .id(doctorPatientAssignmentModel.getId())
                 .doctorId(doctorPatientAssignmentModel.getDoctorId().toString())
@@ -145,43 +241,101 @@ public class DoctorPatientAssignmentService {
     }
 
     /**
-     * Retrieves the patients assigned to a doctor by the doctor's ID.
+     * Retrieves a page of the patients assigned to a doctor by the doctor's ID, ordered by patient id.
+     * The doctor and the page of assignments are read concurrently, the patients of the page in one query after them,
+     * concurrent requests for the same page share these reads.
      *
      * @param doctorId    The ID of the doctor for whom the patient list is to be retrieved.
-     * @return A DoctorWithPatientsDto object containing the doctor's details and a list of assigned patients.
+     * @param cursor      The cursor returned with the previous page, null for the first page.
+     * @param limit       The maximum number of patients on the page.
+     * @return A page holding a DoctorWithPatientsDto object containing the doctor's details and the assigned patients of the page.
      * @throws Exception    if the doctor ID is invalid, the doctor is not found, or if any patient assigned to the doctor is not found.
      */
-    public DoctorWithAssignedPatientsDto getPatientsByDoctorId(String doctorId) throws Exception {
+    public PageDto<DoctorWithAssignedPatientsDto> getPatientsByDoctorId(String doctorId, String cursor, int limit) throws Exception {
         validator.validateNonEmptyString(doctorId, messageUtil.getMessage(MessageConstants.DOCTOR_ID_CANNOT_BE_EMPTY));
         UUID validatedDoctorId = validator.validateAndConvertToUUID(doctorId, MessageConstants.INVALID_UUID);
-        DoctorModel doctorModel = doctorRepository.findById(validatedDoctorId)
+        validator.validatePageLimit(limit);
+        KeysetCursor keysetCursor = validator.validateAndDecodeCursor(cursor, PaginationConstants.ROSTER_BRANCH);
+        if (keysetCursor != null && keysetCursor.getId() == null) {
+            throw new DataException(messageUtil.getMessage(MessageConstants.INVALID_PAGE_CURSOR));
+        }
+        UUID lastPatientId = keysetCursor == null ? null : keysetCursor.getId();
+        RosterReads rosterReads = singleFlight.execute(SingleFlightConstants.PATIENTS_BY_DOCTOR_ID,
+                new RosterPageKey(validatedDoctorId, lastPatientId, limit), () -> readRoster(validatedDoctorId, lastPatientId, limit));
+        DoctorModel doctorModel = rosterReads.doctorModel()
                 .orElseThrow(() -> new DoctorNotFoundException(messageUtil.getMessage(MessageConstants.DOCTOR_ID_NOT_FOUND)));
-        // Fetch doctorPatientAssignmentsList
-        List<DoctorPatientAssignmentModel> doctorPatientAssignmentsList = doctorPatientAssignmentRepository.findByDoctorIdAndDateOfUnassignmentNull(validatedDoctorId);
-        if (doctorPatientAssignmentsList.isEmpty()) {
+        List<DoctorPatientAssignmentModel> doctorPatientAssignmentsList = rosterReads.doctorPatientAssignments();
+        if (keysetCursor == null && doctorPatientAssignmentsList.isEmpty()) {
             throw new DoctorNotFoundException(messageUtil.getMessage(DoctorPatientAssignmentConstants.NO_ASSIGNMENT_EXISTS_KEY));
         }
+        String nextCursor = null;
+        if (doctorPatientAssignmentsList.size() > limit) {
+            doctorPatientAssignmentsList = doctorPatientAssignmentsList.subList(0, limit);
+            nextCursor = PageCursorUtil.encode(new KeysetCursor(PaginationConstants.ROSTER_BRANCH,
+                    doctorPatientAssignmentsList.get(limit - 1).getPatientId(), null));
+        }
         DoctorDto doctorDto = DoctorDto.builder()
                 .id(doctorModel.getId())
                 .firstName(doctorModel.getFirstName())
                 .lastName(doctorModel.getLastName())
                 .department(doctorModel.getDepartment())
-                .aadhaarNumber(doctorModel.getAadhaarNumber())
+                .aadhaarNumber(AadhaarUtil.format(doctorModel.getAadhaarNumber()))
                 .build();
         // Extract patients with dateOfAssignment
-        List<PatientDto> patientsList = new ArrayList<>();
+        List<PatientDto> patientsList = new ArrayList<>(doctorPatientAssignmentsList.size());
         for (DoctorPatientAssignmentModel doctorPatientAssignment : doctorPatientAssignmentsList) {
-            PatientModel patientModel = patientRepository.findById(doctorPatientAssignment.getPatientId())
-                    .orElseThrow(() -> new PatientNotFoundException(messageUtil.getMessage(DoctorPatientAssignmentConstants.PATIENT_ID_NOT_FOUND_KEY)));
+            PatientModel patientModel = rosterReads.assignedPatientsById().get(doctorPatientAssignment.getPatientId());
+            if (patientModel == null) {
+                throw new PatientNotFoundException(messageUtil.getMessage(DoctorPatientAssignmentConstants.PATIENT_ID_NOT_FOUND_KEY));
+            }
             PatientDto patientDto = PatientDto.builder()
                     .id(patientModel.getId())
                     .patientFirstName(patientModel.getPatientFirstName())
                     .patientLastName(patientModel.getPatientLastName())
-                    .patientAadhaarNumber(patientModel.getPatientAadhaarNumber())
+                    .patientAadhaarNumber(AadhaarUtil.format(patientModel.getPatientAadhaarNumber()))
                     .dateOfAdmission(doctorPatientAssignment.getDateOfAssignment()) //used the dateOfAssignment from the doctorPatientAssignmentsList.
                     .build();
             patientsList.add(patientDto);
         }
-        return new DoctorWithAssignedPatientsDto(doctorDto, patientsList);
+        return new PageDto<>(new DoctorWithAssignedPatientsDto(doctorDto, patientsList), nextCursor);
+    }
+
+    /**
+     * Runs the database reads of a roster page: the doctor and one assignment more than the limit concurrently, then
+     * the patients of the page in a single query instead of one lookup per assignment.
+     * The result holds no messages, so when it is shared by coalesced requests each of them reports a missing doctor
+     * or patient in its own locale.
+     */
+    private RosterReads readRoster(UUID doctorId, UUID lastPatientId, int limit) throws Exception {
+        CompositeReadExecutor.ForkedRead<Optional<DoctorModel>> doctorRead = compositeReadExecutor.fork(() -> doctorRepository.findById(doctorId));
+        // Fetch one extra assignment to know whether another page follows
+        List<DoctorPatientAssignmentModel> doctorPatientAssignmentsList = findActiveAssignmentsOfDoctor(doctorId, lastPatientId, limit + 1);
+        Optional<DoctorModel> doctorModel = compositeReadExecutor.join(doctorRead);
+        if (doctorModel.isEmpty() || doctorPatientAssignmentsList.isEmpty()) {
+            return new RosterReads(doctorModel, doctorPatientAssignmentsList, Map.of());
+        }
+        int pageSize = Math.min(limit, doctorPatientAssignmentsList.size());
+        List<UUID> assignedPatientIds = new ArrayList<>(pageSize);
+        for (DoctorPatientAssignmentModel doctorPatientAssignment : doctorPatientAssignmentsList.subList(0, pageSize)) {
+            assignedPatientIds.add(doctorPatientAssignment.getPatientId());
+        }
+        Map<UUID, PatientModel> assignedPatientsById = new HashMap<>();
+        for (PatientModel patientModel : patientRepository.findAllById(assignedPatientIds)) {
+            assignedPatientsById.put(patientModel.getId(), patientModel);
+        }
+        return new RosterReads(doctorModel, doctorPatientAssignmentsList, assignedPatientsById);
+    }
+
+    /**
+     * Identifies a roster page for the coalescing of identical concurrent requests.
+     */
+    private record RosterPageKey(UUID doctorId, UUID lastPatientId, int limit) {
+    }
+
+    /**
+     * What the database returned for a roster page.
+     */
+    private record RosterReads(Optional<DoctorModel> doctorModel, List<DoctorPatientAssignmentModel> doctorPatientAssignments,
+                               Map<UUID, PatientModel> assignedPatientsById) {
     }
 }
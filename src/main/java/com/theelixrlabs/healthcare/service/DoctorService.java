@@ -1,17 +1,29 @@
 package com.theelixrlabs.healthcare.service;
 
+import com.theelixrlabs.healthcare.constants.CacheConstants;
 import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.constants.SingleFlightConstants;
+import com.theelixrlabs.healthcare.dto.BatchLookupResultDto;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
 import com.theelixrlabs.healthcare.exceptionHandler.DoctorException;
 import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
+import com.theelixrlabs.healthcare.repository.AssignmentGraph;
 import com.theelixrlabs.healthcare.repository.DoctorPatientAssignmentRepository;
 import com.theelixrlabs.healthcare.model.DoctorModel;
 import com.theelixrlabs.healthcare.repository.DoctorRepository;
 import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import com.theelixrlabs.healthcare.utility.CachedBatchLookup;
+import com.theelixrlabs.healthcare.utility.CompositeReadExecutor;
 import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.NameSearchUtil;
+import com.theelixrlabs.healthcare.utility.SingleFlight;
 import com.theelixrlabs.healthcare.validation.Validator;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ArrayList;
 import java.util.UUID;
@@ -24,23 +36,36 @@ public class DoctorService {
 
     private final DoctorRepository doctorRepository;
     private final DoctorPatientAssignmentRepository doctorPatientAssignmentRepository;
+    private final AssignmentGraph assignmentGraph;
     private final MessageUtil messageUtil;
     private final Validator validator;
+    private final CompositeReadExecutor compositeReadExecutor;
+    private final SingleFlight singleFlight;
+    private final CachedBatchLookup cachedBatchLookup;
 
-    public DoctorService(DoctorRepository doctorRepository, DoctorPatientAssignmentRepository doctorPatientAssignmentRepository, MessageUtil messageUtil, Validator validator) {
+    public DoctorService(DoctorRepository doctorRepository, DoctorPatientAssignmentRepository doctorPatientAssignmentRepository,
+                         AssignmentGraph assignmentGraph, MessageUtil messageUtil, Validator validator,
+                         CompositeReadExecutor compositeReadExecutor, SingleFlight singleFlight, CachedBatchLookup cachedBatchLookup) {
         this.doctorRepository = doctorRepository;
         this.doctorPatientAssignmentRepository = doctorPatientAssignmentRepository;
+        this.assignmentGraph = assignmentGraph;
         this.messageUtil = messageUtil;
         this.validator = validator;
+        this.compositeReadExecutor = compositeReadExecutor;
+        this.singleFlight = singleFlight;
+        this.cachedBatchLookup = cachedBatchLookup;
     }
 
     /**
-     * Checks if a doctor is assigned to any patients.
+     * Checks if a doctor is assigned to any patients, in memory once the assignment graph is loaded.
      *
      * @param validDoctorId The unique identifier of the doctor to check.
      * @return true if the doctor is assigned to at least one patient, false otherwise.
      */
     private boolean isDoctorAssignedToPatient(UUID validDoctorId) {
+        if (assignmentGraph.isLoaded()) {
+            return assignmentGraph.hasActivePatients(validDoctorId);
+        }
         return doctorPatientAssignmentRepository.existsByDoctorIdAndDateOfUnassignmentNull(validDoctorId);
     }
 
@@ -52,34 +77,70 @@ public class DoctorService {
      */
     public DoctorDto saveDoctor(DoctorDto doctorDto) throws Exception {
         validator.validateDoctor(doctorDto);
-        String aadhaarNumber = doctorDto.getAadhaarNumber();
-        String formattedAadhaarNumber = aadhaarNumber.substring(0, 4) + StringUtils.SPACE + aadhaarNumber.substring(4, 8) + StringUtils.SPACE + aadhaarNumber.substring(8, 12);
-        if (doctorRepository.findByAadhaarNumber(formattedAadhaarNumber).isPresent()) {
+        Long aadhaarKey = AadhaarUtil.toKey(doctorDto.getAadhaarNumber());
+        if (doctorRepository.findByAadhaarNumber(aadhaarKey).isPresent()) {
             throw new DoctorException(messageUtil.getMessage(MessageConstants.DOCTOR_AADHAAR_ALREADY_PRESENT));
         }
         UUID uuid = UUID.randomUUID();
-        DoctorModel doctorModel = DoctorModel.builder().id(uuid).firstName(doctorDto.getFirstName()).lastName(doctorDto.getLastName()).department(doctorDto.getDepartment()).aadhaarNumber(formattedAadhaarNumber).build();
+        DoctorModel doctorModel = DoctorModel.builder().id(uuid).firstName(doctorDto.getFirstName()).lastName(doctorDto.getLastName())
+                .normalizedFirstName(NameSearchUtil.normalize(doctorDto.getFirstName())).normalizedLastName(NameSearchUtil.normalize(doctorDto.getLastName()))
+                .department(doctorDto.getDepartment()).aadhaarNumber(aadhaarKey).build();
         doctorRepository.save(doctorModel);
-        DoctorDto savedDoctorDto = DoctorDto.builder().id(doctorModel.getId()).firstName(doctorModel.getFirstName()).lastName(doctorModel.getLastName()).department(doctorModel.getDepartment()).aadhaarNumber(doctorModel.getAadhaarNumber()).build();
+        DoctorDto savedDoctorDto = DoctorDto.builder().id(doctorModel.getId()).firstName(doctorModel.getFirstName()).lastName(doctorModel.getLastName()).department(doctorModel.getDepartment()).aadhaarNumber(AadhaarUtil.format(doctorModel.getAadhaarNumber())).build();
         return savedDoctorDto;
     }
 
     /**
+     * A cached doctor is served from the doctors cache, concurrent requests for the same uncached doctor share one
+     * lookup.
+     *
      * @param doctorId UUID of doctor in String format.
      * @return DoctorDto object containing doctor information.
      */
     public DoctorDto getDoctorById(String doctorId) throws Exception {
         UUID validDoctorId = validator.validateAndConvertToUUID(doctorId, MessageConstants.INVALID_UUID);
-        Optional<DoctorModel> doctorModelOptional = doctorRepository.findById(validDoctorId);
+        DoctorModel cachedDoctorModel = cachedBatchLookup.findCachedById(CacheConstants.DOCTORS_CACHE, DoctorModel.class, validDoctorId);
+        Optional<DoctorModel> doctorModelOptional = cachedDoctorModel != null ? Optional.of(cachedDoctorModel)
+                : singleFlight.execute(SingleFlightConstants.DOCTOR_BY_ID, validDoctorId, () -> doctorRepository.findById(validDoctorId));
         if (doctorModelOptional.isEmpty()) {
             throw new DoctorNotFoundException(messageUtil.getMessage(MessageConstants.DOCTOR_ID_NOT_FOUND));
         }
         DoctorModel doctorModel = doctorModelOptional.get();
-        return DoctorDto.builder().id(doctorModel.getId()).firstName(doctorModel.getFirstName()).lastName(doctorModel.getLastName()).department(doctorModel.getDepartment()).aadhaarNumber(doctorModel.getAadhaarNumber()).build();
+        return DoctorDto.builder().id(doctorModel.getId()).firstName(doctorModel.getFirstName()).lastName(doctorModel.getLastName()).department(doctorModel.getDepartment()).aadhaarNumber(AadhaarUtil.format(doctorModel.getAadhaarNumber())).build();
+    }
+
+    /**
+     * Looks up a batch of doctors by id, the doctors missing from the doctors cache with a single query.
+     *
+     * @param doctorIds UUIDs of the doctors in String format, a repeated id is looked up once.
+     * @return The found doctors in request order and the ids of the doctors that do not exist.
+     */
+    public BatchLookupResultDto<DoctorDto> getDoctorsByIds(List<String> doctorIds) throws Exception {
+        List<UUID> validDoctorIds = validator.validateAndConvertToUUIDs(doctorIds, MessageConstants.INVALID_UUID);
+        Map<UUID, DoctorModel> doctorModelsById = cachedBatchLookup.findAllById(CacheConstants.DOCTORS_CACHE, DoctorModel.class,
+                validDoctorIds, doctorRepository::findAllById, DoctorModel::getId);
+        List<DoctorDto> doctorDtoList = new ArrayList<>(doctorModelsById.size());
+        List<String> notFoundIds = new ArrayList<>(validDoctorIds.size() - doctorModelsById.size());
+        for (UUID validDoctorId : validDoctorIds) {
+            DoctorModel doctorModel = doctorModelsById.get(validDoctorId);
+            if (doctorModel == null) {
+                notFoundIds.add(validDoctorId.toString());
+                continue;
+            }
+            doctorDtoList.add(DoctorDto.builder()
+                    .id(doctorModel.getId())
+                    .firstName(doctorModel.getFirstName())
+                    .lastName(doctorModel.getLastName())
+                    .department(doctorModel.getDepartment())
+                    .aadhaarNumber(AadhaarUtil.format(doctorModel.getAadhaarNumber()))
+                    .build());
+        }
+        return new BatchLookupResultDto<>(doctorDtoList, notFoundIds);
     }
 
     /**
      * Deletes a doctor by their id.
+     * The existence and the assignment check are independent reads and run concurrently.
      *
      * @param doctorId The string representation of the doctor's UUID.
      * @return A success message upon successful deletion.
@@ -87,12 +148,15 @@ public class DoctorService {
     public String deleteDoctorById(String doctorId) throws Exception {
         UUID validDoctorId = validator.validateAndConvertToUUID(doctorId, MessageConstants.INVALID_UUID);
 
+        CompositeReadExecutor.ForkedRead<Boolean> doctorExists = compositeReadExecutor.fork(() -> doctorRepository.existsById(validDoctorId));
+        boolean doctorAssignedToPatient = isDoctorAssignedToPatient(validDoctorId);
+
         // Check if a doctor with the validDoctorId exists in the repository.
-        if (!doctorRepository.existsById(validDoctorId))
+        if (!compositeReadExecutor.join(doctorExists))
             throw new DoctorNotFoundException(messageUtil.getMessage(MessageConstants.DOCTOR_ID_NOT_FOUND));
 
         // Check if the doctor is assigned to any patients before deletion.
-        if (isDoctorAssignedToPatient(validDoctorId)) {
+        if (doctorAssignedToPatient) {
             throw new DoctorException(messageUtil.getMessage(MessageConstants.DOCTOR_DELETION_FAILED_ASSIGNED_TO_PATIENT));
         }
 
@@ -102,28 +166,36 @@ public class DoctorService {
     }
 
     /**
-     * Searches for doctors by their name and returns a list of DoctorDto objects.
+     * Searches for doctors by their name and returns one page of DoctorDto objects.
+     * Doctors matching on the first name come first, followed by the doctors matching only on the last name.
      *
      * @param doctorName doctorName the name of the doctor to search for
-     * @return a list of DoctorDto objects representing the matching doctors
+     * @param cursor     cursor returned with the previous page, null for the first page
+     * @param limit      maximum number of doctors on the page
+     * @return a page of DoctorDto objects representing the matching doctors
      */
-    public List<DoctorDto> getDoctorsByName(String doctorName) throws Exception {
+    public PageDto<List<DoctorDto>> getDoctorsByName(String doctorName, String cursor, int limit) throws Exception {
         validator.validateNonEmptyString(doctorName, messageUtil.getMessage(MessageConstants.DOCTOR_NAME_CANNOT_BE_EMPTY));
-        List<DoctorModel> doctorModelList = doctorRepository.searchByDoctorName(doctorName);
-        if (doctorModelList.isEmpty()) {
+        validator.validatePageLimit(limit);
+        KeysetCursor keysetCursor = validator.validateAndDecodeCursor(cursor,
+                PaginationConstants.FIRST_NAME_BRANCH, PaginationConstants.LAST_NAME_BRANCH);
+        String namePrefix = NameSearchUtil.normalize(doctorName);
+        PageDto<List<DoctorModel>> doctorModelPage = doctorRepository.searchByDoctorName(namePrefix,
+                NameSearchUtil.prefixUpperBound(namePrefix), keysetCursor, limit);
+        if (keysetCursor == null && doctorModelPage.getContent().isEmpty()) {
             throw new DoctorNotFoundException(messageUtil.getMessage(MessageConstants.DOCTOR_NAME_NOT_FOUND));
         }
         List<DoctorDto> doctorDtoList = new ArrayList<>();
-        for (DoctorModel doctorModel : doctorModelList) {
+        for (DoctorModel doctorModel : doctorModelPage.getContent()) {
             DoctorDto doctorDto = DoctorDto.builder()
                     .id(doctorModel.getId())
                     .firstName(doctorModel.getFirstName())
                     .lastName(doctorModel.getLastName())
                     .department(doctorModel.getDepartment())
-                    .aadhaarNumber(doctorModel.getAadhaarNumber())
+                    .aadhaarNumber(AadhaarUtil.format(doctorModel.getAadhaarNumber()))
                     .build();
             doctorDtoList.add(doctorDto);
         }
-        return doctorDtoList;
+        return new PageDto<>(doctorDtoList, doctorModelPage.getNextCursor());
     }
 }
@@ -1,15 +1,23 @@
 package com.theelixrlabs.healthcare.service;
 
+import com.theelixrlabs.healthcare.constants.DoctorConstants;
 import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.constants.MigrationConstants;
 import com.theelixrlabs.healthcare.dto.DoctorDto;
 import com.theelixrlabs.healthcare.exceptionHandler.DoctorException;
 import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
 import com.theelixrlabs.healthcare.model.DoctorModel;
 import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.repository.PatientAssignedDoctorsRepository;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
 import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.NameSearchUtil;
 import com.theelixrlabs.healthcare.utility.PatchUtil;
 import com.theelixrlabs.healthcare.validation.Validator;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,12 +28,15 @@ import java.util.UUID;
 public class PatchDoctorService {
 
     private final DoctorRepository doctorRepository;
+    private final PatientAssignedDoctorsRepository patientAssignedDoctorsRepository;
     private final Validator validator;
     private final MessageUtil messageUtil;
     private final PatchUtil patchUtil;
 
-    public PatchDoctorService(DoctorRepository doctorRepository, Validator validator, MessageUtil messageUtil, PatchUtil patchUtil) {
+    public PatchDoctorService(DoctorRepository doctorRepository, PatientAssignedDoctorsRepository patientAssignedDoctorsRepository,
+                              Validator validator, MessageUtil messageUtil, PatchUtil patchUtil) {
         this.doctorRepository = doctorRepository;
+        this.patientAssignedDoctorsRepository = patientAssignedDoctorsRepository;
         this.validator = validator;
         this.messageUtil = messageUtil;
         this.patchUtil = patchUtil;
@@ -33,6 +44,9 @@ public class PatchDoctorService {
 
     /**
      * Replace existing doctor details based on request.
+     * Only the non-blank fields of the request are written, with a single $set that returns the updated doctor.
+     * The new details are copied into the assigned doctors read model.
+     * Aadhaar uniqueness is enforced by the unique Aadhaar number index.
      *
      * @param doctorId  Doctor unique UUID as a String
      * @param doctorDto Data transfer object containing doctor information.
@@ -41,35 +55,40 @@ public class PatchDoctorService {
     public DoctorDto patchDoctorById(String doctorId, DoctorDto doctorDto) throws Exception {
         UUID validDoctorId = validator.validateAndConvertToUUID(doctorId, MessageConstants.INVALID_UUID);
         validator.validateDoctor(doctorDto);
-        Optional<DoctorModel> optionalDoctor = doctorRepository.findById(validDoctorId);
-        if (optionalDoctor.isEmpty()) {
-            throw new DoctorNotFoundException(messageUtil.getMessage(MessageConstants.DOCTOR_ID_NOT_FOUND));
+        Map<String, Object> changedFields = new LinkedHashMap<>();
+        if (patchUtil.hasValueForUpdate(doctorDto.getAadhaarNumber())) {
+            changedFields.put(DoctorConstants.AADHAAR_NUMBER_FIELD, AadhaarUtil.toKey(doctorDto.getAadhaarNumber()));
+        }
+        if (patchUtil.hasValueForUpdate(doctorDto.getFirstName())) {
+            changedFields.put(MigrationConstants.DOCTOR_FIRST_NAME_FIELD, doctorDto.getFirstName());
+            changedFields.put(MigrationConstants.DOCTOR_NORMALIZED_FIRST_NAME_FIELD, NameSearchUtil.normalize(doctorDto.getFirstName()));
         }
-        DoctorModel existingDoctor = optionalDoctor.get();
-        if (patchUtil.hasValueForUpdate(doctorDto.getAadhaarNumber(), existingDoctor.getAadhaarNumber())) {
-            String aadhaarNumber = doctorDto.getAadhaarNumber();
-            String formattedAadhaarNumber = patchUtil.formatAadhaarNumber(aadhaarNumber);
-            if (doctorRepository.findByAadhaarNumber(formattedAadhaarNumber).isPresent()) {
-                throw new DoctorException(messageUtil.getMessage(MessageConstants.DOCTOR_AADHAAR_ALREADY_PRESENT));
-            }
-            existingDoctor.setAadhaarNumber(formattedAadhaarNumber);
+        if (patchUtil.hasValueForUpdate(doctorDto.getLastName())) {
+            changedFields.put(MigrationConstants.DOCTOR_LAST_NAME_FIELD, doctorDto.getLastName());
+            changedFields.put(MigrationConstants.DOCTOR_NORMALIZED_LAST_NAME_FIELD, NameSearchUtil.normalize(doctorDto.getLastName()));
         }
-        if (patchUtil.hasValueForUpdate(doctorDto.getFirstName(), existingDoctor.getFirstName())) {
-            existingDoctor.setFirstName(doctorDto.getFirstName());
+        if (patchUtil.hasValueForUpdate(doctorDto.getDepartment())) {
+            changedFields.put(DoctorConstants.DEPARTMENT_FIELD, doctorDto.getDepartment());
         }
-        if (patchUtil.hasValueForUpdate(doctorDto.getLastName(), existingDoctor.getLastName())) {
-            existingDoctor.setLastName(doctorDto.getLastName());
+        Optional<DoctorModel> optionalDoctor;
+        try {
+            optionalDoctor = doctorRepository.patchDoctor(validDoctorId, changedFields);
+        } catch (DuplicateKeyException duplicateKeyException) {
+            throw new DoctorException(messageUtil.getMessage(MessageConstants.DOCTOR_AADHAAR_ALREADY_PRESENT));
+        }
+        if (optionalDoctor.isEmpty()) {
+            throw new DoctorNotFoundException(messageUtil.getMessage(MessageConstants.DOCTOR_ID_NOT_FOUND));
         }
-        if (patchUtil.hasValueForUpdate(doctorDto.getDepartment(), existingDoctor.getDepartment())) {
-            existingDoctor.setDepartment(doctorDto.getDepartment());
+        DoctorModel patchedDoctor = optionalDoctor.get();
+        if (!changedFields.isEmpty()) {
+            patientAssignedDoctorsRepository.refreshDoctor(patchedDoctor);
         }
-        doctorRepository.save(existingDoctor);
         return DoctorDto.builder()
-                .id(existingDoctor.getId())
-                .firstName(existingDoctor.getFirstName())
-                .lastName(existingDoctor.getLastName())
-                .department(existingDoctor.getDepartment())
-                .aadhaarNumber(existingDoctor.getAadhaarNumber())
+                .id(patchedDoctor.getId())
+                .firstName(patchedDoctor.getFirstName())
+                .lastName(patchedDoctor.getLastName())
+                .department(patchedDoctor.getDepartment())
+                .aadhaarNumber(AadhaarUtil.format(patchedDoctor.getAadhaarNumber()))
                 .build();
     }
 }
@@ -1,38 +1,48 @@
 package com.theelixrlabs.healthcare.service;
 
 import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.constants.MigrationConstants;
 import com.theelixrlabs.healthcare.constants.PatientConstants;
 import com.theelixrlabs.healthcare.dto.PatientDto;
 import com.theelixrlabs.healthcare.exceptionHandler.PatientException;
 import com.theelixrlabs.healthcare.exceptionHandler.PatientNotFoundException;
 import com.theelixrlabs.healthcare.model.PatientModel;
-import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.repository.PatientAssignedDoctorsRepository;
 import com.theelixrlabs.healthcare.repository.PatientRepository;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
 import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.NameSearchUtil;
 import com.theelixrlabs.healthcare.utility.PatchUtil;
 import com.theelixrlabs.healthcare.validation.Validator;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 @Service
 public class PatchPatientService {
     private final PatientRepository patientRepository;
+    private final PatientAssignedDoctorsRepository patientAssignedDoctorsRepository;
     private final Validator validator;
     private final MessageUtil messageUtil;
-    private final DoctorRepository doctorRepository;
     private final PatchUtil patchUtil;
 
-    public PatchPatientService(PatientRepository patientRepository, Validator validator, MessageUtil messageUtil, DoctorRepository doctorRepository, PatchUtil patchUtil) {
+    public PatchPatientService(PatientRepository patientRepository, PatientAssignedDoctorsRepository patientAssignedDoctorsRepository,
+                               Validator validator, MessageUtil messageUtil, PatchUtil patchUtil) {
         this.patientRepository = patientRepository;
+        this.patientAssignedDoctorsRepository = patientAssignedDoctorsRepository;
         this.validator = validator;
         this.messageUtil = messageUtil;
-        this.doctorRepository = doctorRepository;
         this.patchUtil = patchUtil;
     }
 
     /**
      * Replace existing patient details based on request.
+     * Only the non-blank fields of the request are written, with a single $set that returns the updated patient.
+     * The new details are copied into the assigned doctors read model.
+     * Aadhaar uniqueness is enforced by the unique patient Aadhaar number index.
      *
      * @param patientId  Patient unique UUID as a string
      * @param patientDto Data transfer object containing patient information.
@@ -41,31 +51,36 @@ public class PatchPatientService {
     public PatientDto patchPatientById(String patientId, PatientDto patientDto) throws Exception {
         UUID validPatientId = validator.validateAndConvertToUUID(patientId, MessageConstants.INVALID_UUID);
         validator.validatePatchPatient(patientDto);
-        Optional<PatientModel> optionalPatient = patientRepository.findById(validPatientId);
-        if (optionalPatient.isEmpty()) {
-            throw new PatientNotFoundException(messageUtil.getMessage(PatientConstants.PATIENT_NOT_FOUND_KEY));
+        Map<String, Object> changedFields = new LinkedHashMap<>();
+        if (patchUtil.hasValueForUpdate(patientDto.getPatientAadhaarNumber())) {
+            changedFields.put(PatientConstants.PATIENT_AADHAAR_NUMBER_FIELD, AadhaarUtil.toKey(patientDto.getPatientAadhaarNumber()));
+        }
+        if (patchUtil.hasValueForUpdate(patientDto.getPatientFirstName())) {
+            changedFields.put(MigrationConstants.PATIENT_FIRST_NAME_FIELD, patientDto.getPatientFirstName());
+            changedFields.put(MigrationConstants.PATIENT_NORMALIZED_FIRST_NAME_FIELD, NameSearchUtil.normalize(patientDto.getPatientFirstName()));
         }
-        PatientModel existingPatient = optionalPatient.get();
-        if (patchUtil.hasValueForUpdate(patientDto.getPatientAadhaarNumber(), existingPatient.getPatientAadhaarNumber())) {
-            String aadhaarNumber = patientDto.getPatientAadhaarNumber();
-            String formattedAadhaarNumber = patchUtil.formatAadhaarNumber(aadhaarNumber);
-            if (patientRepository.findByPatientAadhaarNumber(formattedAadhaarNumber).isPresent() || doctorRepository.findByAadhaarNumber(formattedAadhaarNumber).isPresent()) {
-                throw new PatientException(messageUtil.getMessage(MessageConstants.PATIENT_AADHAAR_NUMBER_EXISTS));
-            }
-            existingPatient.setPatientAadhaarNumber(formattedAadhaarNumber);
+        if (patchUtil.hasValueForUpdate(patientDto.getPatientLastName())) {
+            changedFields.put(MigrationConstants.PATIENT_LAST_NAME_FIELD, patientDto.getPatientLastName());
+            changedFields.put(MigrationConstants.PATIENT_NORMALIZED_LAST_NAME_FIELD, NameSearchUtil.normalize(patientDto.getPatientLastName()));
         }
-        if (patchUtil.hasValueForUpdate(patientDto.getPatientFirstName(), existingPatient.getPatientFirstName())) {
-            existingPatient.setPatientFirstName(patientDto.getPatientFirstName());
+        Optional<PatientModel> optionalPatient;
+        try {
+            optionalPatient = patientRepository.patchPatient(validPatientId, changedFields);
+        } catch (DuplicateKeyException duplicateKeyException) {
+            throw new PatientException(messageUtil.getMessage(MessageConstants.PATIENT_AADHAAR_NUMBER_EXISTS));
+        }
+        if (optionalPatient.isEmpty()) {
+            throw new PatientNotFoundException(messageUtil.getMessage(PatientConstants.PATIENT_NOT_FOUND_KEY));
         }
-        if (patchUtil.hasValueForUpdate(patientDto.getPatientLastName(), existingPatient.getPatientLastName())) {
-            existingPatient.setPatientLastName(patientDto.getPatientLastName());
+        PatientModel patchedPatient = optionalPatient.get();
+        if (!changedFields.isEmpty()) {
+            patientAssignedDoctorsRepository.refreshPatient(patchedPatient);
         }
-        patientRepository.save(existingPatient);
         return PatientDto.builder()
-                .id(existingPatient.getId())
-                .patientFirstName(existingPatient.getPatientFirstName())
-                .patientLastName(existingPatient.getPatientLastName())
-                .patientAadhaarNumber(existingPatient.getPatientAadhaarNumber())
+                .id(patchedPatient.getId())
+                .patientFirstName(patchedPatient.getPatientFirstName())
+                .patientLastName(patchedPatient.getPatientLastName())
+                .patientAadhaarNumber(AadhaarUtil.format(patchedPatient.getPatientAadhaarNumber()))
                 .build();
     }
 }
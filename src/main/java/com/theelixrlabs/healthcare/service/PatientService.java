@@ -1,19 +1,30 @@
 package com.theelixrlabs.healthcare.service;
 
+import com.theelixrlabs.healthcare.constants.CacheConstants;
 import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
 import com.theelixrlabs.healthcare.constants.PatientConstants;
 import com.theelixrlabs.healthcare.exceptionHandler.PatientException;
 import com.theelixrlabs.healthcare.exceptionHandler.PatientNotFoundException;
+import com.theelixrlabs.healthcare.repository.AssignmentGraph;
 import com.theelixrlabs.healthcare.repository.DoctorPatientAssignmentRepository;
+import com.theelixrlabs.healthcare.dto.BatchLookupResultDto;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
 import com.theelixrlabs.healthcare.dto.PatientDto;
 import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
 import com.theelixrlabs.healthcare.model.PatientModel;
 import com.theelixrlabs.healthcare.repository.PatientRepository;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import com.theelixrlabs.healthcare.utility.CachedBatchLookup;
+import com.theelixrlabs.healthcare.utility.CompositeReadExecutor;
 import com.theelixrlabs.healthcare.validation.Validator;
 import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.NameSearchUtil;
 import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,23 +37,35 @@ public class PatientService {
     private final PatientRepository patientRepository;
     private final MessageUtil messageUtil;
     private final DoctorPatientAssignmentRepository doctorPatientAssignmentRepository;
+    private final AssignmentGraph assignmentGraph;
     private final Validator validator;
+    private final CompositeReadExecutor compositeReadExecutor;
+    private final CachedBatchLookup cachedBatchLookup;
 
     //Constructor injection
-    public PatientService(PatientRepository patientRepository, DoctorPatientAssignmentRepository doctorPatientAssignmentRepository, Validator validator, MessageUtil messageUtil) {
+    public PatientService(PatientRepository patientRepository, DoctorPatientAssignmentRepository doctorPatientAssignmentRepository,
+                          AssignmentGraph assignmentGraph, Validator validator, MessageUtil messageUtil,
+                          CompositeReadExecutor compositeReadExecutor, CachedBatchLookup cachedBatchLookup) {
         this.patientRepository = patientRepository;
         this.doctorPatientAssignmentRepository = doctorPatientAssignmentRepository;
+        this.assignmentGraph = assignmentGraph;
         this.validator = validator;
         this.messageUtil = messageUtil;
+        this.compositeReadExecutor = compositeReadExecutor;
+        this.cachedBatchLookup = cachedBatchLookup;
     }
 
     /**
-     * Checks if a patient is assigned to any doctor based on the given patient ID.
+     * Checks if a patient is assigned to any doctor based on the given patient ID,
+     * in memory once the assignment graph is loaded.
      *
      * @param validPatientId The UUID of the patient to check assignment for.
      * @return true if the patient is assigned to at least one doctor, false otherwise.
      */
     private boolean isPatientAssignedToDoctor(UUID validPatientId) {
+        if (assignmentGraph.isLoaded()) {
+            return assignmentGraph.hasActiveDoctors(validPatientId);
+        }
         Optional<DoctorPatientAssignmentModel> patientAssignmentList = doctorPatientAssignmentRepository.findByPatientIdAndDateOfUnassignmentNull(validPatientId);
         return patientAssignmentList.isPresent();
     }
@@ -58,12 +81,11 @@ public class PatientService {
         //Validate the incoming patientDto
         validator.validatePatientDto(patientDto);
 
-        //Format Aadhaar number
-        String aadhaarNumber = patientDto.getPatientAadhaarNumber();
-        String formattedAadhaarNumber = String.format(PatientConstants.AADHAAR_FORMAT_PATTERN, aadhaarNumber.substring(0, 4), aadhaarNumber.substring(4, 8), aadhaarNumber.substring(8, 12));
+        //Convert Aadhaar number to its stored key
+        Long aadhaarKey = AadhaarUtil.toKey(patientDto.getPatientAadhaarNumber());
 
         //Check if aadhaar number already exists.
-        if (patientRepository.findByPatientAadhaarNumber(formattedAadhaarNumber).isPresent()) {
+        if (patientRepository.findByPatientAadhaarNumber(aadhaarKey).isPresent()) {
             throw new PatientException(messageUtil.getMessage(MessageConstants.PATIENT_AADHAAR_NUMBER_EXISTS));
         }
         //Generate UUID for new Patient
@@ -74,7 +96,9 @@ public class PatientService {
                 .id(uuid)
                 .patientFirstName(patientDto.getPatientFirstName())
                 .patientLastName(patientDto.getPatientLastName())
-                .patientAadhaarNumber(formattedAadhaarNumber)
+                .normalizedPatientFirstName(NameSearchUtil.normalize(patientDto.getPatientFirstName()))
+                .normalizedPatientLastName(NameSearchUtil.normalize(patientDto.getPatientLastName()))
+                .patientAadhaarNumber(aadhaarKey)
                 .build();
 
         //save PatientModel to the database
@@ -85,7 +109,7 @@ public class PatientService {
                 .id(patientModel.getId())
                 .patientFirstName(patientModel.getPatientFirstName())
                 .patientLastName(patientModel.getPatientLastName())
-                .patientAadhaarNumber(patientModel.getPatientAadhaarNumber())
+                .patientAadhaarNumber(AadhaarUtil.format(patientModel.getPatientAadhaarNumber()))
                 .build();
     }
 
@@ -106,21 +130,52 @@ public class PatientService {
                 .id(patientModel.getId())
                 .patientFirstName(patientModel.getPatientFirstName())
                 .patientLastName(patientModel.getPatientLastName())
-                .patientAadhaarNumber(patientModel.getPatientAadhaarNumber())
+                .patientAadhaarNumber(AadhaarUtil.format(patientModel.getPatientAadhaarNumber()))
                 .build();
     }
 
+    /**
+     * Looks up a batch of patients by ID, the patients missing from the patients cache with a single query.
+     *
+     * @param patientIds The IDs of the patients, a repeated ID is looked up once.
+     * @return The found patients in request order and the IDs of the patients that do not exist.
+     */
+    public BatchLookupResultDto<PatientDto> getPatientsByIds(List<String> patientIds) throws Exception {
+        List<UUID> validPatientIds = validator.validateAndConvertToUUIDs(patientIds, PatientConstants.INVALID_UUID_KEY);
+        Map<UUID, PatientModel> patientModelsById = cachedBatchLookup.findAllById(CacheConstants.PATIENTS_CACHE, PatientModel.class,
+                validPatientIds, patientRepository::findAllById, PatientModel::getId);
+        List<PatientDto> patientDtoList = new ArrayList<>(patientModelsById.size());
+        List<String> notFoundIds = new ArrayList<>(validPatientIds.size() - patientModelsById.size());
+        for (UUID validPatientId : validPatientIds) {
+            PatientModel patientModel = patientModelsById.get(validPatientId);
+            if (patientModel == null) {
+                notFoundIds.add(validPatientId.toString());
+                continue;
+            }
+            patientDtoList.add(PatientDto.builder()
+                    .id(patientModel.getId())
+                    .patientFirstName(patientModel.getPatientFirstName())
+                    .patientLastName(patientModel.getPatientLastName())
+                    .patientAadhaarNumber(AadhaarUtil.format(patientModel.getPatientAadhaarNumber()))
+                    .build());
+        }
+        return new BatchLookupResultDto<>(patientDtoList, notFoundIds);
+    }
+
     /**
      * Deletes a patient by their ID, if conditions are met.
+     * The existence and the assignment check are independent reads and run concurrently.
      *
      * @param patientId The ID of the patient to delete.
      * @return A success message upon successful deletion.
      */
     public String deletePatientById(String patientId) throws Exception {
         UUID validPatientId = validator.validateAndConvertToUUID(patientId, PatientConstants.INVALID_UUID_KEY);
-        if (!patientRepository.existsById(validPatientId))
+        CompositeReadExecutor.ForkedRead<Boolean> patientExists = compositeReadExecutor.fork(() -> patientRepository.existsById(validPatientId));
+        boolean patientAssignedToDoctor = isPatientAssignedToDoctor(validPatientId);
+        if (!compositeReadExecutor.join(patientExists))
             throw new PatientNotFoundException(messageUtil.getMessage(PatientConstants.PATIENT_NOT_FOUND_KEY));
-        if (isPatientAssignedToDoctor(validPatientId)) {
+        if (patientAssignedToDoctor) {
             throw new PatientException(messageUtil.getMessage(PatientConstants.PATIENT_DELETION_FAILED_ASSIGNED_TO_DOCTOR));
         }
         patientRepository.deleteById(validPatientId);
@@ -128,28 +183,36 @@ public class PatientService {
     }
 
     /**
-     * Retrieves a list of patients whose first or last name starts with the given name.
+     * Retrieves a page of patients whose first or last name starts with the given name.
+     * Patients matching on the first name come first, followed by the patients matching only on the last name.
      *
      * @param patientName The name to search for. This should be a string representing
      *                    the starting letters of the patient's first or last name.
-     * @return A list of PatientDTO objects representing the matching patients.
+     * @param cursor      The cursor returned with the previous page, null for the first page.
+     * @param limit       The maximum number of patients on the page.
+     * @return A page of PatientDTO objects representing the matching patients.
      */
-    public List<PatientDto> getPatientsByName(String patientName) throws Exception {
+    public PageDto<List<PatientDto>> getPatientsByName(String patientName, String cursor, int limit) throws Exception {
         validator.validateNonEmptyString(patientName, messageUtil.getMessage(MessageConstants.PATIENT_NAME_CANNOT_BE_EMPTY));
-        List<PatientModel> patientModelList = patientRepository.searchByPatientName(patientName);
-        if (patientModelList.isEmpty()) {
+        validator.validatePageLimit(limit);
+        KeysetCursor keysetCursor = validator.validateAndDecodeCursor(cursor,
+                PaginationConstants.FIRST_NAME_BRANCH, PaginationConstants.LAST_NAME_BRANCH);
+        String namePrefix = NameSearchUtil.normalize(patientName);
+        PageDto<List<PatientModel>> patientModelPage = patientRepository.searchByPatientName(namePrefix,
+                NameSearchUtil.prefixUpperBound(namePrefix), keysetCursor, limit);
+        if (keysetCursor == null && patientModelPage.getContent().isEmpty()) {
             throw new PatientNotFoundException(messageUtil.getMessage(MessageConstants.PATIENT_NAME_NOT_FOUND));
         }
         List<PatientDto> patientDtoList = new ArrayList<>();
-        for (PatientModel patientModel : patientModelList) {
+        for (PatientModel patientModel : patientModelPage.getContent()) {
             PatientDto patientDto = PatientDto.builder()
                     .id(patientModel.getId())
                     .patientFirstName(patientModel.getPatientFirstName())
                     .patientLastName(patientModel.getPatientLastName())
-                    .patientAadhaarNumber(patientModel.getPatientAadhaarNumber())
+                    .patientAadhaarNumber(AadhaarUtil.format(patientModel.getPatientAadhaarNumber()))
                     .build();
             patientDtoList.add(patientDto);
         }
-        return patientDtoList;
+        return new PageDto<>(patientDtoList, patientModelPage.getNextCursor());
     }
 }
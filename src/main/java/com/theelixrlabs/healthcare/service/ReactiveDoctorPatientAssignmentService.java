@@ -0,0 +1,217 @@
+package com.theelixrlabs.healthcare.service;
+
+import com.theelixrlabs.healthcare.constants.DoctorPatientAssignmentConstants;
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.DoctorWithAssignedPatientsDto;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.dto.PatientWithAssignedDoctorsDto;
+import com.theelixrlabs.healthcare.exceptionHandler.DataException;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorPatientAssignmentException;
+import com.theelixrlabs.healthcare.exceptionHandler.PatientNotFoundException;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import com.theelixrlabs.healthcare.model.PatientAssignedDoctorsModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import com.theelixrlabs.healthcare.repository.AssignmentGraph;
+import com.theelixrlabs.healthcare.repository.ReactiveDoctorPatientAssignmentRepository;
+import com.theelixrlabs.healthcare.repository.ReactiveDoctorRepository;
+import com.theelixrlabs.healthcare.repository.ReactivePatientAssignedDoctorsRepository;
+import com.theelixrlabs.healthcare.repository.ReactivePatientRepository;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.PageCursorUtil;
+import com.theelixrlabs.healthcare.utility.ReactiveExecutionUtil;
+import com.theelixrlabs.healthcare.validation.Validator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Non-blocking assignment reads of the reactive profile, same results and failures as DoctorPatientAssignmentService.
+ * Assigning and unassigning keep going through DoctorPatientAssignmentService, which maintains the read model and the
+ * assignment graph these reads are served from.
+ */
+@Service
+@Profile(ReactiveConstants.REACTIVE_PROFILE)
+public class ReactiveDoctorPatientAssignmentService {
+
+    private final ReactiveDoctorPatientAssignmentRepository reactiveDoctorPatientAssignmentRepository;
+    private final ReactivePatientRepository reactivePatientRepository;
+    private final ReactiveDoctorRepository reactiveDoctorRepository;
+    private final ReactivePatientAssignedDoctorsRepository reactivePatientAssignedDoctorsRepository;
+    private final AssignmentGraph assignmentGraph;
+    private final MessageUtil messageUtil;
+    private final Validator validator;
+
+    public ReactiveDoctorPatientAssignmentService(ReactiveDoctorPatientAssignmentRepository reactiveDoctorPatientAssignmentRepository,
+                                                  ReactivePatientRepository reactivePatientRepository,
+                                                  ReactiveDoctorRepository reactiveDoctorRepository,
+                                                  ReactivePatientAssignedDoctorsRepository reactivePatientAssignedDoctorsRepository,
+                                                  AssignmentGraph assignmentGraph, MessageUtil messageUtil, Validator validator) {
+        this.reactiveDoctorPatientAssignmentRepository = reactiveDoctorPatientAssignmentRepository;
+        this.reactivePatientRepository = reactivePatientRepository;
+        this.reactiveDoctorRepository = reactiveDoctorRepository;
+        this.reactivePatientAssignedDoctorsRepository = reactivePatientAssignedDoctorsRepository;
+        this.assignmentGraph = assignmentGraph;
+        this.messageUtil = messageUtil;
+        this.validator = validator;
+    }
+
+    /**
+     * Retrieves patient details and their assigned doctors from the assigned doctors read model by primary key.
+     * The patient is only looked up to tell an unknown patient from a patient without doctors.
+     *
+     * @param patientId The string representation of patient ID.
+     * @return Mono emitting the PatientWithAssignedDoctorsDto, failing if the patient is not found or has no doctors.
+     */
+    public Mono<PatientWithAssignedDoctorsDto> getDoctorsByPatientId(String patientId) {
+        return ReactiveExecutionUtil.inRequestLocale(() -> validator.validateAndConvertToUUID(patientId, MessageConstants.INVALID_UUID))
+                .flatMap(validPatientId -> reactivePatientAssignedDoctorsRepository.findById(validPatientId)
+                        .filter(patientAssignedDoctorsModel -> !patientAssignedDoctorsModel.getAssignedDoctors().isEmpty())
+                        .map(patientAssignedDoctorsModel -> new PatientWithAssignedDoctorsDto(patientAssignedDoctorsModel.getPatient(),
+                                patientAssignedDoctorsModel.getAssignedDoctors()))
+                        .switchIfEmpty(reactivePatientRepository.existsById(validPatientId)
+                                .flatMap(patientExists -> ReactiveExecutionUtil.<PatientWithAssignedDoctorsDto>error(() -> patientExists
+                                        ? new DoctorPatientAssignmentException(messageUtil.getMessage(
+                                        MessageConstants.PATIENT_NOT_ASSIGNED_TO_DOCTORS, new Object[]{validPatientId}))
+                                        : new PatientNotFoundException(messageUtil.getMessage(
+                                        DoctorPatientAssignmentConstants.PATIENT_ID_NOT_FOUND_KEY))))));
+    }
+
+    /**
+     * Retrieves the assigned doctors of a batch of patients with a single read of the assigned doctors read model by
+     * primary key, same result as DoctorPatientAssignmentService.getDoctorsByPatientIds.
+     *
+     * @param patientIds The string representations of the patient IDs, a repeated ID is looked up once.
+     * @return Mono emitting the patients with their assigned doctors keyed by patient ID in request order, without the
+     * patients that do not exist or have no assigned doctors.
+     */
+    public Mono<Map<UUID, PatientWithAssignedDoctorsDto>> getDoctorsByPatientIds(List<String> patientIds) {
+        return ReactiveExecutionUtil.inRequestLocale(() -> validator.validateAndConvertToUUIDs(patientIds, MessageConstants.INVALID_UUID))
+                .flatMap(validPatientIds -> reactivePatientAssignedDoctorsRepository.findAllById(validPatientIds)
+                        .collectMap(PatientAssignedDoctorsModel::getId)
+                        .map(patientAssignedDoctorsModelsById -> DoctorPatientAssignmentService.patientsWithAssignedDoctors(
+                                validPatientIds, patientAssignedDoctorsModelsById)));
+    }
+
+    /**
+     * Retrieves a page of the patients assigned to a doctor by the doctor's ID, ordered by patient id.
+     *
+     * @param doctorId The ID of the doctor for whom the patient list is to be retrieved.
+     * @param cursor   The cursor returned with the previous page, null for the first page.
+     * @param limit    The maximum number of patients on the page.
+     * @return Mono emitting a page holding the doctor's details and the assigned patients of the page.
+     */
+    public Mono<PageDto<DoctorWithAssignedPatientsDto>> getPatientsByDoctorId(String doctorId, String cursor, int limit) {
+        return ReactiveExecutionUtil.inRequestLocale(() -> {
+                    validator.validateNonEmptyString(doctorId, messageUtil.getMessage(MessageConstants.DOCTOR_ID_CANNOT_BE_EMPTY));
+                    UUID validatedDoctorId = validator.validateAndConvertToUUID(doctorId, MessageConstants.INVALID_UUID);
+                    validator.validatePageLimit(limit);
+                    KeysetCursor keysetCursor = validator.validateAndDecodeCursor(cursor, PaginationConstants.ROSTER_BRANCH);
+                    if (keysetCursor != null && keysetCursor.getId() == null) {
+                        throw new DataException(messageUtil.getMessage(MessageConstants.INVALID_PAGE_CURSOR));
+                    }
+                    return new RosterPageRequest(validatedDoctorId, keysetCursor == null ? null : keysetCursor.getId());
+                })
+                // The doctor and the page of assignments are read concurrently
+                .flatMap(rosterPageRequest -> Mono.zip(reactiveDoctorRepository.findById(rosterPageRequest.doctorId())
+                                        .switchIfEmpty(ReactiveExecutionUtil.error(() ->
+                                                new DoctorNotFoundException(messageUtil.getMessage(MessageConstants.DOCTOR_ID_NOT_FOUND)))),
+                                // Fetch one extra assignment to know whether another page follows
+                                findActiveAssignmentsOfDoctor(rosterPageRequest.doctorId(), rosterPageRequest.lastPatientId(), limit + 1)
+                                        .collectList())
+                        .flatMap(doctorWithAssignments -> toRosterPage(doctorWithAssignments.getT1(), doctorWithAssignments.getT2(),
+                                rosterPageRequest.lastPatientId() == null, limit)));
+    }
+
+    /**
+     * Reads a page of the active assignments of a doctor from the assignment graph, or from the database while the
+     * graph is not loaded.
+     */
+    private Flux<DoctorPatientAssignmentModel> findActiveAssignmentsOfDoctor(UUID doctorId, UUID lastPatientId, int limit) {
+        if (assignmentGraph.isLoaded()) {
+            return Flux.fromIterable(assignmentGraph.findActiveAssignmentsOfDoctor(doctorId, lastPatientId, limit));
+        }
+        return lastPatientId == null
+                ? reactiveDoctorPatientAssignmentRepository.findByDoctorIdAndDateOfUnassignmentNullOrderByPatientIdAsc(doctorId, Limit.of(limit))
+                : reactiveDoctorPatientAssignmentRepository.findByDoctorIdAndDateOfUnassignmentNullAndPatientIdGreaterThanOrderByPatientIdAsc(
+                doctorId, lastPatientId, Limit.of(limit));
+    }
+
+    private Mono<PageDto<DoctorWithAssignedPatientsDto>> toRosterPage(DoctorModel doctorModel,
+                                                                      List<DoctorPatientAssignmentModel> doctorPatientAssignmentsList,
+                                                                      boolean firstPage, int limit) {
+        if (firstPage && doctorPatientAssignmentsList.isEmpty()) {
+            return ReactiveExecutionUtil.error(() ->
+                    new DoctorNotFoundException(messageUtil.getMessage(DoctorPatientAssignmentConstants.NO_ASSIGNMENT_EXISTS_KEY)));
+        }
+        String nextCursor = null;
+        List<DoctorPatientAssignmentModel> pageAssignments = doctorPatientAssignmentsList;
+        if (pageAssignments.size() > limit) {
+            pageAssignments = pageAssignments.subList(0, limit);
+            nextCursor = PageCursorUtil.encode(new KeysetCursor(PaginationConstants.ROSTER_BRANCH,
+                    pageAssignments.get(limit - 1).getPatientId(), null));
+        }
+        DoctorDto doctorDto = DoctorDto.builder()
+                .id(doctorModel.getId())
+                .firstName(doctorModel.getFirstName())
+                .lastName(doctorModel.getLastName())
+                .department(doctorModel.getDepartment())
+                .aadhaarNumber(AadhaarUtil.format(doctorModel.getAadhaarNumber()))
+                .build();
+        List<UUID> assignedPatientIds = new ArrayList<>(pageAssignments.size());
+        for (DoctorPatientAssignmentModel doctorPatientAssignment : pageAssignments) {
+            assignedPatientIds.add(doctorPatientAssignment.getPatientId());
+        }
+        List<DoctorPatientAssignmentModel> assignments = pageAssignments;
+        String pageCursor = nextCursor;
+        // Fetch all assigned patients in a single query instead of one lookup per assignment
+        return reactivePatientRepository.findAllById(assignedPatientIds)
+                .collectMap(PatientModel::getId)
+                .flatMap(assignedPatientsById -> {
+                    List<PatientDto> patientsList = toAssignedPatients(assignments, assignedPatientsById);
+                    if (patientsList == null) {
+                        return ReactiveExecutionUtil.<PageDto<DoctorWithAssignedPatientsDto>>error(() ->
+                                new PatientNotFoundException(messageUtil.getMessage(DoctorPatientAssignmentConstants.PATIENT_ID_NOT_FOUND_KEY)));
+                    }
+                    return Mono.just(new PageDto<>(new DoctorWithAssignedPatientsDto(doctorDto, patientsList), pageCursor));
+                });
+    }
+
+    /**
+     * @return the assigned patients with their date of assignment, null if a patient of the page no longer exists.
+     */
+    private List<PatientDto> toAssignedPatients(List<DoctorPatientAssignmentModel> doctorPatientAssignmentsList,
+                                                Map<UUID, PatientModel> assignedPatientsById) {
+        List<PatientDto> patientsList = new ArrayList<>(doctorPatientAssignmentsList.size());
+        for (DoctorPatientAssignmentModel doctorPatientAssignment : doctorPatientAssignmentsList) {
+            PatientModel patientModel = assignedPatientsById.get(doctorPatientAssignment.getPatientId());
+            if (patientModel == null) {
+                return null;
+            }
+            patientsList.add(PatientDto.builder()
+                    .id(patientModel.getId())
+                    .patientFirstName(patientModel.getPatientFirstName())
+                    .patientLastName(patientModel.getPatientLastName())
+                    .patientAadhaarNumber(AadhaarUtil.format(patientModel.getPatientAadhaarNumber()))
+                    .dateOfAdmission(doctorPatientAssignment.getDateOfAssignment())
+                    .build());
+        }
+        return patientsList;
+    }
+
+    private record RosterPageRequest(UUID doctorId, UUID lastPatientId) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.theelixrlabs.healthcare.service;
+
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
+import com.theelixrlabs.healthcare.repository.ReactiveDoctorRepository;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.ReactiveExecutionUtil;
+import com.theelixrlabs.healthcare.validation.Validator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking doctor reads of the reactive profile, same results and failures as DoctorService.
+ */
+@Service
+@Profile(ReactiveConstants.REACTIVE_PROFILE)
+public class ReactiveDoctorService {
+
+    private final ReactiveDoctorRepository reactiveDoctorRepository;
+    private final MessageUtil messageUtil;
+    private final Validator validator;
+
+    public ReactiveDoctorService(ReactiveDoctorRepository reactiveDoctorRepository, MessageUtil messageUtil, Validator validator) {
+        this.reactiveDoctorRepository = reactiveDoctorRepository;
+        this.messageUtil = messageUtil;
+        this.validator = validator;
+    }
+
+    /**
+     * @param doctorId UUID of doctor in String format.
+     * @return Mono emitting the DoctorDto object containing doctor information.
+     */
+    public Mono<DoctorDto> getDoctorById(String doctorId) {
+        return ReactiveExecutionUtil.inRequestLocale(() -> validator.validateAndConvertToUUID(doctorId, MessageConstants.INVALID_UUID))
+                .flatMap(reactiveDoctorRepository::findById)
+                .switchIfEmpty(ReactiveExecutionUtil.error(() ->
+                        new DoctorNotFoundException(messageUtil.getMessage(MessageConstants.DOCTOR_ID_NOT_FOUND))))
+                .map(doctorModel -> DoctorDto.builder()
+                        .id(doctorModel.getId())
+                        .firstName(doctorModel.getFirstName())
+                        .lastName(doctorModel.getLastName())
+                        .department(doctorModel.getDepartment())
+                        .aadhaarNumber(AadhaarUtil.format(doctorModel.getAadhaarNumber()))
+                        .build());
+    }
+}
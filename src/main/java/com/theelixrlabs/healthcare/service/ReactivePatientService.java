@@ -0,0 +1,49 @@
+package com.theelixrlabs.healthcare.service;
+
+import com.theelixrlabs.healthcare.constants.PatientConstants;
+import com.theelixrlabs.healthcare.constants.ReactiveConstants;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.exceptionHandler.PatientNotFoundException;
+import com.theelixrlabs.healthcare.repository.ReactivePatientRepository;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.ReactiveExecutionUtil;
+import com.theelixrlabs.healthcare.validation.Validator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking patient reads of the reactive profile, same results and failures as PatientService.
+ */
+@Service
+@Profile(ReactiveConstants.REACTIVE_PROFILE)
+public class ReactivePatientService {
+
+    private final ReactivePatientRepository reactivePatientRepository;
+    private final MessageUtil messageUtil;
+    private final Validator validator;
+
+    public ReactivePatientService(ReactivePatientRepository reactivePatientRepository, MessageUtil messageUtil, Validator validator) {
+        this.reactivePatientRepository = reactivePatientRepository;
+        this.messageUtil = messageUtil;
+        this.validator = validator;
+    }
+
+    /**
+     * @param patientId UUID of patient in String format.
+     * @return Mono emitting the PatientDto object containing patient information.
+     */
+    public Mono<PatientDto> getPatientById(String patientId) {
+        return ReactiveExecutionUtil.inRequestLocale(() -> validator.validateAndConvertToUUID(patientId, PatientConstants.INVALID_UUID_KEY))
+                .flatMap(reactivePatientRepository::findById)
+                .switchIfEmpty(ReactiveExecutionUtil.error(() ->
+                        new PatientNotFoundException(messageUtil.getMessage(PatientConstants.PATIENT_NOT_FOUND_KEY))))
+                .map(patientModel -> PatientDto.builder()
+                        .id(patientModel.getId())
+                        .patientFirstName(patientModel.getPatientFirstName())
+                        .patientLastName(patientModel.getPatientLastName())
+                        .patientAadhaarNumber(AadhaarUtil.format(patientModel.getPatientAadhaarNumber()))
+                        .build());
+    }
+}
@@ -0,0 +1,128 @@
+package com.theelixrlabs.healthcare.utility;
+
+/**
+ * Checks Aadhaar numbers with a single scan over their characters, without compiling or running a regular expression.
+ * The last digit of an Aadhaar number is a Verhoeff check digit over the first eleven, which catches every single
+ * digit typo and every swap of two adjacent digits.
+ * Aadhaar numbers are stored and indexed as a long key, the "1234 5678 9012" form only exists in the dtos.
+ */
+public final class AadhaarUtil {
+
+    public static final int AADHAAR_NUMBER_LENGTH = 12;
+
+    private static final int FORMATTED_AADHAAR_NUMBER_LENGTH = 14;
+    private static final int DIGIT_GROUP_LENGTH = 4;
+
+    private static final int[][] VERHOEFF_MULTIPLICATION = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9},
+            {1, 2, 3, 4, 0, 6, 7, 8, 9, 5},
+            {2, 3, 4, 0, 1, 7, 8, 9, 5, 6},
+            {3, 4, 0, 1, 2, 8, 9, 5, 6, 7},
+            {4, 0, 1, 2, 3, 9, 5, 6, 7, 8},
+            {5, 9, 8, 7, 6, 0, 4, 3, 2, 1},
+            {6, 5, 9, 8, 7, 1, 0, 4, 3, 2},
+            {7, 6, 5, 9, 8, 2, 1, 0, 4, 3},
+            {8, 7, 6, 5, 9, 3, 2, 1, 0, 4},
+            {9, 8, 7, 6, 5, 4, 3, 2, 1, 0}
+    };
+    private static final int[][] VERHOEFF_PERMUTATION = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9},
+            {1, 5, 7, 6, 2, 8, 3, 0, 9, 4},
+            {5, 8, 0, 3, 7, 9, 6, 1, 4, 2},
+            {8, 9, 1, 6, 0, 4, 3, 5, 2, 7},
+            {9, 4, 5, 3, 1, 2, 6, 8, 7, 0},
+            {4, 2, 8, 6, 5, 7, 3, 9, 0, 1},
+            {2, 7, 9, 3, 8, 0, 6, 4, 1, 5},
+            {7, 0, 4, 6, 9, 1, 3, 2, 5, 8}
+    };
+    private static final int[] VERHOEFF_INVERSE = {0, 4, 3, 2, 1, 5, 6, 7, 8, 9};
+
+    private AadhaarUtil() {
+    }
+
+    /**
+     * Checks that the value consists of exactly 12 digits, does not start with 0 or 1 and ends with a valid check digit.
+     *
+     * @param aadhaarNumber             The unformatted Aadhaar number.
+     * @param checksumValidationEnabled Whether the Verhoeff check digit is verified as well.
+     * @return true if the value is a valid Aadhaar number.
+     */
+    public static boolean isValidAadhaarNumber(String aadhaarNumber, boolean checksumValidationEnabled) {
+        if (aadhaarNumber == null || aadhaarNumber.length() != AADHAAR_NUMBER_LENGTH) {
+            return false;
+        }
+        char firstCharacter = aadhaarNumber.charAt(0);
+        if (firstCharacter < '2' || firstCharacter > '9') {
+            return false;
+        }
+        int checksum = 0;
+        // Verhoeff folds the digits from the right, starting with the check digit at position 0
+        for (int position = 0; position < AADHAAR_NUMBER_LENGTH; position++) {
+            int digit = aadhaarNumber.charAt(AADHAAR_NUMBER_LENGTH - 1 - position) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            checksum = VERHOEFF_MULTIPLICATION[checksum][VERHOEFF_PERMUTATION[position % 8][digit]];
+        }
+        return !checksumValidationEnabled || checksum == 0;
+    }
+
+    /**
+     * Completes the first eleven digits of an Aadhaar number with their Verhoeff check digit.
+     *
+     * @param firstElevenDigits The first eleven digits, between 20000000000 and 99999999999.
+     * @return The 12 digit Aadhaar number.
+     */
+    public static String withCheckDigit(long firstElevenDigits) {
+        int checksum = 0;
+        long remainingDigits = firstElevenDigits;
+        for (int position = 1; position < AADHAAR_NUMBER_LENGTH; position++) {
+            checksum = VERHOEFF_MULTIPLICATION[checksum][VERHOEFF_PERMUTATION[position % 8][(int) (remainingDigits % 10)]];
+            remainingDigits /= 10;
+        }
+        return String.valueOf(firstElevenDigits * 10 + VERHOEFF_INVERSE[checksum]);
+    }
+
+    /**
+     * Converts an Aadhaar number to the key it is stored and indexed with.
+     *
+     * @param aadhaarNumber The validated Aadhaar number, spaces between the digit groups are ignored.
+     * @return The Aadhaar number as a long or null if no number was given.
+     */
+    public static Long toKey(String aadhaarNumber) {
+        if (aadhaarNumber == null) {
+            return null;
+        }
+        long key = 0;
+        for (int index = 0; index < aadhaarNumber.length(); index++) {
+            char character = aadhaarNumber.charAt(index);
+            if (character != ' ') {
+                key = key * 10 + (character - '0');
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Formats a stored Aadhaar key in the "1234 5678 9012" form of the dtos.
+     *
+     * @param aadhaarKey The stored key.
+     * @return The formatted Aadhaar number or null if no key was given.
+     */
+    public static String format(Long aadhaarKey) {
+        if (aadhaarKey == null) {
+            return null;
+        }
+        char[] formattedAadhaarNumber = new char[FORMATTED_AADHAAR_NUMBER_LENGTH];
+        long remainingDigits = aadhaarKey;
+        for (int index = FORMATTED_AADHAAR_NUMBER_LENGTH - 1; index >= 0; index--) {
+            if (index % (DIGIT_GROUP_LENGTH + 1) == DIGIT_GROUP_LENGTH) {
+                formattedAadhaarNumber[index] = ' ';
+            } else {
+                formattedAadhaarNumber[index] = (char) ('0' + remainingDigits % 10);
+                remainingDigits /= 10;
+            }
+        }
+        return new String(formattedAadhaarNumber);
+    }
+}
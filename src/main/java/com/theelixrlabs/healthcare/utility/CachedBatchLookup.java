@@ -0,0 +1,79 @@
+package com.theelixrlabs.healthcare.utility;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Looks up a batch of entities by id through the entity cache of the findById methods.
+ * Cached entities are taken from the cache, the others are loaded with one findAllById call. The loaded entities are
+ * not added to the cache: a save or patch running between the load and the put would evict before the put and leave
+ * the stale entity cached until it expires. Only the findById methods, whose proxies evict on every write, fill it.
+ * Without a cache manager, when healthcare.cache.enabled is false, every id is loaded with the findAllById call.
+ * Single lookups can read the cache alone, to serve a cached entity before handing a miss to a costlier path.
+ */
+@Component
+public class CachedBatchLookup {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    public CachedBatchLookup(ObjectProvider<CacheManager> cacheManagerProvider) {
+        this.cacheManagerProvider = cacheManagerProvider;
+    }
+
+    /**
+     * @param cacheName      Name of the cache of the entities, keyed by id.
+     * @param entityType     Type of the cached entities.
+     * @param ids            Distinct ids to look up.
+     * @param findAllById    Loads the entities with the given ids from the database.
+     * @param idOf           Returns the id of an entity.
+     * @return The found entities keyed by id, ids that do not exist have no entry.
+     */
+    public <T> Map<UUID, T> findAllById(String cacheName, Class<T> entityType, List<UUID> ids,
+                                        Function<List<UUID>, Iterable<T>> findAllById, Function<T, UUID> idOf) {
+        Cache cache = cacheOf(cacheName);
+        Map<UUID, T> entitiesById = new HashMap<>();
+        List<UUID> uncachedIds = ids;
+        if (cache != null) {
+            uncachedIds = new ArrayList<>();
+            for (UUID id : ids) {
+                T cachedEntity = cache.get(id, entityType);
+                if (cachedEntity == null) {
+                    uncachedIds.add(id);
+                } else {
+                    entitiesById.put(id, cachedEntity);
+                }
+            }
+        }
+        if (uncachedIds.isEmpty()) {
+            return entitiesById;
+        }
+        for (T entity : findAllById.apply(uncachedIds)) {
+            entitiesById.put(idOf.apply(entity), entity);
+        }
+        return entitiesById;
+    }
+
+    /**
+     * @param cacheName  Name of the cache of the entities, keyed by id.
+     * @param entityType Type of the cached entities.
+     * @param id         Id to look up.
+     * @return The cached entity, null if it is not cached or there is no cache.
+     */
+    public <T> T findCachedById(String cacheName, Class<T> entityType, UUID id) {
+        Cache cache = cacheOf(cacheName);
+        return cache == null ? null : cache.get(id, entityType);
+    }
+
+    private Cache cacheOf(String cacheName) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        return cacheManager == null ? null : cacheManager.getCache(cacheName);
+    }
+}
@@ -0,0 +1,147 @@
+package com.theelixrlabs.healthcare.utility;
+
+import com.theelixrlabs.healthcare.constants.CompositeReadConstants;
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.exceptionHandler.CompositeReadTimeoutException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the independent repository calls of a composite read concurrently, so the request waits for the slowest call
+ * instead of the sum of all calls.
+ * Calls are forked onto a bounded pool and joined with a per call timeout counted from the fork. The locale and the
+ * database call counter of the request are bound to the pool thread running a call, so messages and database call
+ * budgets see forked calls like the calls of the request thread. When the pool and its queue are full a call runs on
+ * the request thread, an overloaded pool degrades to sequential reads instead of failing requests.
+ * Calls shared by several requests, which none of them may cancel, are awaited rather than joined.
+ */
+@Component
+public class CompositeReadExecutor implements DisposableBean {
+
+    private final MessageUtil messageUtil;
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final long callTimeoutNanos;
+
+    public CompositeReadExecutor(MessageUtil messageUtil,
+                                 @Value(CompositeReadConstants.POOL_SIZE) int poolSize,
+                                 @Value(CompositeReadConstants.QUEUE_CAPACITY) int queueCapacity,
+                                 @Value(CompositeReadConstants.CALL_TIMEOUT) Duration callTimeout) {
+        this.messageUtil = messageUtil;
+        this.callTimeoutNanos = callTimeout.toNanos();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, CompositeReadConstants.KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, CompositeReadConstants.THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.threadPoolExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Starts a read on the pool.
+     *
+     * @param read The repository call.
+     * @return The forked read, to be passed to join.
+     */
+    public <T> ForkedRead<T> fork(Callable<T> read) {
+        long deadlineNanos = System.nanoTime() + callTimeoutNanos;
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        DatabaseCallCounter databaseCallCounter = DatabaseCallCounter.current();
+        Future<T> future = threadPoolExecutor.submit(() -> callInRequestContext(localeContext, databaseCallCounter, read));
+        return new ForkedRead<>(future, deadlineNanos);
+    }
+
+    /**
+     * Waits for a forked read until its timeout.
+     *
+     * @param forkedRead The read returned by fork.
+     * @return The result of the read.
+     * @throws CompositeReadTimeoutException if the read does not complete within the call timeout, the read is cancelled.
+     * @throws Exception                     the exception thrown by the read.
+     */
+    public <T> T join(ForkedRead<T> forkedRead) throws Exception {
+        try {
+            return forkedRead.future().get(Math.max(0, forkedRead.deadlineNanos() - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException timeoutException) {
+            forkedRead.future().cancel(true);
+            throw new CompositeReadTimeoutException(messageUtil.getMessage(MessageConstants.COMPOSITE_READ_TIMEOUT));
+        } catch (ExecutionException executionException) {
+            throw causeOf(executionException);
+        }
+    }
+
+    /**
+     * Waits for a call shared with other requests until the call timeout, counted from the start of the wait.
+     * The timeout message is built in the locale of the waiting thread, and neither a timeout nor an interrupt of the
+     * waiting thread cancels the call.
+     *
+     * @param sharedCall Completes with the result or the exception of the call.
+     * @return The result of the call.
+     * @throws CompositeReadTimeoutException if the call does not complete within the call timeout.
+     * @throws InterruptedException          if the waiting thread is interrupted.
+     * @throws Exception                     the exception thrown by the call.
+     */
+    public <T> T await(CompletableFuture<T> sharedCall) throws Exception {
+        try {
+            // get rather than join, an interrupt ends the wait of this request only
+            return sharedCall.get(callTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException timeoutException) {
+            throw new CompositeReadTimeoutException(messageUtil.getMessage(MessageConstants.COMPOSITE_READ_TIMEOUT));
+        } catch (ExecutionException executionException) {
+            throw causeOf(executionException);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        threadPoolExecutor.shutdownNow();
+    }
+
+    private static Exception causeOf(ExecutionException executionException) {
+        if (executionException.getCause() instanceof Error error) {
+            throw error;
+        }
+        return (Exception) executionException.getCause();
+    }
+
+    /**
+     * Runs a call with the locale and the database call counter of the request that started it bound to the current
+     * thread, restoring the previous ones afterwards.
+     */
+    static <T> T callInRequestContext(LocaleContext localeContext, DatabaseCallCounter databaseCallCounter,
+                                              Callable<T> read) throws Exception {
+        LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+        DatabaseCallCounter previousDatabaseCallCounter = DatabaseCallCounter.current();
+        LocaleContextHolder.setLocaleContext(localeContext);
+        DatabaseCallCounter.bind(databaseCallCounter);
+        try {
+            return read.call();
+        } finally {
+            LocaleContextHolder.setLocaleContext(previousLocaleContext);
+            DatabaseCallCounter.bind(previousDatabaseCallCounter);
+        }
+    }
+
+    /**
+     * A read started by fork.
+     *
+     * @param future        Completes with the result of the read.
+     * @param deadlineNanos System.nanoTime after which join gives up on the read.
+     */
+    public record ForkedRead<T>(Future<T> future, long deadlineNanos) {
+    }
+}
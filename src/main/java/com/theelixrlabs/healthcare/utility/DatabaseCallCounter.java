@@ -0,0 +1,87 @@
+package com.theelixrlabs.healthcare.utility;
+
+import com.theelixrlabs.healthcare.constants.DatabaseCallConstants;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the MongoDB commands issued while serving one request, with the documents and bytes they returned.
+ * The counter of the current request is bound to its thread by DatabaseCallFilter and fed by DatabaseCallListener,
+ * which the driver calls on the thread running the command.
+ */
+public final class DatabaseCallCounter {
+
+    private static final ThreadLocal<DatabaseCallCounter> CURRENT_COUNTER = new ThreadLocal<>();
+
+    private final AtomicLong commands = new AtomicLong();
+    private final AtomicLong documents = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    /**
+     * Binds a new counter to the calling thread.
+     *
+     * @return The bound counter.
+     */
+    public static DatabaseCallCounter start() {
+        DatabaseCallCounter databaseCallCounter = new DatabaseCallCounter();
+        CURRENT_COUNTER.set(databaseCallCounter);
+        return databaseCallCounter;
+    }
+
+    /**
+     * Binds the counter of a request to the calling thread, e.g. a pool thread running a read forked by the request.
+     *
+     * @param databaseCallCounter The counter to bind, null unbinds the counter of the calling thread.
+     */
+    public static void bind(DatabaseCallCounter databaseCallCounter) {
+        if (databaseCallCounter == null) {
+            CURRENT_COUNTER.remove();
+        } else {
+            CURRENT_COUNTER.set(databaseCallCounter);
+        }
+    }
+
+    /**
+     * @return The counter bound to the calling thread, null outside of a counted request.
+     */
+    public static DatabaseCallCounter current() {
+        return CURRENT_COUNTER.get();
+    }
+
+    /**
+     * Unbinds the counter of the calling thread.
+     */
+    public static void stop() {
+        CURRENT_COUNTER.remove();
+    }
+
+    /**
+     * Records one command and what it returned.
+     *
+     * @param returnedDocuments Documents returned by the command.
+     * @param returnedBytes     Size of the command reply in bytes.
+     */
+    public void recordCommand(long returnedDocuments, long returnedBytes) {
+        commands.incrementAndGet();
+        documents.addAndGet(returnedDocuments);
+        bytes.addAndGet(returnedBytes);
+    }
+
+    public long getCommands() {
+        return commands.get();
+    }
+
+    public long getDocuments() {
+        return documents.get();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * @return The counts in the format of the diagnostics header, e.g. commands=2;documents=51;bytes=8114.
+     */
+    public String toHeaderValue() {
+        return String.format(DatabaseCallConstants.HEADER_VALUE_FORMAT, getCommands(), getDocuments(), getBytes());
+    }
+}
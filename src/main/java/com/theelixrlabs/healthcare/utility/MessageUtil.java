@@ -1,24 +1,42 @@
 package com.theelixrlabs.healthcare.utility;
 
 import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.text.MessageFormat;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Resolves messages in the locale of the current request.
+ * The message bundles are loaded once, so resolved texts and compiled MessageFormat instances are cached per locale and key,
+ * the locales are bounded by the supported locales of the locale resolver.
+ */
 @Component
 public class MessageUtil {
 
     private final MessageSource messageSource;
+    private final ConcurrentMap<Locale, ConcurrentMap<String, String>> messages = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Locale, ConcurrentMap<String, MessageFormat>> messageFormats = new ConcurrentHashMap<>();
 
     public MessageUtil(MessageSource messageSource) {
         this.messageSource = messageSource;
     }
 
     public String getMessage(String messageKey) {
-       return messageSource.getMessage(messageKey,null,Locale.getDefault());
+        Locale locale = LocaleContextHolder.getLocale();
+        return messages.computeIfAbsent(locale, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(messageKey, key -> messageSource.getMessage(key, null, locale));
     }
 
     public String getMessage(String messageKey, Object[] dynamicArguments) {
-        return messageSource.getMessage(messageKey,dynamicArguments, Locale.getDefault());
+        Locale locale = LocaleContextHolder.getLocale();
+        MessageFormat messageFormat = messageFormats.computeIfAbsent(locale, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(messageKey, key -> new MessageFormat(messageSource.getMessage(key, null, locale), locale));
+        // MessageFormat is not thread safe, a clone of the parsed pattern is cheaper than parsing and unlike a monitor
+        // never pins a virtual thread to its carrier
+        return ((MessageFormat) messageFormat.clone()).format(dynamicArguments);
     }
 }
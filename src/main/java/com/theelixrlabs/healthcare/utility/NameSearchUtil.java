@@ -0,0 +1,41 @@
+package com.theelixrlabs.healthcare.utility;
+
+import java.util.Locale;
+
+/**
+ * Normalizes person names for the indexed, case-insensitive prefix search.
+ * Names are stored a second time in lower case so that a prefix search becomes a range query on an index.
+ */
+public final class NameSearchUtil {
+
+    private NameSearchUtil() {
+    }
+
+    /**
+     * Converts a name to its search form.
+     *
+     * @param name The name as entered by the user.
+     * @return The trimmed, lower cased name or null if no name was given.
+     */
+    public static String normalize(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Computes the exclusive upper bound of all strings starting with the given prefix.
+     * For example "ab" gives "ac", so the prefix search is {@code $gte: "ab", $lt: "ac"}.
+     *
+     * @param normalizedPrefix The prefix already converted with {@link #normalize(String)}.
+     * @return The smallest string greater than every string with the prefix.
+     */
+    public static String prefixUpperBound(String normalizedPrefix) {
+        int lastIndex = normalizedPrefix.length() - 1;
+        while (lastIndex >= 0 && normalizedPrefix.charAt(lastIndex) == Character.MAX_VALUE) {
+            lastIndex--;
+        }
+        if (lastIndex < 0) {
+            return String.valueOf(Character.MAX_VALUE).repeat(normalizedPrefix.length() + 1);
+        }
+        return normalizedPrefix.substring(0, lastIndex) + (char) (normalizedPrefix.charAt(lastIndex) + 1);
+    }
+}
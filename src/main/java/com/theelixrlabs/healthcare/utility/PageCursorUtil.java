@@ -0,0 +1,47 @@
+package com.theelixrlabs.healthcare.utility;
+
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes keyset cursors into the opaque strings handed to API clients and back.
+ */
+public final class PageCursorUtil {
+
+    private PageCursorUtil() {
+    }
+
+    /**
+     * @param keysetCursor The position of the last returned document.
+     * @return URL safe cursor string.
+     */
+    public static String encode(KeysetCursor keysetCursor) {
+        String id = keysetCursor.getId() == null ? "" : keysetCursor.getId().toString();
+        String key = keysetCursor.getKey() == null ? "" : keysetCursor.getKey();
+        String rawCursor = keysetCursor.getBranch() + PaginationConstants.CURSOR_SEPARATOR + id + PaginationConstants.CURSOR_SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor Cursor string created by {@link #encode(KeysetCursor)}.
+     * @return The decoded cursor or null if the string is not a valid cursor.
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String rawCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // the key is last so that it may contain the separator itself
+            String[] cursorParts = rawCursor.split(PaginationConstants.CURSOR_SEPARATOR_REGEX, 3);
+            if (cursorParts.length != 3) {
+                return null;
+            }
+            UUID id = cursorParts[1].isEmpty() ? null : UUID.fromString(cursorParts[1]);
+            String key = cursorParts[2].isEmpty() ? null : cursorParts[2];
+            return new KeysetCursor(cursorParts[0], id, key);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            return null;
+        }
+    }
+}
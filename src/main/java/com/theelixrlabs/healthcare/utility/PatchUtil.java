@@ -6,13 +6,7 @@ import org.springframework.stereotype.Component;
 @Component
 public class PatchUtil {
 
-    public boolean hasValueForUpdate(String newValue, String existingValue) {
-        return !StringUtils.isBlank(newValue) && !newValue.equals(existingValue);
-    }
-
-    public String formatAadhaarNumber(String aadhaarNumber) {
-        return aadhaarNumber.substring(0, 4) + StringUtils.SPACE +
-                aadhaarNumber.substring(4, 8) + StringUtils.SPACE +
-                aadhaarNumber.substring(8, 12);
+    public boolean hasValueForUpdate(String newValue) {
+        return !StringUtils.isBlank(newValue);
     }
 }
@@ -0,0 +1,46 @@
+package com.theelixrlabs.healthcare.utility;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.response.FailureResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import java.util.Collections;
+
+/**
+ * Reactive counterpart of AuthenticationEntryPointUtility, answers failed authentications in the reactive profile.
+ */
+@Component
+public class ReactiveAuthenticationEntryPointUtility implements ServerAuthenticationEntryPoint {
+
+    private final MessageUtil messageUtil;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ReactiveAuthenticationEntryPointUtility(MessageUtil messageUtil) {
+        this.messageUtil = messageUtil;
+    }
+
+    /**
+     * Overridden commence method to set custom message if authentication fails
+     */
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException authException) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        FailureResponse customErrorResponse =
+                new FailureResponse(false, Collections.singletonList(messageUtil.getMessage(MessageConstants.NOT_AUTHORISED)));
+        try {
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(objectMapper.writeValueAsBytes(customErrorResponse))));
+        } catch (JsonProcessingException jsonProcessingException) {
+            return Mono.error(jsonProcessingException);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.theelixrlabs.healthcare.utility;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+import java.util.concurrent.Callable;
+
+/**
+ * Runs blocking code from the reactive controllers and services.
+ * The locale of the request travels in the Reactor context, see ReactiveWebConfig, and is bound to the thread running
+ * the code so that MessageUtil and the bean validation resolve messages in the language of the request.
+ */
+public final class ReactiveExecutionUtil {
+
+    private ReactiveExecutionUtil() {
+    }
+
+    /**
+     * Runs blocking code, e.g. a service backed by the blocking repositories, on the bounded elastic scheduler so it
+     * never holds an event loop thread.
+     *
+     * @param callable The blocking code.
+     * @return Mono emitting the result of the code or the exception it throws.
+     */
+    public static <T> Mono<T> blocking(Callable<T> callable) {
+        return inRequestLocale(callable).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Runs short non-blocking code on the subscribing thread with the locale of the request bound, e.g. a validation
+     * that resolves its error message.
+     *
+     * @param callable The non-blocking code.
+     * @return Mono emitting the result of the code or the exception it throws, empty if the result is null.
+     */
+    public static <T> Mono<T> inRequestLocale(Callable<T> callable) {
+        return Mono.deferContextual(contextView -> Mono.fromCallable(() -> callInRequestLocale(contextView, callable)));
+    }
+
+    /**
+     * Creates the exception at subscription time with the locale of the request bound, so its message is resolved in
+     * the language of the request.
+     *
+     * @param exceptionFactory Creates the exception, typically with a message from MessageUtil.
+     * @return Mono failing with the created exception.
+     */
+    public static <T> Mono<T> error(Callable<? extends Exception> exceptionFactory) {
+        return inRequestLocale(() -> {
+            throw exceptionFactory.call();
+        });
+    }
+
+    private static <T> T callInRequestLocale(ContextView contextView, Callable<T> callable) throws Exception {
+        LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+        LocaleContextHolder.setLocaleContext(contextView.getOrDefault(LocaleContext.class, null));
+        try {
+            return callable.call();
+        } finally {
+            LocaleContextHolder.setLocaleContext(previousLocaleContext);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.theelixrlabs.healthcare.utility;
+
+import com.theelixrlabs.healthcare.constants.MetricsConstants;
+import com.theelixrlabs.healthcare.constants.SingleFlightConstants;
+import com.theelixrlabs.healthcare.exceptionHandler.CompositeReadTimeoutException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collapses identical concurrent lookups into one in-flight database call.
+ * The first request for a call name and key executes the call, requests arriving while it runs wait for it and share
+ * its result or its exception, so N concurrent requests for a popular doctor cost one round trip instead of N. Nothing
+ * is kept once the call completes, the next request executes the call again.
+ * Shared results are read only and must not hold request specific state such as messages in the request locale.
+ * The call runs on a pool of its own rather than on the thread of the first request, and every request, the first
+ * one included, waits for it with the composite read call timeout: a request that is interrupted or times out stops
+ * waiting without affecting the call or the other waiters, and timeout messages are built in its own locale. A
+ * request timing out also forgets the call, so later requests start a new one instead of waiting for a stuck call.
+ * The pool is separate from the CompositeReadExecutor pool, so reads a shared call forks still run concurrently on
+ * that pool. When the pool and its queue are full the call runs on the thread of the first request.
+ * A failing call is removed like a successful one. Every request counts as executed or coalesced in the
+ * healthcare.single-flight counter, tagged with the call name, so the coalescing ratio is
+ * coalesced / (executed + coalesced).
+ */
+@Component
+public class SingleFlight implements DisposableBean {
+
+    private final ConcurrentMap<CallKey, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final CompositeReadExecutor compositeReadExecutor;
+    private final boolean enabled;
+    private final ThreadPoolExecutor threadPoolExecutor;
+
+    public SingleFlight(MeterRegistry meterRegistry, CompositeReadExecutor compositeReadExecutor,
+                        @Value(SingleFlightConstants.ENABLED) boolean enabled,
+                        @Value(SingleFlightConstants.POOL_SIZE) int poolSize,
+                        @Value(SingleFlightConstants.QUEUE_CAPACITY) int queueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.compositeReadExecutor = compositeReadExecutor;
+        this.enabled = enabled;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, SingleFlightConstants.KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, SingleFlightConstants.THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.threadPoolExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Starts the call, or joins the identical call already in flight, and waits for it.
+     *
+     * @param callName Name of the lookup, e.g. the service method.
+     * @param key      Arguments identifying the lookup, compared with equals.
+     * @param call     The database call.
+     * @return The result of the call.
+     * @throws CompositeReadTimeoutException if the call does not complete within the composite read call timeout.
+     * @throws InterruptedException          if the waiting thread is interrupted.
+     * @throws Exception                     the exception thrown by the call.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String callName, Object key, Callable<T> call) throws Exception {
+        if (!enabled) {
+            return call.call();
+        }
+        CallKey callKey = new CallKey(callName, key);
+        CompletableFuture<Object> ownCall = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightCall = inFlightCalls.putIfAbsent(callKey, ownCall);
+        if (inFlightCall != null) {
+            count(callName, MetricsConstants.COALESCED_OUTCOME);
+        } else {
+            count(callName, MetricsConstants.EXECUTED_OUTCOME);
+            inFlightCall = ownCall;
+            LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+            DatabaseCallCounter databaseCallCounter = DatabaseCallCounter.current();
+            threadPoolExecutor.execute(() -> {
+                Object result;
+                try {
+                    result = CompositeReadExecutor.callInRequestContext(localeContext, databaseCallCounter, call);
+                } catch (Throwable throwable) {
+                    inFlightCalls.remove(callKey, ownCall);
+                    ownCall.completeExceptionally(throwable);
+                    return;
+                }
+                // removed before the waiters are released, a request arriving after them executes the call again
+                inFlightCalls.remove(callKey, ownCall);
+                ownCall.complete(result);
+            });
+        }
+        try {
+            return (T) compositeReadExecutor.await(inFlightCall);
+        } catch (CompositeReadTimeoutException compositeReadTimeoutException) {
+            inFlightCalls.remove(callKey, inFlightCall);
+            throw compositeReadTimeoutException;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        threadPoolExecutor.shutdownNow();
+    }
+
+    private void count(String callName, String outcome) {
+        meterRegistry.counter(MetricsConstants.SINGLE_FLIGHT_COUNTER,
+                MetricsConstants.CALL_TAG, callName, MetricsConstants.OUTCOME_TAG, outcome).increment();
+    }
+
+    private record CallKey(String callName, Object key) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.theelixrlabs.healthcare.utility;
+
+import java.util.UUID;
+
+/**
+ * Parses UUIDs without using exceptions for control flow, so that malformed ids sent by clients cost no more
+ * than well formed ones.
+ */
+public final class UuidUtil {
+
+    private static final int UUID_LENGTH = 36;
+
+    private UuidUtil() {
+    }
+
+    /**
+     * Parses the canonical 8-4-4-4-12 hexadecimal form of a UUID, in upper or lower case.
+     *
+     * @param value The string to parse.
+     * @return The parsed UUID or null if the value is not a UUID in canonical form.
+     */
+    public static UUID parseOrNull(String value) {
+        if (value == null || value.length() != UUID_LENGTH
+                || value.charAt(8) != '-' || value.charAt(13) != '-' || value.charAt(18) != '-' || value.charAt(23) != '-') {
+            return null;
+        }
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        int digitCount = 0;
+        for (int index = 0; index < UUID_LENGTH; index++) {
+            if (index == 8 || index == 13 || index == 18 || index == 23) {
+                continue;
+            }
+            int digit = hexDigit(value.charAt(index));
+            if (digit < 0) {
+                return null;
+            }
+            if (digitCount++ < 16) {
+                mostSignificantBits = (mostSignificantBits << 4) | digit;
+            } else {
+                leastSignificantBits = (leastSignificantBits << 4) | digit;
+            }
+        }
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static int hexDigit(char character) {
+        if (character >= '0' && character <= '9') {
+            return character - '0';
+        }
+        if (character >= 'a' && character <= 'f') {
+            return character - 'a' + 10;
+        }
+        if (character >= 'A' && character <= 'F') {
+            return character - 'A' + 10;
+        }
+        return -1;
+    }
+}
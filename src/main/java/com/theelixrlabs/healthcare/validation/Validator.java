@@ -1,29 +1,46 @@
 package com.theelixrlabs.healthcare.validation;
 
+import com.theelixrlabs.healthcare.constants.BatchLookupConstants;
 import com.theelixrlabs.healthcare.constants.MessageConstants;
-import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
 import com.theelixrlabs.healthcare.constants.PatientConstants;
+import com.theelixrlabs.healthcare.constants.ValidationConstants;
 import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
 import com.theelixrlabs.healthcare.dto.PatientDto;
 import com.theelixrlabs.healthcare.exceptionHandler.DataException;
 import com.theelixrlabs.healthcare.exceptionHandler.DoctorException;
 import com.theelixrlabs.healthcare.exceptionHandler.PatientException;
+import com.theelixrlabs.healthcare.utility.AadhaarUtil;
 import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.PageCursorUtil;
+import com.theelixrlabs.healthcare.utility.UuidUtil;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Validator class for validating various healthcare-related DTOs and parameters.
  * This class provides methods for validating UUIDs, non-empty strings, doctor details, and patient details.
+ * Valid input is checked with plain character scans instead of regular expressions, ValidatorBenchmark measures the
+ * time and allocation rate against the former regex checks.
  */
 @Component
 public class Validator {
 
     private final MessageUtil messageUtil;
+    private final boolean aadhaarChecksumEnabled;
 
-    public Validator(MessageUtil messageUtil) {
+    public Validator(MessageUtil messageUtil,
+                     @Value(ValidationConstants.AADHAAR_CHECKSUM_ENABLED) boolean aadhaarChecksumEnabled) {
         this.messageUtil = messageUtil;
+        this.aadhaarChecksumEnabled = aadhaarChecksumEnabled;
     }
 
     /**
@@ -35,15 +52,62 @@ public class Validator {
      * @return The UUID object parsed from the input string.
      */
     public UUID validateAndConvertToUUID(String id, String errorMessage) throws DataException {
-        UUID uuid;
-        try {
-            uuid = UUID.fromString(id);
-        } catch (IllegalArgumentException illegalArgumentException) {
+        UUID uuid = UuidUtil.parseOrNull(id);
+        if (uuid == null) {
             throw new DataException(messageUtil.getMessage(errorMessage));
         }
         return uuid;
     }
 
+    /**
+     * Validates and converts the ids of a batched lookup.
+     *
+     * @param ids          The string representations of the UUIDs, between 1 and BatchLookupConstants.MAX_IDS of them.
+     * @param errorMessage The message key used if an id is not a valid UUID.
+     * @return The distinct UUIDs in request order.
+     */
+    public List<UUID> validateAndConvertToUUIDs(List<String> ids, String errorMessage) throws DataException {
+        if (ids == null || ids.isEmpty() || ids.size() > BatchLookupConstants.MAX_IDS) {
+            throw new DataException(messageUtil.getMessage(MessageConstants.INVALID_BATCH_LOOKUP_SIZE,
+                    new Object[]{BatchLookupConstants.MAX_IDS}));
+        }
+        Set<UUID> uuids = new LinkedHashSet<>();
+        for (String id : ids) {
+            uuids.add(validateAndConvertToUUID(id, errorMessage));
+        }
+        return new ArrayList<>(uuids);
+    }
+
+    /**
+     * Validates the page size requested by the client.
+     *
+     * @param limit Requested number of items per page.
+     */
+    public void validatePageLimit(int limit) throws DataException {
+        if (limit < 1 || limit > PaginationConstants.MAX_LIMIT) {
+            throw new DataException(messageUtil.getMessage(MessageConstants.INVALID_PAGE_LIMIT,
+                    new Object[]{PaginationConstants.MAX_LIMIT}));
+        }
+    }
+
+    /**
+     * Decodes the page cursor sent by the client.
+     *
+     * @param cursor          The cursor string, null or blank for the first page.
+     * @param allowedBranches Branches the cursor may belong to for the requested endpoint.
+     * @return The decoded cursor or null for the first page.
+     */
+    public KeysetCursor validateAndDecodeCursor(String cursor, String... allowedBranches) throws DataException {
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        KeysetCursor keysetCursor = PageCursorUtil.decode(cursor);
+        if (keysetCursor == null || !Arrays.asList(allowedBranches).contains(keysetCursor.getBranch())) {
+            throw new DataException(messageUtil.getMessage(MessageConstants.INVALID_PAGE_CURSOR));
+        }
+        return keysetCursor;
+    }
+
     /**
      * Validates the PatientDTO before adding details.
      *
@@ -54,16 +118,22 @@ public class Validator {
         //Validate first name
         if (patientDto.getPatientFirstName().isEmpty()) {
             throw new PatientException(messageUtil.getMessage(PatientConstants.FIRST_NAME_NOT_EMPTY_KEY));
-        } else if (!patientDto.getPatientFirstName().matches(PatientConstants.ALPHA_CHARACTERS_REGEX)) {
+        } else if (!isAlphabetic(patientDto.getPatientFirstName())) {
             throw new PatientException(messageUtil.getMessage(PatientConstants.INVALID_FIRST_NAME_KEY));
         }
 
         //Validate last name
         if (patientDto.getPatientLastName().isEmpty()) {
             throw new PatientException(messageUtil.getMessage(PatientConstants.LAST_NAME_SHOULD_NOT_BE_EMPTY_KEY));
-        } else if (!patientDto.getPatientLastName().matches(PatientConstants.ALPHA_CHARACTERS_REGEX)) {
+        } else if (!isAlphabetic(patientDto.getPatientLastName())) {
             throw new PatientException(messageUtil.getMessage(PatientConstants.INVALID_LAST_NAME_KEY));
         }
+
+        //Validate Aadhaar checksum, the format is checked by the bean validation of the dto
+        if (patientDto.getPatientAadhaarNumber() != null
+                && !AadhaarUtil.isValidAadhaarNumber(patientDto.getPatientAadhaarNumber(), aadhaarChecksumEnabled)) {
+            throw new PatientException(messageUtil.getMessage(MessageConstants.PATIENT_INVALID_AADHAAR_NUMBER));
+        }
     }
 
     /**
@@ -88,7 +158,7 @@ public class Validator {
             if (doctorDto.getFirstName().isEmpty()) {
                 throw new DoctorException(messageUtil.getMessage(MessageConstants.DOCTOR_FIRST_NAME_SHOULD_NOT_BE_EMPTY));
             }
-            if (!doctorDto.getFirstName().matches(DoctorConstants.ALPHA_CHARACTERS_REGEX)) {
+            if (!isAlphabetic(doctorDto.getFirstName())) {
                 throw new DoctorException(messageUtil.getMessage(MessageConstants.DOCTOR_INVALID_FIRSTNAME));
             }
         }
@@ -96,7 +166,7 @@ public class Validator {
             if (doctorDto.getLastName().isEmpty()) {
                 throw new DoctorException(messageUtil.getMessage(MessageConstants.DOCTOR_LAST_NAME_SHOULD_NOT_BE_EMPTY));
             }
-            if (!doctorDto.getLastName().matches(DoctorConstants.ALPHA_CHARACTERS_REGEX)) {
+            if (!isAlphabetic(doctorDto.getLastName())) {
                 throw new DoctorException(messageUtil.getMessage(MessageConstants.DOCTOR_INVALID_LASTNAME));
             }
         }
@@ -109,7 +179,7 @@ public class Validator {
             if (doctorDto.getAadhaarNumber().isEmpty()) {
                 throw new DoctorException(messageUtil.getMessage(MessageConstants.DOCTOR_AADHAAR_NUMBER_SHOULD_NOT_BE_EMPTY));
             }
-            if (!(doctorDto.getAadhaarNumber().matches(DoctorConstants.AADHAAR_REGEX_PATTERN))) {
+            if (!AadhaarUtil.isValidAadhaarNumber(doctorDto.getAadhaarNumber(), aadhaarChecksumEnabled)) {
                 throw new DoctorException(messageUtil.getMessage(MessageConstants.DOCTOR_INVALID_AADHAAR_NUMBER));
             }
         }
@@ -125,7 +195,7 @@ public class Validator {
             if (patientDto.getPatientFirstName().isEmpty()) {
                 throw new PatientException(messageUtil.getMessage(PatientConstants.FIRST_NAME_NOT_EMPTY_KEY));
             }
-            if (!patientDto.getPatientFirstName().matches(PatientConstants.ALPHA_CHARACTERS_REGEX)) {
+            if (!isAlphabetic(patientDto.getPatientFirstName())) {
                 throw new PatientException(messageUtil.getMessage(PatientConstants.INVALID_FIRST_NAME_KEY));
             }
         }
@@ -133,7 +203,7 @@ public class Validator {
             if (patientDto.getPatientLastName().isEmpty()) {
                 throw new PatientException(messageUtil.getMessage(PatientConstants.LAST_NAME_SHOULD_NOT_BE_EMPTY_KEY));
             }
-            if (!patientDto.getPatientLastName().matches(PatientConstants.ALPHA_CHARACTERS_REGEX)) {
+            if (!isAlphabetic(patientDto.getPatientLastName())) {
                 throw new PatientException(messageUtil.getMessage(PatientConstants.INVALID_LAST_NAME_KEY));
             }
         }
@@ -141,9 +211,25 @@ public class Validator {
             if (patientDto.getPatientAadhaarNumber().isEmpty()) {
                 throw new PatientException(messageUtil.getMessage(MessageConstants.PATIENT_AADHAAR_NUMBER_SHOULD_NOT_BE_EMPTY));
             }
-            if (!(patientDto.getPatientAadhaarNumber().matches(PatientConstants.AADHAAR_NUMBER_REGEX))) {
+            if (!AadhaarUtil.isValidAadhaarNumber(patientDto.getPatientAadhaarNumber(), aadhaarChecksumEnabled)) {
                 throw new PatientException(messageUtil.getMessage(MessageConstants.PATIENT_INVALID_AADHAAR_NUMBER));
             }
         }
     }
+
+    /**
+     * Checks that a name consists of ASCII letters only, like the former ^[a-zA-Z]+$ pattern.
+     */
+    private static boolean isAlphabetic(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int index = 0; index < name.length(); index++) {
+            char character = name.charAt(index);
+            if ((character < 'a' || character > 'z') && (character < 'A' || character > 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
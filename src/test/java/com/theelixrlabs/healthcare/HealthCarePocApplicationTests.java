@@ -3,7 +3,12 @@ package com.theelixrlabs.healthcare;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+        "healthcare.mongo.indexes.enabled=false",
+        "healthcare.migration.search-name-backfill.enabled=false",
+        "healthcare.migration.patient-assigned-doctors-rebuild.enabled=false",
+        "healthcare.assignment-graph.enabled=false"
+})
 class HealthCarePocApplicationTests {
 
     @Test
@@ -0,0 +1,25 @@
+package com.theelixrlabs.healthcare;
+
+import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.repository.InMemoryDoctorRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the application on the inmem profile, which needs no database.
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "inmem"})
+class InMemoryProfileApplicationTests {
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Test
+    void contextLoads_WithInMemoryRepositories() {
+        assertTrue(doctorRepository instanceof InMemoryDoctorRepository);
+    }
+}
@@ -0,0 +1,228 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.CacheConstants;
+import com.theelixrlabs.healthcare.constants.InMemoryRepositoryConstants;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.repository.InMemoryDoctorRepository;
+import com.theelixrlabs.healthcare.repository.InMemoryPatientRepository;
+import com.theelixrlabs.healthcare.repository.PatientRepository;
+import com.theelixrlabs.healthcare.utility.CachedBatchLookup;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.cache.CacheMetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.CacheManager;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the entity caches declared on the repositories with the CacheConfig cache manager, the cache metrics
+ * auto-configuration and the in-memory repositories standing in for the database.
+ */
+public class EntityCacheTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MetricsAutoConfiguration.class, SimpleMetricsExportAutoConfiguration.class,
+                    CacheMetricsAutoConfiguration.class))
+            .withUserConfiguration(CacheConfig.class, InMemoryDoctorRepository.class, InMemoryPatientRepository.class)
+            .withPropertyValues("spring.profiles.active=" + InMemoryRepositoryConstants.IN_MEMORY_PROFILE,
+                    "spring.cache.cache-names=" + CacheConstants.DOCTORS_CACHE + "," + CacheConstants.PATIENTS_CACHE,
+                    "spring.cache.caffeine.spec=maximumSize=100,recordStats");
+
+    /**
+     * The second read of a doctor is served by the cache, and the hit, miss and eviction metrics are published.
+     */
+    @Test
+    public void findById_SecondReadIsCacheHit() {
+        contextRunner.run(context -> {
+            DoctorRepository doctorRepository = context.getBean(DoctorRepository.class);
+            UUID doctorId = doctorRepository.save(doctor("Sambit")).getId();
+            doctorRepository.findById(doctorId);
+            doctorRepository.findById(doctorId);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            assertEquals(1, cacheGets(meterRegistry, CacheConstants.DOCTORS_CACHE, "hit"));
+            assertEquals(1, cacheGets(meterRegistry, CacheConstants.DOCTORS_CACHE, "miss"));
+            assertNotNull(meterRegistry.find("cache.evictions").tag("cache", CacheConstants.DOCTORS_CACHE).functionCounter());
+            assertNotNull(meterRegistry.find("cache.gets").tag("cache", CacheConstants.PATIENTS_CACHE).functionCounter());
+        });
+    }
+
+    /**
+     * Changing a doctor read from the cache does not change the cached copy.
+     */
+    @Test
+    public void findById_ReturnsCopyOfCachedDoctor() {
+        contextRunner.run(context -> {
+            DoctorRepository doctorRepository = context.getBean(DoctorRepository.class);
+            UUID doctorId = doctorRepository.save(doctor("Sambit")).getId();
+            doctorRepository.findById(doctorId).orElseThrow().setFirstName("Anand");
+            assertEquals("Sambit", doctorRepository.findById(doctorId).orElseThrow().getFirstName());
+        });
+    }
+
+    /**
+     * The batch lookup takes cached doctors from the cache and loads the others without adding them to the cache.
+     */
+    @Test
+    public void batchLookup_ReadsCacheHitsWithoutPopulatingCache() {
+        contextRunner.run(context -> {
+            DoctorRepository doctorRepository = context.getBean(DoctorRepository.class);
+            UUID cachedDoctorId = doctorRepository.save(doctor("Sambit")).getId();
+            UUID uncachedDoctorId = doctorRepository.save(doctor("Anand")).getId();
+            doctorRepository.findById(cachedDoctorId);
+            CachedBatchLookup cachedBatchLookup = new CachedBatchLookup(context.getBeanProvider(CacheManager.class));
+            Map<UUID, DoctorModel> doctorsById = cachedBatchLookup.findAllById(CacheConstants.DOCTORS_CACHE, DoctorModel.class,
+                    List.of(cachedDoctorId, uncachedDoctorId), doctorRepository::findAllById, DoctorModel::getId);
+            assertEquals(2, doctorsById.size());
+            assertNull(context.getBean(CacheManager.class).getCache(CacheConstants.DOCTORS_CACHE).get(uncachedDoctorId));
+            assertEquals(1, cacheGets(context.getBean(MeterRegistry.class), CacheConstants.DOCTORS_CACHE, "hit"));
+        });
+    }
+
+    /**
+     * Saving a doctor evicts its cached copy.
+     */
+    @Test
+    public void save_EvictsCachedDoctor() {
+        assertDoctorMutationEvicts((doctorRepository, doctorModel) -> {
+            doctorModel.setFirstName("Anand");
+            doctorRepository.save(doctorModel);
+        }, "Anand");
+    }
+
+    /**
+     * Patching a doctor evicts its cached copy.
+     */
+    @Test
+    public void patchDoctor_EvictsCachedDoctor() {
+        assertDoctorMutationEvicts((doctorRepository, doctorModel) ->
+                doctorRepository.patchDoctor(doctorModel.getId(), Map.of("firstName", "Anand")), "Anand");
+    }
+
+    /**
+     * Deleting a doctor by id evicts its cached copy.
+     */
+    @Test
+    public void deleteById_EvictsCachedDoctor() {
+        assertDoctorMutationEvicts((doctorRepository, doctorModel) -> doctorRepository.deleteById(doctorModel.getId()), null);
+    }
+
+    /**
+     * Deleting a doctor entity evicts its cached copy.
+     */
+    @Test
+    public void delete_EvictsCachedDoctor() {
+        assertDoctorMutationEvicts(DoctorRepository::delete, null);
+    }
+
+    /**
+     * Saving a patient evicts its cached copy.
+     */
+    @Test
+    public void save_EvictsCachedPatient() {
+        assertPatientMutationEvicts((patientRepository, patientModel) -> {
+            patientModel.setPatientFirstName("Anand");
+            patientRepository.save(patientModel);
+        }, "Anand");
+    }
+
+    /**
+     * Patching a patient evicts its cached copy.
+     */
+    @Test
+    public void patchPatient_EvictsCachedPatient() {
+        assertPatientMutationEvicts((patientRepository, patientModel) ->
+                patientRepository.patchPatient(patientModel.getId(), Map.of("patientFirstName", "Anand")), "Anand");
+    }
+
+    /**
+     * Deleting a patient by id evicts its cached copy.
+     */
+    @Test
+    public void deleteById_EvictsCachedPatient() {
+        assertPatientMutationEvicts((patientRepository, patientModel) -> patientRepository.deleteById(patientModel.getId()), null);
+    }
+
+    /**
+     * Deleting a patient entity evicts its cached copy.
+     */
+    @Test
+    public void delete_EvictsCachedPatient() {
+        assertPatientMutationEvicts(PatientRepository::delete, null);
+    }
+
+    /**
+     * With healthcare.cache.enabled=false there is no cache manager and the repositories are not proxied.
+     */
+    @Test
+    public void cacheDisabled_RepositoriesAreNotCached() {
+        contextRunner.withPropertyValues(CacheConstants.CACHE_ENABLED_PROPERTY + "=false").run(context -> {
+            assertTrue(context.getBeansOfType(CacheManager.class).isEmpty());
+            assertFalse(AopUtils.isAopProxy(context.getBean(DoctorRepository.class)));
+            assertFalse(AopUtils.isAopProxy(context.getBean(PatientRepository.class)));
+        });
+    }
+
+    /**
+     * Caches a doctor, applies the mutation and checks the next read sees it instead of the cached doctor.
+     *
+     * @param expectedFirstName First name the next read returns, null if the doctor is expected to be gone.
+     */
+    private void assertDoctorMutationEvicts(BiConsumer<DoctorRepository, DoctorModel> mutation, String expectedFirstName) {
+        contextRunner.run(context -> {
+            assertInstanceOf(EntityCopyingCacheManager.class, context.getBean(CacheManager.class));
+            DoctorRepository doctorRepository = context.getBean(DoctorRepository.class);
+            UUID doctorId = doctorRepository.save(doctor("Sambit")).getId();
+            DoctorModel cachedDoctor = doctorRepository.findById(doctorId).orElseThrow();
+            mutation.accept(doctorRepository, cachedDoctor);
+            assertEquals(expectedFirstName, doctorRepository.findById(doctorId).map(DoctorModel::getFirstName).orElse(null));
+        });
+    }
+
+    private void assertPatientMutationEvicts(BiConsumer<PatientRepository, PatientModel> mutation, String expectedFirstName) {
+        contextRunner.run(context -> {
+            PatientRepository patientRepository = context.getBean(PatientRepository.class);
+            UUID patientId = patientRepository.save(patient("Sambit")).getId();
+            PatientModel cachedPatient = patientRepository.findById(patientId).orElseThrow();
+            mutation.accept(patientRepository, cachedPatient);
+            assertEquals(expectedFirstName, patientRepository.findById(patientId).map(PatientModel::getPatientFirstName).orElse(null));
+        });
+    }
+
+    private double cacheGets(MeterRegistry meterRegistry, String cacheName, String result) {
+        return meterRegistry.get("cache.gets").tags("cache", cacheName, "result", result).functionCounter().count();
+    }
+
+    private DoctorModel doctor(String firstName) {
+        return DoctorModel.builder()
+                .id(UUID.randomUUID())
+                .firstName(firstName)
+                .lastName("Sahu")
+                .department("Psychology")
+                .aadhaarNumber(234567890123L)
+                .build();
+    }
+
+    private PatientModel patient(String firstName) {
+        return PatientModel.builder()
+                .id(UUID.randomUUID())
+                .patientFirstName(firstName)
+                .patientLastName("Sahu")
+                .patientAadhaarNumber(234567890123L)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.constants.MetricsConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.repository.AssignmentGraph;
+import com.theelixrlabs.healthcare.repository.DoctorPatientAssignmentRepository;
+import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.repository.ReactiveDoctorRepository;
+import com.theelixrlabs.healthcare.service.DoctorService;
+import com.theelixrlabs.healthcare.service.ReactiveDoctorService;
+import com.theelixrlabs.healthcare.utility.CachedBatchLookup;
+import com.theelixrlabs.healthcare.utility.CompositeReadExecutor;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.SingleFlight;
+import com.theelixrlabs.healthcare.validation.Validator;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the service timers of the MethodTimingAspect.
+ */
+public class MethodTimingAspectTest {
+
+    private static final String DOCTOR_ID = "44fdebfc-7f49-455f-b98b-7d5eef4fe4fb";
+
+    @Mock
+    private DoctorRepository doctorRepository;
+    @Mock
+    private DoctorPatientAssignmentRepository doctorPatientAssignmentRepository;
+    @Mock
+    private ReactiveDoctorRepository reactiveDoctorRepository;
+    @Mock
+    private AssignmentGraph assignmentGraph;
+    @Mock
+    private MessageUtil messageUtil;
+    @Mock
+    private Validator validator;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DoctorService timedDoctorService;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        CompositeReadExecutor compositeReadExecutor = new CompositeReadExecutor(messageUtil, 2, 16, Duration.ofSeconds(5));
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new DoctorService(doctorRepository,
+                doctorPatientAssignmentRepository, assignmentGraph, messageUtil, validator,
+                compositeReadExecutor, new SingleFlight(meterRegistry, compositeReadExecutor, true, 2, 16),
+                new CachedBatchLookup(mock(ObjectProvider.class))));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MethodTimingAspect(meterRegistry));
+        timedDoctorService = proxyFactory.getProxy();
+        when(validator.validateAndConvertToUUID(DOCTOR_ID, MessageConstants.INVALID_UUID)).thenReturn(UUID.fromString(DOCTOR_ID));
+    }
+
+    /**
+     * Successful and failing calls are recorded on separate timers, told apart by the exception tag.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void serviceMethod_RecordedPerMethodAndException() throws Exception {
+        when(doctorRepository.findById(UUID.fromString(DOCTOR_ID))).thenReturn(Optional.of(DoctorModel.builder()
+                .id(UUID.fromString(DOCTOR_ID))
+                .build()));
+        assertNotNull(timedDoctorService.getDoctorById(DOCTOR_ID));
+        when(doctorRepository.findById(UUID.fromString(DOCTOR_ID))).thenReturn(Optional.empty());
+        assertThrows(DoctorNotFoundException.class, () -> timedDoctorService.getDoctorById(DOCTOR_ID));
+        assertEquals(1, serviceTimer("none").count());
+        assertEquals(1, serviceTimer(DoctorNotFoundException.class.getSimpleName()).count());
+    }
+
+    /**
+     * A method returning a Mono is recorded when the Mono terminates, not when the method returns.
+     */
+    @Test
+    public void reactiveServiceMethod_RecordedWhenMonoTerminates() {
+        when(reactiveDoctorRepository.findById(UUID.fromString(DOCTOR_ID))).thenReturn(Mono.empty());
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new ReactiveDoctorService(reactiveDoctorRepository, messageUtil, validator));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MethodTimingAspect(meterRegistry));
+        ReactiveDoctorService timedReactiveDoctorService = proxyFactory.getProxy();
+        Mono<DoctorDto> doctorDtoMono = timedReactiveDoctorService.getDoctorById(DOCTOR_ID);
+        assertNull(meterRegistry.find(MetricsConstants.SERVICE_TIMER).timer());
+        StepVerifier.create(doctorDtoMono).expectError(DoctorNotFoundException.class).verify();
+        assertEquals(1, meterRegistry.get(MetricsConstants.SERVICE_TIMER)
+                .tag(MetricsConstants.CLASS_TAG, ReactiveDoctorService.class.getSimpleName())
+                .tag(MetricsConstants.EXCEPTION_TAG, DoctorNotFoundException.class.getSimpleName())
+                .timer().count());
+    }
+
+    private Timer serviceTimer(String exceptionName) {
+        return meterRegistry.get(MetricsConstants.SERVICE_TIMER)
+                .tag(MetricsConstants.CLASS_TAG, DoctorService.class.getSimpleName())
+                .tag(MetricsConstants.METHOD_TAG, "getDoctorById")
+                .tag(MetricsConstants.EXCEPTION_TAG, exceptionName)
+                .timer();
+    }
+}
@@ -0,0 +1,65 @@
+package com.theelixrlabs.healthcare.config;
+
+import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import com.theelixrlabs.healthcare.constants.IndexConstants;
+import com.theelixrlabs.healthcare.migration.StartupMigrationRunner;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the QueryPlanVerifier against a MongoDB container, skipped when no Docker daemon is available.
+ * The verification is enabled at startup too, so the context only starts when no repository query is planned as a
+ * collection scan.
+ */
+@DataMongoTest(properties = "healthcare.mongo.indexes.verify-query-plans=true")
+@Testcontainers(disabledWithoutDocker = true)
+@Import({QueryPlanConfig.class, QueryPlanVerifier.class, MongoIndexInitializer.class, StartupMigrationRunner.class})
+public class QueryPlanVerifierMongoTest {
+
+    @Container
+    @ServiceConnection
+    static final MongoDBContainer MONGO_DB_CONTAINER = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private QueryPlanVerifier queryPlanVerifier;
+
+    @Autowired
+    private MongoIndexInitializer mongoIndexInitializer;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * With the declared indexes in place no repository query is planned as a collection scan.
+     */
+    @Test
+    public void findCollectionScans_DeclaredIndexes_ReportsNone() {
+        mongoIndexInitializer.ensureIndexes();
+        assertEquals(List.of(), queryPlanVerifier.findCollectionScans());
+    }
+
+    /**
+     * Without the Aadhaar number index the lookups by Aadhaar number are reported, which shows the explained commands
+     * are the ones the repositories send.
+     */
+    @Test
+    public void findCollectionScans_MissingIndex_ReportsQueries() {
+        mongoIndexInitializer.ensureIndexes();
+        mongoTemplate.getCollection(DoctorConstants.DOCTORS_COLLECTION_NAME).dropIndex(IndexConstants.DOCTOR_AADHAAR_NUMBER_INDEX);
+        try {
+            assertEquals(List.of("DoctorRepository.findByAadhaarNumber", "DoctorRepository.findByAadhaarNumberIn"),
+                    queryPlanVerifier.findCollectionScans());
+        } finally {
+            mongoIndexInitializer.ensureIndexes();
+        }
+    }
+}
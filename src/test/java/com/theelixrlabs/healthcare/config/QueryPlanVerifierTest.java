@@ -0,0 +1,47 @@
+package com.theelixrlabs.healthcare.config;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the COLLSCAN detection of the QueryPlanVerifier.
+ */
+public class QueryPlanVerifierTest {
+
+    /**
+     * An index scan feeding a fetch stage should not be reported.
+     */
+    @Test
+    public void usesCollectionScan_IndexScan() {
+        Document explainResult = new Document("queryPlanner", new Document("winningPlan",
+                new Document("stage", "FETCH").append("inputStage",
+                        new Document("stage", "IXSCAN").append("indexName", "doctor_aadhaar_number_idx"))));
+        assertFalse(QueryPlanVerifier.usesCollectionScan(explainResult));
+    }
+
+    /**
+     * A collection scan nested below other stages should be reported.
+     */
+    @Test
+    public void usesCollectionScan_NestedCollectionScan() {
+        Document explainResult = new Document("queryPlanner", new Document("winningPlan",
+                new Document("stage", "SUBPLAN").append("inputStage",
+                        new Document("stage", "OR").append("inputStages", List.of(
+                                new Document("stage", "IXSCAN"),
+                                new Document("stage", "COLLSCAN"))))));
+        assertTrue(QueryPlanVerifier.usesCollectionScan(explainResult));
+    }
+
+    /**
+     * Slot based execution plans wrap the classic plan in a queryPlan document.
+     */
+    @Test
+    public void usesCollectionScan_SlotBasedPlan() {
+        Document explainResult = new Document("queryPlanner", new Document("winningPlan",
+                new Document("queryPlan", new Document("stage", "COLLSCAN"))));
+        assertTrue(QueryPlanVerifier.usesCollectionScan(explainResult));
+    }
+}
@@ -0,0 +1,32 @@
+package com.theelixrlabs.healthcare.controller;
+
+import com.theelixrlabs.healthcare.constants.DatabaseCallConstants;
+import org.springframework.test.web.servlet.ResultMatcher;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Result matchers on the X-Db-Calls header, for MockMvc setups registering DatabaseCallFilter and DatabaseCallResponseAdvice.
+ * Guards endpoints against N+1 query patterns creeping back in.
+ */
+public final class DatabaseCallMatchers {
+
+    private DatabaseCallMatchers() {
+    }
+
+    /**
+     * Asserts that the request issued at most the given number of database commands.
+     *
+     * @param maximumCommands The maximum number of commands.
+     * @return The matcher.
+     */
+    public static ResultMatcher atMostDatabaseCalls(long maximumCommands) {
+        return result -> {
+            String headerValue = result.getResponse().getHeader(DatabaseCallConstants.HEADER_NAME);
+            assertNotNull(headerValue, DatabaseCallConstants.HEADER_NAME + " header is missing");
+            long commands = Long.parseLong(headerValue.substring(headerValue.indexOf('=') + 1, headerValue.indexOf(';')));
+            assertTrue(commands <= maximumCommands,
+                    "Expected at most " + maximumCommands + " database calls but was " + commands + " (" + headerValue + ")");
+        };
+    }
+}
@@ -1,15 +1,22 @@
 package com.theelixrlabs.healthcare.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theelixrlabs.healthcare.config.DatabaseCallBudgetAction;
+import com.theelixrlabs.healthcare.config.DatabaseCallFilter;
+import com.theelixrlabs.healthcare.config.DatabaseCallResponseAdvice;
 import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
 import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import com.theelixrlabs.healthcare.constants.MessageConstants;
 import com.theelixrlabs.healthcare.constants.TestConstants;
 import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.PageDto;
 import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
 import com.theelixrlabs.healthcare.exceptionHandler.GlobalExceptionHandler;
 import com.theelixrlabs.healthcare.response.FailureResponse;
 import com.theelixrlabs.healthcare.response.SuccessResponse;
 import com.theelixrlabs.healthcare.service.DoctorService;
+import com.theelixrlabs.healthcare.utility.DatabaseCallCounter;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -21,8 +28,12 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import static com.theelixrlabs.healthcare.controller.DatabaseCallMatchers.atMostDatabaseCalls;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -40,6 +51,9 @@ public class DoctorControllerTest {
     @Mock
     private DoctorService doctorService;
 
+    @Mock
+    private MessageUtil messageUtil;
+
     private List<DoctorDto> doctorDtoList;
 
     @BeforeEach
@@ -74,7 +88,7 @@ public class DoctorControllerTest {
     @Test
     public void getDoctorsByName_Success() throws Exception {
         String doctorName = TestConstants.DOCTOR_NAME;
-        when(doctorService.getDoctorsByName(doctorName)).thenReturn(doctorDtoList);
+        when(doctorService.getDoctorsByName(doctorName, null, 50)).thenReturn(new PageDto<>(doctorDtoList, null));
         ResultActions actualResponse = mockMvc.perform(get(ApiPathsConstant.DOCTORS_BY_NAME_ENDPOINT)
                 .param(DoctorConstants.DOCTOR_NAME_PARAM, doctorName)
                 .contentType(MediaType.APPLICATION_JSON));
@@ -93,7 +107,7 @@ public class DoctorControllerTest {
     @Test
     public void getDoctorsByName_ReturnsNotFoundException() throws Exception {
         String doctorName = TestConstants.DOCTOR_NAME;
-        when(doctorService.getDoctorsByName(doctorName)).thenThrow(new DoctorNotFoundException(TestConstants.DOCTOR_NAME_NOT_FOUND));
+        when(doctorService.getDoctorsByName(doctorName, null, 50)).thenThrow(new DoctorNotFoundException(TestConstants.DOCTOR_NAME_NOT_FOUND));
         ResultActions response = mockMvc.perform(get(ApiPathsConstant.DOCTORS_BY_NAME_ENDPOINT)
                 .param(DoctorConstants.DOCTOR_NAME_PARAM, doctorName)
                 .contentType(MediaType.APPLICATION_JSON));
@@ -103,4 +117,58 @@ public class DoctorControllerTest {
         String expectedResponseData = objectMapper.writeValueAsString(failureResponse);
         assertEquals(expectedResponseData, actualResponseData);
     }
+
+    /**
+     * This test verifies that the database calls of the request are reported and stay within the budget of the endpoint.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void getDoctorsByName_StaysWithinDatabaseCallBudget() throws Exception {
+        String doctorName = TestConstants.DOCTOR_NAME;
+        when(doctorService.getDoctorsByName(doctorName, null, 50)).thenAnswer(invocation -> {
+            DatabaseCallCounter.current().recordCommand(2, 512);
+            return new PageDto<>(doctorDtoList, null);
+        });
+        ResultActions actualResponse = countingMockMvc(DatabaseCallBudgetAction.FAIL)
+                .perform(get(ApiPathsConstant.DOCTORS_BY_NAME_ENDPOINT)
+                        .param(DoctorConstants.DOCTOR_NAME_PARAM, doctorName)
+                        .contentType(MediaType.APPLICATION_JSON));
+        actualResponse.andExpect(status().isOk())
+                .andExpect(atMostDatabaseCalls(1));
+        assertEquals("commands=1;documents=2;bytes=512", actualResponse.andReturn().getResponse().getHeader("X-Db-Calls"));
+    }
+
+    /**
+     * This test verifies that a request exceeding the database call budget of its endpoint fails when the budget is enforced.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void getDoctorsByName_ExceedsDatabaseCallBudget() throws Exception {
+        String doctorName = TestConstants.DOCTOR_NAME;
+        String budgetExceededMessage = "DoctorController.getDoctorsByName issued 2 database commands, its budget is 1";
+        when(messageUtil.getMessage(eq(MessageConstants.DATABASE_CALL_BUDGET_EXCEEDED), any())).thenReturn(budgetExceededMessage);
+        when(doctorService.getDoctorsByName(doctorName, null, 50)).thenAnswer(invocation -> {
+            DatabaseCallCounter.current().recordCommand(1, 256);
+            DatabaseCallCounter.current().recordCommand(1, 256);
+            return new PageDto<>(doctorDtoList, null);
+        });
+        ResultActions response = countingMockMvc(DatabaseCallBudgetAction.FAIL)
+                .perform(get(ApiPathsConstant.DOCTORS_BY_NAME_ENDPOINT)
+                        .param(DoctorConstants.DOCTOR_NAME_PARAM, doctorName)
+                        .contentType(MediaType.APPLICATION_JSON));
+        response.andExpect(status().isInternalServerError());
+        String actualResponseData = response.andReturn().getResponse().getContentAsString();
+        FailureResponse failureResponse = new FailureResponse(false, List.of(budgetExceededMessage));
+        assertEquals(objectMapper.writeValueAsString(failureResponse), actualResponseData);
+    }
+
+    private MockMvc countingMockMvc(DatabaseCallBudgetAction budgetAction) {
+        return MockMvcBuilders.standaloneSetup(new DoctorController(doctorService))
+                .setControllerAdvice(new GlobalExceptionHandler(),
+                        new DatabaseCallResponseAdvice(Map.of("DoctorController.getDoctorsByName", 1), -1, budgetAction, messageUtil))
+                .addFilters(new DatabaseCallFilter())
+                .build();
+    }
 }
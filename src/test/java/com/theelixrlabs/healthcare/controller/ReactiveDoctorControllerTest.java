@@ -0,0 +1,100 @@
+package com.theelixrlabs.healthcare.controller;
+
+import com.theelixrlabs.healthcare.constants.ApiPathsConstant;
+import com.theelixrlabs.healthcare.constants.TestConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorException;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
+import com.theelixrlabs.healthcare.exceptionHandler.GlobalExceptionHandler;
+import com.theelixrlabs.healthcare.service.DoctorService;
+import com.theelixrlabs.healthcare.service.ReactiveDoctorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import java.util.UUID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Contains test methods for the Reactive Doctor Controller.
+ * Uses WebTestClient to verify that the reactive endpoints keep the SuccessResponse and FailureResponse contracts.
+ */
+public class ReactiveDoctorControllerTest {
+
+    private static final String DOCTOR_ID = "44fdebfc-7f49-455f-b98b-7d5eef4fe4fb";
+
+    private WebTestClient webTestClient;
+
+    @Mock
+    private ReactiveDoctorService reactiveDoctorService;
+
+    @Mock
+    private DoctorService doctorService;
+
+    private DoctorDto doctorDto;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        webTestClient = WebTestClient.bindToController(new ReactiveDoctorController(reactiveDoctorService, doctorService))
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+        doctorDto = DoctorDto.builder()
+                .id(UUID.fromString(DOCTOR_ID))
+                .firstName("John")
+                .lastName("Doe")
+                .department("Cardiology")
+                .aadhaarNumber("9567 8856 3467")
+                .build();
+    }
+
+    /**
+     * A doctor read without blocking is wrapped in a SuccessResponse.
+     */
+    @Test
+    public void getDoctorById_ReturnsSuccessResponse() {
+        when(reactiveDoctorService.getDoctorById(DOCTOR_ID)).thenReturn(Mono.just(doctorDto));
+        webTestClient.get().uri(TestConstants.DOCTOR_ENDPOINT + DOCTOR_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath(TestConstants.SUCCESS_EXPRESSION).isEqualTo(true)
+                .jsonPath("$.responseData.firstName").isEqualTo("John");
+    }
+
+    /**
+     * A failed Mono is answered by the GlobalExceptionHandler like a thrown exception.
+     */
+    @Test
+    public void getDoctorById_NotFound_ReturnsFailureResponse() {
+        when(reactiveDoctorService.getDoctorById(DOCTOR_ID))
+                .thenReturn(Mono.error(new DoctorNotFoundException(TestConstants.DOCTOR_NOT_FOUND_MESSAGE)));
+        webTestClient.get().uri(TestConstants.DOCTOR_ENDPOINT + DOCTOR_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath(TestConstants.SUCCESS_EXPRESSION).isEqualTo(false)
+                .jsonPath(TestConstants.TEST_RESULT_ARRAY_EXPRESSION).isEqualTo(TestConstants.DOCTOR_NOT_FOUND_MESSAGE);
+    }
+
+    /**
+     * Writes run the blocking DoctorService and map its exceptions to the same failure response.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void createDoctor_RunsBlockingServiceAndMapsFailures() throws Exception {
+        when(doctorService.saveDoctor(any(DoctorDto.class))).thenThrow(new DoctorException("Aadhaar number already present"));
+        webTestClient.post().uri(ApiPathsConstant.CREATE_DOCTOR_END_POINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(doctorDto)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath(TestConstants.TEST_RESULT_ARRAY_EXPRESSION).isEqualTo("Aadhaar number already present");
+    }
+}
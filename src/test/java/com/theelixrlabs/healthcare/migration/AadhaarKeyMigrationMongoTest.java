@@ -0,0 +1,61 @@
+package com.theelixrlabs.healthcare.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexOptions;
+import com.theelixrlabs.healthcare.constants.DoctorConstants;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the AadhaarKeyMigration against a MongoDB container, skipped when no Docker daemon is available.
+ */
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(AadhaarKeyMigration.class)
+public class AadhaarKeyMigrationMongoTest {
+
+    @Container
+    @ServiceConnection
+    static final MongoDBContainer MONGO_DB_CONTAINER = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private AadhaarKeyMigration aadhaarKeyMigration;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * A malformed number and a number whose key is already taken under the unique index stay strings, the other
+     * documents are still converted.
+     */
+    @Test
+    public void migrate_MalformedAndTakenNumbers_ConvertsTheOthers() {
+        MongoCollection<Document> doctors = mongoTemplate.getCollection(DoctorConstants.DOCTORS_COLLECTION_NAME);
+        doctors.drop();
+        doctors.createIndex(new Document(DoctorConstants.AADHAAR_NUMBER_FIELD, 1), new IndexOptions().unique(true));
+        doctors.insertMany(List.of(
+                new Document("_id", "taken").append(DoctorConstants.AADHAAR_NUMBER_FIELD, "2345 6789 0123"),
+                new Document("_id", "converted").append(DoctorConstants.AADHAAR_NUMBER_FIELD, 234567890123L),
+                new Document("_id", "malformed").append(DoctorConstants.AADHAAR_NUMBER_FIELD, "2345 ABCD 0123"),
+                new Document("_id", "legacy").append(DoctorConstants.AADHAAR_NUMBER_FIELD, "1234 5678 9012")));
+        aadhaarKeyMigration.migrate();
+        assertEquals("2345 6789 0123", aadhaarNumber(doctors, "taken"));
+        assertEquals(234567890123L, aadhaarNumber(doctors, "converted"));
+        assertEquals("2345 ABCD 0123", aadhaarNumber(doctors, "malformed"));
+        assertEquals(123456789012L, aadhaarNumber(doctors, "legacy"));
+    }
+
+    private Object aadhaarNumber(MongoCollection<Document> doctors, String documentId) {
+        return doctors.find(new Document("_id", documentId)).first().get(DoctorConstants.AADHAAR_NUMBER_FIELD);
+    }
+}
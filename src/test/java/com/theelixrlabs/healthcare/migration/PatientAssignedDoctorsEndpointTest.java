@@ -0,0 +1,117 @@
+package com.theelixrlabs.healthcare.migration;
+
+import com.theelixrlabs.healthcare.constants.MigrationConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import com.theelixrlabs.healthcare.model.PatientAssignedDoctorsModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import com.theelixrlabs.healthcare.repository.InMemoryDoctorPatientAssignmentRepository;
+import com.theelixrlabs.healthcare.repository.InMemoryDoctorRepository;
+import com.theelixrlabs.healthcare.repository.InMemoryPatientAssignedDoctorsRepository;
+import com.theelixrlabs.healthcare.repository.InMemoryPatientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the PatientAssignedDoctorsEndpoint, with the in-memory repositories standing in for the database.
+ */
+public class PatientAssignedDoctorsEndpointTest {
+
+    private InMemoryDoctorRepository doctorRepository;
+    private InMemoryPatientRepository patientRepository;
+    private InMemoryDoctorPatientAssignmentRepository doctorPatientAssignmentRepository;
+    private InMemoryPatientAssignedDoctorsRepository patientAssignedDoctorsRepository;
+    private PatientAssignedDoctorsEndpoint patientAssignedDoctorsEndpoint;
+
+    @BeforeEach
+    public void setUp() {
+        doctorRepository = new InMemoryDoctorRepository();
+        patientRepository = new InMemoryPatientRepository();
+        doctorPatientAssignmentRepository = new InMemoryDoctorPatientAssignmentRepository(doctorRepository, patientRepository);
+        patientAssignedDoctorsRepository = new InMemoryPatientAssignedDoctorsRepository(doctorRepository, patientRepository,
+                doctorPatientAssignmentRepository);
+        patientAssignedDoctorsEndpoint = new PatientAssignedDoctorsEndpoint(patientAssignedDoctorsRepository);
+    }
+
+    /**
+     * A doctor left in the read model after its assignment was closed is dropped by the rebuild, the doctors of active
+     * assignments are kept.
+     */
+    @Test
+    public void rebuild_DropsDoctorsOfClosedAssignments() {
+        UUID patientId = savePatient();
+        UUID activeDoctorId = saveDoctor(234567890123L);
+        UUID closedDoctorId = saveDoctor(345678901234L);
+        Date dateOfAssignment = new Date();
+        assign(activeDoctorId, patientId, dateOfAssignment);
+        assign(closedDoctorId, patientId, dateOfAssignment);
+        doctorPatientAssignmentRepository.unassignActiveAssignment(closedDoctorId, patientId, new Date());
+        Map<String, Long> rebuildResult = patientAssignedDoctorsEndpoint.rebuild();
+        assertEquals(Map.of(MigrationConstants.REBUILT_PATIENTS_KEY, 1L), rebuildResult);
+        assertEquals(List.of(activeDoctorId), assignedDoctorIds(patientId));
+    }
+
+    /**
+     * The read model write of an assignment that was closed in the meantime writes nothing.
+     */
+    @Test
+    public void addAssignedDoctor_ClosedAssignment_WritesNothing() {
+        UUID patientId = savePatient();
+        UUID doctorId = saveDoctor(234567890123L);
+        Date dateOfAssignment = new Date();
+        doctorPatientAssignmentRepository.insert(assignment(doctorId, patientId, dateOfAssignment));
+        doctorPatientAssignmentRepository.unassignActiveAssignment(doctorId, patientId, new Date());
+        patientAssignedDoctorsRepository.addAssignedDoctor(doctorId, patientId, dateOfAssignment);
+        assertTrue(patientAssignedDoctorsRepository.findById(patientId).isEmpty());
+    }
+
+    private void assign(UUID doctorId, UUID patientId, Date dateOfAssignment) {
+        doctorPatientAssignmentRepository.insert(assignment(doctorId, patientId, dateOfAssignment));
+        patientAssignedDoctorsRepository.addAssignedDoctor(doctorId, patientId, dateOfAssignment);
+    }
+
+    private List<UUID> assignedDoctorIds(UUID patientId) {
+        List<UUID> assignedDoctorIds = new ArrayList<>();
+        for (DoctorDto assignedDoctor : patientAssignedDoctorsRepository.findById(patientId)
+                .map(PatientAssignedDoctorsModel::getAssignedDoctors).orElse(List.of())) {
+            assignedDoctorIds.add(assignedDoctor.getId());
+        }
+        return assignedDoctorIds;
+    }
+
+    private DoctorPatientAssignmentModel assignment(UUID doctorId, UUID patientId, Date dateOfAssignment) {
+        return DoctorPatientAssignmentModel.builder()
+                .id(UUID.randomUUID())
+                .doctorId(doctorId)
+                .patientId(patientId)
+                .dateOfAssignment(dateOfAssignment)
+                .build();
+    }
+
+    private UUID saveDoctor(long aadhaarNumber) {
+        return doctorRepository.save(DoctorModel.builder()
+                .id(UUID.randomUUID())
+                .firstName("Sambit")
+                .lastName("Sahu")
+                .department("Psychology")
+                .aadhaarNumber(aadhaarNumber)
+                .build()).getId();
+    }
+
+    private UUID savePatient() {
+        return patientRepository.save(PatientModel.builder()
+                .id(UUID.randomUUID())
+                .patientFirstName("Anand")
+                .patientLastName("Nair")
+                .patientAadhaarNumber(456789012345L)
+                .build()).getId();
+    }
+}
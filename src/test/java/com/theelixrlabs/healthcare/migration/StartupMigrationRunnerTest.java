@@ -0,0 +1,55 @@
+package com.theelixrlabs.healthcare.migration;
+
+import com.theelixrlabs.healthcare.config.MongoIndexInitializer;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for the StartupMigrationRunner class.
+ */
+public class StartupMigrationRunnerTest {
+
+    /**
+     * The data migrations run before the index bootstrap and the read model is rebuilt last.
+     */
+    @Test
+    public void afterSingletonsInstantiated_RunsStepsInOrder() {
+        AadhaarKeyMigration aadhaarKeyMigration = mock(AadhaarKeyMigration.class);
+        SearchNameBackfill searchNameBackfill = mock(SearchNameBackfill.class);
+        MongoIndexInitializer mongoIndexInitializer = mock(MongoIndexInitializer.class);
+        PatientAssignedDoctorsRebuild patientAssignedDoctorsRebuild = mock(PatientAssignedDoctorsRebuild.class);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("patientAssignedDoctorsRebuild", patientAssignedDoctorsRebuild);
+        beanFactory.addBean("mongoIndexInitializer", mongoIndexInitializer);
+        beanFactory.addBean("searchNameBackfill", searchNameBackfill);
+        beanFactory.addBean("aadhaarKeyMigration", aadhaarKeyMigration);
+        new StartupMigrationRunner(beanFactory.getBeanProvider(AadhaarKeyMigration.class),
+                beanFactory.getBeanProvider(SearchNameBackfill.class),
+                beanFactory.getBeanProvider(MongoIndexInitializer.class),
+                beanFactory.getBeanProvider(PatientAssignedDoctorsRebuild.class)).afterSingletonsInstantiated();
+        InOrder inOrder = inOrder(aadhaarKeyMigration, searchNameBackfill, mongoIndexInitializer, patientAssignedDoctorsRebuild);
+        inOrder.verify(aadhaarKeyMigration).run();
+        inOrder.verify(searchNameBackfill).run();
+        inOrder.verify(mongoIndexInitializer).run();
+        inOrder.verify(patientAssignedDoctorsRebuild).run();
+    }
+
+    /**
+     * Steps whose beans are missing, such as the index bootstrap in a slice test, are skipped.
+     */
+    @Test
+    public void afterSingletonsInstantiated_SkipsMissingSteps() {
+        AadhaarKeyMigration aadhaarKeyMigration = mock(AadhaarKeyMigration.class);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("aadhaarKeyMigration", aadhaarKeyMigration);
+        new StartupMigrationRunner(beanFactory.getBeanProvider(AadhaarKeyMigration.class),
+                beanFactory.getBeanProvider(SearchNameBackfill.class),
+                beanFactory.getBeanProvider(MongoIndexInitializer.class),
+                beanFactory.getBeanProvider(PatientAssignedDoctorsRebuild.class)).afterSingletonsInstantiated();
+        verify(aadhaarKeyMigration).run();
+    }
+}
@@ -0,0 +1,74 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the in-memory edges of the AssignmentGraph.
+ */
+public class AssignmentGraphTest {
+
+    private static final UUID DOCTOR_ID = UUID.fromString("44fdebfc-7f49-455f-b98b-7d5eef4fe4fb");
+    private static final UUID LOW_PATIENT_ID = UUID.fromString("00000000-0000-4000-8000-000000000001");
+    private static final UUID HIGH_PATIENT_ID = UUID.fromString("f0000000-0000-4000-8000-000000000001");
+
+    private AssignmentGraph assignmentGraph;
+
+    @BeforeEach
+    public void setUp() {
+        assignmentGraph = new AssignmentGraph(null, false);
+    }
+
+    /**
+     * Patients are paged in unsigned byte order, so ids with the sign bit set come after the others like in MongoDB.
+     */
+    @Test
+    public void findActiveAssignmentsOfDoctor_PagesInMongoUuidOrder() {
+        Date dateOfAssignment = new Date();
+        assignmentGraph.addAssignment(DOCTOR_ID, HIGH_PATIENT_ID, dateOfAssignment);
+        assignmentGraph.addAssignment(DOCTOR_ID, LOW_PATIENT_ID, dateOfAssignment);
+        List<DoctorPatientAssignmentModel> firstPage = assignmentGraph.findActiveAssignmentsOfDoctor(DOCTOR_ID, null, 1);
+        assertEquals(1, firstPage.size());
+        assertEquals(LOW_PATIENT_ID, firstPage.get(0).getPatientId());
+        assertEquals(dateOfAssignment, firstPage.get(0).getDateOfAssignment());
+        List<DoctorPatientAssignmentModel> secondPage = assignmentGraph.findActiveAssignmentsOfDoctor(DOCTOR_ID, LOW_PATIENT_ID, 1);
+        assertEquals(HIGH_PATIENT_ID, secondPage.get(0).getPatientId());
+        assertTrue(assignmentGraph.findActiveAssignmentsOfDoctor(DOCTOR_ID, HIGH_PATIENT_ID, 1).isEmpty());
+    }
+
+    /**
+     * Removing the last assignment of either side leaves no active edge in both directions.
+     */
+    @Test
+    public void removeAssignment_RemovesBothDirections() {
+        Date dateOfAssignment = new Date();
+        assignmentGraph.addAssignment(DOCTOR_ID, LOW_PATIENT_ID, dateOfAssignment);
+        assertTrue(assignmentGraph.hasActivePatients(DOCTOR_ID));
+        assertTrue(assignmentGraph.hasActiveDoctors(LOW_PATIENT_ID));
+        assignmentGraph.removeAssignment(DOCTOR_ID, LOW_PATIENT_ID, dateOfAssignment);
+        assertFalse(assignmentGraph.hasActivePatients(DOCTOR_ID));
+        assertFalse(assignmentGraph.hasActiveDoctors(LOW_PATIENT_ID));
+        assertTrue(assignmentGraph.findActiveAssignmentsOfDoctor(DOCTOR_ID, null, 10).isEmpty());
+    }
+
+    /**
+     * Closing an older assignment of the same doctor and patient keeps the edge of the newer one.
+     */
+    @Test
+    public void removeAssignment_KeepsEdgeOfNewerAssignment() {
+        Date firstDateOfAssignment = new Date(1_000L);
+        Date secondDateOfAssignment = new Date(2_000L);
+        assignmentGraph.addAssignment(DOCTOR_ID, LOW_PATIENT_ID, secondDateOfAssignment);
+        assignmentGraph.removeAssignment(DOCTOR_ID, LOW_PATIENT_ID, firstDateOfAssignment);
+        assertTrue(assignmentGraph.hasActivePatients(DOCTOR_ID));
+        assertTrue(assignmentGraph.hasActiveDoctors(LOW_PATIENT_ID));
+        assertEquals(secondDateOfAssignment, assignmentGraph.findActiveAssignmentsOfDoctor(DOCTOR_ID, null, 1).get(0).getDateOfAssignment());
+    }
+}
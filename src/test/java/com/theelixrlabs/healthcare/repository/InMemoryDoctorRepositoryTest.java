@@ -0,0 +1,132 @@
+package com.theelixrlabs.healthcare.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.utility.NameSearchUtil;
+import com.theelixrlabs.healthcare.utility.PageCursorUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the indexes of the InMemoryDoctorRepository.
+ */
+public class InMemoryDoctorRepositoryTest {
+
+    private InMemoryDoctorRepository inMemoryDoctorRepository;
+
+    @BeforeEach
+    public void setUp() {
+        inMemoryDoctorRepository = new InMemoryDoctorRepository();
+    }
+
+    /**
+     * A second doctor with a stored Aadhaar number is rejected like by the unique index, in single and bulk inserts.
+     */
+    @Test
+    public void save_RejectsDuplicateAadhaarNumber() {
+        inMemoryDoctorRepository.save(doctor("Shahana", "Salim", 234567890123L));
+        assertThrows(DuplicateKeyException.class, () -> inMemoryDoctorRepository.save(doctor("Sambit", "Sahu", 234567890123L)));
+        List<BulkWriteError> writeErrors = inMemoryDoctorRepository.insertAllUnordered(List.of(
+                doctor("Sambit", "Sahu", 345678901234L), doctor("Anand", "Nair", 234567890123L)));
+        assertEquals(1, writeErrors.size());
+        assertEquals(1, writeErrors.get(0).getIndex());
+        assertEquals(2, inMemoryDoctorRepository.count());
+    }
+
+    /**
+     * Pages walk the first name matches and then the remaining last name matches, without repeating a doctor.
+     */
+    @Test
+    public void searchByDoctorName_PagesThroughBothBranches() {
+        inMemoryDoctorRepository.save(doctor("Salim", "Nair", 234567890123L));
+        inMemoryDoctorRepository.save(doctor("Sambit", "Sahu", 345678901234L));
+        inMemoryDoctorRepository.save(doctor("Anand", "Sahu", 456789012345L));
+        String namePrefix = NameSearchUtil.normalize("Sa");
+        String namePrefixUpperBound = NameSearchUtil.prefixUpperBound(namePrefix);
+        PageDto<List<DoctorModel>> firstPage = inMemoryDoctorRepository.searchByDoctorName(namePrefix, namePrefixUpperBound, null, 2);
+        assertEquals(List.of("Salim", "Sambit"), firstPage.getContent().stream().map(DoctorModel::getFirstName).toList());
+        KeysetCursor nextCursor = PageCursorUtil.decode(firstPage.getNextCursor());
+        PageDto<List<DoctorModel>> secondPage = inMemoryDoctorRepository.searchByDoctorName(namePrefix, namePrefixUpperBound, nextCursor, 2);
+        assertEquals(List.of("Anand"), secondPage.getContent().stream().map(DoctorModel::getFirstName).toList());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    /**
+     * A patch moves the doctor in the name and Aadhaar indexes.
+     */
+    @Test
+    public void patchDoctor_UpdatesIndexes() {
+        DoctorModel doctorModel = doctor("Salim", "Nair", 234567890123L);
+        inMemoryDoctorRepository.save(doctorModel);
+        inMemoryDoctorRepository.patchDoctor(doctorModel.getId(), Map.of(
+                "firstName", "Meera", "normalizedFirstName", "meera", "aadhaarNumber", 345678901234L));
+        String namePrefix = NameSearchUtil.normalize("Sa");
+        assertTrue(inMemoryDoctorRepository.searchByDoctorName(namePrefix, NameSearchUtil.prefixUpperBound(namePrefix), null, 10)
+                .getContent().isEmpty());
+        assertTrue(inMemoryDoctorRepository.findByAadhaarNumber(234567890123L).isEmpty());
+        assertEquals("Meera", inMemoryDoctorRepository.findByAadhaarNumber(345678901234L).orElseThrow().getFirstName());
+    }
+
+    /**
+     * Sorted and paged reads order the documents by every order of the sort, one after the other.
+     */
+    @Test
+    public void findAll_SortsByEveryOrder() {
+        inMemoryDoctorRepository.save(doctor("Salim", "Nair", 234567890123L));
+        inMemoryDoctorRepository.save(doctor("Sambit", "Sahu", 345678901234L));
+        inMemoryDoctorRepository.save(doctor("Anand", "Sahu", 456789012345L));
+        List<DoctorModel> sortedDoctors = inMemoryDoctorRepository.findAll(Sort.by(Sort.Order.desc("lastName"), Sort.Order.asc("firstName")));
+        assertEquals(List.of("Anand", "Sambit", "Salim"), sortedDoctors.stream().map(DoctorModel::getFirstName).toList());
+        Page<DoctorModel> secondPage = inMemoryDoctorRepository.findAll(PageRequest.of(1, 2, Sort.by("firstName")));
+        assertEquals(List.of("Sambit"), secondPage.getContent().stream().map(DoctorModel::getFirstName).toList());
+        assertEquals(3, secondPage.getTotalElements());
+    }
+
+    /**
+     * Example queries match the set properties of the probe with the string matcher of the example.
+     */
+    @Test
+    public void findAll_MatchesExample() {
+        inMemoryDoctorRepository.save(doctor("Salim", "Nair", 234567890123L));
+        inMemoryDoctorRepository.save(doctor("Sambit", "Sahu", 345678901234L));
+        inMemoryDoctorRepository.save(doctor("Anand", "Sahu", 456789012345L));
+        Example<DoctorModel> lastNameExample = Example.of(DoctorModel.builder().lastName("sa").build(),
+                ExampleMatcher.matching().withStringMatcher(ExampleMatcher.StringMatcher.STARTING).withIgnoreCase());
+        assertEquals(List.of("Anand", "Sambit"), inMemoryDoctorRepository.findAll(lastNameExample, Sort.by("firstName")).stream()
+                .map(DoctorModel::getFirstName).toList());
+        assertEquals(2, inMemoryDoctorRepository.count(lastNameExample));
+        assertEquals("Anand", inMemoryDoctorRepository.findBy(lastNameExample,
+                doctorQuery -> doctorQuery.sortBy(Sort.by("firstName")).firstValue()).getFirstName());
+        Example<DoctorModel> firstNameExample = Example.of(DoctorModel.builder().firstName("Salim").build());
+        assertEquals("Nair", inMemoryDoctorRepository.findOne(firstNameExample).orElseThrow().getLastName());
+        assertFalse(inMemoryDoctorRepository.exists(Example.of(DoctorModel.builder().firstName("salim").build())));
+    }
+
+    private DoctorModel doctor(String firstName, String lastName, long aadhaarNumber) {
+        return DoctorModel.builder()
+                .id(UUID.randomUUID())
+                .firstName(firstName)
+                .lastName(lastName)
+                .normalizedFirstName(NameSearchUtil.normalize(firstName))
+                .normalizedLastName(NameSearchUtil.normalize(lastName))
+                .department("Psychology")
+                .aadhaarNumber(aadhaarNumber)
+                .build();
+    }
+}
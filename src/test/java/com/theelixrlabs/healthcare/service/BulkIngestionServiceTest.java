@@ -0,0 +1,121 @@
+package com.theelixrlabs.healthcare.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.dto.BulkIngestionResultDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.repository.PatientRepository;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.validation.Validator;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the BulkIngestionService class.
+ */
+public class BulkIngestionServiceTest {
+
+    private static final String DUPLICATE_IN_BATCH_MESSAGE = "Aadhaar Number is already used by record 0 of the batch";
+    private static final String AADHAAR_EXISTS_MESSAGE = "Aadhaar Number already exists";
+
+    @Mock
+    private PatientRepository patientRepository;
+    @Mock
+    private DoctorRepository doctorRepository;
+    @Mock
+    private Validator validator;
+    @Mock
+    private jakarta.validation.Validator beanValidator;
+    @Mock
+    private MessageUtil messageUtil;
+
+    private BulkIngestionService bulkIngestionService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        bulkIngestionService = new BulkIngestionService(patientRepository, doctorRepository, validator, beanValidator,
+                messageUtil, 2, 100);
+        when(messageUtil.getMessage(eq(MessageConstants.BULK_AADHAAR_NUMBER_DUPLICATE_IN_BATCH), any())).thenReturn(DUPLICATE_IN_BATCH_MESSAGE);
+        when(messageUtil.getMessage(MessageConstants.PATIENT_AADHAAR_NUMBER_EXISTS)).thenReturn(AADHAAR_EXISTS_MESSAGE);
+        when(patientRepository.findByPatientAadhaarNumberIn(any())).thenReturn(new ArrayList<>());
+        when(patientRepository.insertAllUnordered(anyList())).thenReturn(new ArrayList<>());
+    }
+
+    /**
+     * A repeated Aadhaar number fails every record after the first one, a stored Aadhaar number fails its record.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void addPatients_ReportsDuplicatesWithinBatchAndDatabase() throws Exception {
+        when(patientRepository.findByPatientAadhaarNumberIn(any())).thenReturn(List.of(PatientModel.builder()
+                .patientAadhaarNumber(345678901234L)
+                .build()));
+        List<PatientDto> patientDtoList = List.of(patient("234567890123"), patient("234567890123"), patient("345678901234"));
+        BulkIngestionResultDto<PatientDto> result = bulkIngestionService.addPatients(patientDtoList);
+        assertEquals(1, result.getSuccessCount());
+        assertEquals(2, result.getFailureCount());
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertEquals("2345 6789 0123", result.getResults().get(0).getData().getPatientAadhaarNumber());
+        assertEquals(List.of(DUPLICATE_IN_BATCH_MESSAGE), result.getResults().get(1).getErrors());
+        assertEquals(List.of(AADHAAR_EXISTS_MESSAGE), result.getResults().get(2).getErrors());
+    }
+
+    /**
+     * Write errors of the unordered bulk insert are mapped back to the records they belong to.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void addPatients_MapsBulkWriteErrorsToRecords() throws Exception {
+        when(patientRepository.insertAllUnordered(anyList()))
+                .thenReturn(List.of(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 1)));
+        BulkIngestionResultDto<PatientDto> result = bulkIngestionService.addPatients(
+                List.of(patient("234567890123"), patient("345678901234")));
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertFalse(result.getResults().get(1).isSuccess());
+        assertEquals(List.of(AADHAAR_EXISTS_MESSAGE), result.getResults().get(1).getErrors());
+    }
+
+    /**
+     * The database is queried and written once per chunk, not once per record.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void addPatients_RunsOneLookupAndOneBulkWritePerChunk() throws Exception {
+        List<PatientDto> patientDtoList = new ArrayList<>();
+        for (int index = 0; index < 5; index++) {
+            patientDtoList.add(patient("2345678901" + index + index));
+        }
+        BulkIngestionResultDto<PatientDto> result = bulkIngestionService.addPatients(patientDtoList);
+        assertEquals(5, result.getSuccessCount());
+        verify(patientRepository, times(3)).findByPatientAadhaarNumberIn(any());
+        verify(patientRepository, times(3)).insertAllUnordered(anyList());
+    }
+
+    private PatientDto patient(String aadhaarNumber) {
+        return PatientDto.builder()
+                .patientFirstName("Sambit")
+                .patientLastName("Sahu")
+                .patientAadhaarNumber(aadhaarNumber)
+                .build();
+    }
+}
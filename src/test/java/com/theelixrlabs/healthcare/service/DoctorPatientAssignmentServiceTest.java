@@ -0,0 +1,385 @@
+package com.theelixrlabs.healthcare.service;
+
+import com.theelixrlabs.healthcare.constants.DoctorPatientAssignmentConstants;
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.constants.PaginationConstants;
+import com.theelixrlabs.healthcare.constants.SingleFlightConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.DoctorPatientAssignmentDto;
+import com.theelixrlabs.healthcare.dto.DoctorWithAssignedPatientsDto;
+import com.theelixrlabs.healthcare.dto.KeysetCursor;
+import com.theelixrlabs.healthcare.dto.PageDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.dto.PatientWithAssignedDoctorsDto;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorPatientAssignmentException;
+import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import com.theelixrlabs.healthcare.model.PatientAssignedDoctorsModel;
+import com.theelixrlabs.healthcare.model.PatientModel;
+import com.theelixrlabs.healthcare.repository.AssignmentGraph;
+import com.theelixrlabs.healthcare.repository.DoctorPatientAssignmentRepository;
+import com.theelixrlabs.healthcare.repository.DoctorPatientExistence;
+import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.repository.PatientAssignedDoctorsRepository;
+import com.theelixrlabs.healthcare.repository.PatientRepository;
+import com.theelixrlabs.healthcare.utility.CompositeReadExecutor;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.PageCursorUtil;
+import com.theelixrlabs.healthcare.utility.SingleFlight;
+import com.theelixrlabs.healthcare.validation.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the DoctorPatientAssignmentService class.
+ * Repository mocks stand in for the database, every interaction with them is one database command.
+ */
+public class DoctorPatientAssignmentServiceTest {
+
+    private static final String DOCTOR_ALREADY_ASSIGNED_MESSAGE = "Doctor already assigned to Patient";
+    private static final String DOCTOR_ALREADY_UNASSIGNED_MESSAGE = "The doctor has already been unassigned.";
+
+    @Mock
+    private DoctorPatientAssignmentRepository doctorPatientAssignmentRepository;
+    @Mock
+    private PatientRepository patientRepository;
+    @Mock
+    private DoctorRepository doctorRepository;
+    @Mock
+    private PatientAssignedDoctorsRepository patientAssignedDoctorsRepository;
+    @Mock
+    private AssignmentGraph assignmentGraph;
+    @Mock
+    private MessageUtil messageUtil;
+    @Mock
+    private Validator validator;
+    @Spy
+    private CompositeReadExecutor compositeReadExecutor = new CompositeReadExecutor(mock(MessageUtil.class), 2, 16, Duration.ofSeconds(5));
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry(), compositeReadExecutor, true, 2, 16);
+    @InjectMocks
+    private DoctorPatientAssignmentService doctorPatientAssignmentService;
+
+    private UUID doctorId;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        doctorId = UUID.randomUUID();
+        when(validator.validateAndConvertToUUID(doctorId.toString(), MessageConstants.INVALID_UUID)).thenReturn(doctorId);
+        when(doctorRepository.findById(doctorId)).thenReturn(Optional.of(doctor()));
+    }
+
+    /**
+     * The roster has to be served by the same number of database commands no matter how many patients are assigned.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void getPatientsByDoctorId_ConstantDatabaseCommands() throws Exception {
+        int smallRosterCommands = countDatabaseCommandsForRoster(1);
+        int largeRosterCommands = countDatabaseCommandsForRoster(PaginationConstants.MAX_LIMIT);
+        assertEquals(3, smallRosterCommands);
+        assertEquals(smallRosterCommands, largeRosterCommands);
+        verify(patientRepository, never()).findById(any());
+    }
+
+    /**
+     * Once the assignment graph is loaded the roster no longer queries the assignments.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void getPatientsByDoctorId_GraphLoaded_SkipsAssignmentQuery() throws Exception {
+        List<DoctorPatientAssignmentModel> doctorPatientAssignmentsList = mockRoster(3);
+        when(assignmentGraph.isLoaded()).thenReturn(true);
+        when(assignmentGraph.findActiveAssignmentsOfDoctor(doctorId, null, PaginationConstants.MAX_LIMIT + 1))
+                .thenReturn(doctorPatientAssignmentsList);
+        int commandsBefore = countRepositoryInvocations();
+        PageDto<DoctorWithAssignedPatientsDto> rosterPage = doctorPatientAssignmentService.getPatientsByDoctorId(
+                doctorId.toString(), null, PaginationConstants.MAX_LIMIT);
+        assertEquals(3, rosterPage.getContent().getAssignedPatientsList().size());
+        assertEquals(2, countRepositoryInvocations() - commandsBefore);
+        verify(doctorPatientAssignmentRepository, never()).findByDoctorIdAndDateOfUnassignmentNullOrderByPatientIdAsc(any(), any());
+    }
+
+    /**
+     * With coalescing on, the shared roster call still reads the doctor and the assignments concurrently: each read
+     * waits for the other one to start and only completes when both run at the same time.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void getPatientsByDoctorId_SingleFlight_ReadsDoctorAndAssignmentsConcurrently() throws Exception {
+        List<DoctorPatientAssignmentModel> doctorPatientAssignmentsList = mockRoster(1);
+        CountDownLatch bothReadsStarted = new CountDownLatch(2);
+        when(doctorRepository.findById(doctorId)).thenAnswer(invocation -> {
+            awaitOtherRead(bothReadsStarted);
+            return Optional.of(doctor());
+        });
+        when(doctorPatientAssignmentRepository.findByDoctorIdAndDateOfUnassignmentNullOrderByPatientIdAsc(eq(doctorId), any(Limit.class)))
+                .thenAnswer(invocation -> {
+                    awaitOtherRead(bothReadsStarted);
+                    return doctorPatientAssignmentsList;
+                });
+        PageDto<DoctorWithAssignedPatientsDto> rosterPage = doctorPatientAssignmentService.getPatientsByDoctorId(
+                doctorId.toString(), null, PaginationConstants.MAX_LIMIT);
+        assertEquals(1, rosterPage.getContent().getAssignedPatientsList().size());
+        verify(singleFlight).execute(eq(SingleFlightConstants.PATIENTS_BY_DOCTOR_ID), any(), any());
+    }
+
+    /**
+     * A roster longer than the page limit is cut after the limit and the cursor points at the last returned patient.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void getPatientsByDoctorId_ReturnsNextCursorWhenMorePatientsFollow() throws Exception {
+        int limit = 2;
+        List<DoctorPatientAssignmentModel> doctorPatientAssignmentsList = mockRoster(limit + 1);
+        PageDto<DoctorWithAssignedPatientsDto> rosterPage = doctorPatientAssignmentService.getPatientsByDoctorId(doctorId.toString(), null, limit);
+        assertEquals(limit, rosterPage.getContent().getAssignedPatientsList().size());
+        KeysetCursor nextCursor = PageCursorUtil.decode(rosterPage.getNextCursor());
+        assertNotNull(nextCursor);
+        assertEquals(PaginationConstants.ROSTER_BRANCH, nextCursor.getBranch());
+        assertEquals(doctorPatientAssignmentsList.get(limit - 1).getPatientId(), nextCursor.getId());
+    }
+
+    /**
+     * Assigning checks both sides of the assignment with one command, inserts with a second one
+     * and merges the doctor into the assigned doctors read model with a third one.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void assignDoctorToPatient_UsesThreeDatabaseCommands() throws Exception {
+        UUID patientId = mockAssignmentRequest();
+        int commandsBefore = countRepositoryInvocations();
+        DoctorPatientAssignmentDto assignedDto = doctorPatientAssignmentService.assignDoctorToPatient(assignmentRequest(patientId));
+        assertEquals(3, countRepositoryInvocations() - commandsBefore);
+        verify(patientAssignedDoctorsRepository).addAssignedDoctor(doctorId, patientId, assignedDto.getDateOfOperation());
+        verify(patientAssignedDoctorsRepository, never()).removeAssignedDoctor(any(), any(), any());
+        verify(assignmentGraph).addAssignment(doctorId, patientId, assignedDto.getDateOfOperation());
+        verify(assignmentGraph, never()).removeAssignment(any(), any(), any());
+        assertEquals(doctorId.toString(), assignedDto.getDoctorId());
+        assertEquals(patientId.toString(), assignedDto.getPatientId());
+        verify(doctorRepository, never()).existsById(any());
+    }
+
+    /**
+     * An active assignment rejected by the unique index is reported as an existing assignment.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void assignDoctorToPatient_ActiveAssignmentExists_ThrowsDoctorPatientAssignmentException() throws Exception {
+        UUID patientId = mockAssignmentRequest();
+        when(doctorPatientAssignmentRepository.insert(any(DoctorPatientAssignmentModel.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+        when(messageUtil.getMessage(DoctorPatientAssignmentConstants.DOCTOR_ALREADY_ASSIGNED_KEY)).thenReturn(DOCTOR_ALREADY_ASSIGNED_MESSAGE);
+        DoctorPatientAssignmentException doctorPatientAssignmentException = assertThrows(DoctorPatientAssignmentException.class,
+                () -> doctorPatientAssignmentService.assignDoctorToPatient(assignmentRequest(patientId)));
+        assertEquals(DOCTOR_ALREADY_ASSIGNED_MESSAGE, doctorPatientAssignmentException.getMessage());
+        verify(patientAssignedDoctorsRepository, never()).addAssignedDoctor(any(), any(), any());
+    }
+
+    /**
+     * Closing an active assignment costs a single findAndModify and a pull from the assigned doctors read model.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void unassignDoctorFromPatient_ActiveAssignment_UsesTwoDatabaseCommands() throws Exception {
+        UUID patientId = mockAssignmentRequest();
+        Date dateOfAssignment = new Date();
+        when(doctorPatientAssignmentRepository.unassignActiveAssignment(eq(doctorId), eq(patientId), any(Date.class)))
+                .thenReturn(Optional.of(DoctorPatientAssignmentModel.builder().doctorId(doctorId).patientId(patientId)
+                        .dateOfAssignment(dateOfAssignment).build()));
+        int commandsBefore = countRepositoryInvocations();
+        doctorPatientAssignmentService.unassignDoctorFromPatient(assignmentRequest(patientId));
+        assertEquals(2, countRepositoryInvocations() - commandsBefore);
+        verify(patientAssignedDoctorsRepository).removeAssignedDoctor(doctorId, patientId, dateOfAssignment);
+        verify(assignmentGraph).removeAssignment(doctorId, patientId, dateOfAssignment);
+    }
+
+    /**
+     * Without an active assignment but with a closed one, the request is reported as already unassigned.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void unassignDoctorFromPatient_ClosedAssignment_ThrowsAlreadyUnassigned() throws Exception {
+        UUID patientId = mockAssignmentRequest();
+        when(doctorPatientAssignmentRepository.unassignActiveAssignment(eq(doctorId), eq(patientId), any(Date.class)))
+                .thenReturn(Optional.empty());
+        when(doctorPatientAssignmentRepository.existsByDoctorIdAndPatientId(doctorId, patientId)).thenReturn(true);
+        when(messageUtil.getMessage(DoctorPatientAssignmentConstants.DOCTOR_ALREADY_UNASSIGNED_KEY)).thenReturn(DOCTOR_ALREADY_UNASSIGNED_MESSAGE);
+        DoctorPatientAssignmentException doctorPatientAssignmentException = assertThrows(DoctorPatientAssignmentException.class,
+                () -> doctorPatientAssignmentService.unassignDoctorFromPatient(assignmentRequest(patientId)));
+        assertEquals(DOCTOR_ALREADY_UNASSIGNED_MESSAGE, doctorPatientAssignmentException.getMessage());
+    }
+
+    /**
+     * The assigned doctors of a patient are served by a single primary key read of the read model.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void getDoctorsByPatientId_ReadsTheReadModelOnly() throws Exception {
+        UUID patientId = UUID.randomUUID();
+        when(validator.validateAndConvertToUUID(patientId.toString(), MessageConstants.INVALID_UUID)).thenReturn(patientId);
+        PatientDto patientDto = PatientDto.builder().id(patientId).patientFirstName("Sambit").patientLastName("Sahu").build();
+        List<DoctorDto> assignedDoctors = List.of(DoctorDto.builder().id(doctorId).firstName("John").lastName("Doe").build());
+        when(patientAssignedDoctorsRepository.findById(patientId)).thenReturn(Optional.of(PatientAssignedDoctorsModel.builder()
+                .id(patientId)
+                .patient(patientDto)
+                .assignedDoctors(assignedDoctors)
+                .build()));
+        int commandsBefore = countRepositoryInvocations();
+        PatientWithAssignedDoctorsDto patientWithAssignedDoctorsDto = doctorPatientAssignmentService.getDoctorsByPatientId(patientId.toString());
+        assertEquals(1, countRepositoryInvocations() - commandsBefore);
+        assertEquals(patientDto, patientWithAssignedDoctorsDto.getPatient());
+        assertEquals(assignedDoctors, patientWithAssignedDoctorsDto.getAssignedDoctors());
+    }
+
+    /**
+     * The assigned doctors of a batch of patients are served by a single read of the read model, in request order and
+     * without the patients that have no assigned doctors.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void getDoctorsByPatientIds_ReadsTheReadModelOnce() throws Exception {
+        UUID firstPatientId = UUID.randomUUID();
+        UUID unassignedPatientId = UUID.randomUUID();
+        UUID secondPatientId = UUID.randomUUID();
+        List<UUID> patientIds = List.of(firstPatientId, unassignedPatientId, secondPatientId);
+        List<String> requestedIds = patientIds.stream().map(UUID::toString).toList();
+        when(validator.validateAndConvertToUUIDs(requestedIds, MessageConstants.INVALID_UUID)).thenReturn(patientIds);
+        List<DoctorDto> assignedDoctors = List.of(DoctorDto.builder().id(doctorId).firstName("John").lastName("Doe").build());
+        when(patientAssignedDoctorsRepository.findAllById(patientIds)).thenReturn(List.of(
+                PatientAssignedDoctorsModel.builder()
+                        .id(secondPatientId)
+                        .patient(PatientDto.builder().id(secondPatientId).build())
+                        .assignedDoctors(assignedDoctors)
+                        .build(),
+                PatientAssignedDoctorsModel.builder()
+                        .id(unassignedPatientId)
+                        .patient(PatientDto.builder().id(unassignedPatientId).build())
+                        .assignedDoctors(new ArrayList<>())
+                        .build(),
+                PatientAssignedDoctorsModel.builder()
+                        .id(firstPatientId)
+                        .patient(PatientDto.builder().id(firstPatientId).build())
+                        .assignedDoctors(assignedDoctors)
+                        .build()));
+        int commandsBefore = countRepositoryInvocations();
+        Map<UUID, PatientWithAssignedDoctorsDto> patientsWithAssignedDoctors =
+                doctorPatientAssignmentService.getDoctorsByPatientIds(requestedIds);
+        assertEquals(1, countRepositoryInvocations() - commandsBefore);
+        assertEquals(List.of(firstPatientId, secondPatientId), new ArrayList<>(patientsWithAssignedDoctors.keySet()));
+        assertEquals(assignedDoctors, patientsWithAssignedDoctors.get(firstPatientId).getAssignedDoctors());
+    }
+
+    private UUID mockAssignmentRequest() throws Exception {
+        UUID patientId = UUID.randomUUID();
+        when(validator.validateAndConvertToUUID(doctorId.toString(), DoctorPatientAssignmentConstants.INVALID_DOCTOR_ID_KEY)).thenReturn(doctorId);
+        when(validator.validateAndConvertToUUID(patientId.toString(), DoctorPatientAssignmentConstants.INVALID_PATIENT_ID_KEY)).thenReturn(patientId);
+        when(doctorPatientAssignmentRepository.findDoctorPatientExistence(doctorId, patientId)).thenReturn(DoctorPatientExistence.BOTH_EXIST);
+        return patientId;
+    }
+
+    private DoctorPatientAssignmentDto assignmentRequest(UUID patientId) {
+        return DoctorPatientAssignmentDto.builder()
+                .doctorId(doctorId.toString())
+                .patientId(patientId.toString())
+                .build();
+    }
+
+    private int countDatabaseCommandsForRoster(int rosterSize) throws Exception {
+        mockRoster(rosterSize);
+        int commandsBefore = countRepositoryInvocations();
+        PageDto<DoctorWithAssignedPatientsDto> rosterPage = doctorPatientAssignmentService.getPatientsByDoctorId(
+                doctorId.toString(), null, PaginationConstants.MAX_LIMIT);
+        assertEquals(rosterSize, rosterPage.getContent().getAssignedPatientsList().size());
+        assertNull(rosterPage.getNextCursor());
+        return countRepositoryInvocations() - commandsBefore;
+    }
+
+    private List<DoctorPatientAssignmentModel> mockRoster(int rosterSize) {
+        reset(patientRepository, doctorPatientAssignmentRepository);
+        List<DoctorPatientAssignmentModel> doctorPatientAssignmentsList = new ArrayList<>();
+        List<PatientModel> patientModelList = new ArrayList<>();
+        for (int index = 0; index < rosterSize; index++) {
+            UUID patientId = UUID.randomUUID();
+            doctorPatientAssignmentsList.add(DoctorPatientAssignmentModel.builder()
+                    .id(UUID.randomUUID())
+                    .doctorId(doctorId)
+                    .patientId(patientId)
+                    .dateOfAssignment(new Date())
+                    .build());
+            patientModelList.add(PatientModel.builder()
+                    .id(patientId)
+                    .patientFirstName("Sambit")
+                    .patientLastName("Sahu")
+                    .patientAadhaarNumber(456783452698L)
+                    .build());
+        }
+        when(doctorPatientAssignmentRepository.findByDoctorIdAndDateOfUnassignmentNullOrderByPatientIdAsc(eq(doctorId), any(Limit.class)))
+                .thenReturn(doctorPatientAssignmentsList);
+        when(patientRepository.findAllById(any())).thenReturn(patientModelList);
+        return doctorPatientAssignmentsList;
+    }
+
+    private DoctorModel doctor() {
+        return DoctorModel.builder()
+                .id(doctorId)
+                .firstName("John")
+                .lastName("Doe")
+                .department("Cardiology")
+                .aadhaarNumber(236558964521L)
+                .build();
+    }
+
+    private static void awaitOtherRead(CountDownLatch bothReadsStarted) throws InterruptedException {
+        bothReadsStarted.countDown();
+        if (!bothReadsStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The doctor and the assignments were not read concurrently");
+        }
+    }
+
+    private int countRepositoryInvocations() {
+        return Mockito.mockingDetails(doctorRepository).getInvocations().size()
+                + Mockito.mockingDetails(patientRepository).getInvocations().size()
+                + Mockito.mockingDetails(doctorPatientAssignmentRepository).getInvocations().size()
+                + Mockito.mockingDetails(patientAssignedDoctorsRepository).getInvocations().size();
+    }
+}
@@ -1,13 +1,22 @@
 package com.theelixrlabs.healthcare.service;
 
+import com.theelixrlabs.healthcare.constants.CacheConstants;
 import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.constants.SingleFlightConstants;
 import com.theelixrlabs.healthcare.constants.TestConstants;
+import com.theelixrlabs.healthcare.dto.BatchLookupResultDto;
 import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.PageDto;
 import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
 import com.theelixrlabs.healthcare.model.DoctorModel;
+import com.theelixrlabs.healthcare.repository.AssignmentGraph;
 import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.utility.CachedBatchLookup;
+import com.theelixrlabs.healthcare.utility.CompositeReadExecutor;
 import com.theelixrlabs.healthcare.utility.MessageUtil;
+import com.theelixrlabs.healthcare.utility.SingleFlight;
 import com.theelixrlabs.healthcare.validation.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assert;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,11 +24,22 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.beans.factory.ObjectProvider;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -33,6 +53,14 @@ public class DoctorServiceTest {
     private Validator validator;
     @Mock
     private MessageUtil messageUtil;
+    @Mock
+    private AssignmentGraph assignmentGraph;
+    @Spy
+    private CompositeReadExecutor compositeReadExecutor = new CompositeReadExecutor(mock(MessageUtil.class), 2, 16, Duration.ofSeconds(5));
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry(), compositeReadExecutor, true, 2, 16);
+    @Spy
+    private CachedBatchLookup cachedBatchLookup = new CachedBatchLookup(mock(ObjectProvider.class));
     @InjectMocks
     private DoctorService doctorService;
     private List<DoctorModel> doctorModelList;
@@ -50,7 +78,7 @@ public class DoctorServiceTest {
                 .firstName("John")
                 .lastName("Doe")
                 .department("Cardiology")
-                .aadhaarNumber("2365 5896 4521")
+                .aadhaarNumber(236558964521L)
                 .build();
         doctorModelList.add(doctorModel1);
         // Adding second doctor model
@@ -59,7 +87,7 @@ public class DoctorServiceTest {
                 .firstName("Johnson")
                 .lastName("Chris")
                 .department("Java")
-                .aadhaarNumber("5678 8585 6565")
+                .aadhaarNumber(567885856565L)
                 .build();
         doctorModelList.add(doctorModel2);
     }
@@ -72,8 +100,8 @@ public class DoctorServiceTest {
     @Test
     public void getDoctorsByName_Success() throws Exception {
         String doctorName = doctorModelList.get(0).getFirstName();
-        when(doctorRepository.searchByDoctorName(doctorName)).thenReturn(doctorModelList);
-        List<DoctorDto> result = doctorService.getDoctorsByName(doctorName);
+        when(doctorRepository.searchByDoctorName("john", "joho", null, 50)).thenReturn(new PageDto<>(doctorModelList, null));
+        List<DoctorDto> result = doctorService.getDoctorsByName(doctorName, null, 50).getContent();
         assertNotNull(result);
         assertEquals(2, result.size());
         // Checking the first doctor
@@ -97,12 +125,64 @@ public class DoctorServiceTest {
     public void getDoctorsByName_ReturnsNotFoundException() throws Exception {
         String doctorName = TestConstants.DOCTOR_NAME;
         when(messageUtil.getMessage(MessageConstants.DOCTOR_NAME_NOT_FOUND)).thenReturn(TestConstants.DOCTOR_NAME_NOT_FOUND);
-        when(doctorRepository.searchByDoctorName(doctorName)).thenReturn(new ArrayList<>());
+        when(doctorRepository.searchByDoctorName("abcdefgh", "abcdefgi", null, 50)).thenReturn(new PageDto<>(new ArrayList<>(), null));
         try {
-            doctorService.getDoctorsByName(doctorName);
+            doctorService.getDoctorsByName(doctorName, null, 50);
             Assertions.fail("Expected DoctorNotFoundException was not thrown.");
         } catch (DoctorNotFoundException doctorNotFoundException) {
             assertEquals(TestConstants.DOCTOR_NAME_NOT_FOUND, doctorNotFoundException.getMessage());
         }
     }
+
+    /**
+     * This test verifies that a batch lookup returns the found doctors in request order from one repository call and reports the missing ids.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void getDoctorsByIds_ReturnsFoundInRequestOrderAndNotFoundIds() throws Exception {
+        UUID missingDoctorId = UUID.randomUUID();
+        List<UUID> doctorIds = List.of(doctorModelList.get(1).getId(), missingDoctorId, doctorModelList.get(0).getId());
+        List<String> requestedIds = doctorIds.stream().map(UUID::toString).toList();
+        when(validator.validateAndConvertToUUIDs(requestedIds, MessageConstants.INVALID_UUID)).thenReturn(doctorIds);
+        when(doctorRepository.findAllById(doctorIds)).thenReturn(doctorModelList);
+        BatchLookupResultDto<DoctorDto> result = doctorService.getDoctorsByIds(requestedIds);
+        assertEquals(2, result.getFound().size());
+        assertEquals("Johnson", result.getFound().get(0).getFirstName());
+        assertEquals("John", result.getFound().get(1).getFirstName());
+        assertEquals(List.of(missingDoctorId.toString()), result.getNotFoundIds());
+        verify(doctorRepository, times(1)).findAllById(doctorIds);
+    }
+
+    /**
+     * This test verifies that a cached doctor is served from the cache without going through the single-flight pool.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void getDoctorById_CachedDoctor_SkipsSingleFlight() throws Exception {
+        DoctorModel doctorModel = doctorModelList.get(0);
+        when(validator.validateAndConvertToUUID(doctorModel.getId().toString(), MessageConstants.INVALID_UUID)).thenReturn(doctorModel.getId());
+        doReturn(doctorModel).when(cachedBatchLookup).findCachedById(CacheConstants.DOCTORS_CACHE, DoctorModel.class, doctorModel.getId());
+        DoctorDto result = doctorService.getDoctorById(doctorModel.getId().toString());
+        assertEquals("John", result.getFirstName());
+        verify(singleFlight, never()).execute(any(), any(), any());
+        verify(doctorRepository, never()).findById(any());
+    }
+
+    /**
+     * This test verifies that a doctor missing from the cache is read from the repository through the single-flight.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void getDoctorById_UncachedDoctor_ReadsThroughSingleFlight() throws Exception {
+        DoctorModel doctorModel = doctorModelList.get(0);
+        when(validator.validateAndConvertToUUID(doctorModel.getId().toString(), MessageConstants.INVALID_UUID)).thenReturn(doctorModel.getId());
+        when(doctorRepository.findById(doctorModel.getId())).thenReturn(Optional.of(doctorModel));
+        DoctorDto result = doctorService.getDoctorById(doctorModel.getId().toString());
+        assertEquals("John", result.getFirstName());
+        verify(singleFlight).execute(eq(SingleFlightConstants.DOCTOR_BY_ID), eq(doctorModel.getId()), any());
+        verify(doctorRepository, times(1)).findById(doctorModel.getId());
+    }
 }
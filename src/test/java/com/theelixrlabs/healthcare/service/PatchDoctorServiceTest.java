@@ -1,12 +1,15 @@
 package com.theelixrlabs.healthcare.service;
 
+import com.theelixrlabs.healthcare.constants.DoctorConstants;
 import com.theelixrlabs.healthcare.constants.MessageConstants;
 import com.theelixrlabs.healthcare.constants.TestConstants;
 import com.theelixrlabs.healthcare.dto.DoctorDto;
 import com.theelixrlabs.healthcare.exceptionHandler.DataException;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorException;
 import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
 import com.theelixrlabs.healthcare.model.DoctorModel;
 import com.theelixrlabs.healthcare.repository.DoctorRepository;
+import com.theelixrlabs.healthcare.repository.PatientAssignedDoctorsRepository;
 import com.theelixrlabs.healthcare.utility.MessageUtil;
 import com.theelixrlabs.healthcare.utility.PatchUtil;
 import com.theelixrlabs.healthcare.validation.Validator;
@@ -16,10 +19,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DuplicateKeyException;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -30,9 +36,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  */
 public class PatchDoctorServiceTest {
 
+    private static final String AADHAAR_ALREADY_PRESENT_MESSAGE = "Aadhaar already present in database";
+
     @Mock
     private DoctorRepository doctorRepository;
 
+    @Mock
+    private PatientAssignedDoctorsRepository patientAssignedDoctorsRepository;
+
     @Mock
     private Validator validator;
 
@@ -64,14 +75,14 @@ public class PatchDoctorServiceTest {
                 .firstName("Shahana")
                 .lastName("S")
                 .department("Psychology")
-                .aadhaarNumber("956788563467")
+                .aadhaarNumber(956788563467L)
                 .build();
         doctorDto = DoctorDto.builder()
                 .id(uuid)
                 .firstName("Shahana")
                 .lastName("S")
                 .department("Psychology")
-                .aadhaarNumber("956788563467")
+                .aadhaarNumber("9567 8856 3467")
                 .build();
         MockitoAnnotations.initMocks(this);
     }
@@ -85,10 +96,50 @@ public class PatchDoctorServiceTest {
     @Test
     public void patchDoctorById_Successful_Patch_Test() throws Exception {
         when(validator.validateAndConvertToUUID(doctorId, MessageConstants.INVALID_UUID)).thenReturn(uuid);
-        when(doctorRepository.findById(uuid)).thenReturn(Optional.ofNullable(doctorModel));
-        when(doctorRepository.save(Mockito.any(DoctorModel.class))).thenReturn(doctorModel);
+        when(doctorRepository.patchDoctor(Mockito.eq(uuid), Mockito.anyMap())).thenReturn(Optional.ofNullable(doctorModel));
         DoctorDto patchedDoctor = patchDoctorService.patchDoctorById(doctorId, doctorDto);
         assertEquals(doctorDto, patchedDoctor);
+        verify(doctorRepository, never()).findById(uuid);
+        verify(doctorRepository, never()).save(Mockito.any(DoctorModel.class));
+    }
+
+    /**
+     * Tests that only the non-blank fields of the request are sent to the database, with their stored format,
+     * and that the patched doctor is copied into the assigned doctors read model.
+     *
+     * @throws Exception if the patch operation fails
+     */
+    @Test
+    public void patchDoctorById_Sets_Only_Requested_Fields_Test() throws Exception {
+        DoctorDto departmentAndAadhaarDto = DoctorDto.builder()
+                .department("Neurology")
+                .aadhaarNumber("956788563467")
+                .build();
+        when(validator.validateAndConvertToUUID(doctorId, MessageConstants.INVALID_UUID)).thenReturn(uuid);
+        when(patchUtil.hasValueForUpdate("Neurology")).thenReturn(true);
+        when(patchUtil.hasValueForUpdate("956788563467")).thenReturn(true);
+        when(doctorRepository.patchDoctor(Mockito.eq(uuid), Mockito.anyMap())).thenReturn(Optional.ofNullable(doctorModel));
+        patchDoctorService.patchDoctorById(doctorId, departmentAndAadhaarDto);
+        verify(doctorRepository, times(1)).patchDoctor(uuid, Map.of(
+                DoctorConstants.AADHAAR_NUMBER_FIELD, 956788563467L,
+                DoctorConstants.DEPARTMENT_FIELD, "Neurology"));
+        verify(patientAssignedDoctorsRepository, times(1)).refreshDoctor(doctorModel);
+    }
+
+    /**
+     * Tests that an Aadhaar number rejected by the unique index is reported as already present.
+     *
+     * @throws Exception if the exception is not thrown as expected.
+     */
+    @Test
+    public void patchDoctorById_Duplicate_Aadhaar_Test() throws Exception {
+        when(validator.validateAndConvertToUUID(doctorId, MessageConstants.INVALID_UUID)).thenReturn(uuid);
+        when(doctorRepository.patchDoctor(Mockito.eq(uuid), Mockito.anyMap())).thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+        when(messageUtil.getMessage(MessageConstants.DOCTOR_AADHAAR_ALREADY_PRESENT)).thenReturn(AADHAAR_ALREADY_PRESENT_MESSAGE);
+        DoctorException doctorException = assertThrows(DoctorException.class, () -> {
+            patchDoctorService.patchDoctorById(doctorId, doctorDto);
+        });
+        assertEquals(AADHAAR_ALREADY_PRESENT_MESSAGE, doctorException.getMessage());
     }
 
     /**
@@ -103,12 +154,12 @@ public class PatchDoctorServiceTest {
         String doctorId = uuid.toString();
         when(validator.validateAndConvertToUUID(doctorId, MessageConstants.INVALID_UUID))
                 .thenReturn(uuid);
-        when(doctorRepository.findById(uuid)).thenReturn(Optional.empty());
+        when(doctorRepository.patchDoctor(Mockito.eq(uuid), Mockito.anyMap())).thenReturn(Optional.empty());
         when(messageUtil.getMessage(MessageConstants.DOCTOR_ID_NOT_FOUND)).thenReturn(TestConstants.DOCTOR_NOT_FOUND_MESSAGE);
         DoctorNotFoundException doctorNotFoundException = assertThrows(DoctorNotFoundException.class, () -> {
             patchDoctorService.patchDoctorById(doctorId, doctorDto);
         });
         assertEquals(TestConstants.DOCTOR_NOT_FOUND_MESSAGE, doctorNotFoundException.getMessage());
-        verify(doctorRepository, times(1)).findById(uuid);
+        verify(doctorRepository, times(1)).patchDoctor(Mockito.eq(uuid), Mockito.anyMap());
     }
 }
@@ -7,8 +7,11 @@ import com.theelixrlabs.healthcare.exceptionHandler.PatientNotFoundException;
 import com.theelixrlabs.healthcare.model.PatientModel;
 import com.theelixrlabs.healthcare.exceptionHandler.PatientException;
 import com.theelixrlabs.healthcare.model.DoctorPatientAssignmentModel;
+import com.theelixrlabs.healthcare.repository.AssignmentGraph;
 import com.theelixrlabs.healthcare.repository.DoctorPatientAssignmentRepository;
 import com.theelixrlabs.healthcare.repository.PatientRepository;
+import com.theelixrlabs.healthcare.utility.CachedBatchLookup;
+import com.theelixrlabs.healthcare.utility.CompositeReadExecutor;
 import com.theelixrlabs.healthcare.utility.MessageUtil;
 import com.theelixrlabs.healthcare.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,7 +19,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -24,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
@@ -47,6 +54,15 @@ public class PatientServiceTest {
     @Mock
     private DoctorPatientAssignmentRepository doctorPatientAssignmentRepository;
 
+    @Mock
+    private AssignmentGraph assignmentGraph;
+
+    @Spy
+    private CompositeReadExecutor compositeReadExecutor = new CompositeReadExecutor(mock(MessageUtil.class), 2, 16, Duration.ofSeconds(5));
+
+    @Spy
+    private CachedBatchLookup cachedBatchLookup = new CachedBatchLookup(mock(ObjectProvider.class));
+
     @InjectMocks
     private PatientService patientService;
 
@@ -59,7 +75,7 @@ public class PatientServiceTest {
                 .id(UUID.randomUUID())
                 .patientFirstName("Sambit")
                 .patientLastName("Sahu")
-                .patientAadhaarNumber("456783452698")
+                .patientAadhaarNumber(456783452698L)
                 .build();
     }
 
@@ -110,7 +126,7 @@ public class PatientServiceTest {
         assertEquals(patientId, patientDto.getId().toString());
         assertEquals(patientModel.getPatientFirstName(), patientDto.getPatientFirstName());
         assertEquals(patientModel.getPatientLastName(), patientDto.getPatientLastName());
-        assertEquals(patientModel.getPatientAadhaarNumber(), patientDto.getPatientAadhaarNumber());
+        assertEquals("4567 8345 2698", patientDto.getPatientAadhaarNumber());
         verify(patientRepository, Mockito.times(1)).findById(validPatientId);
     }
 
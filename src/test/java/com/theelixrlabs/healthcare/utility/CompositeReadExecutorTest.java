@@ -0,0 +1,111 @@
+package com.theelixrlabs.healthcare.utility;
+
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.exceptionHandler.CompositeReadTimeoutException;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.i18n.LocaleContextHolder;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the CompositeReadExecutor class.
+ */
+public class CompositeReadExecutorTest {
+
+    private static final String TIMEOUT_MESSAGE = "The request timed out while reading from the database";
+
+    @Mock
+    private MessageUtil messageUtil;
+
+    private CompositeReadExecutor compositeReadExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        compositeReadExecutor = new CompositeReadExecutor(messageUtil, 2, 4, Duration.ofMillis(500));
+        when(messageUtil.getMessage(MessageConstants.COMPOSITE_READ_TIMEOUT)).thenReturn(TIMEOUT_MESSAGE);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        compositeReadExecutor.destroy();
+        DatabaseCallCounter.stop();
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    /**
+     * Two reads that each wait for the other one only complete when they run at the same time.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void fork_RunsReadsConcurrently() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CompositeReadExecutor.ForkedRead<Boolean> firstRead = compositeReadExecutor.fork(() -> {
+            bothStarted.countDown();
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        });
+        CompositeReadExecutor.ForkedRead<Boolean> secondRead = compositeReadExecutor.fork(() -> {
+            bothStarted.countDown();
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        });
+        assertTrue(compositeReadExecutor.join(firstRead));
+        assertTrue(compositeReadExecutor.join(secondRead));
+    }
+
+    /**
+     * The exception thrown by a read is thrown by join as is.
+     */
+    @Test
+    public void join_RethrowsExceptionOfRead() {
+        DoctorNotFoundException doctorNotFoundException = new DoctorNotFoundException("No Doctor found with specified Id");
+        CompositeReadExecutor.ForkedRead<Object> forkedRead = compositeReadExecutor.fork(() -> {
+            throw doctorNotFoundException;
+        });
+        assertSame(doctorNotFoundException, assertThrows(DoctorNotFoundException.class, () -> compositeReadExecutor.join(forkedRead)));
+    }
+
+    /**
+     * A read running past the call timeout fails the join with CompositeReadTimeoutException.
+     */
+    @Test
+    public void join_ReadExceedsTimeout_ThrowsCompositeReadTimeoutException() {
+        CompositeReadExecutor.ForkedRead<Object> forkedRead = compositeReadExecutor.fork(() -> {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+            return null;
+        });
+        CompositeReadTimeoutException compositeReadTimeoutException =
+                assertThrows(CompositeReadTimeoutException.class, () -> compositeReadExecutor.join(forkedRead));
+        assertEquals(TIMEOUT_MESSAGE, compositeReadTimeoutException.getMessage());
+    }
+
+    /**
+     * A forked read sees the locale and feeds the database call counter of the request that forked it.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void fork_BindsLocaleAndDatabaseCallCounterOfRequest() throws Exception {
+        Locale hindi = Locale.forLanguageTag("hi");
+        LocaleContextHolder.setLocale(hindi);
+        DatabaseCallCounter databaseCallCounter = DatabaseCallCounter.start();
+        CompositeReadExecutor.ForkedRead<Locale> forkedRead = compositeReadExecutor.fork(() -> {
+            DatabaseCallCounter.current().recordCommand(1, 100);
+            return LocaleContextHolder.getLocale();
+        });
+        assertEquals(hindi, compositeReadExecutor.join(forkedRead));
+        assertEquals(1, databaseCallCounter.getCommands());
+    }
+}
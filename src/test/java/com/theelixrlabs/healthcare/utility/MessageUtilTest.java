@@ -0,0 +1,74 @@
+package com.theelixrlabs.healthcare.utility;
+
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import java.util.Locale;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the MessageUtil class.
+ */
+public class MessageUtilTest {
+
+    private static final Locale HINDI = Locale.forLanguageTag("hi");
+
+    @Mock
+    private MessageSource messageSource;
+
+    private MessageUtil messageUtil;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        messageUtil = new MessageUtil(messageSource);
+        when(messageSource.getMessage(eq(MessageConstants.INVALID_UUID), isNull(), eq(Locale.ENGLISH)))
+                .thenReturn("Invalid UUID format");
+        when(messageSource.getMessage(eq(MessageConstants.INVALID_UUID), isNull(), eq(HINDI)))
+                .thenReturn("अमान्य UUID प्रारूप");
+        when(messageSource.getMessage(eq(MessageConstants.BULK_BATCH_SIZE_INVALID), isNull(), eq(Locale.ENGLISH)))
+                .thenReturn("Batch must contain between 1 and {0} records");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    /**
+     * A message is resolved in the locale of the current request and looked up once per locale.
+     */
+    @Test
+    public void getMessage_ResolvesOncePerLocale() {
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        assertEquals("Invalid UUID format", messageUtil.getMessage(MessageConstants.INVALID_UUID));
+        assertEquals("Invalid UUID format", messageUtil.getMessage(MessageConstants.INVALID_UUID));
+        LocaleContextHolder.setLocale(HINDI);
+        assertEquals("अमान्य UUID प्रारूप", messageUtil.getMessage(MessageConstants.INVALID_UUID));
+        verify(messageSource, times(1)).getMessage(MessageConstants.INVALID_UUID, null, Locale.ENGLISH);
+        verify(messageSource, times(1)).getMessage(MessageConstants.INVALID_UUID, null, HINDI);
+    }
+
+    /**
+     * The message pattern is compiled once and formatted with the arguments of every call.
+     */
+    @Test
+    public void getMessage_FormatsCachedPatternWithArguments() {
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        assertEquals("Batch must contain between 1 and 10 records",
+                messageUtil.getMessage(MessageConstants.BULK_BATCH_SIZE_INVALID, new Object[]{10}));
+        assertEquals("Batch must contain between 1 and 500 records",
+                messageUtil.getMessage(MessageConstants.BULK_BATCH_SIZE_INVALID, new Object[]{500}));
+        verify(messageSource, times(1)).getMessage(MessageConstants.BULK_BATCH_SIZE_INVALID, null, Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,200 @@
+package com.theelixrlabs.healthcare.utility;
+
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.constants.MetricsConstants;
+import com.theelixrlabs.healthcare.exceptionHandler.CompositeReadTimeoutException;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the SingleFlight class.
+ */
+public class SingleFlightTest {
+
+    private static final String CALL_NAME = "DoctorService.getDoctorById";
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompositeReadExecutor compositeReadExecutor;
+    private SingleFlight singleFlight;
+    private ExecutorService executorService;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MessageUtil messageUtil = mock(MessageUtil.class);
+        when(messageUtil.getMessage(MessageConstants.COMPOSITE_READ_TIMEOUT))
+                .thenAnswer(invocation -> LocaleContextHolder.getLocale().toLanguageTag());
+        compositeReadExecutor = new CompositeReadExecutor(messageUtil, 2, 4, Duration.ofMillis(500));
+        singleFlight = new SingleFlight(meterRegistry, compositeReadExecutor, true, 2, 16);
+        executorService = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+        singleFlight.destroy();
+        compositeReadExecutor.destroy();
+    }
+
+    /**
+     * A request arriving while the identical call is in flight shares its result instead of executing the call.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void execute_ConcurrentIdenticalCalls_ExecuteOnce() throws Exception {
+        CountDownLatch callStarted = new CountDownLatch(1);
+        CountDownLatch releaseCall = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        Future<String> firstRequest = executorService.submit(() -> singleFlight.execute(CALL_NAME, "doctor", () -> {
+            executions.incrementAndGet();
+            callStarted.countDown();
+            releaseCall.await(5, TimeUnit.SECONDS);
+            return "John Doe";
+        }));
+        assertTrue(callStarted.await(5, TimeUnit.SECONDS));
+        Future<String> secondRequest = executorService.submit(() -> singleFlight.execute(CALL_NAME, "doctor", () -> {
+            executions.incrementAndGet();
+            return "John Doe";
+        }));
+        awaitCount(MetricsConstants.COALESCED_OUTCOME, 1);
+        releaseCall.countDown();
+        assertEquals("John Doe", firstRequest.get(5, TimeUnit.SECONDS));
+        assertEquals("John Doe", secondRequest.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        assertEquals(1, count(MetricsConstants.EXECUTED_OUTCOME));
+    }
+
+    /**
+     * The exception of a call is thrown to every waiter and the next request executes the call again.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void execute_FailingCall_SharesExceptionAndIsNotKept() throws Exception {
+        CountDownLatch callStarted = new CountDownLatch(1);
+        CountDownLatch releaseCall = new CountDownLatch(1);
+        Future<Object> firstRequest = executorService.submit(() -> singleFlight.execute(CALL_NAME, "doctor", () -> {
+            callStarted.countDown();
+            releaseCall.await(5, TimeUnit.SECONDS);
+            throw new DoctorNotFoundException("No Doctor found with specified Id");
+        }));
+        assertTrue(callStarted.await(5, TimeUnit.SECONDS));
+        Future<Object> secondRequest = executorService.submit(() -> singleFlight.execute(CALL_NAME, "doctor", () -> "John Doe"));
+        awaitCount(MetricsConstants.COALESCED_OUTCOME, 1);
+        releaseCall.countDown();
+        ExecutionException firstFailure = assertThrows(ExecutionException.class, () -> firstRequest.get(5, TimeUnit.SECONDS));
+        ExecutionException secondFailure = assertThrows(ExecutionException.class, () -> secondRequest.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DoctorNotFoundException.class, firstFailure.getCause());
+        assertInstanceOf(DoctorNotFoundException.class, secondFailure.getCause());
+        assertEquals("John Doe", singleFlight.execute(CALL_NAME, "doctor", () -> "John Doe"));
+        assertEquals(2, count(MetricsConstants.EXECUTED_OUTCOME));
+    }
+
+    /**
+     * An interrupted waiter stops waiting while the call still completes for its caller.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void execute_InterruptedWaiter_DoesNotAffectCall() throws Exception {
+        CountDownLatch callStarted = new CountDownLatch(1);
+        CountDownLatch releaseCall = new CountDownLatch(1);
+        Future<String> firstRequest = executorService.submit(() -> singleFlight.execute(CALL_NAME, "doctor", () -> {
+            callStarted.countDown();
+            releaseCall.await(5, TimeUnit.SECONDS);
+            return "John Doe";
+        }));
+        assertTrue(callStarted.await(5, TimeUnit.SECONDS));
+        Future<String> secondRequest = executorService.submit(() -> singleFlight.execute(CALL_NAME, "doctor", () -> "John Doe"));
+        awaitCount(MetricsConstants.COALESCED_OUTCOME, 1);
+        secondRequest.cancel(true);
+        releaseCall.countDown();
+        assertEquals("John Doe", firstRequest.get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * The call does not run on the thread of the first request, interrupting it leaves the call and the waiters alone.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void execute_InterruptedLeader_WaitersGetResult() throws Exception {
+        CountDownLatch callStarted = new CountDownLatch(1);
+        CountDownLatch releaseCall = new CountDownLatch(1);
+        Future<String> firstRequest = executorService.submit(() -> singleFlight.execute(CALL_NAME, "doctor", () -> {
+            callStarted.countDown();
+            releaseCall.await(5, TimeUnit.SECONDS);
+            return "John Doe";
+        }));
+        assertTrue(callStarted.await(5, TimeUnit.SECONDS));
+        Future<String> secondRequest = executorService.submit(() -> singleFlight.execute(CALL_NAME, "doctor", () -> "Jane Doe"));
+        awaitCount(MetricsConstants.COALESCED_OUTCOME, 1);
+        firstRequest.cancel(true);
+        releaseCall.countDown();
+        assertThrows(CancellationException.class, () -> firstRequest.get(5, TimeUnit.SECONDS));
+        assertEquals("John Doe", secondRequest.get(5, TimeUnit.SECONDS));
+        assertEquals(1, count(MetricsConstants.EXECUTED_OUTCOME));
+    }
+
+    /**
+     * Every request times out on its own, with the message in its own locale, and a later request starts a new call
+     * instead of waiting for the stuck one.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void execute_StuckCall_EachWaiterTimesOutInItsLocale() throws Exception {
+        CountDownLatch releaseCall = new CountDownLatch(1);
+        Future<Object> firstRequest = executorService.submit(() -> {
+            LocaleContextHolder.setLocale(Locale.ENGLISH);
+            return singleFlight.execute(CALL_NAME, "doctor", () -> releaseCall.await(5, TimeUnit.SECONDS));
+        });
+        awaitCount(MetricsConstants.EXECUTED_OUTCOME, 1);
+        Future<Object> secondRequest = executorService.submit(() -> {
+            LocaleContextHolder.setLocale(Locale.forLanguageTag("hi"));
+            return singleFlight.execute(CALL_NAME, "doctor", () -> true);
+        });
+        ExecutionException firstFailure = assertThrows(ExecutionException.class, () -> firstRequest.get(5, TimeUnit.SECONDS));
+        ExecutionException secondFailure = assertThrows(ExecutionException.class, () -> secondRequest.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(CompositeReadTimeoutException.class, firstFailure.getCause());
+        assertInstanceOf(CompositeReadTimeoutException.class, secondFailure.getCause());
+        assertEquals("en", firstFailure.getCause().getMessage());
+        assertEquals("hi", secondFailure.getCause().getMessage());
+        assertEquals("Jane Doe", singleFlight.execute(CALL_NAME, "doctor", () -> "Jane Doe"));
+        releaseCall.countDown();
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.counter(MetricsConstants.SINGLE_FLIGHT_COUNTER,
+                MetricsConstants.CALL_TAG, CALL_NAME, MetricsConstants.OUTCOME_TAG, outcome).count();
+    }
+
+    private void awaitCount(String outcome, double expectedCount) throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(outcome) < expectedCount && System.nanoTime() < deadlineNanos) {
+            Thread.sleep(10);
+        }
+        assertEquals(expectedCount, count(outcome));
+    }
+}
@@ -0,0 +1,111 @@
+package com.theelixrlabs.healthcare.validation;
+
+import com.theelixrlabs.healthcare.constants.MessageConstants;
+import com.theelixrlabs.healthcare.dto.DoctorDto;
+import com.theelixrlabs.healthcare.dto.PatientDto;
+import com.theelixrlabs.healthcare.exceptionHandler.DataException;
+import com.theelixrlabs.healthcare.exceptionHandler.DoctorException;
+import com.theelixrlabs.healthcare.exceptionHandler.PatientException;
+import com.theelixrlabs.healthcare.utility.MessageUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the Validator class.
+ */
+public class ValidatorTest {
+
+    private static final String INVALID_UUID_MESSAGE = "Invalid UUID";
+    private static final String INVALID_AADHAAR_MESSAGE = "Invalid Aadhaar number";
+    private static final String INVALID_FIRST_NAME_MESSAGE = "First name should only contain alphabets";
+
+    @Mock
+    private MessageUtil messageUtil;
+
+    private Validator validator;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        validator = new Validator(messageUtil, true);
+        when(messageUtil.getMessage(MessageConstants.INVALID_UUID)).thenReturn(INVALID_UUID_MESSAGE);
+        when(messageUtil.getMessage(MessageConstants.DOCTOR_INVALID_AADHAAR_NUMBER)).thenReturn(INVALID_AADHAAR_MESSAGE);
+        when(messageUtil.getMessage(MessageConstants.PATIENT_INVALID_AADHAAR_NUMBER)).thenReturn(INVALID_AADHAAR_MESSAGE);
+        when(messageUtil.getMessage(MessageConstants.DOCTOR_INVALID_FIRSTNAME)).thenReturn(INVALID_FIRST_NAME_MESSAGE);
+    }
+
+    /**
+     * Canonical UUIDs are parsed in either case, anything else fails with the given message.
+     *
+     * @throws Exception if any error occurs during the test
+     */
+    @Test
+    public void validateAndConvertToUUID_ParsesCanonicalFormOnly() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        assertEquals(uuid, validator.validateAndConvertToUUID(uuid.toString(), MessageConstants.INVALID_UUID));
+        assertEquals(uuid, validator.validateAndConvertToUUID(uuid.toString().toUpperCase(), MessageConstants.INVALID_UUID));
+        for (String invalidId : new String[]{"not-a-uuid", "", null, uuid.toString().replace('-', '_'),
+                uuid.toString().substring(1) + "g", "1-2-3-4-5"}) {
+            DataException dataException = assertThrows(DataException.class,
+                    () -> validator.validateAndConvertToUUID(invalidId, MessageConstants.INVALID_UUID));
+            assertEquals(INVALID_UUID_MESSAGE, dataException.getMessage());
+        }
+    }
+
+    /**
+     * An Aadhaar number with a valid Verhoeff check digit is accepted, a single digit typo or a swap of two
+     * neighbouring digits is rejected.
+     */
+    @Test
+    public void validateDoctor_VerifiesAadhaarChecksum() {
+        assertDoesNotThrow(() -> validator.validateDoctor(doctor("John", "234567890124")));
+        for (String invalidAadhaarNumber : new String[]{"234567890125", "243567890124", "134567890124", "23456789012",
+                "2345 6789 0124", "23456789012a"}) {
+            DoctorException doctorException = assertThrows(DoctorException.class,
+                    () -> validator.validateDoctor(doctor("John", invalidAadhaarNumber)));
+            assertEquals(INVALID_AADHAAR_MESSAGE, doctorException.getMessage());
+        }
+    }
+
+    /**
+     * The checksum can be switched off, leaving only the format check.
+     */
+    @Test
+    public void validatePatchPatient_SkipsChecksumWhenDisabled() {
+        Validator formatOnlyValidator = new Validator(messageUtil, false);
+        assertDoesNotThrow(() -> formatOnlyValidator.validatePatchPatient(PatientDto.builder()
+                .patientAadhaarNumber("234567890125")
+                .build()));
+        PatientException patientException = assertThrows(PatientException.class,
+                () -> validator.validatePatchPatient(PatientDto.builder().patientAadhaarNumber("234567890125").build()));
+        assertEquals(INVALID_AADHAAR_MESSAGE, patientException.getMessage());
+    }
+
+    /**
+     * Names are limited to ASCII letters.
+     */
+    @Test
+    public void validateDoctor_RejectsNonAlphabeticNames() {
+        for (String invalidName : new String[]{"John1", "Jo hn", "Jöhn", "-"}) {
+            DoctorException doctorException = assertThrows(DoctorException.class,
+                    () -> validator.validateDoctor(doctor(invalidName, "234567890124")));
+            assertEquals(INVALID_FIRST_NAME_MESSAGE, doctorException.getMessage());
+        }
+    }
+
+    private DoctorDto doctor(String firstName, String aadhaarNumber) {
+        return DoctorDto.builder()
+                .firstName(firstName)
+                .lastName("Doe")
+                .department("Cardiology")
+                .aadhaarNumber(aadhaarNumber)
+                .build();
+    }
+}